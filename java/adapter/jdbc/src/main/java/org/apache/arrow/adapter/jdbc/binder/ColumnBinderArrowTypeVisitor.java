@@ -44,6 +44,8 @@ import org.apache.arrow.vector.TimeStampVector;
 import org.apache.arrow.vector.TinyIntVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.ViewVarBinaryVector;
+import org.apache.arrow.vector.ViewVarCharVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.MapVector;
 import org.apache.arrow.vector.types.pojo.ArrowType;
@@ -88,6 +90,21 @@ public class ColumnBinderArrowTypeVisitor implements ArrowType.ArrowTypeVisitor<
     throw new UnsupportedOperationException("No column binder implemented for type " + type);
   }
 
+  @Override
+  public ColumnBinder visit(ArrowType.ListView type) {
+    throw new UnsupportedOperationException("No column binder implemented for type " + type);
+  }
+
+  @Override
+  public ColumnBinder visit(ArrowType.LargeListView type) {
+    throw new UnsupportedOperationException("No column binder implemented for type " + type);
+  }
+
+  @Override
+  public ColumnBinder visit(ArrowType.RunEndEncoded type) {
+    throw new UnsupportedOperationException("No column binder implemented for type " + type);
+  }
+
   @Override
   public ColumnBinder visit(ArrowType.FixedSizeList type) {
     throw new UnsupportedOperationException("No column binder implemented for type " + type);
@@ -169,6 +186,20 @@ public class ColumnBinderArrowTypeVisitor implements ArrowType.ArrowTypeVisitor<
         new VarBinaryBinder<>(varBinary, jdbcType);
   }
 
+  @Override
+  public ColumnBinder visit(ArrowType.Utf8View type) {
+    ViewVarCharVector varChar = (ViewVarCharVector) vector;
+    return jdbcType == null ? new VarCharBinder<>(varChar, Types.VARCHAR) :
+        new VarCharBinder<>(varChar, jdbcType);
+  }
+
+  @Override
+  public ColumnBinder visit(ArrowType.BinaryView type) {
+    ViewVarBinaryVector varBinary = (ViewVarBinaryVector) vector;
+    return jdbcType == null ? new VarBinaryBinder<>(varBinary, Types.VARBINARY) :
+        new VarBinaryBinder<>(varBinary, jdbcType);
+  }
+
   @Override
   public ColumnBinder visit(ArrowType.FixedSizeBinary type) {
     FixedSizeBinaryVector binary = (FixedSizeBinaryVector) vector;
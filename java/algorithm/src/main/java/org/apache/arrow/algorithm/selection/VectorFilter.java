@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.algorithm.selection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * Filters vectors by a boolean mask or a selection vector, producing compact vectors with only the
+ * selected values.
+ *
+ * <p>A selection vector holds the ascending indices of the selected values, as produced by a
+ * predicate (e.g. a Gandiva filter). A mask selects the values whose bit is set, a null bit drops
+ * the value. Filtering is a {@link VectorTaker take} of the selection, so it supports the same
+ * vector types, and the runs of consecutive selected values are copied in bulk.
+ */
+public final class VectorFilter {
+
+  private VectorFilter() {
+  }
+
+  /**
+   * Counts the values selected by a mask, by a popcount over the words of the mask buffers.
+   * @param mask the mask.
+   * @return the number of set and non-null bits in the mask.
+   */
+  public static int getSelectedCount(BitVector mask) {
+    final int valueCount = mask.getValueCount();
+    final ArrowBuf data = mask.getDataBuffer();
+    final ArrowBuf validity = mask.getValidityBuffer();
+    final int wordCount = valueCount / Long.SIZE;
+    int count = 0;
+    for (int i = 0; i < wordCount; i++) {
+      final long index = (long) i * Long.BYTES;
+      count += Long.bitCount(data.getLong(index) & validity.getLong(index));
+    }
+    for (int i = wordCount * Long.SIZE; i < valueCount; i++) {
+      count += BitVectorHelper.get(data, i) & BitVectorHelper.get(validity, i);
+    }
+    return count;
+  }
+
+  /**
+   * Converts a mask to a selection vector.
+   * @param mask the mask.
+   * @param allocator the allocator for the selection vector.
+   * @return a new selection vector with the indices of the set and non-null bits of the mask.
+   */
+  public static IntVector toSelectionVector(BitVector mask, BufferAllocator allocator) {
+    final int valueCount = mask.getValueCount();
+    final int selectedCount = getSelectedCount(mask);
+    final ArrowBuf data = mask.getDataBuffer();
+    final ArrowBuf validity = mask.getValidityBuffer();
+    final int wordCount = valueCount / Long.SIZE;
+
+    final IntVector selection = new IntVector("selection", allocator);
+    selection.allocateNew(selectedCount);
+    int selected = 0;
+    for (int i = 0; i < wordCount; i++) {
+      final long index = (long) i * Long.BYTES;
+      long word = data.getLong(index) & validity.getLong(index);
+      while (word != 0) {
+        selection.set(selected++, i * Long.SIZE + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+    for (int i = wordCount * Long.SIZE; i < valueCount; i++) {
+      if ((BitVectorHelper.get(data, i) & BitVectorHelper.get(validity, i)) != 0) {
+        selection.set(selected++, i);
+      }
+    }
+    selection.setValueCount(selectedCount);
+    return selection;
+  }
+
+  /**
+   * Filters a vector by a mask.
+   * @param source the vector to filter.
+   * @param mask the mask, of the same length as the vector.
+   * @param allocator the allocator for the new vector.
+   * @param <V> the vector type.
+   * @return a new vector with the values whose mask bit is set.
+   */
+  public static <V extends ValueVector> V filter(V source, BitVector mask, BufferAllocator allocator) {
+    checkMask(source.getValueCount(), mask);
+    try (IntVector selection = toSelectionVector(mask, allocator)) {
+      return VectorTaker.take(source, selection, allocator);
+    }
+  }
+
+  /**
+   * Filters a vector by a selection vector.
+   * @param source the vector to filter.
+   * @param selection the ascending indices of the values to select.
+   * @param allocator the allocator for the new vector.
+   * @param <V> the vector type.
+   * @return a new vector with the selected values.
+   */
+  public static <V extends ValueVector> V filter(V source, IntVector selection, BufferAllocator allocator) {
+    return VectorTaker.take(source, selection, allocator);
+  }
+
+  /**
+   * Filters all the vectors of a {@link VectorSchemaRoot} by a mask.
+   * @param root the root to filter.
+   * @param mask the mask, of the same length as the root.
+   * @param allocator the allocator for the new vectors.
+   * @return a new root with the rows whose mask bit is set.
+   */
+  public static VectorSchemaRoot filter(VectorSchemaRoot root, BitVector mask, BufferAllocator allocator) {
+    checkMask(root.getRowCount(), mask);
+    try (IntVector selection = toSelectionVector(mask, allocator)) {
+      return filter(root, selection, allocator);
+    }
+  }
+
+  /**
+   * Filters all the vectors of a {@link VectorSchemaRoot} by a selection vector.
+   * @param root the root to filter.
+   * @param selection the ascending indices of the rows to select.
+   * @param allocator the allocator for the new vectors.
+   * @return a new root with the selected rows.
+   */
+  public static VectorSchemaRoot filter(VectorSchemaRoot root, IntVector selection, BufferAllocator allocator) {
+    final List<FieldVector> vectors = new ArrayList<>(root.getFieldVectors().size());
+    try {
+      for (FieldVector vector : root.getFieldVectors()) {
+        vectors.add(VectorTaker.take(vector, selection, allocator));
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, vectors);
+      throw e;
+    }
+    return new VectorSchemaRoot(root.getSchema(), vectors, selection.getValueCount());
+  }
+
+  private static void checkMask(int valueCount, BitVector mask) {
+    Preconditions.checkArgument(mask.getValueCount() == valueCount,
+        "The mask length %s does not match the vector length %s", mask.getValueCount(), valueCount);
+  }
+}
@@ -0,0 +1,546 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.algorithm.selection;
+
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BaseLargeVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.ExtensionTypeVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.NullVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
+import org.apache.arrow.vector.complex.DenseUnionVector;
+import org.apache.arrow.vector.complex.FixedSizeListVector;
+import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.UnionVector;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * Gathers the values of a vector at the positions given by an index vector (the "take" kernel),
+ * e.g. to materialize the result of an {@link org.apache.arrow.algorithm.sort.IndexSorter}.
+ * A null index produces a null value.
+ *
+ * <p>Compared to a {@link ValueVector#copyFromSafe(int, int, ValueVector)} loop, fixed-width values
+ * are copied directly between the buffers, runs of consecutive indices are copied in bulk,
+ * variable-width outputs are sized in a first pass so they are allocated exactly once, and nested
+ * vectors recurse into their children with the gathered child indices.
+ *
+ * <p>The visitor is applied to the source vector, and fills the target vector given to the
+ * constructor, which must have the same type and is (re)allocated by the visitor.
+ */
+public class VectorTaker implements VectorVisitor<ValueVector, Void> {
+
+  private final ValueVector target;
+  private final IntVector indices;
+
+  /**
+   * Constructs a new instance.
+   * @param target the vector to fill, of the same type as the visited vector.
+   * @param indices the positions to gather from the visited vector.
+   */
+  public VectorTaker(ValueVector target, IntVector indices) {
+    this.target = target;
+    this.indices = indices;
+  }
+
+  /**
+   * Gathers the values of a vector at the given positions into a new vector.
+   * @param source the vector to take the values from.
+   * @param indices the positions to take, a null index produces a null value.
+   * @param allocator the allocator for the new vector.
+   * @param <V> the vector type.
+   * @return a new vector of the same type and name as the source, with one value per index.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends ValueVector> V take(V source, IntVector indices, BufferAllocator allocator) {
+    ValueVector target = source.getField().createVector(allocator);
+    try {
+      source.accept(new VectorTaker(target, indices), null);
+    } catch (RuntimeException e) {
+      target.close();
+      throw e;
+    }
+    return (V) target;
+  }
+
+  private int valueCount() {
+    return indices.getValueCount();
+  }
+
+  private boolean isNullIndex(int index) {
+    return indices.isNull(index);
+  }
+
+  private int sourceIndex(ValueVector source, int index) {
+    int sourceIndex = indices.get(index);
+    if (sourceIndex < 0 || sourceIndex >= source.getValueCount()) {
+      throw new IndexOutOfBoundsException(String.format(
+          "index %s out of bounds for vector of length %s", sourceIndex, source.getValueCount()));
+    }
+    return sourceIndex;
+  }
+
+  private void checkType(ValueVector source) {
+    Preconditions.checkArgument(source.getMinorType() == target.getMinorType(),
+        "The target vector type %s does not match the source vector type %s",
+        target.getMinorType(), source.getMinorType());
+  }
+
+  /**
+   * Gets the length of the run of consecutive source indices starting at the given position, so
+   * that it can be copied in bulk.
+   */
+  private int runLength(ValueVector source, int index, int sourceIndex) {
+    final int maxLength = Math.min(valueCount() - index, source.getValueCount() - sourceIndex);
+    int length = 1;
+    while (length < maxLength && !isNullIndex(index + length) &&
+        indices.get(index + length) == sourceIndex + length) {
+      length++;
+    }
+    return length;
+  }
+
+  private static void copyValidity(ArrowBuf srcValidity, int srcIndex, ArrowBuf dstValidity, int dstIndex,
+      int length) {
+    for (int i = 0; i < length; i++) {
+      if (BitVectorHelper.get(srcValidity, srcIndex + i) != 0) {
+        BitVectorHelper.setBit(dstValidity, dstIndex + i);
+      }
+    }
+  }
+
+  @Override
+  public ValueVector visit(BaseFixedWidthVector source, Void value) {
+    checkType(source);
+    final BaseFixedWidthVector targetVector = (BaseFixedWidthVector) target;
+    final int valueCount = valueCount();
+    targetVector.allocateNew(valueCount);
+
+    final ArrowBuf srcValidity = source.getValidityBuffer();
+    final ArrowBuf dstValidity = targetVector.getValidityBuffer();
+    final long srcAddress = source.getDataBuffer().memoryAddress();
+    final long dstAddress = targetVector.getDataBuffer().memoryAddress();
+    final int typeWidth = source.getTypeWidth();
+    final boolean isBitVector = source instanceof BitVector;
+
+    int i = 0;
+    while (i < valueCount) {
+      if (isNullIndex(i)) {
+        i++;
+        continue;
+      }
+      final int srcIndex = sourceIndex(source, i);
+      final int length = runLength(source, i, srcIndex);
+      copyValidity(srcValidity, srcIndex, dstValidity, i, length);
+      if (isBitVector) {
+        copyValidity(source.getDataBuffer(), srcIndex, targetVector.getDataBuffer(), i, length);
+      } else if (length > 1) {
+        MemoryUtil.UNSAFE.copyMemory(srcAddress + (long) srcIndex * typeWidth, dstAddress + (long) i * typeWidth,
+            (long) length * typeWidth);
+      } else {
+        final long srcOffset = srcAddress + (long) srcIndex * typeWidth;
+        final long dstOffset = dstAddress + (long) i * typeWidth;
+        switch (typeWidth) {
+          case 1:
+            MemoryUtil.UNSAFE.putByte(dstOffset, MemoryUtil.UNSAFE.getByte(srcOffset));
+            break;
+          case 2:
+            MemoryUtil.UNSAFE.putShort(dstOffset, MemoryUtil.UNSAFE.getShort(srcOffset));
+            break;
+          case 4:
+            MemoryUtil.UNSAFE.putInt(dstOffset, MemoryUtil.UNSAFE.getInt(srcOffset));
+            break;
+          case 8:
+            MemoryUtil.UNSAFE.putLong(dstOffset, MemoryUtil.UNSAFE.getLong(srcOffset));
+            break;
+          default:
+            MemoryUtil.UNSAFE.copyMemory(srcOffset, dstOffset, typeWidth);
+            break;
+        }
+      }
+      i += length;
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(BaseVariableWidthVector source, Void value) {
+    checkType(source);
+    final BaseVariableWidthVector targetVector = (BaseVariableWidthVector) target;
+    final int valueCount = valueCount();
+    final ArrowBuf srcOffsets = source.getOffsetBuffer();
+    final int offsetWidth = BaseVariableWidthVector.OFFSET_WIDTH;
+
+    // first pass: compute the output data size, so the data buffer is allocated exactly once
+    long totalBytes = 0;
+    int i = 0;
+    while (i < valueCount) {
+      if (isNullIndex(i)) {
+        i++;
+        continue;
+      }
+      final int srcIndex = sourceIndex(source, i);
+      final int length = runLength(source, i, srcIndex);
+      totalBytes += srcOffsets.getInt((long) (srcIndex + length) * offsetWidth) -
+          srcOffsets.getInt((long) srcIndex * offsetWidth);
+      i += length;
+    }
+    targetVector.allocateNew(Math.max(totalBytes, 1), valueCount);
+
+    final ArrowBuf dstValidity = targetVector.getValidityBuffer();
+    final ArrowBuf dstOffsets = targetVector.getOffsetBuffer();
+    final long srcAddress = source.getDataBuffer().memoryAddress();
+    final long dstAddress = targetVector.getDataBuffer().memoryAddress();
+    int dstOffset = 0;
+    dstOffsets.setInt(0, 0);
+    i = 0;
+    while (i < valueCount) {
+      if (isNullIndex(i)) {
+        dstOffsets.setInt((long) (i + 1) * offsetWidth, dstOffset);
+        i++;
+        continue;
+      }
+      final int srcIndex = indices.get(i);
+      final int length = runLength(source, i, srcIndex);
+      final int srcStart = srcOffsets.getInt((long) srcIndex * offsetWidth);
+      final int byteLength = srcOffsets.getInt((long) (srcIndex + length) * offsetWidth) - srcStart;
+      MemoryUtil.UNSAFE.copyMemory(srcAddress + srcStart, dstAddress + dstOffset, byteLength);
+      for (int j = 0; j < length; j++) {
+        dstOffsets.setInt((long) (i + j + 1) * offsetWidth,
+            dstOffset + srcOffsets.getInt((long) (srcIndex + j + 1) * offsetWidth) - srcStart);
+      }
+      copyValidity(source.getValidityBuffer(), srcIndex, dstValidity, i, length);
+      dstOffset += byteLength;
+      i += length;
+    }
+    targetVector.setLastSet(valueCount - 1);
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(BaseLargeVariableWidthVector source, Void value) {
+    checkType(source);
+    final BaseLargeVariableWidthVector targetVector = (BaseLargeVariableWidthVector) target;
+    final int valueCount = valueCount();
+    final ArrowBuf srcOffsets = source.getOffsetBuffer();
+    final int offsetWidth = BaseLargeVariableWidthVector.OFFSET_WIDTH;
+
+    // first pass: compute the output data size, so the data buffer is allocated exactly once
+    long totalBytes = 0;
+    int i = 0;
+    while (i < valueCount) {
+      if (isNullIndex(i)) {
+        i++;
+        continue;
+      }
+      final int srcIndex = sourceIndex(source, i);
+      final int length = runLength(source, i, srcIndex);
+      totalBytes += srcOffsets.getLong((long) (srcIndex + length) * offsetWidth) -
+          srcOffsets.getLong((long) srcIndex * offsetWidth);
+      i += length;
+    }
+    targetVector.allocateNew(Math.max(totalBytes, 1), valueCount);
+
+    final ArrowBuf dstValidity = targetVector.getValidityBuffer();
+    final ArrowBuf dstOffsets = targetVector.getOffsetBuffer();
+    final long srcAddress = source.getDataBuffer().memoryAddress();
+    final long dstAddress = targetVector.getDataBuffer().memoryAddress();
+    long dstOffset = 0;
+    dstOffsets.setLong(0, 0);
+    i = 0;
+    while (i < valueCount) {
+      if (isNullIndex(i)) {
+        dstOffsets.setLong((long) (i + 1) * offsetWidth, dstOffset);
+        i++;
+        continue;
+      }
+      final int srcIndex = indices.get(i);
+      final int length = runLength(source, i, srcIndex);
+      final long srcStart = srcOffsets.getLong((long) srcIndex * offsetWidth);
+      final long byteLength = srcOffsets.getLong((long) (srcIndex + length) * offsetWidth) - srcStart;
+      MemoryUtil.UNSAFE.copyMemory(srcAddress + srcStart, dstAddress + dstOffset, byteLength);
+      for (int j = 0; j < length; j++) {
+        dstOffsets.setLong((long) (i + j + 1) * offsetWidth,
+            dstOffset + srcOffsets.getLong((long) (srcIndex + j + 1) * offsetWidth) - srcStart);
+      }
+      copyValidity(source.getValidityBuffer(), srcIndex, dstValidity, i, length);
+      dstOffset += byteLength;
+      i += length;
+    }
+    targetVector.setLastSet(valueCount - 1);
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(BaseVariableWidthViewVector source, Void value) {
+    return copyValues(source);
+  }
+
+  @Override
+  public ValueVector visit(ListVector source, Void value) {
+    checkType(source);
+    final ListVector targetVector = (ListVector) target;
+    final int valueCount = valueCount();
+    targetVector.allocateNew();
+
+    try (IntVector childIndices = new IntVector("child indices", indices.getAllocator())) {
+      childIndices.allocateNew(valueCount);
+      int childCount = 0;
+      for (int i = 0; i < valueCount; i++) {
+        if (isNullIndex(i)) {
+          targetVector.setNull(i);
+          continue;
+        }
+        final int srcIndex = sourceIndex(source, i);
+        if (source.isNull(srcIndex)) {
+          targetVector.setNull(i);
+          continue;
+        }
+        final int start = source.getElementStartIndex(srcIndex);
+        final int size = source.getElementEndIndex(srcIndex) - start;
+        targetVector.startNewValue(i);
+        for (int j = 0; j < size; j++) {
+          childIndices.setSafe(childCount++, start + j);
+        }
+        targetVector.endValue(i, size);
+      }
+      childIndices.setValueCount(childCount);
+      source.getDataVector().accept(new VectorTaker(targetVector.getDataVector(), childIndices), null);
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(FixedSizeListVector source, Void value) {
+    checkType(source);
+    final FixedSizeListVector targetVector = (FixedSizeListVector) target;
+    final int valueCount = valueCount();
+    final int listSize = source.getListSize();
+    targetVector.allocateNew();
+
+    // every list has a slot in the child vector, null lists gather null child values
+    try (IntVector childIndices = new IntVector("child indices", indices.getAllocator())) {
+      childIndices.allocateNew(valueCount * listSize);
+      for (int i = 0; i < valueCount; i++) {
+        if (isNullIndex(i) || source.isNull(sourceIndex(source, i))) {
+          targetVector.setNull(i);
+          for (int j = 0; j < listSize; j++) {
+            childIndices.setNull(i * listSize + j);
+          }
+        } else {
+          targetVector.setNotNull(i);
+          final int start = indices.get(i) * listSize;
+          for (int j = 0; j < listSize; j++) {
+            childIndices.set(i * listSize + j, start + j);
+          }
+        }
+      }
+      childIndices.setValueCount(valueCount * listSize);
+      source.getDataVector().accept(new VectorTaker(targetVector.getDataVector(), childIndices), null);
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(LargeListVector source, Void value) {
+    checkType(source);
+    final LargeListVector targetVector = (LargeListVector) target;
+    final int valueCount = valueCount();
+    targetVector.allocateNew();
+
+    try (IntVector childIndices = new IntVector("child indices", indices.getAllocator())) {
+      childIndices.allocateNew(valueCount);
+      int childCount = 0;
+      for (int i = 0; i < valueCount; i++) {
+        if (isNullIndex(i)) {
+          targetVector.setNull(i);
+          continue;
+        }
+        final int srcIndex = sourceIndex(source, i);
+        if (source.isNull(srcIndex)) {
+          targetVector.setNull(i);
+          continue;
+        }
+        final long start = source.getElementStartIndex(srcIndex);
+        final long size = source.getElementEndIndex(srcIndex) - start;
+        targetVector.startNewValue(i);
+        for (int j = 0; j < size; j++) {
+          childIndices.setSafe(childCount++, (int) (start + j));
+        }
+        targetVector.endValue(i, size);
+      }
+      childIndices.setValueCount(childCount);
+      source.getDataVector().accept(new VectorTaker(targetVector.getDataVector(), childIndices), null);
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(NonNullableStructVector source, Void value) {
+    checkType(source);
+    final NonNullableStructVector targetVector = (NonNullableStructVector) target;
+    final int valueCount = valueCount();
+    takeChildren(source.getChildrenFromFields(), targetVector.getChildrenFromFields());
+
+    if (targetVector instanceof StructVector) {
+      final StructVector structSource = (StructVector) source;
+      final StructVector structTarget = (StructVector) targetVector;
+      for (int i = 0; i < valueCount; i++) {
+        if (isNullIndex(i) || structSource.isNull(sourceIndex(source, i))) {
+          structTarget.setNull(i);
+        } else {
+          structTarget.setIndexDefined(i);
+        }
+      }
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(UnionVector source, Void value) {
+    checkType(source);
+    final UnionVector targetVector = (UnionVector) target;
+    final int valueCount = valueCount();
+    targetVector.setInitialCapacity(valueCount);
+    targetVector.allocateNew();
+
+    // the children of a sparse union are as long as the union, they are gathered with the same indices
+    final ArrowBuf dstTypes = targetVector.getTypeBuffer();
+    for (int i = 0; i < valueCount; i++) {
+      final byte typeId = isNullIndex(i) ? 0 : (byte) source.getTypeValue(sourceIndex(source, i));
+      dstTypes.setByte((long) i * UnionVector.TYPE_WIDTH, typeId);
+    }
+    takeChildren(source.getChildrenFromFields(), targetVector.getChildrenFromFields());
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(DenseUnionVector source, Void value) {
+    return copyValues(source);
+  }
+
+  @Override
+  public ValueVector visit(NullVector source, Void value) {
+    target.setValueCount(valueCount());
+    return target;
+  }
+
+  @Override
+  public ValueVector visit(ExtensionTypeVector<?> source, Void value) {
+    final ExtensionTypeVector<?> targetVector = (ExtensionTypeVector<?>) target;
+    source.getUnderlyingVector().accept(new VectorTaker(targetVector.getUnderlyingVector(), indices), null);
+    targetVector.setValueCount(valueCount());
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(BaseListViewVector source, Void value) {
+    return copyValues(source);
+  }
+
+  @Override
+  public ValueVector visit(RunEndEncodedVector source, Void value) {
+    checkType(source);
+    final RunEndEncodedVector targetVector = (RunEndEncodedVector) target;
+    final int valueCount = valueCount();
+    final BaseIntVector runEnds = (BaseIntVector) targetVector.getRunEndsVector();
+    targetVector.checkLogicalLength(valueCount);
+    targetVector.allocateNew();
+
+    // gather the runs of the taken values, consecutive indices into the same run (or nulls) are merged
+    try (IntVector runIndices = new IntVector("run indices", indices.getAllocator())) {
+      runIndices.allocateNew(valueCount);
+      int runCount = 0;
+      for (int i = 0; i < valueCount; i++) {
+        final boolean isNull = isNullIndex(i);
+        final int runIndex = isNull ? -1 : source.getPhysicalIndex(sourceIndex(source, i));
+        if (runCount > 0 && (isNull ? runIndices.isNull(runCount - 1) :
+            !runIndices.isNull(runCount - 1) && runIndices.get(runCount - 1) == runIndex)) {
+          runEnds.setWithPossibleTruncate(runCount - 1, i + 1);
+          continue;
+        }
+        if (isNull) {
+          runIndices.setNull(runCount);
+        } else {
+          runIndices.set(runCount, runIndex);
+        }
+        runEnds.setWithPossibleTruncate(runCount, i + 1);
+        runCount++;
+      }
+      runIndices.setValueCount(runCount);
+      runEnds.setValueCount(runCount);
+      source.getValuesVector().accept(new VectorTaker(targetVector.getValuesVector(), runIndices), null);
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+
+  private void takeChildren(List<FieldVector> sourceChildren, List<FieldVector> targetChildren) {
+    Preconditions.checkArgument(sourceChildren.size() == targetChildren.size(),
+        "The target vector has %s children, expected %s", targetChildren.size(), sourceChildren.size());
+    for (int i = 0; i < sourceChildren.size(); i++) {
+      sourceChildren.get(i).accept(new VectorTaker(targetChildren.get(i), indices), null);
+    }
+  }
+
+  /**
+   * Fallback for the vectors without a specialized take, copying value by value.
+   */
+  private ValueVector copyValues(FieldVector source) {
+    checkType(source);
+    final FieldVector targetVector = (FieldVector) target;
+    final int valueCount = valueCount();
+    targetVector.setInitialCapacity(valueCount);
+    targetVector.allocateNew();
+    final TransferPair copier = source.makeTransferPair(targetVector);
+    for (int i = 0; i < valueCount; i++) {
+      if (isNullIndex(i)) {
+        targetVector.setNull(i);
+      } else {
+        copier.copyValueSafe(sourceIndex(source, i), i);
+      }
+    }
+    targetVector.setValueCount(valueCount);
+    return targetVector;
+  }
+}
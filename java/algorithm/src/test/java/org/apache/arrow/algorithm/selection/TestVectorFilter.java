@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.algorithm.selection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link VectorFilter}.
+ */
+public class TestVectorFilter {
+
+  private static final int VECTOR_LENGTH = 200;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  /**
+   * Selects the values at the indices that are multiples of 3, or in the range [100, 140),
+   * with the mask null at the multiples of 7.
+   */
+  private static boolean isSelected(int index) {
+    return index % 7 != 0 && (index % 3 == 0 || (index >= 100 && index < 140));
+  }
+
+  private BitVector createMask(int length) {
+    BitVector mask = new BitVector("mask", allocator);
+    mask.allocateNew(length);
+    for (int i = 0; i < length; i++) {
+      if (i % 7 == 0) {
+        mask.setNull(i);
+      } else {
+        mask.set(i, maskBit(i));
+      }
+    }
+    mask.setValueCount(length);
+    return mask;
+  }
+
+  private static int maskBit(int i) {
+    return i % 3 == 0 || (i >= 100 && i < 140) ? 1 : 0;
+  }
+
+  @Test
+  public void testSelectionVector() {
+    try (BitVector mask = createMask(VECTOR_LENGTH);
+         IntVector selection = VectorFilter.toSelectionVector(mask, allocator)) {
+      int expectedCount = 0;
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        if (isSelected(i)) {
+          assertEquals(i, selection.get(expectedCount++));
+        }
+      }
+      assertEquals(expectedCount, VectorFilter.getSelectedCount(mask));
+      assertEquals(expectedCount, selection.getValueCount());
+    }
+  }
+
+  @Test
+  public void testFilterFixedWidth() {
+    try (IntVector source = new IntVector("ints", allocator);
+         BitVector mask = createMask(VECTOR_LENGTH)) {
+      source.allocateNew(VECTOR_LENGTH);
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        if (i % 5 == 0) {
+          source.setNull(i);
+        } else {
+          source.set(i, i);
+        }
+      }
+      source.setValueCount(VECTOR_LENGTH);
+
+      try (IntVector result = VectorFilter.filter(source, mask, allocator)) {
+        int index = 0;
+        for (int i = 0; i < VECTOR_LENGTH; i++) {
+          if (isSelected(i)) {
+            if (i % 5 == 0) {
+              assertTrue(result.isNull(index));
+            } else {
+              assertEquals(i, result.get(index));
+            }
+            index++;
+          }
+        }
+        assertEquals(index, result.getValueCount());
+      }
+    }
+  }
+
+  @Test
+  public void testFilterVariableWidth() {
+    try (VarCharVector source = new VarCharVector("strings", allocator);
+         BitVector mask = createMask(VECTOR_LENGTH)) {
+      source.allocateNew();
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        if (i % 5 == 0) {
+          source.setNull(i);
+        } else {
+          source.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      source.setValueCount(VECTOR_LENGTH);
+
+      try (VarCharVector result = VectorFilter.filter(source, mask, allocator)) {
+        int index = 0;
+        for (int i = 0; i < VECTOR_LENGTH; i++) {
+          if (isSelected(i)) {
+            if (i % 5 == 0) {
+              assertTrue(result.isNull(index));
+            } else {
+              assertEquals("value" + i, result.getObject(index).toString());
+            }
+            index++;
+          }
+        }
+        assertEquals(index, result.getValueCount());
+        ValueVectorUtility.validateFull(result);
+      }
+    }
+  }
+
+  @Test
+  public void testFilterNested() {
+    try (ListVector source = ListVector.empty("lists", allocator);
+         IntVector selection = new IntVector("selection", allocator)) {
+      UnionListWriter writer = source.getWriter();
+      writer.allocate();
+      for (int i = 0; i < 4; i++) {
+        writer.setPosition(i);
+        writer.startList();
+        for (int j = 0; j <= i; j++) {
+          writer.writeInt(i * 10 + j);
+        }
+        writer.endList();
+      }
+      source.setValueCount(4);
+
+      selection.allocateNew(3);
+      selection.set(0, 1);
+      selection.set(1, 2);
+      selection.set(2, 3);
+      selection.setValueCount(3);
+
+      try (ListVector result = VectorFilter.filter(source, selection, allocator)) {
+        assertEquals(3, result.getValueCount());
+        assertEquals(Arrays.asList(10, 11), result.getObject(0));
+        assertEquals(Arrays.asList(20, 21, 22), result.getObject(1));
+        assertEquals(Arrays.asList(30, 31, 32, 33), result.getObject(2));
+        ValueVectorUtility.validateFull(result);
+      }
+    }
+  }
+
+  @Test
+  public void testFilterRoot() {
+    try (IntVector ints = new IntVector("ints", allocator);
+         VarCharVector strings = new VarCharVector("strings", allocator);
+         BitVector mask = new BitVector("mask", allocator)) {
+      ints.allocateNew(4);
+      strings.allocateNew();
+      mask.allocateNew(4);
+      for (int i = 0; i < 4; i++) {
+        ints.set(i, i);
+        strings.setSafe(i, String.valueOf(i).getBytes(StandardCharsets.UTF_8));
+        mask.set(i, i % 2);
+      }
+      VectorSchemaRoot root = VectorSchemaRoot.of(ints, strings);
+      root.setRowCount(4);
+      mask.setValueCount(4);
+
+      try (VectorSchemaRoot result = VectorFilter.filter(root, mask, allocator)) {
+        assertEquals(root.getSchema(), result.getSchema());
+        assertEquals(2, result.getRowCount());
+        assertEquals(1, result.getVector("ints").getObject(0));
+        assertEquals(3, result.getVector("ints").getObject(1));
+        assertEquals("1", result.getVector("strings").getObject(0).toString());
+        assertEquals("3", result.getVector("strings").getObject(1).toString());
+      }
+    }
+  }
+
+  @Test
+  public void testMaskLengthMismatch() {
+    try (IntVector source = new IntVector("ints", allocator);
+         BitVector mask = createMask(3)) {
+      source.allocateNew(4);
+      source.setValueCount(4);
+      assertThrows(IllegalArgumentException.class, () -> VectorFilter.filter(source, mask, allocator));
+    }
+  }
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.algorithm.selection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.FixedSizeListVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.UnionVector;
+import org.apache.arrow.vector.complex.impl.UnionFixedSizeListWriter;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.apache.arrow.vector.holders.NullableBitHolder;
+import org.apache.arrow.vector.holders.NullableIntHolder;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.util.RunEndEncoder;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link VectorTaker}.
+ */
+public class TestVectorTaker {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private IntVector indices(Integer... values) {
+    IntVector indices = new IntVector("indices", allocator);
+    indices.allocateNew(values.length);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) {
+        indices.setNull(i);
+      } else {
+        indices.set(i, values[i]);
+      }
+    }
+    indices.setValueCount(values.length);
+    return indices;
+  }
+
+  @Test
+  public void testTakeFixedWidth() {
+    try (IntVector source = new IntVector("ints", allocator);
+         IntVector indices = indices(4, 0, null, 2, 4, 1)) {
+      source.allocateNew(5);
+      for (int i = 0; i < 5; i++) {
+        source.set(i, i * 10);
+      }
+      source.setNull(1);
+      source.setValueCount(5);
+
+      try (IntVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals("ints", result.getName());
+        assertEquals(6, result.getValueCount());
+        assertEquals(40, result.get(0));
+        assertEquals(0, result.get(1));
+        assertTrue(result.isNull(2));
+        assertEquals(20, result.get(3));
+        assertEquals(40, result.get(4));
+        assertTrue(result.isNull(5));
+        assertEquals(2, result.getNullCount());
+      }
+    }
+  }
+
+  @Test
+  public void testTakeBit() {
+    try (BitVector source = new BitVector("bits", allocator);
+         IntVector indices = indices(2, 1, 0, null, 0)) {
+      source.allocateNew(3);
+      source.set(0, 1);
+      source.set(1, 0);
+      source.setNull(2);
+      source.setValueCount(3);
+
+      try (BitVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(5, result.getValueCount());
+        assertTrue(result.isNull(0));
+        assertEquals(0, result.get(1));
+        assertEquals(1, result.get(2));
+        assertTrue(result.isNull(3));
+        assertEquals(1, result.get(4));
+      }
+    }
+  }
+
+  @Test
+  public void testTakeVariableWidth() {
+    try (VarCharVector source = new VarCharVector("strings", allocator);
+         IntVector indices = indices(3, null, 0, 1, 3, 2)) {
+      source.allocateNew();
+      source.setSafe(0, "zero".getBytes(StandardCharsets.UTF_8));
+      source.setNull(1);
+      source.setSafe(2, "".getBytes(StandardCharsets.UTF_8));
+      source.setSafe(3, "three, a longer value".getBytes(StandardCharsets.UTF_8));
+      source.setValueCount(4);
+
+      try (VarCharVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(6, result.getValueCount());
+        assertEquals("three, a longer value", result.getObject(0).toString());
+        assertTrue(result.isNull(1));
+        assertEquals("zero", result.getObject(2).toString());
+        assertTrue(result.isNull(3));
+        assertEquals("three, a longer value", result.getObject(4).toString());
+        assertEquals("", result.getObject(5).toString());
+        // the data buffer is sized to the taken values
+        assertEquals(46, result.getOffsetBuffer().getInt(6 * VarCharVector.OFFSET_WIDTH));
+        ValueVectorUtility.validateFull(result);
+      }
+    }
+  }
+
+  @Test
+  public void testTakeList() {
+    try (ListVector source = ListVector.empty("lists", allocator);
+         IntVector indices = indices(2, 0, null, 1, 2)) {
+      UnionListWriter writer = source.getWriter();
+      writer.allocate();
+      writer.setPosition(0);
+      writer.startList();
+      writer.writeInt(1);
+      writer.writeInt(2);
+      writer.endList();
+      source.setNull(1);
+      writer.setPosition(2);
+      writer.startList();
+      writer.writeInt(3);
+      writer.endList();
+      source.setValueCount(3);
+
+      try (ListVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(5, result.getValueCount());
+        assertEquals(Arrays.asList(3), result.getObject(0));
+        assertEquals(Arrays.asList(1, 2), result.getObject(1));
+        assertTrue(result.isNull(2));
+        assertTrue(result.isNull(3));
+        assertEquals(Arrays.asList(3), result.getObject(4));
+        assertEquals(4, result.getDataVector().getValueCount());
+        ValueVectorUtility.validateFull(result);
+      }
+    }
+  }
+
+  @Test
+  public void testTakeFixedSizeList() {
+    try (FixedSizeListVector source = FixedSizeListVector.empty("lists", 2, allocator);
+         IntVector indices = indices(1, null, 0)) {
+      UnionFixedSizeListWriter writer = source.getWriter();
+      writer.allocate();
+      writer.setPosition(0);
+      writer.startList();
+      writer.writeInt(1);
+      writer.writeInt(2);
+      writer.endList();
+      writer.setPosition(1);
+      writer.startList();
+      writer.writeInt(3);
+      writer.writeInt(4);
+      writer.endList();
+      source.setValueCount(2);
+
+      try (FixedSizeListVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(3, result.getValueCount());
+        assertEquals(Arrays.asList(3, 4), result.getObject(0));
+        assertTrue(result.isNull(1));
+        assertEquals(Arrays.asList(1, 2), result.getObject(2));
+      }
+    }
+  }
+
+  @Test
+  public void testTakeStruct() {
+    try (StructVector source = StructVector.empty("struct", allocator);
+         IntVector indices = indices(1, null, 0, 1)) {
+      IntVector ints = source.addOrGet("ints", FieldType.nullable(MinorType.INT.getType()), IntVector.class);
+      VarCharVector strings =
+          source.addOrGet("strings", FieldType.nullable(MinorType.VARCHAR.getType()), VarCharVector.class);
+      source.allocateNew();
+      ints.set(0, 7);
+      strings.setSafe(0, "seven".getBytes(StandardCharsets.UTF_8));
+      source.setIndexDefined(0);
+      source.setNull(1);
+      source.setValueCount(2);
+      ints.setValueCount(2);
+      strings.setValueCount(2);
+
+      try (StructVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(4, result.getValueCount());
+        assertTrue(result.isNull(0));
+        assertTrue(result.isNull(1));
+        assertFalse(result.isNull(2));
+        assertEquals(7, ((IntVector) result.getChild("ints")).get(2));
+        assertEquals("seven", result.getChild("strings").getObject(2).toString());
+        assertTrue(result.isNull(3));
+      }
+    }
+  }
+
+  @Test
+  public void testTakeUnion() {
+    try (UnionVector source = UnionVector.empty("union", allocator);
+         IntVector indices = indices(1, 0, null, 2)) {
+      source.allocateNew();
+      NullableIntHolder intHolder = new NullableIntHolder();
+      intHolder.isSet = 1;
+      intHolder.value = 42;
+      source.setType(0, MinorType.INT);
+      source.setSafe(0, intHolder);
+      NullableBitHolder bitHolder = new NullableBitHolder();
+      bitHolder.isSet = 1;
+      bitHolder.value = 1;
+      source.setType(1, MinorType.BIT);
+      source.setSafe(1, bitHolder);
+      source.setValueCount(3);
+
+      try (UnionVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(4, result.getValueCount());
+        assertEquals(true, result.getObject(0));
+        assertEquals(42, result.getObject(1));
+        assertNull(result.getObject(2));
+        assertNull(result.getObject(3));
+      }
+    }
+  }
+
+  @Test
+  public void testTakeRunEndEncoded() {
+    try (IntVector values = new IntVector("ints", allocator);
+         IntVector indices = indices(4, 3, 0, 1, null, null)) {
+      values.allocateNew(5);
+      values.set(0, 1);
+      values.set(1, 1);
+      values.set(2, 2);
+      values.set(3, 2);
+      values.set(4, 3);
+      values.setValueCount(5);
+
+      try (RunEndEncodedVector source = RunEndEncoder.encode(values, allocator);
+           RunEndEncodedVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(6, result.getValueCount());
+        // the taken indices 0 and 1 fall in the same run, as do the two nulls
+        assertEquals(4, result.getRunCount());
+        assertEquals(3, result.getObject(0));
+        assertEquals(2, result.getObject(1));
+        assertEquals(1, result.getObject(2));
+        assertEquals(1, result.getObject(3));
+        assertNull(result.getObject(4));
+        assertNull(result.getObject(5));
+      }
+    }
+  }
+
+  @Test
+  public void testTakeOutOfBounds() {
+    try (IntVector source = new IntVector("ints", allocator);
+         IntVector indices = indices(0, 3)) {
+      source.allocateNew(3);
+      source.setValueCount(3);
+      assertThrows(IndexOutOfBoundsException.class, () -> VectorTaker.take(source, indices, allocator));
+    }
+  }
+
+  @Test
+  public void testTakeEmpty() {
+    try (VarCharVector source = new VarCharVector("strings", allocator);
+         IntVector indices = indices()) {
+      source.allocateNew();
+      source.setSafe(0, "a".getBytes(StandardCharsets.UTF_8));
+      source.setValueCount(1);
+      try (VarCharVector result = VectorTaker.take(source, indices, allocator)) {
+        assertEquals(0, result.getValueCount());
+      }
+    }
+  }
+}
@@ -28,6 +28,7 @@ import org.apache.arrow.c.jni.JniWrapper;
 import org.apache.arrow.c.jni.PrivateData;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.dictionary.Dictionary;
 import org.apache.arrow.vector.dictionary.DictionaryProvider;
@@ -96,8 +97,11 @@ final class ArrayExporter {
       }
 
       if (buffers != null) {
-        data.buffers = new ArrayList<>(buffers.size());
-        data.buffers_ptrs = allocator.buffer((long) buffers.size() * Long.BYTES);
+        // the C data interface expects the sizes of the variadic data buffers of views in an extra last buffer
+        final boolean exportVariadicSizes = vector instanceof BaseVariableWidthViewVector;
+        final int bufferCount = exportVariadicSizes ? buffers.size() + 1 : buffers.size();
+        data.buffers = new ArrayList<>(bufferCount);
+        data.buffers_ptrs = allocator.buffer((long) bufferCount * Long.BYTES);
         for (ArrowBuf arrowBuf : buffers) {
           if (arrowBuf != null) {
             arrowBuf.getReferenceManager().retain();
@@ -107,6 +111,14 @@ final class ArrayExporter {
           }
           data.buffers.add(arrowBuf);
         }
+        if (exportVariadicSizes) {
+          ArrowBuf sizes = allocator.buffer((long) (buffers.size() - 2) * Long.BYTES);
+          data.buffers.add(sizes);
+          for (int i = 2; i < buffers.size(); i++) {
+            sizes.writeLong(buffers.get(i).capacity());
+          }
+          data.buffers_ptrs.writeLong(sizes.memoryAddress());
+        }
       }
 
       if (dictionaryEncoding != null) {
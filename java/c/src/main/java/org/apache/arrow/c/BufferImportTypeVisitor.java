@@ -29,6 +29,7 @@ import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.util.AutoCloseables;
 import org.apache.arrow.util.VisibleForTesting;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.DateDayVector;
 import org.apache.arrow.vector.DateMilliVector;
 import org.apache.arrow.vector.DurationVector;
@@ -48,7 +49,9 @@ import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.LargeListViewVector;
 import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.ListViewVector;
 import org.apache.arrow.vector.complex.MapVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
@@ -138,6 +141,14 @@ class BufferImportTypeVisitor implements ArrowType.ArrowTypeVisitor<List<ArrowBu
     return Collections.emptyList();
   }
 
+  @Override
+  public List<ArrowBuf> visit(ArrowType.RunEndEncoded type) {
+    checkState(
+        buffers.length == 0,
+        "Expected %s buffers for type %s, but found %s", 0, type, buffers.length);
+    return Collections.emptyList();
+  }
+
   @Override
   public List<ArrowBuf> visit(ArrowType.Struct type) {
     return Collections.singletonList(maybeImportBitmap(type));
@@ -153,6 +164,18 @@ class BufferImportTypeVisitor implements ArrowType.ArrowTypeVisitor<List<ArrowBu
     return Arrays.asList(maybeImportBitmap(type), importOffsets(type, LargeListVector.OFFSET_WIDTH));
   }
 
+  @Override
+  public List<ArrowBuf> visit(ArrowType.ListView type) {
+    return Arrays.asList(maybeImportBitmap(type), importFixedBytes(type, 1, ListViewVector.OFFSET_WIDTH),
+        importFixedBytes(type, 2, ListViewVector.SIZE_WIDTH));
+  }
+
+  @Override
+  public List<ArrowBuf> visit(ArrowType.LargeListView type) {
+    return Arrays.asList(maybeImportBitmap(type), importFixedBytes(type, 1, LargeListViewVector.OFFSET_WIDTH),
+        importFixedBytes(type, 2, LargeListViewVector.SIZE_WIDTH));
+  }
+
   @Override
   public List<ArrowBuf> visit(ArrowType.FixedSizeList type) {
     return Collections.singletonList(maybeImportBitmap(type));
@@ -252,6 +275,32 @@ class BufferImportTypeVisitor implements ArrowType.ArrowTypeVisitor<List<ArrowBu
     }
   }
 
+  @Override
+  public List<ArrowBuf> visit(ArrowType.Utf8View type) {
+    return importViews(type);
+  }
+
+  @Override
+  public List<ArrowBuf> visit(ArrowType.BinaryView type) {
+    return importViews(type);
+  }
+
+  private List<ArrowBuf> importViews(ArrowType type) {
+    // validity, views, the variadic data buffers and a last buffer with the sizes of the data buffers
+    checkState(
+        buffers.length >= 3,
+        "Expected at least %s buffers for type %s, but found %s", 3, type, buffers.length);
+    final int dataBufferCount = buffers.length - 3;
+    final ArrowBuf sizes = importBuffer(type, buffers.length - 1, (long) dataBufferCount * Long.BYTES);
+    final List<ArrowBuf> result = new ArrayList<>(2 + dataBufferCount);
+    result.add(maybeImportBitmap(type));
+    result.add(importFixedBytes(type, 1, BaseVariableWidthViewVector.ELEMENT_SIZE));
+    for (int i = 0; i < dataBufferCount; i++) {
+      result.add(importBuffer(type, 2 + i, sizes.getLong((long) i * Long.BYTES)));
+    }
+    return result;
+  }
+
   @Override
   public List<ArrowBuf> visit(ArrowType.FixedSizeBinary type) {
     return Arrays.asList(maybeImportBitmap(type), importFixedBytes(type, 1, type.getByteWidth()));
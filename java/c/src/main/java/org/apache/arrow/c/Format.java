@@ -149,8 +149,18 @@ final class Format {
         return "Z";
       case LargeList:
         return "+L";
+      case ListView:
+        return "+vl";
+      case LargeListView:
+        return "+vL";
+      case RunEndEncoded:
+        return "+r";
       case LargeUtf8:
         return "U";
+      case Utf8View:
+        return "vu";
+      case BinaryView:
+        return "vz";
       case List:
         return "+l";
       case Map:
@@ -255,6 +265,10 @@ final class Format {
         return new ArrowType.Utf8();
       case "U":
         return new ArrowType.LargeUtf8();
+      case "vu":
+        return new ArrowType.Utf8View();
+      case "vz":
+        return new ArrowType.BinaryView();
       case "tdD":
         return new ArrowType.Date(DateUnit.DAY);
       case "tdm":
@@ -285,6 +299,12 @@ final class Format {
         return new ArrowType.List();
       case "+L":
         return new ArrowType.LargeList();
+      case "+vl":
+        return new ArrowType.ListView();
+      case "+vL":
+        return new ArrowType.LargeListView();
+      case "+r":
+        return new ArrowType.RunEndEncoded();
       case "+s":
         return new ArrowType.Struct();
       case "+m":
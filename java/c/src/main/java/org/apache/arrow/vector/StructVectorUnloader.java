@@ -85,18 +85,27 @@ public class StructVectorUnloader {
   public ArrowRecordBatch getRecordBatch() {
     List<ArrowFieldNode> nodes = new ArrayList<>();
     List<ArrowBuf> buffers = new ArrayList<>();
+    List<Long> variadicBufferCounts = new ArrayList<>();
     for (FieldVector vector : root.getChildrenFromFields()) {
-      appendNodes(vector, nodes, buffers);
+      appendNodes(vector, nodes, buffers, variadicBufferCounts);
     }
     return new ArrowRecordBatch(root.getValueCount(), nodes, buffers, CompressionUtil.createBodyCompression(codec),
-        alignBuffers);
+        variadicBufferCounts, alignBuffers, /*retainBuffers*/ true);
   }
 
-  private void appendNodes(FieldVector vector, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers) {
+  private void appendNodes(FieldVector vector, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers,
+      List<Long> variadicBufferCounts) {
     nodes.add(new ArrowFieldNode(vector.getValueCount(), includeNullCount ? vector.getNullCount() : -1));
     List<ArrowBuf> fieldBuffers = vector.getFieldBuffers();
     int expectedBufferCount = TypeLayout.getTypeBufferCount(vector.getField().getType());
-    if (fieldBuffers.size() != expectedBufferCount) {
+    if (!TypeLayout.getTypeLayout(vector.getField().getType()).isFixedBufferCount()) {
+      // the buffers after the layout buffers are the variadic data buffers
+      if (fieldBuffers.size() < expectedBufferCount) {
+        throw new IllegalArgumentException(String.format("wrong number of buffers for field %s in vector %s. found: %s",
+            vector.getField(), vector.getClass().getSimpleName(), fieldBuffers));
+      }
+      variadicBufferCounts.add((long) (fieldBuffers.size() - expectedBufferCount));
+    } else if (fieldBuffers.size() != expectedBufferCount) {
       throw new IllegalArgumentException(String.format("wrong number of buffers for field %s in vector %s. found: %s",
           vector.getField(), vector.getClass().getSimpleName(), fieldBuffers));
     }
@@ -104,7 +113,7 @@ public class StructVectorUnloader {
       buffers.add(codec.compress(vector.getAllocator(), buf));
     }
     for (FieldVector child : vector.getChildrenFromFields()) {
-      appendNodes(child, nodes, buffers);
+      appendNodes(child, nodes, buffers, variadicBufferCounts);
     }
   }
 }
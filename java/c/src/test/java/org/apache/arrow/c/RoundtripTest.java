@@ -78,12 +78,17 @@ import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ViewVarBinaryVector;
+import org.apache.arrow.vector.ViewVarCharVector;
 import org.apache.arrow.vector.ZeroVector;
 import org.apache.arrow.vector.compare.VectorEqualsVisitor;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.LargeListViewVector;
 import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.ListViewVector;
 import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.StructVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.complex.impl.UnionMapWriter;
@@ -99,6 +104,7 @@ import org.apache.arrow.vector.types.pojo.ExtensionTypeRegistry;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.RunEndEncoder;
 import org.apache.arrow.vector.util.TransferPair;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -525,6 +531,30 @@ public class RoundtripTest {
     }
   }
 
+  @Test
+  public void testViewVarCharVector() {
+    try (final ViewVarCharVector vector = new ViewVarCharVector("v", allocator)) {
+      vector.allocateNew();
+      vector.setSafe(0, "abc".getBytes(StandardCharsets.UTF_8));
+      vector.setSafe(1, "a value too long to be inlined".getBytes(StandardCharsets.UTF_8));
+      vector.setNull(2);
+      vector.setValueCount(3);
+      assertTrue(roundtrip(vector, ViewVarCharVector.class));
+    }
+  }
+
+  @Test
+  public void testViewVarBinaryVector() {
+    try (final ViewVarBinaryVector vector = new ViewVarBinaryVector("v", allocator)) {
+      vector.allocateNew();
+      vector.setSafe(0, "a value too long to be inlined".getBytes(StandardCharsets.UTF_8));
+      vector.setNull(1);
+      vector.setSafe(2, "abc".getBytes(StandardCharsets.UTF_8));
+      vector.setValueCount(3);
+      assertTrue(roundtrip(vector, ViewVarBinaryVector.class));
+    }
+  }
+
   @Test
   public void testListVector() {
     try (final ListVector vector = ListVector.empty("v", allocator)) {
@@ -551,6 +581,51 @@ public class RoundtripTest {
     }
   }
 
+  @Test
+  public void testListViewVector() {
+    try (final ListViewVector vector = ListViewVector.empty("v", allocator)) {
+      vector.allocateNew();
+      IntVector child = (IntVector) vector.addOrGetVector(FieldType.nullable(MinorType.INT.getType())).getVector();
+      child.allocateNew();
+      for (int i = 0; i < 4; i++) {
+        child.setSafe(i, i);
+      }
+      child.setValueCount(4);
+      vector.setOffsetAndSize(0, 2, 2);
+      vector.setNull(1);
+      vector.setOffsetAndSize(2, 0, 3);
+      vector.setValueCount(3);
+      assertTrue(roundtrip(vector, ListViewVector.class));
+    }
+  }
+
+  @Test
+  public void testLargeListViewVector() {
+    try (final LargeListViewVector vector = LargeListViewVector.empty("v", allocator)) {
+      vector.allocateNew();
+      IntVector child = (IntVector) vector.addOrGetVector(FieldType.nullable(MinorType.INT.getType())).getVector();
+      for (int i = 0; i < 3; i++) {
+        long offset = vector.startNewValue(i);
+        for (int j = 0; j < i; j++) {
+          child.setSafe((int) offset + j, j);
+        }
+        vector.endValue(i, i);
+      }
+      vector.setValueCount(3);
+      assertTrue(roundtrip(vector, LargeListViewVector.class));
+    }
+  }
+
+  @Test
+  public void testRunEndEncodedVector() {
+    try (final IntVector source = new IntVector("v", allocator)) {
+      setVector(source, 1, 1, 2, null, null, 3);
+      try (final RunEndEncodedVector vector = RunEndEncoder.encode(source, allocator)) {
+        assertTrue(roundtrip(vector, RunEndEncodedVector.class));
+      }
+    }
+  }
+
   @Test
   public void testFixedSizeListVector() {
     try (final FixedSizeListVector vector = FixedSizeListVector.empty("v", 2, allocator)) {
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+<@pp.dropOutputFile />
+<@pp.changeOutputFile name="/org/apache/arrow/compute/ArithmeticKernels.java" />
+<#include "/@includes/license.ftl" />
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+<#list numeric.types as type>
+import org.apache.arrow.vector.${type.class}Vector;
+</#list>
+import org.apache.arrow.vector.BitVectorHelper;
+
+/**
+ * Element-wise arithmetic kernels over numeric vectors of the same type.
+ *
+ * <p>The result is null where either operand is null: the validity buffers are combined a word at a
+ * time, and the values are computed in tight loops over the buffer addresses, including the null
+ * slots, which keeps the loops free of branches. Integer arithmetic wraps around on overflow, as in
+ * Java, and an integer division by zero of a non-null value throws an {@link ArithmeticException}.
+ *
+ * <p>Source code generated using FreeMarker template ${.template_name}
+ */
+public final class ArithmeticKernels {
+
+  /**
+   * The arithmetic operators.
+   */
+  public enum Operator {
+<#list numeric.operators as operator>
+    ${operator.name}<#if operator_has_next>,</#if>
+</#list>
+  }
+
+  private ArithmeticKernels() {
+  }
+<#list numeric.types as type>
+<#assign vectorClass = "${type.class}Vector" />
+
+  /**
+   * Applies an arithmetic operator to two {@link ${vectorClass}}s.
+   * @param operator the operator.
+   * @param left the left operand.
+   * @param right the right operand, of the same length as the left operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the left operand, with the result of the operator.
+   */
+  public static ${vectorClass} apply(Operator operator, ${vectorClass} left, ${vectorClass} right,
+      BufferAllocator allocator) {
+    final ${vectorClass} result = new ${vectorClass}(left.getName(), allocator);
+    final int valueCount = KernelUtils.prepareBinary(left, right, result);
+    try {
+      apply${type.class}(operator, left.getDataBuffer().memoryAddress(), right.getDataBuffer().memoryAddress(),
+          result.getDataBuffer().memoryAddress(), result.getValidityBuffer(), valueCount);
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+    result.setValueCount(valueCount);
+    return result;
+  }
+</#list>
+<#list numeric.types as type>
+
+  private static void apply${type.class}(Operator operator, long left, long right, long out,
+      ArrowBuf validity, int valueCount) {
+    switch (operator) {
+<#list numeric.operators as operator>
+      case ${operator.name}:
+        for (int i = 0; i < valueCount; i++) {
+          final long offset = (long) i * ${type.width};
+<#if type.integer && operator.name == "DIVIDE">
+          final ${type.javaType} divisor = MemoryUtil.UNSAFE.get${type.unsafeType}(right + offset);
+          if (divisor == 0) {
+            if (BitVectorHelper.get(validity, i) != 0) {
+              throw new ArithmeticException("divide by zero at index " + i);
+            }
+            MemoryUtil.UNSAFE.put${type.unsafeType}(out + offset, 0);
+          } else {
+            MemoryUtil.UNSAFE.put${type.unsafeType}(out + offset, MemoryUtil.UNSAFE.get${type.unsafeType}(left + offset) / divisor);
+          }
+<#else>
+          MemoryUtil.UNSAFE.put${type.unsafeType}(out + offset,
+              MemoryUtil.UNSAFE.get${type.unsafeType}(left + offset) ${operator.symbol} MemoryUtil.UNSAFE.get${type.unsafeType}(right + offset));
+</#if>
+        }
+        break;
+</#list>
+      default:
+        throw new UnsupportedOperationException("Unknown operator " + operator);
+    }
+  }
+</#list>
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+<@pp.dropOutputFile />
+<@pp.changeOutputFile name="/org/apache/arrow/compute/CastKernels.java" />
+<#include "/@includes/license.ftl" />
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+<#list numeric.castTypes as type>
+import org.apache.arrow.vector.${type.class}Vector;
+</#list>
+import org.apache.arrow.vector.BitVectorHelper;
+
+/**
+ * Cast kernels between the numeric vectors (<#list numeric.castTypes as type>{@link ${type.class}Vector}<#if type_has_next>, </#if></#list>).
+ *
+ * <p>The validity buffer is copied as is. Casts to integers are checked: a non-null value that does
+ * not fit in the target type (including NaN) throws an {@link ArithmeticException}, and floating
+ * point values are truncated towards zero. Casts to floating point round to the nearest value.
+ * There is a loop for each pair of source and target types, chosen once per vector.
+ *
+ * <p>Source code generated using FreeMarker template ${.template_name}
+ */
+public final class CastKernels {
+
+  private CastKernels() {
+  }
+<#list numeric.castTypes as target>
+<#assign vectorClass = "${target.class}Vector" />
+
+  /**
+   * Casts a numeric vector to <#if target.class == "Int">an<#else>a</#if> {@link ${vectorClass}}.
+   * @param source the vector to cast.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the source, with the cast values.
+   * @throws IllegalArgumentException if the source is not a numeric vector.
+   */
+  public static ${vectorClass} to${target.class}(BaseFixedWidthVector source, BufferAllocator allocator) {
+    checkSourceType(source);
+    final ${vectorClass} result = new ${vectorClass}(source.getName(), allocator);
+    final int valueCount = KernelUtils.prepareUnary(source, result);
+    try {
+      final long in = source.getDataBuffer().memoryAddress();
+      final long out = result.getDataBuffer().memoryAddress();
+      final ArrowBuf validity = source.getValidityBuffer();
+      switch (source.getMinorType()) {
+<#list numeric.castTypes as type>
+        case ${type.minorType}:
+          cast${type.class}To${target.class}(in, out, validity, valueCount);
+          break;
+</#list>
+        default:
+          throw new IllegalArgumentException("Cannot cast vectors of type " + source.getMinorType());
+      }
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+    result.setValueCount(valueCount);
+    return result;
+  }
+</#list>
+
+  private static void checkSourceType(BaseFixedWidthVector source) {
+    switch (source.getMinorType()) {
+<#list numeric.castTypes as type>
+      case ${type.minorType}:
+</#list>
+        break;
+      default:
+        throw new IllegalArgumentException("Cannot cast vectors of type " + source.getMinorType());
+    }
+  }
+<#list numeric.castTypes as type>
+<#list numeric.castTypes as target>
+
+  private static void cast${type.class}To${target.class}(long in, long out, ArrowBuf validity, int valueCount) {
+<#if type.class == target.class>
+    MemoryUtil.UNSAFE.copyMemory(in, out, (long) valueCount * ${type.width});
+<#else>
+    for (int i = 0; i < valueCount; i++) {
+      final ${type.javaType} value = MemoryUtil.UNSAFE.get${type.unsafeType}(in + (long) i * ${type.width});
+<#if target.integer && !type.integer>
+      final double truncated = value < 0 ? Math.ceil(value) : Math.floor(value);
+      // the upper bound -MIN_VALUE is exactly representable as a double, unlike MAX_VALUE; the negation also
+      // catches NaN
+      if (!(truncated >= ${target.boxedType}.MIN_VALUE && truncated < -(double) ${target.boxedType}.MIN_VALUE) &&
+          BitVectorHelper.get(validity, i) != 0) {
+        throw new ArithmeticException("Value " + value + " at index " + i + " is out of range");
+      }
+      MemoryUtil.UNSAFE.put${target.unsafeType}(out + (long) i * ${target.width}, (${target.javaType}) (long) value);
+<#elseif target.integer && target.width < type.width>
+      if ((value < ${target.boxedType}.MIN_VALUE || value > ${target.boxedType}.MAX_VALUE) &&
+          BitVectorHelper.get(validity, i) != 0) {
+        throw new ArithmeticException("Value " + value + " at index " + i + " is out of range");
+      }
+      MemoryUtil.UNSAFE.put${target.unsafeType}(out + (long) i * ${target.width}, (${target.javaType}) value);
+<#else>
+      MemoryUtil.UNSAFE.put${target.unsafeType}(out + (long) i * ${target.width}, (${target.javaType}) value);
+</#if>
+    }
+</#if>
+  }
+</#list>
+</#list>
+}
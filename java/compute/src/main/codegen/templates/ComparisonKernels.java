@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+<@pp.dropOutputFile />
+<@pp.changeOutputFile name="/org/apache/arrow/compute/ComparisonKernels.java" />
+<#include "/@includes/license.ftl" />
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BitVector;
+<#list numeric.types as type>
+import org.apache.arrow.vector.${type.class}Vector;
+</#list>
+
+/**
+ * Element-wise comparison kernels over numeric vectors of the same type, producing a {@link BitVector}.
+ *
+ * <p>The result is null where either operand is null. The comparisons are computed in tight loops
+ * over the buffer addresses and packed eight at a time into the bytes of the result. Floating point
+ * values compare as the Java primitives, so any comparison with NaN is false, except
+ * {@link Operator#NOT_EQUAL}.
+ *
+ * <p>Source code generated using FreeMarker template ${.template_name}
+ */
+public final class ComparisonKernels {
+
+  /**
+   * The comparison operators.
+   */
+  public enum Operator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_THAN_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_THAN_OR_EQUAL
+  }
+
+  /**
+   * The comparisons computed by the loops, the others are derived by swapping the operands or
+   * negating the result.
+   */
+<#list numeric.comparisons as comparison>
+  private static final int ${comparison.name} = ${comparison_index};
+</#list>
+
+  private ComparisonKernels() {
+  }
+<#list numeric.types as type>
+<#assign vectorClass = "${type.class}Vector" />
+
+  /**
+   * Applies a comparison operator to two {@link ${vectorClass}}s.
+   * @param operator the operator.
+   * @param left the left operand.
+   * @param right the right operand, of the same length as the left operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the left operand, with the result of the comparison.
+   */
+  public static BitVector compare(Operator operator, ${vectorClass} left, ${vectorClass} right,
+      BufferAllocator allocator) {
+    final BitVector result = new BitVector(left.getName(), allocator);
+    final int valueCount = KernelUtils.prepareBinary(left, right, result);
+    final long leftAddress = left.getDataBuffer().memoryAddress();
+    final long rightAddress = right.getDataBuffer().memoryAddress();
+    final long outAddress = result.getDataBuffer().memoryAddress();
+    switch (operator) {
+      case EQUAL:
+        compare${type.class}(EQUAL, leftAddress, rightAddress, outAddress, valueCount);
+        break;
+      case NOT_EQUAL:
+        compare${type.class}(EQUAL, leftAddress, rightAddress, outAddress, valueCount);
+        Bitmaps.not(result.getDataBuffer(), result.getDataBuffer(), valueCount);
+        break;
+      case LESS_THAN:
+        compare${type.class}(LESS_THAN, leftAddress, rightAddress, outAddress, valueCount);
+        break;
+      case LESS_THAN_OR_EQUAL:
+        compare${type.class}(LESS_THAN_OR_EQUAL, leftAddress, rightAddress, outAddress, valueCount);
+        break;
+      case GREATER_THAN:
+        compare${type.class}(LESS_THAN, rightAddress, leftAddress, outAddress, valueCount);
+        break;
+      case GREATER_THAN_OR_EQUAL:
+        compare${type.class}(LESS_THAN_OR_EQUAL, rightAddress, leftAddress, outAddress, valueCount);
+        break;
+      default:
+        result.close();
+        throw new UnsupportedOperationException("Unknown operator " + operator);
+    }
+    result.setValueCount(valueCount);
+    return result;
+  }
+</#list>
+<#list numeric.types as type>
+
+  private static void compare${type.class}(int comparison, long left, long right, long out, int valueCount) {
+    switch (comparison) {
+<#list numeric.comparisons as comparison>
+      case ${comparison.name}:
+        for (int i = 0; i < valueCount; i += Byte.SIZE) {
+          final int count = Math.min(Byte.SIZE, valueCount - i);
+          int bits = 0;
+          for (int j = 0; j < count; j++) {
+            final long offset = (long) (i + j) * ${type.width};
+            final boolean matches =
+                MemoryUtil.UNSAFE.get${type.unsafeType}(left + offset) ${comparison.symbol} MemoryUtil.UNSAFE.get${type.unsafeType}(right + offset);
+            bits |= (matches ? 1 : 0) << j;
+          }
+          MemoryUtil.UNSAFE.putByte(out + (i >> 3), (byte) bits);
+        }
+        break;
+</#list>
+      default:
+        throw new IllegalArgumentException("Unknown comparison " + comparison);
+    }
+  }
+</#list>
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BitVectorHelper;
+
+/**
+ * Word-at-a-time operations on bitmaps (validity buffers and boolean data buffers).
+ * The operations cover the bytes of the first {@code valueCount} bits, the bits past
+ * {@code valueCount} in the last byte are unspecified.
+ */
+final class Bitmaps {
+
+  private Bitmaps() {
+  }
+
+  /**
+   * Sets {@code out} to {@code left & right}, e.g. to combine the validity of the operands of a kernel.
+   */
+  static void and(ArrowBuf left, ArrowBuf right, ArrowBuf out, int valueCount) {
+    final long leftAddress = left.memoryAddress();
+    final long rightAddress = right.memoryAddress();
+    final long outAddress = out.memoryAddress();
+    final int byteCount = BitVectorHelper.getValidityBufferSize(valueCount);
+    final int wordBytes = byteCount & ~(Long.BYTES - 1);
+    for (int i = 0; i < wordBytes; i += Long.BYTES) {
+      MemoryUtil.UNSAFE.putLong(outAddress + i,
+          MemoryUtil.UNSAFE.getLong(leftAddress + i) & MemoryUtil.UNSAFE.getLong(rightAddress + i));
+    }
+    for (int i = wordBytes; i < byteCount; i++) {
+      MemoryUtil.UNSAFE.putByte(outAddress + i,
+          (byte) (MemoryUtil.UNSAFE.getByte(leftAddress + i) & MemoryUtil.UNSAFE.getByte(rightAddress + i)));
+    }
+  }
+
+  /**
+   * Sets {@code out} to {@code left | right}.
+   */
+  static void or(ArrowBuf left, ArrowBuf right, ArrowBuf out, int valueCount) {
+    final long leftAddress = left.memoryAddress();
+    final long rightAddress = right.memoryAddress();
+    final long outAddress = out.memoryAddress();
+    final int byteCount = BitVectorHelper.getValidityBufferSize(valueCount);
+    final int wordBytes = byteCount & ~(Long.BYTES - 1);
+    for (int i = 0; i < wordBytes; i += Long.BYTES) {
+      MemoryUtil.UNSAFE.putLong(outAddress + i,
+          MemoryUtil.UNSAFE.getLong(leftAddress + i) | MemoryUtil.UNSAFE.getLong(rightAddress + i));
+    }
+    for (int i = wordBytes; i < byteCount; i++) {
+      MemoryUtil.UNSAFE.putByte(outAddress + i,
+          (byte) (MemoryUtil.UNSAFE.getByte(leftAddress + i) | MemoryUtil.UNSAFE.getByte(rightAddress + i)));
+    }
+  }
+
+  /**
+   * Sets {@code out} to {@code left ^ right}.
+   */
+  static void xor(ArrowBuf left, ArrowBuf right, ArrowBuf out, int valueCount) {
+    final long leftAddress = left.memoryAddress();
+    final long rightAddress = right.memoryAddress();
+    final long outAddress = out.memoryAddress();
+    final int byteCount = BitVectorHelper.getValidityBufferSize(valueCount);
+    final int wordBytes = byteCount & ~(Long.BYTES - 1);
+    for (int i = 0; i < wordBytes; i += Long.BYTES) {
+      MemoryUtil.UNSAFE.putLong(outAddress + i,
+          MemoryUtil.UNSAFE.getLong(leftAddress + i) ^ MemoryUtil.UNSAFE.getLong(rightAddress + i));
+    }
+    for (int i = wordBytes; i < byteCount; i++) {
+      MemoryUtil.UNSAFE.putByte(outAddress + i,
+          (byte) (MemoryUtil.UNSAFE.getByte(leftAddress + i) ^ MemoryUtil.UNSAFE.getByte(rightAddress + i)));
+    }
+  }
+
+  /**
+   * Sets {@code out} to {@code ~in}.
+   */
+  static void not(ArrowBuf in, ArrowBuf out, int valueCount) {
+    final long inAddress = in.memoryAddress();
+    final long outAddress = out.memoryAddress();
+    final int byteCount = BitVectorHelper.getValidityBufferSize(valueCount);
+    final int wordBytes = byteCount & ~(Long.BYTES - 1);
+    for (int i = 0; i < wordBytes; i += Long.BYTES) {
+      MemoryUtil.UNSAFE.putLong(outAddress + i, ~MemoryUtil.UNSAFE.getLong(inAddress + i));
+    }
+    for (int i = wordBytes; i < byteCount; i++) {
+      MemoryUtil.UNSAFE.putByte(outAddress + i, (byte) ~MemoryUtil.UNSAFE.getByte(inAddress + i));
+    }
+  }
+
+  /**
+   * Copies {@code in} to {@code out}.
+   */
+  static void copy(ArrowBuf in, ArrowBuf out, int valueCount) {
+    MemoryUtil.UNSAFE.copyMemory(in.memoryAddress(), out.memoryAddress(),
+        BitVectorHelper.getValidityBufferSize(valueCount));
+  }
+}
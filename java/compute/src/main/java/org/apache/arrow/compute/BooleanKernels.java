@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BitVector;
+
+/**
+ * Element-wise boolean kernels over {@link BitVector}s.
+ *
+ * <p>The result is null where any operand is null (the kernels do not implement the Kleene logic
+ * where e.g. {@code false AND null} is false). Both the validity and the data buffers are computed
+ * a word at a time.
+ */
+public final class BooleanKernels {
+
+  private BooleanKernels() {
+  }
+
+  /**
+   * Computes the logical and of two vectors.
+   * @param left the left operand.
+   * @param right the right operand, of the same length as the left operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the left operand, with the result.
+   */
+  public static BitVector and(BitVector left, BitVector right, BufferAllocator allocator) {
+    final BitVector result = new BitVector(left.getName(), allocator);
+    final int valueCount = KernelUtils.prepareBinary(left, right, result);
+    Bitmaps.and(left.getDataBuffer(), right.getDataBuffer(), result.getDataBuffer(), valueCount);
+    result.setValueCount(valueCount);
+    return result;
+  }
+
+  /**
+   * Computes the logical or of two vectors.
+   * @param left the left operand.
+   * @param right the right operand, of the same length as the left operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the left operand, with the result.
+   */
+  public static BitVector or(BitVector left, BitVector right, BufferAllocator allocator) {
+    final BitVector result = new BitVector(left.getName(), allocator);
+    final int valueCount = KernelUtils.prepareBinary(left, right, result);
+    Bitmaps.or(left.getDataBuffer(), right.getDataBuffer(), result.getDataBuffer(), valueCount);
+    result.setValueCount(valueCount);
+    return result;
+  }
+
+  /**
+   * Computes the logical exclusive or of two vectors.
+   * @param left the left operand.
+   * @param right the right operand, of the same length as the left operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the left operand, with the result.
+   */
+  public static BitVector xor(BitVector left, BitVector right, BufferAllocator allocator) {
+    final BitVector result = new BitVector(left.getName(), allocator);
+    final int valueCount = KernelUtils.prepareBinary(left, right, result);
+    Bitmaps.xor(left.getDataBuffer(), right.getDataBuffer(), result.getDataBuffer(), valueCount);
+    result.setValueCount(valueCount);
+    return result;
+  }
+
+  /**
+   * Computes the logical negation of a vector.
+   * @param operand the operand.
+   * @param allocator the allocator for the result.
+   * @return a new vector, named after the operand, with the result.
+   */
+  public static BitVector not(BitVector operand, BufferAllocator allocator) {
+    final BitVector result = new BitVector(operand.getName(), allocator);
+    final int valueCount = KernelUtils.prepareUnary(operand, result);
+    Bitmaps.not(operand.getDataBuffer(), result.getDataBuffer(), valueCount);
+    result.setValueCount(valueCount);
+    return result;
+  }
+}
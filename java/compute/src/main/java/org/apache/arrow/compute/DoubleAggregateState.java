@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+
+/**
+ * The count, sum, min, max and mean of the non-null values of floating point vectors.
+ *
+ * <p>The state is a partial aggregate: it can be updated with several vectors, e.g. the batches of a
+ * stream, and the states computed in parallel can be merged. The validity bitmap is read a word at a
+ * time, skipping the words of nulls, and the words without nulls are aggregated in unrolled loops.
+ * The sum is computed by pairwise summation over blocks of values, for accuracy. NaN values are
+ * included in the sum, but ignored by the min and the max.
+ */
+public class DoubleAggregateState {
+
+  private long count;
+  private final PairwiseSum sum = new PairwiseSum();
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Aggregates the values of a vector into this state.
+   * @param vector the vector to aggregate.
+   * @return this state.
+   */
+  public DoubleAggregateState update(Float4Vector vector) {
+    update(vector, Float4Vector.TYPE_WIDTH);
+    return this;
+  }
+
+  /**
+   * Aggregates the values of a vector into this state.
+   * @param vector the vector to aggregate.
+   * @return this state.
+   */
+  public DoubleAggregateState update(Float8Vector vector) {
+    update(vector, Float8Vector.TYPE_WIDTH);
+    return this;
+  }
+
+  /**
+   * Merges another partial state into this state.
+   * @param other the state to merge.
+   * @return this state.
+   */
+  public DoubleAggregateState merge(DoubleAggregateState other) {
+    count += other.count;
+    sum.merge(other.sum);
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /**
+   * Gets the number of non-null values.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the sum of the non-null values, 0 if there are none.
+   */
+  public double getSum() {
+    return sum.getSum();
+  }
+
+  /**
+   * Gets the smallest non-null value, or null if there are none.
+   */
+  public Double getMin() {
+    return count == 0 ? null : min;
+  }
+
+  /**
+   * Gets the largest non-null value, or null if there are none.
+   */
+  public Double getMax() {
+    return count == 0 ? null : max;
+  }
+
+  /**
+   * Gets the mean of the non-null values, or null if there are none.
+   */
+  public Double getMean() {
+    return count == 0 ? null : getSum() / count;
+  }
+
+  private void update(BaseFixedWidthVector vector, int width) {
+    final long address = vector.getDataBuffer().memoryAddress();
+    final int valueCount = vector.getValueCount();
+    if (vector.getNullCount() == 0) {
+      for (int start = 0; start < valueCount; start += PairwiseSum.BLOCK_SIZE) {
+        addDense(address, width, start, Math.min(start + PairwiseSum.BLOCK_SIZE, valueCount));
+      }
+      return;
+    }
+
+    // the words of the validity bitmap are as long as the blocks of the pairwise sum
+    final ArrowBuf validity = vector.getValidityBuffer();
+    final int wordCount = valueCount / Long.SIZE;
+    for (int i = 0; i < wordCount; i++) {
+      long word = validity.getLong((long) i * Long.BYTES);
+      final int start = i * Long.SIZE;
+      if (word == -1L) {
+        addDense(address, width, start, start + Long.SIZE);
+      } else if (word != 0) {
+        double blockSum = 0;
+        while (word != 0) {
+          final double value = getValue(address, width, start + Long.numberOfTrailingZeros(word));
+          blockSum += value;
+          addMinMax(value);
+          count++;
+          word &= word - 1;
+        }
+        sum.addBlock(blockSum);
+      }
+    }
+    double blockSum = 0;
+    for (int i = wordCount * Long.SIZE; i < valueCount; i++) {
+      if (BitVectorHelper.get(validity, i) != 0) {
+        final double value = getValue(address, width, i);
+        blockSum += value;
+        addMinMax(value);
+        count++;
+      }
+    }
+    sum.addBlock(blockSum);
+  }
+
+  private static double getValue(long address, int width, int index) {
+    return width == Float4Vector.TYPE_WIDTH ? MemoryUtil.UNSAFE.getFloat(address + (long) index * width) :
+        MemoryUtil.UNSAFE.getDouble(address + (long) index * width);
+  }
+
+  private void addMinMax(double value) {
+    min = value < min ? value : min;
+    max = value > max ? value : max;
+  }
+
+  /**
+   * Aggregates a block of non-null values, with four independent accumulators.
+   */
+  private void addDense(long address, int width, int from, int to) {
+    double sum0 = 0;
+    double sum1 = 0;
+    double sum2 = 0;
+    double sum3 = 0;
+    int i = from;
+    for (; i + 4 <= to; i += 4) {
+      final double v0 = getValue(address, width, i);
+      final double v1 = getValue(address, width, i + 1);
+      final double v2 = getValue(address, width, i + 2);
+      final double v3 = getValue(address, width, i + 3);
+      sum0 += v0;
+      sum1 += v1;
+      sum2 += v2;
+      sum3 += v3;
+      addMinMax(v0);
+      addMinMax(v1);
+      addMinMax(v2);
+      addMinMax(v3);
+    }
+    for (; i < to; i++) {
+      final double value = getValue(address, width, i);
+      sum0 += value;
+      addMinMax(value);
+    }
+    count += to - from;
+    sum.addBlock((sum0 + sum1) + (sum2 + sum3));
+  }
+}
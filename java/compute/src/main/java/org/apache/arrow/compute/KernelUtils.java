@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+
+/**
+ * Utilities shared by the kernels.
+ */
+final class KernelUtils {
+
+  private KernelUtils() {
+  }
+
+  /**
+   * Allocates the result of a binary kernel, with the validity of both operands combined.
+   * @return the number of values of the operands.
+   */
+  static int prepareBinary(BaseFixedWidthVector left, BaseFixedWidthVector right, BaseFixedWidthVector result) {
+    Preconditions.checkArgument(left.getValueCount() == right.getValueCount(),
+        "The operands have different lengths %s and %s", left.getValueCount(), right.getValueCount());
+    final int valueCount = left.getValueCount();
+    result.allocateNew(valueCount);
+    Bitmaps.and(left.getValidityBuffer(), right.getValidityBuffer(), result.getValidityBuffer(), valueCount);
+    return valueCount;
+  }
+
+  /**
+   * Allocates the result of a unary kernel, with the validity of the operand.
+   * @return the number of values of the operand.
+   */
+  static int prepareUnary(BaseFixedWidthVector operand, BaseFixedWidthVector result) {
+    final int valueCount = operand.getValueCount();
+    result.allocateNew(valueCount);
+    Bitmaps.copy(operand.getValidityBuffer(), result.getValidityBuffer(), valueCount);
+    return valueCount;
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseLargeVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+
+/**
+ * Encodes the values of the key columns of a row into a byte sequence (a normalized key), such that
+ * two rows have the same encoding if and only if their keys are equal.
+ *
+ * <p>Each column is encoded as a null marker byte, followed for non-null values by the value bytes
+ * of fixed-width columns, or by the length and the bytes of variable-width columns. Floating point
+ * keys are compared by their bits. The encoding is used as the key of hash tables, e.g. by the group-by
+ * and join operators, and is not meant to be persisted.
+ */
+public final class KeyEncoder implements AutoCloseable {
+
+  private static final int FIXED_WIDTH = 0;
+  private static final int BIT = 1;
+  private static final int VARIABLE_WIDTH = 2;
+  private static final int LARGE_VARIABLE_WIDTH = 3;
+
+  private final BufferAllocator allocator;
+  private FieldVector[] columns = new FieldVector[0];
+  private int[] kinds = new int[0];
+  private ArrowBuf buffer;
+
+  /**
+   * Constructs an encoder.
+   * @param allocator the allocator for the buffer of the encoded keys.
+   */
+  public KeyEncoder(BufferAllocator allocator) {
+    this.allocator = allocator;
+    this.buffer = allocator.buffer(64);
+  }
+
+  /**
+   * Sets the key columns of the rows to encode, e.g. the columns of a new batch.
+   * @throws IllegalArgumentException if a column is not of a fixed-width or variable-width type.
+   */
+  public void setColumns(List<FieldVector> columns) {
+    this.columns = columns.toArray(new FieldVector[0]);
+    this.kinds = new int[columns.size()];
+    for (int i = 0; i < kinds.length; i++) {
+      kinds[i] = getKind(this.columns[i]);
+    }
+  }
+
+  private static int getKind(FieldVector vector) {
+    if (vector instanceof BitVector) {
+      return BIT;
+    } else if (vector instanceof BaseFixedWidthVector) {
+      return FIXED_WIDTH;
+    } else if (vector instanceof BaseVariableWidthVector) {
+      return VARIABLE_WIDTH;
+    } else if (vector instanceof BaseLargeVariableWidthVector) {
+      return LARGE_VARIABLE_WIDTH;
+    }
+    throw new IllegalArgumentException("Unsupported key column type " + vector.getField().getType());
+  }
+
+  /**
+   * Gets the buffer holding the key encoded by the last call to {@link #encode(int)}.
+   */
+  public ArrowBuf getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Encodes the key of a row into the buffer, at offset 0.
+   * @return the length of the encoded key.
+   */
+  public int encode(int row) {
+    ensureCapacity(getMaxLength(row));
+    final long address = buffer.memoryAddress();
+    long position = 0;
+    for (int i = 0; i < columns.length; i++) {
+      final FieldVector column = columns[i];
+      if (column.isNull(row)) {
+        MemoryUtil.UNSAFE.putByte(address + position++, (byte) 0);
+        continue;
+      }
+      MemoryUtil.UNSAFE.putByte(address + position++, (byte) 1);
+      switch (kinds[i]) {
+        case BIT:
+          MemoryUtil.UNSAFE.putByte(address + position++, (byte) BitVectorHelper.get(column.getDataBuffer(), row));
+          break;
+        case FIXED_WIDTH: {
+          final int width = ((BaseFixedWidthVector) column).getTypeWidth();
+          MemoryUtil.UNSAFE.copyMemory(column.getDataBuffer().memoryAddress() + (long) row * width,
+              address + position, width);
+          position += width;
+          break;
+        }
+        case VARIABLE_WIDTH: {
+          final ArrowBuf offsets = column.getOffsetBuffer();
+          final int start = offsets.getInt((long) row * BaseVariableWidthVector.OFFSET_WIDTH);
+          final int length = offsets.getInt((long) (row + 1) * BaseVariableWidthVector.OFFSET_WIDTH) - start;
+          MemoryUtil.UNSAFE.putInt(address + position, length);
+          MemoryUtil.UNSAFE.copyMemory(column.getDataBuffer().memoryAddress() + start,
+              address + position + Integer.BYTES, length);
+          position += Integer.BYTES + length;
+          break;
+        }
+        default: {
+          final ArrowBuf offsets = column.getOffsetBuffer();
+          final long start = offsets.getLong((long) row * BaseLargeVariableWidthVector.OFFSET_WIDTH);
+          final long length = offsets.getLong((long) (row + 1) * BaseLargeVariableWidthVector.OFFSET_WIDTH) - start;
+          MemoryUtil.UNSAFE.putLong(address + position, length);
+          MemoryUtil.UNSAFE.copyMemory(column.getDataBuffer().memoryAddress() + start,
+              address + position + Long.BYTES, length);
+          position += Long.BYTES + length;
+          break;
+        }
+      }
+    }
+    return (int) position;
+  }
+
+  /**
+   * Checks if any of the key columns is null in a row.
+   */
+  public boolean hasNull(int row) {
+    for (FieldVector column : columns) {
+      if (column.isNull(row)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private long getMaxLength(int row) {
+    long length = columns.length;
+    for (int i = 0; i < columns.length; i++) {
+      switch (kinds[i]) {
+        case BIT:
+          length += 1;
+          break;
+        case FIXED_WIDTH:
+          length += ((BaseFixedWidthVector) columns[i]).getTypeWidth();
+          break;
+        case VARIABLE_WIDTH:
+          length += Integer.BYTES + ((BaseVariableWidthVector) columns[i]).getValueLength(row);
+          break;
+        default:
+          length += Long.BYTES + ((BaseLargeVariableWidthVector) columns[i]).getValueLength(row);
+          break;
+      }
+    }
+    return length;
+  }
+
+  private void ensureCapacity(long length) {
+    if (length > buffer.capacity()) {
+      final ArrowBuf newBuffer = allocator.buffer(CommonUtil.nextPowerOfTwo(length));
+      buffer.close();
+      buffer = newBuffer;
+    }
+  }
+
+  @Override
+  public void close() {
+    buffer.close();
+  }
+}
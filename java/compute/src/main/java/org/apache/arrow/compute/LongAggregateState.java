@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.IntVector;
+
+/**
+ * The count, sum, min, max and mean of the non-null values of integer vectors.
+ *
+ * <p>The state is a partial aggregate: it can be updated with several vectors, e.g. the batches of a
+ * stream, and the states computed in parallel can be merged. The validity bitmap is read a word at a
+ * time, skipping the words of nulls, and the words without nulls are aggregated in unrolled loops.
+ * The sum wraps around on overflow, as in Java.
+ */
+public class LongAggregateState {
+
+  private long count;
+  private long sum;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+
+  /**
+   * Aggregates the values of a vector into this state.
+   * @param vector the vector to aggregate.
+   * @return this state.
+   */
+  public LongAggregateState update(IntVector vector) {
+    update(vector, IntVector.TYPE_WIDTH);
+    return this;
+  }
+
+  /**
+   * Aggregates the values of a vector into this state.
+   * @param vector the vector to aggregate.
+   * @return this state.
+   */
+  public LongAggregateState update(BigIntVector vector) {
+    update(vector, BigIntVector.TYPE_WIDTH);
+    return this;
+  }
+
+  /**
+   * Merges another partial state into this state.
+   * @param other the state to merge.
+   * @return this state.
+   */
+  public LongAggregateState merge(LongAggregateState other) {
+    count += other.count;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /**
+   * Gets the number of non-null values.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the sum of the non-null values, 0 if there are none.
+   */
+  public long getSum() {
+    return sum;
+  }
+
+  /**
+   * Gets the smallest non-null value, or null if there are none.
+   */
+  public Long getMin() {
+    return count == 0 ? null : min;
+  }
+
+  /**
+   * Gets the largest non-null value, or null if there are none.
+   */
+  public Long getMax() {
+    return count == 0 ? null : max;
+  }
+
+  /**
+   * Gets the mean of the non-null values, or null if there are none.
+   */
+  public Double getMean() {
+    return count == 0 ? null : (double) sum / count;
+  }
+
+  private void update(BaseFixedWidthVector vector, int width) {
+    final long address = vector.getDataBuffer().memoryAddress();
+    final int valueCount = vector.getValueCount();
+    if (vector.getNullCount() == 0) {
+      addDense(address, width, 0, valueCount);
+      return;
+    }
+
+    final ArrowBuf validity = vector.getValidityBuffer();
+    final int wordCount = valueCount / Long.SIZE;
+    for (int i = 0; i < wordCount; i++) {
+      long word = validity.getLong((long) i * Long.BYTES);
+      final int start = i * Long.SIZE;
+      if (word == -1L) {
+        addDense(address, width, start, start + Long.SIZE);
+      } else {
+        while (word != 0) {
+          add(getValue(address, width, start + Long.numberOfTrailingZeros(word)));
+          word &= word - 1;
+        }
+      }
+    }
+    for (int i = wordCount * Long.SIZE; i < valueCount; i++) {
+      if (BitVectorHelper.get(validity, i) != 0) {
+        add(getValue(address, width, i));
+      }
+    }
+  }
+
+  private static long getValue(long address, int width, int index) {
+    return width == IntVector.TYPE_WIDTH ? MemoryUtil.UNSAFE.getInt(address + (long) index * width) :
+        MemoryUtil.UNSAFE.getLong(address + (long) index * width);
+  }
+
+  private void add(long value) {
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  /**
+   * Aggregates a range of non-null values, with four independent accumulators.
+   */
+  private void addDense(long address, int width, int from, int to) {
+    long sum0 = 0;
+    long sum1 = 0;
+    long sum2 = 0;
+    long sum3 = 0;
+    long min0 = min;
+    long min1 = min;
+    long max0 = max;
+    long max1 = max;
+    int i = from;
+    if (width == IntVector.TYPE_WIDTH) {
+      for (; i + 4 <= to; i += 4) {
+        final long offset = address + (long) i * IntVector.TYPE_WIDTH;
+        final long v0 = MemoryUtil.UNSAFE.getInt(offset);
+        final long v1 = MemoryUtil.UNSAFE.getInt(offset + 4);
+        final long v2 = MemoryUtil.UNSAFE.getInt(offset + 8);
+        final long v3 = MemoryUtil.UNSAFE.getInt(offset + 12);
+        sum0 += v0;
+        sum1 += v1;
+        sum2 += v2;
+        sum3 += v3;
+        min0 = Math.min(min0, Math.min(v0, v1));
+        min1 = Math.min(min1, Math.min(v2, v3));
+        max0 = Math.max(max0, Math.max(v0, v1));
+        max1 = Math.max(max1, Math.max(v2, v3));
+      }
+    } else {
+      for (; i + 4 <= to; i += 4) {
+        final long offset = address + (long) i * BigIntVector.TYPE_WIDTH;
+        final long v0 = MemoryUtil.UNSAFE.getLong(offset);
+        final long v1 = MemoryUtil.UNSAFE.getLong(offset + 8);
+        final long v2 = MemoryUtil.UNSAFE.getLong(offset + 16);
+        final long v3 = MemoryUtil.UNSAFE.getLong(offset + 24);
+        sum0 += v0;
+        sum1 += v1;
+        sum2 += v2;
+        sum3 += v3;
+        min0 = Math.min(min0, Math.min(v0, v1));
+        min1 = Math.min(min1, Math.min(v2, v3));
+        max0 = Math.max(max0, Math.max(v0, v1));
+        max1 = Math.max(max1, Math.max(v2, v3));
+      }
+    }
+    count += i - from;
+    sum += sum0 + sum1 + sum2 + sum3;
+    min = Math.min(min0, min1);
+    max = Math.max(max0, max1);
+    for (; i < to; i++) {
+      add(getValue(address, width, i));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+/**
+ * Pairwise (cascade) summation of floating point values, with an error growing with the logarithm of
+ * the number of values rather than linearly as for a naive running sum.
+ *
+ * <p>Values are added as the sums of blocks of consecutive values: the block sums are merged like
+ * the digits of a binary counter, so that only sums of the same number of blocks are added together.
+ * It is used by {@link DoubleAggregateState} and by the group-by aggregates, so that both sum the same
+ * way.
+ */
+public final class PairwiseSum {
+
+  /**
+   * The number of values summed naively into a block.
+   */
+  public static final int BLOCK_SIZE = 64;
+
+  /**
+   * The pending sums, {@code partials[i]} is the sum of 2^i blocks if the bit i of {@code blockCount} is set.
+   */
+  private final double[] partials = new double[Long.SIZE];
+
+  private long blockCount;
+
+  /**
+   * Adds the sum of a block of values.
+   */
+  public void addBlock(double blockSum) {
+    addPartial(0, blockSum);
+  }
+
+  /**
+   * Adds the pending sums of another pairwise sum, level by level, as if its blocks had been added to
+   * this sum: a sum of 2^i blocks is only added to sums of 2^i blocks.
+   */
+  public void merge(PairwiseSum other) {
+    final long otherBlockCount = other.blockCount;
+    final double[] otherPartials = other.partials.clone();
+    for (int level = 0; level < Long.SIZE; level++) {
+      if ((otherBlockCount & (1L << level)) != 0) {
+        addPartial(level, otherPartials[level]);
+      }
+    }
+  }
+
+  /**
+   * Adds the sum of 2^level blocks, carrying it into the higher levels like in a binary counter.
+   */
+  private void addPartial(int level, double partialSum) {
+    double sum = partialSum;
+    int carryLevel = level;
+    while ((blockCount & (1L << carryLevel)) != 0) {
+      sum += partials[carryLevel];
+      partials[carryLevel] = 0;
+      carryLevel++;
+    }
+    partials[carryLevel] = sum;
+    blockCount += 1L << level;
+  }
+
+  /**
+   * Gets the sum of all the blocks.
+   */
+  public double getSum() {
+    double sum = 0;
+    for (int level = 0; level < Long.SIZE; level++) {
+      if ((blockCount & (1L << level)) != 0) {
+        sum += partials[level];
+      }
+    }
+    return sum;
+  }
+}
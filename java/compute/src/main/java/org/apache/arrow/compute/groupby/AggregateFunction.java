@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+/**
+ * The aggregate functions of a {@link HashAggregator}.
+ */
+public enum AggregateFunction {
+  /**
+   * The number of rows of the group, the input column is ignored.
+   */
+  COUNT_ALL,
+  /**
+   * The number of non-null values of the group.
+   */
+  COUNT,
+  /**
+   * The sum of the non-null values of the group, null if there are none.
+   */
+  SUM,
+  /**
+   * The smallest non-null value of the group, null if there are none. NaN values are ignored.
+   */
+  MIN,
+  /**
+   * The largest non-null value of the group, null if there are none. NaN values are ignored.
+   */
+  MAX,
+  /**
+   * The mean of the non-null values of the group, null if there are none.
+   */
+  MEAN
+}
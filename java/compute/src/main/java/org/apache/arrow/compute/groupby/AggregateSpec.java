@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import java.util.Objects;
+
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * An aggregate computed by a {@link HashAggregator}: a function applied to an input column, producing
+ * an output column.
+ */
+public final class AggregateSpec {
+
+  private final AggregateFunction function;
+  private final String inputColumn;
+  private final String outputColumn;
+
+  private AggregateSpec(AggregateFunction function, String inputColumn, String outputColumn) {
+    this.function = Preconditions.checkNotNull(function, "function must not be null");
+    this.inputColumn = inputColumn;
+    this.outputColumn = Preconditions.checkNotNull(outputColumn, "output column must not be null");
+  }
+
+  /**
+   * Creates an aggregate of an input column.
+   * @param function the aggregate function.
+   * @param inputColumn the name of the input column, an integer or floating point column.
+   * @param outputColumn the name of the output column.
+   */
+  public static AggregateSpec of(AggregateFunction function, String inputColumn, String outputColumn) {
+    Preconditions.checkArgument(function == AggregateFunction.COUNT_ALL || inputColumn != null,
+        "input column must not be null for %s", function);
+    return new AggregateSpec(function, inputColumn, outputColumn);
+  }
+
+  /**
+   * Creates an aggregate counting the rows of each group.
+   * @param outputColumn the name of the output column.
+   */
+  public static AggregateSpec countAll(String outputColumn) {
+    return new AggregateSpec(AggregateFunction.COUNT_ALL, null, outputColumn);
+  }
+
+  public AggregateFunction getFunction() {
+    return function;
+  }
+
+  /**
+   * Gets the name of the input column, null for {@link AggregateFunction#COUNT_ALL}.
+   */
+  public String getInputColumn() {
+    return inputColumn;
+  }
+
+  public String getOutputColumn() {
+    return outputColumn;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AggregateSpec)) {
+      return false;
+    }
+    AggregateSpec that = (AggregateSpec) o;
+    return function == that.function && Objects.equals(inputColumn, that.inputColumn) &&
+        outputColumn.equals(that.outputColumn);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(function, inputColumn, outputColumn);
+  }
+
+  @Override
+  public String toString() {
+    return outputColumn + " = " + function + (inputColumn == null ? "()" : "(" + inputColumn + ")");
+  }
+}
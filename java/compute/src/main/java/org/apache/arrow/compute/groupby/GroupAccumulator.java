@@ -0,0 +1,490 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import java.util.Arrays;
+
+import org.apache.arrow.compute.DoubleAggregateState;
+import org.apache.arrow.compute.PairwiseSum;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.FloatingPointVector;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+
+/**
+ * The state of an aggregate function for all the groups of a {@link HashAggregator}, indexed by the
+ * group ids, in primitive arrays growing with the number of groups.
+ */
+abstract class GroupAccumulator {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  final AggregateSpec spec;
+  final int inputIndex;
+
+  /**
+   * The number of rows (COUNT_ALL) or non-null values (other functions) of each group.
+   */
+  long[] counts = new long[0];
+
+  GroupAccumulator(AggregateSpec spec, int inputIndex) {
+    this.spec = spec;
+    this.inputIndex = inputIndex;
+  }
+
+  /**
+   * Creates the accumulator of an aggregate.
+   * @param spec the aggregate.
+   * @param inputIndex the index of the input column in the input batches, -1 for COUNT_ALL.
+   * @param inputField the input column, null for COUNT_ALL.
+   */
+  static GroupAccumulator create(AggregateSpec spec, int inputIndex, Field inputField) {
+    switch (spec.getFunction()) {
+      case COUNT_ALL:
+      case COUNT:
+        return new CountAccumulator(spec, inputIndex);
+      default:
+        break;
+    }
+    final ArrowType type = inputField.getType();
+    switch (type.getTypeID()) {
+      case Int:
+        return spec.getFunction() == AggregateFunction.MEAN ?
+            new DoubleAccumulator(spec, inputIndex) : new LongAccumulator(spec, inputIndex);
+      case FloatingPoint:
+        return new DoubleAccumulator(spec, inputIndex);
+      default:
+        throw new UnsupportedOperationException(
+            "Unsupported input type " + type + " for " + spec.getFunction() + " of " + inputField.getName());
+    }
+  }
+
+  /**
+   * Gets the field of the output column.
+   */
+  abstract Field getOutputField();
+
+  /**
+   * Grows the state to hold at least a number of groups.
+   */
+  void ensureCapacity(int groupCount) {
+    if (groupCount > counts.length) {
+      counts = Arrays.copyOf(counts, Math.max(groupCount, Math.max(INITIAL_CAPACITY, counts.length * 2)));
+      grow(counts.length);
+    }
+  }
+
+  /**
+   * Grows the arrays of the subclass state to a new capacity.
+   */
+  abstract void grow(int capacity);
+
+  /**
+   * Aggregates the input rows into their groups.
+   * @param input the input column, null for COUNT_ALL.
+   * @param groupIds the group id of each row.
+   * @param rowCount the number of rows.
+   */
+  abstract void accumulate(FieldVector input, int[] groupIds, int rowCount);
+
+  /**
+   * Merges the state of another accumulator for the same aggregate.
+   * @param other the other accumulator.
+   * @param mapping the group id in this accumulator of each group of the other accumulator.
+   * @param groupCount the number of groups of the other accumulator.
+   */
+  abstract void merge(GroupAccumulator other, int[] mapping, int groupCount);
+
+  /**
+   * Builds the output column.
+   */
+  abstract FieldVector build(int groupCount, BufferAllocator allocator);
+
+  Field createOutputField(ArrowType type, boolean nullable) {
+    return new Field(spec.getOutputColumn(), new FieldType(nullable, type, null), null);
+  }
+
+  /**
+   * COUNT and COUNT_ALL, as non-null 64-bit integers.
+   */
+  static final class CountAccumulator extends GroupAccumulator {
+
+    CountAccumulator(AggregateSpec spec, int inputIndex) {
+      super(spec, inputIndex);
+    }
+
+    @Override
+    Field getOutputField() {
+      return createOutputField(new ArrowType.Int(64, true), false);
+    }
+
+    @Override
+    void grow(int capacity) {
+    }
+
+    @Override
+    void accumulate(FieldVector input, int[] groupIds, int rowCount) {
+      final long[] counts = this.counts;
+      if (input == null || input.getNullCount() == 0) {
+        for (int i = 0; i < rowCount; i++) {
+          counts[groupIds[i]]++;
+        }
+      } else {
+        for (int i = 0; i < rowCount; i++) {
+          if (!input.isNull(i)) {
+            counts[groupIds[i]]++;
+          }
+        }
+      }
+    }
+
+    @Override
+    void merge(GroupAccumulator other, int[] mapping, int groupCount) {
+      for (int i = 0; i < groupCount; i++) {
+        counts[mapping[i]] += other.counts[i];
+      }
+    }
+
+    @Override
+    FieldVector build(int groupCount, BufferAllocator allocator) {
+      final BigIntVector vector = (BigIntVector) getOutputField().createVector(allocator);
+      try {
+        vector.allocateNew(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+          vector.set(i, counts[i]);
+        }
+        vector.setValueCount(groupCount);
+      } catch (RuntimeException e) {
+        vector.close();
+        throw e;
+      }
+      return vector;
+    }
+  }
+
+  /**
+   * SUM, MIN and MAX of integers, as 64-bit integers. The sum wraps around on overflow.
+   */
+  static final class LongAccumulator extends GroupAccumulator {
+
+    private long[] values = new long[0];
+
+    LongAccumulator(AggregateSpec spec, int inputIndex) {
+      super(spec, inputIndex);
+    }
+
+    @Override
+    Field getOutputField() {
+      return createOutputField(new ArrowType.Int(64, true), true);
+    }
+
+    @Override
+    void grow(int capacity) {
+      final int oldCapacity = values.length;
+      values = Arrays.copyOf(values, capacity);
+      if (spec.getFunction() == AggregateFunction.MIN) {
+        Arrays.fill(values, oldCapacity, capacity, Long.MAX_VALUE);
+      } else if (spec.getFunction() == AggregateFunction.MAX) {
+        Arrays.fill(values, oldCapacity, capacity, Long.MIN_VALUE);
+      }
+    }
+
+    @Override
+    void accumulate(FieldVector input, int[] groupIds, int rowCount) {
+      final BaseIntVector vector = (BaseIntVector) input;
+      final boolean hasNulls = input.getNullCount() != 0;
+      final long[] counts = this.counts;
+      final long[] values = this.values;
+      switch (spec.getFunction()) {
+        case SUM:
+          for (int i = 0; i < rowCount; i++) {
+            if (!hasNulls || !input.isNull(i)) {
+              counts[groupIds[i]]++;
+              values[groupIds[i]] += vector.getValueAsLong(i);
+            }
+          }
+          break;
+        case MIN:
+          for (int i = 0; i < rowCount; i++) {
+            if (!hasNulls || !input.isNull(i)) {
+              counts[groupIds[i]]++;
+              values[groupIds[i]] = Math.min(values[groupIds[i]], vector.getValueAsLong(i));
+            }
+          }
+          break;
+        case MAX:
+          for (int i = 0; i < rowCount; i++) {
+            if (!hasNulls || !input.isNull(i)) {
+              counts[groupIds[i]]++;
+              values[groupIds[i]] = Math.max(values[groupIds[i]], vector.getValueAsLong(i));
+            }
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException(spec.getFunction().toString());
+      }
+    }
+
+    @Override
+    void merge(GroupAccumulator other, int[] mapping, int groupCount) {
+      final long[] otherValues = ((LongAccumulator) other).values;
+      for (int i = 0; i < groupCount; i++) {
+        final int group = mapping[i];
+        counts[group] += other.counts[i];
+        switch (spec.getFunction()) {
+          case SUM:
+            values[group] += otherValues[i];
+            break;
+          case MIN:
+            values[group] = Math.min(values[group], otherValues[i]);
+            break;
+          default:
+            values[group] = Math.max(values[group], otherValues[i]);
+            break;
+        }
+      }
+    }
+
+    @Override
+    FieldVector build(int groupCount, BufferAllocator allocator) {
+      final BigIntVector vector = (BigIntVector) getOutputField().createVector(allocator);
+      try {
+        vector.allocateNew(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+          if (counts[i] == 0) {
+            vector.setNull(i);
+          } else {
+            vector.set(i, values[i]);
+          }
+        }
+        vector.setValueCount(groupCount);
+      } catch (RuntimeException e) {
+        vector.close();
+        throw e;
+      }
+      return vector;
+    }
+  }
+
+  /**
+   * SUM, MIN and MAX of floating point values and MEAN of any numbers, as doubles.
+   * NaN values are ignored by MIN and MAX.
+   *
+   * <p>The sums are computed by pairwise summation like in {@link DoubleAggregateState}: the values of a
+   * group are summed naively into blocks of {@link PairwiseSum#BLOCK_SIZE} values, and the block sums are
+   * added to a {@link PairwiseSum} of the group, created once the group has a full block.
+   */
+  static final class DoubleAccumulator extends GroupAccumulator {
+
+    /**
+     * The MIN or MAX of each group, or, for SUM and MEAN, the sum of the values of the current block.
+     */
+    private double[] values = new double[0];
+
+    /**
+     * The number of values in the current block of each group, for SUM and MEAN.
+     */
+    private int[] blockCounts = new int[0];
+
+    /**
+     * The sums of the full blocks of each group, null until the first block is full, for SUM and MEAN.
+     */
+    private PairwiseSum[] sums = new PairwiseSum[0];
+
+    DoubleAccumulator(AggregateSpec spec, int inputIndex) {
+      super(spec, inputIndex);
+    }
+
+    @Override
+    Field getOutputField() {
+      return createOutputField(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE), true);
+    }
+
+    @Override
+    void grow(int capacity) {
+      final int oldCapacity = values.length;
+      values = Arrays.copyOf(values, capacity);
+      switch (spec.getFunction()) {
+        case MIN:
+          Arrays.fill(values, oldCapacity, capacity, Double.POSITIVE_INFINITY);
+          break;
+        case MAX:
+          Arrays.fill(values, oldCapacity, capacity, Double.NEGATIVE_INFINITY);
+          break;
+        default:
+          blockCounts = Arrays.copyOf(blockCounts, capacity);
+          sums = Arrays.copyOf(sums, capacity);
+          break;
+      }
+    }
+
+    /**
+     * Reads the values of an input column as doubles.
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+      double get(int index);
+    }
+
+    /**
+     * Chooses how to read the values of an input column once per batch, reading the common floating
+     * point types directly from the data buffer.
+     */
+    private static ValueReader createReader(FieldVector input) {
+      final long address = input.getDataBuffer().memoryAddress();
+      if (input instanceof Float8Vector) {
+        return index -> MemoryUtil.UNSAFE.getDouble(address + (long) index * Float8Vector.TYPE_WIDTH);
+      } else if (input instanceof Float4Vector) {
+        return index -> MemoryUtil.UNSAFE.getFloat(address + (long) index * Float4Vector.TYPE_WIDTH);
+      } else if (input instanceof FloatingPointVector) {
+        return ((FloatingPointVector) input)::getValueAsDouble;
+      }
+      return ((BaseIntVector) input)::getValueAsLong;
+    }
+
+    @Override
+    void accumulate(FieldVector input, int[] groupIds, int rowCount) {
+      final ValueReader reader = createReader(input);
+      if (input.getNullCount() == 0) {
+        for (int i = 0; i < rowCount; i++) {
+          add(groupIds[i], reader.get(i));
+        }
+        return;
+      }
+
+      // read the validity a word at a time, skipping the words of nulls
+      final ArrowBuf validity = input.getValidityBuffer();
+      final int wordCount = rowCount / Long.SIZE;
+      for (int w = 0; w < wordCount; w++) {
+        long word = validity.getLong((long) w * Long.BYTES);
+        final int start = w * Long.SIZE;
+        while (word != 0) {
+          final int i = start + Long.numberOfTrailingZeros(word);
+          add(groupIds[i], reader.get(i));
+          word &= word - 1;
+        }
+      }
+      for (int i = wordCount * Long.SIZE; i < rowCount; i++) {
+        if (BitVectorHelper.get(validity, i) != 0) {
+          add(groupIds[i], reader.get(i));
+        }
+      }
+    }
+
+    private void add(int group, double value) {
+      counts[group]++;
+      switch (spec.getFunction()) {
+        case MIN:
+          if (value < values[group]) {
+            values[group] = value;
+          }
+          break;
+        case MAX:
+          if (value > values[group]) {
+            values[group] = value;
+          }
+          break;
+        default:
+          values[group] += value;
+          if (++blockCounts[group] == PairwiseSum.BLOCK_SIZE) {
+            getPairwiseSum(group).addBlock(values[group]);
+            values[group] = 0;
+            blockCounts[group] = 0;
+          }
+          break;
+      }
+    }
+
+    private PairwiseSum getPairwiseSum(int group) {
+      if (sums[group] == null) {
+        sums[group] = new PairwiseSum();
+      }
+      return sums[group];
+    }
+
+    @Override
+    void merge(GroupAccumulator other, int[] mapping, int groupCount) {
+      final DoubleAccumulator otherAccumulator = (DoubleAccumulator) other;
+      final double[] otherValues = otherAccumulator.values;
+      for (int i = 0; i < groupCount; i++) {
+        final int group = mapping[i];
+        counts[group] += other.counts[i];
+        switch (spec.getFunction()) {
+          case MIN:
+            if (otherValues[i] < values[group]) {
+              values[group] = otherValues[i];
+            }
+            break;
+          case MAX:
+            if (otherValues[i] > values[group]) {
+              values[group] = otherValues[i];
+            }
+            break;
+          default:
+            // the current block of the other group is added as a block, like the last block of a vector
+            // in DoubleAggregateState
+            if (otherAccumulator.sums[i] != null) {
+              getPairwiseSum(group).merge(otherAccumulator.sums[i]);
+            }
+            if (otherAccumulator.blockCounts[i] != 0) {
+              getPairwiseSum(group).addBlock(otherValues[i]);
+            }
+            break;
+        }
+      }
+    }
+
+    private double getSum(int group) {
+      return sums[group] == null ? values[group] : sums[group].getSum() + values[group];
+    }
+
+    @Override
+    FieldVector build(int groupCount, BufferAllocator allocator) {
+      final Float8Vector vector = (Float8Vector) getOutputField().createVector(allocator);
+      final AggregateFunction function = spec.getFunction();
+      try {
+        vector.allocateNew(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+          if (counts[i] == 0) {
+            vector.setNull(i);
+          } else if (function == AggregateFunction.MIN || function == AggregateFunction.MAX) {
+            vector.set(i, values[i]);
+          } else {
+            final double sum = getSum(i);
+            vector.set(i, function == AggregateFunction.MEAN ? sum / counts[i] : sum);
+          }
+        }
+        vector.setValueCount(groupCount);
+      } catch (RuntimeException e) {
+        vector.close();
+        throw e;
+      }
+      return vector;
+    }
+  }
+}
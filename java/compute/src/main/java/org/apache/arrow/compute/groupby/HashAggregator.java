@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.compute.KeyEncoder;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.hash.BytesIntHashTable;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * Hash group-by aggregation of a stream of batches.
+ *
+ * <p>The key columns of each row are encoded as a normalized key, which is looked up in an off-heap
+ * {@link BytesIntHashTable} to get the id of the group of the row. The keys of a new group are copied
+ * to the key vectors of the aggregator, and the aggregates are updated in primitive arrays indexed by
+ * the group id. Null keys form their own group.
+ *
+ * <p>An aggregator is not thread safe, but several aggregators can consume batches of the same schema
+ * in parallel, and their partial results can then be {@link #merge(HashAggregator) merged}, see
+ * {@link HashGroupBy}.
+ *
+ * <p>The key columns may be of any fixed-width or variable-width type. The input columns of the
+ * aggregates must be of integer or floating point types, except for COUNT (any type) and COUNT_ALL.
+ */
+public class HashAggregator implements AutoCloseable {
+
+  private final Schema inputSchema;
+  private final List<AggregateSpec> aggregates;
+  private final BufferAllocator allocator;
+  private final int[] keyIndices;
+  private final List<FieldVector> keyVectors = new ArrayList<>();
+  private final GroupAccumulator[] accumulators;
+  private final KeyEncoder encoder;
+  private final BytesIntHashTable table;
+  private final List<FieldVector> keyColumns;
+  private int groupCount;
+  private int[] groupIds = new int[0];
+
+  /**
+   * Constructs an aggregator.
+   * @param inputSchema the schema of the input batches.
+   * @param keyColumns the names of the key columns, may be empty to aggregate all the rows as one group.
+   * @param aggregates the aggregates to compute.
+   * @param allocator the allocator for the state and the result of the aggregation.
+   */
+  public HashAggregator(Schema inputSchema, List<String> keyColumns, List<AggregateSpec> aggregates,
+      BufferAllocator allocator) {
+    this.inputSchema = inputSchema;
+    this.aggregates = new ArrayList<>(aggregates);
+    this.allocator = allocator;
+    this.keyIndices = new int[keyColumns.size()];
+    this.keyColumns = new ArrayList<>(keyColumns.size());
+    this.accumulators = new GroupAccumulator[aggregates.size()];
+    for (int i = 0; i < keyIndices.length; i++) {
+      keyIndices[i] = getColumnIndex(inputSchema, keyColumns.get(i));
+    }
+    for (int i = 0; i < accumulators.length; i++) {
+      final AggregateSpec spec = aggregates.get(i);
+      if (spec.getInputColumn() == null) {
+        accumulators[i] = GroupAccumulator.create(spec, -1, null);
+      } else {
+        final int index = getColumnIndex(inputSchema, spec.getInputColumn());
+        accumulators[i] = GroupAccumulator.create(spec, index, inputSchema.getFields().get(index));
+      }
+    }
+
+    KeyEncoder encoder = null;
+    BytesIntHashTable table = null;
+    try {
+      for (int index : keyIndices) {
+        keyVectors.add(inputSchema.getFields().get(index).createVector(allocator));
+      }
+      encoder = new KeyEncoder(allocator);
+      // check the key types early
+      encoder.setColumns(keyVectors);
+      table = new BytesIntHashTable(allocator);
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, keyVectors);
+      AutoCloseables.close(e, encoder);
+      throw e;
+    }
+    this.encoder = encoder;
+    this.table = table;
+  }
+
+  private static int getColumnIndex(Schema schema, String name) {
+    final List<Field> fields = schema.getFields();
+    for (int i = 0; i < fields.size(); i++) {
+      if (fields.get(i).getName().equals(name)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Column " + name + " not found in " + schema);
+  }
+
+  /**
+   * Aggregates a batch.
+   * @param root the batch, of the input schema.
+   */
+  public void consume(VectorSchemaRoot root) {
+    Preconditions.checkArgument(root.getSchema().equals(inputSchema),
+        "The batch schema %s does not match the input schema %s", root.getSchema(), inputSchema);
+    final int rowCount = root.getRowCount();
+    if (groupIds.length < rowCount) {
+      groupIds = new int[rowCount];
+    }
+
+    final List<FieldVector> vectors = root.getFieldVectors();
+    keyColumns.clear();
+    for (int index : keyIndices) {
+      keyColumns.add(vectors.get(index));
+    }
+    encoder.setColumns(keyColumns);
+    for (int row = 0; row < rowCount; row++) {
+      final int length = encoder.encode(row);
+      final int groupId = table.getOrPut(encoder.getBuffer(), 0, length, groupCount);
+      if (groupId == groupCount) {
+        addGroup(keyColumns, row);
+      }
+      groupIds[row] = groupId;
+    }
+
+    for (GroupAccumulator accumulator : accumulators) {
+      accumulator.ensureCapacity(groupCount);
+      accumulator.accumulate(accumulator.inputIndex < 0 ? null : vectors.get(accumulator.inputIndex),
+          groupIds, rowCount);
+    }
+  }
+
+  /**
+   * Aggregates all the batches of a reader.
+   * @param reader the reader, whose schema is the input schema.
+   * @throws IOException if reading fails.
+   */
+  public void consume(ArrowReader reader) throws IOException {
+    final VectorSchemaRoot root = reader.getVectorSchemaRoot();
+    while (reader.loadNextBatch()) {
+      consume(root);
+    }
+  }
+
+  private void addGroup(List<FieldVector> keys, int row) {
+    for (int i = 0; i < keyVectors.size(); i++) {
+      keyVectors.get(i).copyFromSafe(row, groupCount, keys.get(i));
+    }
+    groupCount++;
+  }
+
+  /**
+   * Merges the partial aggregation of another aggregator, with the same schema and aggregates, into this
+   * aggregator. The groups of the other aggregator that are new to this one are added in the order of
+   * their first row in the other aggregator.
+   * @param other the other aggregator, unchanged.
+   */
+  public void merge(HashAggregator other) {
+    Preconditions.checkArgument(other.inputSchema.equals(inputSchema) && other.aggregates.equals(aggregates) &&
+        other.keyIndices.length == keyIndices.length, "Cannot merge aggregators of different aggregations");
+    final int[] mapping = new int[other.groupCount];
+    for (FieldVector keyVector : other.keyVectors) {
+      keyVector.setValueCount(other.groupCount);
+    }
+    // the groups are looked up in the order of their ids rather than of the slots of the other table,
+    // re-encoding their keys, so that the result keeps the order of the first row of each group
+    encoder.setColumns(other.keyVectors);
+    for (int otherGroupId = 0; otherGroupId < other.groupCount; otherGroupId++) {
+      final int length = encoder.encode(otherGroupId);
+      final int groupId = table.getOrPut(encoder.getBuffer(), 0, length, groupCount);
+      if (groupId == groupCount) {
+        addGroup(other.keyVectors, otherGroupId);
+      }
+      mapping[otherGroupId] = groupId;
+    }
+    for (int i = 0; i < accumulators.length; i++) {
+      accumulators[i].ensureCapacity(groupCount);
+      accumulators[i].merge(other.accumulators[i], mapping, other.groupCount);
+    }
+  }
+
+  /**
+   * Gets the number of groups.
+   */
+  public int getGroupCount() {
+    return groupCount;
+  }
+
+  /**
+   * Gets the schema of the result: the key columns, followed by the aggregates.
+   */
+  public Schema getOutputSchema() {
+    final List<Field> fields = new ArrayList<>(keyIndices.length + accumulators.length);
+    for (int index : keyIndices) {
+      fields.add(inputSchema.getFields().get(index));
+    }
+    for (GroupAccumulator accumulator : accumulators) {
+      fields.add(accumulator.getOutputField());
+    }
+    return new Schema(fields);
+  }
+
+  /**
+   * Gets the result of the aggregation, with a row per group, in the order of the first row of each
+   * group. The aggregator should not consume more batches afterwards, as the result shares the key buffers.
+   * @return a new root, of the output schema.
+   */
+  public VectorSchemaRoot getResult() {
+    final List<FieldVector> vectors = new ArrayList<>(keyIndices.length + accumulators.length);
+    try {
+      for (FieldVector keyVector : keyVectors) {
+        keyVector.setValueCount(groupCount);
+        final TransferPair transferPair = keyVector.getTransferPair(allocator);
+        transferPair.splitAndTransfer(0, groupCount);
+        vectors.add((FieldVector) transferPair.getTo());
+      }
+      for (GroupAccumulator accumulator : accumulators) {
+        accumulator.ensureCapacity(groupCount);
+        vectors.add(accumulator.build(groupCount, allocator));
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, vectors);
+      throw e;
+    }
+    return new VectorSchemaRoot(getOutputSchema(), vectors, groupCount);
+  }
+
+  /**
+   * Gets the result of the aggregation as batches of at most a number of rows.
+   * @param maxBatchSize the maximum number of rows of a batch.
+   * @return new roots, of the output schema, at least one.
+   */
+  public List<VectorSchemaRoot> getResults(int maxBatchSize) {
+    Preconditions.checkArgument(maxBatchSize > 0, "The batch size must be positive");
+    final List<VectorSchemaRoot> batches = new ArrayList<>();
+    try (VectorSchemaRoot result = getResult()) {
+      if (groupCount <= maxBatchSize) {
+        batches.add(result.slice(0, groupCount));
+      } else {
+        for (int start = 0; start < groupCount; start += maxBatchSize) {
+          batches.add(result.slice(start, Math.min(maxBatchSize, groupCount - start)));
+        }
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, batches);
+      throw e;
+    }
+    return batches;
+  }
+
+  @Override
+  public void close() {
+    table.close();
+    encoder.close();
+    keyVectors.forEach(FieldVector::close);
+  }
+}
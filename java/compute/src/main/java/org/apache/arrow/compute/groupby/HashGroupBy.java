@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.util.ParallelTasks;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Group-by aggregation of streams of batches with {@link HashAggregator}s.
+ */
+public final class HashGroupBy {
+
+  private HashGroupBy() {
+  }
+
+  /**
+   * Aggregates the batches of a reader.
+   * @param reader the reader.
+   * @param keyColumns the names of the key columns.
+   * @param aggregates the aggregates to compute.
+   * @param allocator the allocator for the aggregation and the result.
+   * @return a new root with a row per group.
+   * @throws IOException if reading fails.
+   */
+  public static VectorSchemaRoot aggregate(ArrowReader reader, List<String> keyColumns,
+      List<AggregateSpec> aggregates, BufferAllocator allocator) throws IOException {
+    try (HashAggregator aggregator = new HashAggregator(reader.getVectorSchemaRoot().getSchema(), keyColumns,
+        aggregates, allocator)) {
+      aggregator.consume(reader);
+      return aggregator.getResult();
+    }
+  }
+
+  /**
+   * Aggregates the batches of several readers in parallel: the batches of each reader are aggregated by a
+   * task into a partial aggregation, and the partial aggregations are then merged.
+   * @param readers the readers, of the same schema.
+   * @param keyColumns the names of the key columns.
+   * @param aggregates the aggregates to compute.
+   * @param allocator the allocator for the aggregation and the result.
+   * @param executor the executor running the partial aggregations.
+   * @return a new root with a row per group.
+   * @throws IOException if reading fails.
+   * @throws InterruptedException if interrupted while waiting for the partial aggregations.
+   */
+  public static VectorSchemaRoot aggregate(List<ArrowReader> readers, List<String> keyColumns,
+      List<AggregateSpec> aggregates, BufferAllocator allocator, ExecutorService executor)
+      throws IOException, InterruptedException {
+    Preconditions.checkArgument(!readers.isEmpty(), "There must be at least one reader");
+    final Schema schema = readers.get(0).getVectorSchemaRoot().getSchema();
+    final List<HashAggregator> partials = new ArrayList<>(readers.size());
+    try {
+      final List<ParallelTasks.Task<IOException>> tasks = new ArrayList<>(readers.size());
+      for (ArrowReader reader : readers) {
+        final HashAggregator partial = new HashAggregator(schema, keyColumns, aggregates, allocator);
+        partials.add(partial);
+        tasks.add(() -> partial.consume(reader));
+      }
+      ParallelTasks.runAll(tasks, IOException.class, executor);
+
+      final HashAggregator result = partials.get(0);
+      for (int i = 1; i < partials.size(); i++) {
+        result.merge(partials.get(i));
+      }
+      return result.getResult();
+    } finally {
+      partials.forEach(HashAggregator::close);
+    }
+  }
+}
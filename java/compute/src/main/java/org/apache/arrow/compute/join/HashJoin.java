@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.join;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.arrow.algorithm.selection.VectorTaker;
+import org.apache.arrow.compute.KeyEncoder;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.hash.BytesIntHashTable;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.util.ParallelTasks;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * In-memory hash join of probe batches with a build batch.
+ *
+ * <p>The key columns of the build rows are encoded as normalized keys (see {@link KeyEncoder}) and
+ * hashed in a first pass, then the rows are inserted into off-heap {@link BytesIntHashTable}s mapping
+ * each key to its first build row, the other rows of the same key being chained in an array. The build
+ * rows can be split by hash into partitions, hashed and inserted in parallel.
+ *
+ * <p>Each probe batch is joined by looking up its keys, collecting the indices of the matching probe and
+ * build rows, and assembling the output columns with a {@link VectorTaker take} of these indices. Probing
+ * is thread safe, so that batches can be probed in parallel.
+ *
+ * <p>The output columns are the probe columns, followed for inner and left joins by the build columns
+ * other than the build keys (nullable for left joins). The key columns may be of any fixed-width or
+ * variable-width type, and the build and probe keys must be of the same types.
+ */
+public class HashJoin implements AutoCloseable {
+
+  private static final int NO_ROW = -1;
+
+  /**
+   * The partition of a row is given by the high bits of its hash code, the hash table slot by the low bits.
+   */
+  private static final int PARTITION_SHIFT = 48;
+
+  private static final int MAX_PARTITION_COUNT = 1 << (Long.SIZE - PARTITION_SHIFT);
+
+  private final VectorSchemaRoot build;
+  private final Schema probeSchema;
+  private final JoinType joinType;
+  private final BufferAllocator allocator;
+  private final int[] buildKeyIndices;
+  private final int[] probeKeyIndices;
+  private final int[] buildOutputIndices;
+  private final Schema outputSchema;
+  private final BytesIntHashTable[] tables;
+  private final int partitionMask;
+
+  /**
+   * The hash codes of the build keys.
+   */
+  private final long[] hashes;
+
+  /**
+   * The partitions of the build rows, -1 for the rows with a null key.
+   */
+  private final int[] partitions;
+
+  /**
+   * The build rows with a non-null key grouped by partition, in row order within each partition.
+   */
+  private int[] partitionRows;
+
+  /**
+   * The start of the rows of each partition in {@link #partitionRows}, followed by the number of rows.
+   */
+  private int[] partitionStarts;
+
+  /**
+   * The next build row with the same key as a build row, -1 for the last one.
+   */
+  private final int[] next;
+
+  /**
+   * The last build row with the same key as a build row, set for the first row of each key.
+   */
+  private final int[] tails;
+
+  private HashJoin(VectorSchemaRoot build, List<String> buildKeys, Schema probeSchema, List<String> probeKeys,
+      JoinType joinType, BufferAllocator allocator, int partitionCount) {
+    Preconditions.checkArgument(buildKeys.size() == probeKeys.size(),
+        "The number of build keys %s does not match the number of probe keys %s", buildKeys.size(),
+        probeKeys.size());
+    Preconditions.checkArgument(partitionCount > 0 && partitionCount <= MAX_PARTITION_COUNT &&
+        (partitionCount & (partitionCount - 1)) == 0, "The partition count must be a power of 2, got %s",
+        partitionCount);
+    this.build = build;
+    this.probeSchema = probeSchema;
+    this.joinType = joinType;
+    this.allocator = allocator;
+    this.buildKeyIndices = new int[buildKeys.size()];
+    this.probeKeyIndices = new int[probeKeys.size()];
+    final Schema buildSchema = build.getSchema();
+    for (int i = 0; i < buildKeyIndices.length; i++) {
+      buildKeyIndices[i] = getColumnIndex(buildSchema, buildKeys.get(i));
+      probeKeyIndices[i] = getColumnIndex(probeSchema, probeKeys.get(i));
+      final Field buildField = buildSchema.getFields().get(buildKeyIndices[i]);
+      final Field probeField = probeSchema.getFields().get(probeKeyIndices[i]);
+      Preconditions.checkArgument(buildField.getType().equals(probeField.getType()),
+          "The type of build key %s does not match the type of probe key %s", buildField, probeField);
+    }
+
+    final List<Field> outputFields = new ArrayList<>(probeSchema.getFields());
+    final List<Integer> outputIndices = new ArrayList<>();
+    if (joinType == JoinType.INNER || joinType == JoinType.LEFT) {
+      for (int i = 0; i < buildSchema.getFields().size(); i++) {
+        final int index = i;
+        if (Arrays.stream(buildKeyIndices).noneMatch(key -> key == index)) {
+          outputIndices.add(i);
+          final Field field = buildSchema.getFields().get(i);
+          outputFields.add(joinType == JoinType.LEFT ? toNullable(field) : field);
+        }
+      }
+    }
+    this.buildOutputIndices = outputIndices.stream().mapToInt(Integer::intValue).toArray();
+    this.outputSchema = new Schema(outputFields);
+
+    final int rowCount = build.getRowCount();
+    this.hashes = new long[rowCount];
+    this.partitions = new int[rowCount];
+    this.next = new int[rowCount];
+    this.tails = new int[rowCount];
+    Arrays.fill(next, NO_ROW);
+    this.partitionMask = partitionCount - 1;
+    this.tables = new BytesIntHashTable[partitionCount];
+    try {
+      for (int i = 0; i < partitionCount; i++) {
+        tables[i] = new BytesIntHashTable(allocator);
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, tables);
+      throw e;
+    }
+  }
+
+  /**
+   * Constructs a join, building the hash table from a build batch.
+   * @param build the build batch, which must stay open and unchanged until the join is closed.
+   * @param buildKeys the names of the key columns of the build batch.
+   * @param probeSchema the schema of the probe batches.
+   * @param probeKeys the names of the key columns of the probe batches, matching the build keys.
+   * @param joinType the join type.
+   * @param allocator the allocator for the hash table and the output batches.
+   */
+  public HashJoin(VectorSchemaRoot build, List<String> buildKeys, Schema probeSchema, List<String> probeKeys,
+      JoinType joinType, BufferAllocator allocator) {
+    this(build, buildKeys, probeSchema, probeKeys, joinType, allocator, 1);
+    try {
+      hashRows(0, build.getRowCount());
+      partitionRows();
+      insertRows(0);
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Creates a join, building the hash table from a build batch in parallel: the build rows are hashed in
+   * ranges and split into partitions, whose hash tables are built concurrently.
+   * @param build the build batch, which must stay open and unchanged until the join is closed.
+   * @param buildKeys the names of the key columns of the build batch.
+   * @param probeSchema the schema of the probe batches.
+   * @param probeKeys the names of the key columns of the probe batches, matching the build keys.
+   * @param joinType the join type.
+   * @param allocator the allocator for the hash table and the output batches.
+   * @param partitionCount the number of partitions, a power of 2, e.g. the number of cores.
+   * @param executor the executor running the build tasks.
+   * @return the join.
+   * @throws InterruptedException if interrupted while waiting for the build tasks.
+   */
+  public static HashJoin create(VectorSchemaRoot build, List<String> buildKeys, Schema probeSchema,
+      List<String> probeKeys, JoinType joinType, BufferAllocator allocator, int partitionCount,
+      ExecutorService executor) throws InterruptedException {
+    final HashJoin join = new HashJoin(build, buildKeys, probeSchema, probeKeys, joinType, allocator,
+        partitionCount);
+    try {
+      final int rowCount = build.getRowCount();
+      final List<Runnable> tasks = new ArrayList<>(partitionCount);
+      for (int i = 0; i < partitionCount; i++) {
+        final int from = (int) ((long) rowCount * i / partitionCount);
+        final int to = (int) ((long) rowCount * (i + 1) / partitionCount);
+        tasks.add(() -> join.hashRows(from, to));
+      }
+      ParallelTasks.runAll(tasks, executor);
+      join.partitionRows();
+      tasks.clear();
+      for (int i = 0; i < partitionCount; i++) {
+        final int partition = i;
+        tasks.add(() -> join.insertRows(partition));
+      }
+      ParallelTasks.runAll(tasks, executor);
+    } catch (InterruptedException | RuntimeException e) {
+      join.close();
+      throw e;
+    }
+    return join;
+  }
+
+  private static int getColumnIndex(Schema schema, String name) {
+    final List<Field> fields = schema.getFields();
+    for (int i = 0; i < fields.size(); i++) {
+      if (fields.get(i).getName().equals(name)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Column " + name + " not found in " + schema);
+  }
+
+  private static Field toNullable(Field field) {
+    if (field.isNullable()) {
+      return field;
+    }
+    final FieldType type = field.getFieldType();
+    return new Field(field.getName(), new FieldType(true, type.getType(), type.getDictionary(), type.getMetadata()),
+        field.getChildren());
+  }
+
+  private static List<FieldVector> getColumns(VectorSchemaRoot root, int[] indices) {
+    final List<FieldVector> columns = new ArrayList<>(indices.length);
+    for (int index : indices) {
+      columns.add(root.getVector(index));
+    }
+    return columns;
+  }
+
+  private int getPartition(long hash) {
+    return (int) (hash >>> PARTITION_SHIFT) & partitionMask;
+  }
+
+  /**
+   * Computes the hash codes and partitions of a range of build rows.
+   */
+  private void hashRows(int from, int to) {
+    try (KeyEncoder encoder = new KeyEncoder(allocator)) {
+      encoder.setColumns(getColumns(build, buildKeyIndices));
+      for (int row = from; row < to; row++) {
+        if (encoder.hasNull(row)) {
+          partitions[row] = NO_ROW;
+        } else {
+          final int length = encoder.encode(row);
+          hashes[row] = tables[0].hash(encoder.getBuffer(), 0, length);
+          partitions[row] = getPartition(hashes[row]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Groups the hashed build rows by partition with a counting sort, so that each partition's insert task
+   * only visits its own rows.
+   */
+  private void partitionRows() {
+    final int partitionCount = tables.length;
+    final int[] starts = new int[partitionCount + 1];
+    for (int partition : partitions) {
+      if (partition != NO_ROW) {
+        starts[partition + 1]++;
+      }
+    }
+    for (int i = 0; i < partitionCount; i++) {
+      starts[i + 1] += starts[i];
+    }
+    final int[] rows = new int[starts[partitionCount]];
+    final int[] positions = Arrays.copyOf(starts, partitionCount);
+    for (int row = 0; row < partitions.length; row++) {
+      final int partition = partitions[row];
+      if (partition != NO_ROW) {
+        rows[positions[partition]++] = row;
+      }
+    }
+    this.partitionRows = rows;
+    this.partitionStarts = starts;
+  }
+
+  /**
+   * Inserts the build rows of a partition into its hash table.
+   */
+  private void insertRows(int partition) {
+    final BytesIntHashTable table = tables[partition];
+    try (KeyEncoder encoder = new KeyEncoder(allocator)) {
+      encoder.setColumns(getColumns(build, buildKeyIndices));
+      for (int i = partitionStarts[partition]; i < partitionStarts[partition + 1]; i++) {
+        final int row = partitionRows[i];
+        final int length = encoder.encode(row);
+        final int head = table.getOrPut(hashes[row], encoder.getBuffer(), 0, length, row);
+        if (head != row) {
+          next[tails[head]] = row;
+        }
+        tails[head] = row;
+      }
+    }
+  }
+
+  /**
+   * Gets the schema of the output batches.
+   */
+  public Schema getOutputSchema() {
+    return outputSchema;
+  }
+
+  /**
+   * Joins a probe batch with the build batch. This method is thread safe.
+   * @param batch the probe batch, of the probe schema.
+   * @return a new batch, of the output schema, with the matching rows in the order of the probe rows,
+   *     then of the build rows.
+   */
+  public VectorSchemaRoot probe(VectorSchemaRoot batch) {
+    Preconditions.checkArgument(batch.getSchema().equals(probeSchema),
+        "The batch schema %s does not match the probe schema %s", batch.getSchema(), probeSchema);
+    final int rowCount = batch.getRowCount();
+    final boolean withBuildColumns = joinType == JoinType.INNER || joinType == JoinType.LEFT;
+    try (KeyEncoder encoder = new KeyEncoder(allocator);
+         IntVector probeIndices = new IntVector("probe indices", allocator);
+         IntVector buildIndices = new IntVector("build indices", allocator)) {
+      encoder.setColumns(getColumns(batch, probeKeyIndices));
+      probeIndices.allocateNew(rowCount);
+      if (withBuildColumns) {
+        buildIndices.allocateNew(rowCount);
+      }
+      int count = 0;
+      for (int row = 0; row < rowCount; row++) {
+        int match = NO_ROW;
+        if (!encoder.hasNull(row)) {
+          final int length = encoder.encode(row);
+          final long hash = tables[0].hash(encoder.getBuffer(), 0, length);
+          match = tables[getPartition(hash)].get(hash, encoder.getBuffer(), 0, length, NO_ROW);
+        }
+        switch (joinType) {
+          case SEMI:
+            if (match != NO_ROW) {
+              probeIndices.setSafe(count++, row);
+            }
+            break;
+          case ANTI:
+            if (match == NO_ROW) {
+              probeIndices.setSafe(count++, row);
+            }
+            break;
+          default:
+            if (match == NO_ROW && joinType == JoinType.LEFT) {
+              probeIndices.setSafe(count, row);
+              buildIndices.setSafe(count++, 0, 0);
+            }
+            for (int buildRow = match; buildRow != NO_ROW; buildRow = next[buildRow]) {
+              probeIndices.setSafe(count, row);
+              buildIndices.setSafe(count++, buildRow);
+            }
+            break;
+        }
+      }
+      probeIndices.setValueCount(count);
+      buildIndices.setValueCount(withBuildColumns ? count : 0);
+      return assemble(batch, probeIndices, buildIndices, count);
+    }
+  }
+
+  private VectorSchemaRoot assemble(VectorSchemaRoot batch, IntVector probeIndices, IntVector buildIndices,
+      int count) {
+    final List<FieldVector> vectors = new ArrayList<>(outputSchema.getFields().size());
+    try {
+      for (FieldVector vector : batch.getFieldVectors()) {
+        vectors.add(VectorTaker.take(vector, probeIndices, allocator));
+      }
+      for (int index : buildOutputIndices) {
+        final FieldVector taken = VectorTaker.take(build.getVector(index), buildIndices, allocator);
+        final Field field = outputSchema.getFields().get(vectors.size());
+        if (taken.getField().equals(field)) {
+          vectors.add(taken);
+        } else {
+          // the build columns of a left join are nullable
+          try {
+            final TransferPair transferPair = taken.getTransferPair(field, allocator);
+            transferPair.transfer();
+            vectors.add((FieldVector) transferPair.getTo());
+          } finally {
+            taken.close();
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, vectors);
+      throw e;
+    }
+    return new VectorSchemaRoot(outputSchema, vectors, count);
+  }
+
+  /**
+   * Joins probe batches with the build batch in parallel.
+   * @param batches the probe batches, of the probe schema.
+   * @param executor the executor running the probe tasks.
+   * @return new batches, of the output schema, with the output of each probe batch.
+   * @throws InterruptedException if interrupted while waiting for the probe tasks.
+   */
+  public List<VectorSchemaRoot> probe(List<VectorSchemaRoot> batches, ExecutorService executor)
+      throws InterruptedException {
+    final VectorSchemaRoot[] results = new VectorSchemaRoot[batches.size()];
+    final List<Runnable> tasks = new ArrayList<>(batches.size());
+    for (int i = 0; i < batches.size(); i++) {
+      final int index = i;
+      tasks.add(() -> results[index] = probe(batches.get(index)));
+    }
+    try {
+      ParallelTasks.runAll(tasks, executor);
+    } catch (InterruptedException | RuntimeException e) {
+      AutoCloseables.close(e, results);
+      throw e;
+    }
+    return Arrays.asList(results);
+  }
+
+  @Override
+  public void close() {
+    for (BytesIntHashTable table : tables) {
+      if (table != null) {
+        table.close();
+      }
+    }
+  }
+}
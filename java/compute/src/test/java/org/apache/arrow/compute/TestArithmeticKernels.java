@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.arrow.compute.ArithmeticKernels.Operator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ArithmeticKernels}.
+ */
+public class TestArithmeticKernels {
+
+  private static final int VECTOR_LENGTH = 100;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private IntVector createIntVector(String name, int multiplier, int nullInterval) {
+    IntVector vector = new IntVector(name, allocator);
+    vector.allocateNew(VECTOR_LENGTH);
+    for (int i = 0; i < VECTOR_LENGTH; i++) {
+      if (i % nullInterval == 0) {
+        vector.setNull(i);
+      } else {
+        vector.set(i, i * multiplier);
+      }
+    }
+    vector.setValueCount(VECTOR_LENGTH);
+    return vector;
+  }
+
+  @Test
+  public void testIntArithmetic() {
+    try (IntVector left = createIntVector("left", 3, 5);
+         IntVector right = createIntVector("right", 1, 7);
+         IntVector sum = ArithmeticKernels.apply(Operator.ADD, left, right, allocator);
+         IntVector difference = ArithmeticKernels.apply(Operator.SUBTRACT, left, right, allocator);
+         IntVector product = ArithmeticKernels.apply(Operator.MULTIPLY, left, right, allocator);
+         IntVector quotient = ArithmeticKernels.apply(Operator.DIVIDE, left, right, allocator)) {
+      assertEquals("left", sum.getName());
+      assertEquals(VECTOR_LENGTH, sum.getValueCount());
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        if (i % 5 == 0 || i % 7 == 0) {
+          assertTrue(sum.isNull(i));
+          assertTrue(difference.isNull(i));
+          assertTrue(product.isNull(i));
+          assertTrue(quotient.isNull(i));
+        } else {
+          assertEquals(4 * i, sum.get(i));
+          assertEquals(2 * i, difference.get(i));
+          assertEquals(3 * i * i, product.get(i));
+          assertEquals(3, quotient.get(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIntOverflowWraps() {
+    try (IntVector left = new IntVector("left", allocator);
+         IntVector right = new IntVector("right", allocator)) {
+      left.allocateNew(1);
+      right.allocateNew(1);
+      left.set(0, Integer.MAX_VALUE);
+      right.set(0, 1);
+      left.setValueCount(1);
+      right.setValueCount(1);
+      try (IntVector sum = ArithmeticKernels.apply(Operator.ADD, left, right, allocator)) {
+        assertEquals(Integer.MIN_VALUE, sum.get(0));
+      }
+    }
+  }
+
+  @Test
+  public void testDivideByZero() {
+    try (BigIntVector left = new BigIntVector("left", allocator);
+         BigIntVector right = new BigIntVector("right", allocator)) {
+      left.allocateNew(2);
+      right.allocateNew(2);
+      left.set(0, 10);
+      left.setNull(1);
+      right.set(0, 5);
+      right.set(1, 0);
+      left.setValueCount(2);
+      right.setValueCount(2);
+
+      // a division by zero in a null slot is ignored
+      try (BigIntVector quotient = ArithmeticKernels.apply(Operator.DIVIDE, left, right, allocator)) {
+        assertEquals(2, quotient.get(0));
+        assertTrue(quotient.isNull(1));
+      }
+
+      left.set(1, 1);
+      assertThrows(ArithmeticException.class, () -> ArithmeticKernels.apply(Operator.DIVIDE, left, right, allocator));
+    }
+  }
+
+  @Test
+  public void testFloat8Arithmetic() {
+    try (Float8Vector left = new Float8Vector("left", allocator);
+         Float8Vector right = new Float8Vector("right", allocator)) {
+      left.allocateNew(3);
+      right.allocateNew(3);
+      left.set(0, 1.5);
+      left.set(1, 1.0);
+      left.setNull(2);
+      right.set(0, 0.5);
+      right.set(1, 0.0);
+      right.set(2, 1.0);
+      left.setValueCount(3);
+      right.setValueCount(3);
+
+      try (Float8Vector sum = ArithmeticKernels.apply(Operator.ADD, left, right, allocator);
+           Float8Vector quotient = ArithmeticKernels.apply(Operator.DIVIDE, left, right, allocator)) {
+        assertEquals(2.0, sum.get(0), 0);
+        assertEquals(1.0, sum.get(1), 0);
+        assertTrue(sum.isNull(2));
+        assertEquals(3.0, quotient.get(0), 0);
+        assertEquals(Double.POSITIVE_INFINITY, quotient.get(1), 0);
+        assertTrue(quotient.isNull(2));
+      }
+    }
+  }
+
+  @Test
+  public void testLengthMismatch() {
+    try (IntVector left = createIntVector("left", 1, 2);
+         IntVector right = new IntVector("right", allocator)) {
+      right.allocateNew(1);
+      right.setValueCount(1);
+      assertThrows(IllegalArgumentException.class, () -> ArithmeticKernels.apply(Operator.ADD, left, right, allocator));
+    }
+  }
+}
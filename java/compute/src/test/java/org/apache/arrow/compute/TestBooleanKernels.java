@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link BooleanKernels}.
+ */
+public class TestBooleanKernels {
+
+  private static final int VECTOR_LENGTH = 150;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private BitVector createVector(String name, int interval, int nullInterval) {
+    BitVector vector = new BitVector(name, allocator);
+    vector.allocateNew(VECTOR_LENGTH);
+    for (int i = 0; i < VECTOR_LENGTH; i++) {
+      if (i % nullInterval == 0) {
+        vector.setNull(i);
+      } else {
+        vector.set(i, i % interval == 0 ? 1 : 0);
+      }
+    }
+    vector.setValueCount(VECTOR_LENGTH);
+    return vector;
+  }
+
+  @Test
+  public void testBooleanKernels() {
+    try (BitVector left = createVector("left", 2, 11);
+         BitVector right = createVector("right", 3, 13);
+         BitVector and = BooleanKernels.and(left, right, allocator);
+         BitVector or = BooleanKernels.or(left, right, allocator);
+         BitVector xor = BooleanKernels.xor(left, right, allocator);
+         BitVector not = BooleanKernels.not(left, allocator)) {
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        boolean l = i % 2 == 0;
+        boolean r = i % 3 == 0;
+        if (i % 11 == 0) {
+          assertTrue(not.isNull(i));
+        } else {
+          assertEquals(l ? 0 : 1, not.get(i));
+        }
+        if (i % 11 == 0 || i % 13 == 0) {
+          assertTrue(and.isNull(i));
+          assertTrue(or.isNull(i));
+          assertTrue(xor.isNull(i));
+        } else {
+          assertEquals(l && r ? 1 : 0, and.get(i));
+          assertEquals(l || r ? 1 : 0, or.get(i));
+          assertEquals(l ^ r ? 1 : 0, xor.get(i));
+        }
+      }
+      assertEquals(VECTOR_LENGTH / 11 + 1, not.getNullCount());
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.FloatingPointVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CastKernels}.
+ */
+public class TestCastKernels {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  @Test
+  public void testWidening() {
+    try (SmallIntVector source = new SmallIntVector("small", allocator)) {
+      source.allocateNew(3);
+      source.set(0, -5);
+      source.setNull(1);
+      source.set(2, Short.MAX_VALUE);
+      source.setValueCount(3);
+
+      try (BigIntVector bigInts = CastKernels.toBigInt(source, allocator);
+           Float8Vector doubles = CastKernels.toFloat8(source, allocator)) {
+        assertEquals("small", bigInts.getName());
+        assertEquals(-5L, bigInts.get(0));
+        assertTrue(bigInts.isNull(1));
+        assertEquals(Short.MAX_VALUE, bigInts.get(2));
+        assertEquals(-5.0, doubles.get(0), 0);
+        assertTrue(doubles.isNull(1));
+      }
+    }
+  }
+
+  @Test
+  public void testNarrowing() {
+    try (BigIntVector source = new BigIntVector("big", allocator)) {
+      source.allocateNew(3);
+      source.set(0, Integer.MIN_VALUE);
+      source.set(1, Long.MAX_VALUE);
+      source.set(2, 7);
+      source.setValueCount(3);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toInt(source, allocator));
+
+      // out of range values in null slots are ignored
+      source.setNull(1);
+      try (IntVector ints = CastKernels.toInt(source, allocator)) {
+        assertEquals(Integer.MIN_VALUE, ints.get(0));
+        assertTrue(ints.isNull(1));
+        assertEquals(7, ints.get(2));
+      }
+    }
+  }
+
+  @Test
+  public void testNarrowingToSmallTypes() {
+    try (IntVector source = new IntVector("ints", allocator)) {
+      source.allocateNew(3);
+      source.set(0, Byte.MIN_VALUE);
+      source.set(1, Short.MAX_VALUE);
+      source.setNull(2);
+      source.setValueCount(3);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toTinyInt(source, allocator));
+
+      try (SmallIntVector smallInts = CastKernels.toSmallInt(source, allocator)) {
+        assertEquals(Byte.MIN_VALUE, smallInts.get(0));
+        assertEquals(Short.MAX_VALUE, smallInts.get(1));
+        assertTrue(smallInts.isNull(2));
+      }
+
+      source.set(1, Byte.MAX_VALUE);
+      try (TinyIntVector tinyInts = CastKernels.toTinyInt(source, allocator)) {
+        assertEquals(Byte.MIN_VALUE, tinyInts.get(0));
+        assertEquals(Byte.MAX_VALUE, tinyInts.get(1));
+        assertTrue(tinyInts.isNull(2));
+      }
+    }
+
+    try (Float4Vector source = new Float4Vector("floats", allocator)) {
+      source.allocateNew(2);
+      source.set(0, -128.9f);
+      source.set(1, 32768f);
+      source.setValueCount(2);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toSmallInt(source, allocator));
+      source.set(1, -32768.5f);
+      try (SmallIntVector smallInts = CastKernels.toSmallInt(source, allocator)) {
+        assertEquals(-128, smallInts.get(0));
+        assertEquals(Short.MIN_VALUE, smallInts.get(1));
+      }
+      assertThrows(ArithmeticException.class, () -> CastKernels.toTinyInt(source, allocator));
+    }
+  }
+
+  @Test
+  public void testFloatingPointToInteger() {
+    try (Float8Vector source = new Float8Vector("doubles", allocator)) {
+      source.allocateNew(2);
+      source.set(0, -2.75);
+      source.set(1, 1e10);
+      source.setValueCount(2);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toInt(source, allocator));
+
+      try (BigIntVector bigInts = CastKernels.toBigInt(source, allocator);
+           Float4Vector floats = CastKernels.toFloat4(source, allocator)) {
+        assertEquals(-2L, bigInts.get(0));
+        assertEquals(10000000000L, bigInts.get(1));
+        assertEquals(-2.75f, floats.get(0), 0);
+      }
+
+      source.set(1, Double.NaN);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toBigInt(source, allocator));
+      source.set(1, 0x1p63);
+      assertThrows(ArithmeticException.class, () -> CastKernels.toBigInt(source, allocator));
+    }
+  }
+
+  @Test
+  public void testAllTypePairs() throws Exception {
+    final List<BaseFixedWidthVector> sources = Arrays.asList(new TinyIntVector("tinyint", allocator),
+        new SmallIntVector("smallint", allocator), new IntVector("int", allocator),
+        new BigIntVector("bigint", allocator), new Float4Vector("float4", allocator),
+        new Float8Vector("float8", allocator));
+    try {
+      for (BaseFixedWidthVector source : sources) {
+        source.allocateNew(3);
+        source.setNull(1);
+        if (source instanceof BaseIntVector) {
+          ((BaseIntVector) source).setWithPossibleTruncate(0, -3);
+          ((BaseIntVector) source).setWithPossibleTruncate(2, 100);
+        } else {
+          ((FloatingPointVector) source).setWithPossibleTruncate(0, -3);
+          ((FloatingPointVector) source).setWithPossibleTruncate(2, 100);
+        }
+        source.setValueCount(3);
+        final List<BaseFixedWidthVector> results = Arrays.asList(CastKernels.toTinyInt(source, allocator),
+            CastKernels.toSmallInt(source, allocator), CastKernels.toInt(source, allocator),
+            CastKernels.toBigInt(source, allocator), CastKernels.toFloat4(source, allocator),
+            CastKernels.toFloat8(source, allocator));
+        try {
+          for (BaseFixedWidthVector result : results) {
+            final String message = source.getName() + " to " + result.getMinorType();
+            assertEquals(message, -3.0, ((Number) result.getObject(0)).doubleValue(), 0);
+            assertTrue(message, result.isNull(1));
+            assertEquals(message, 100.0, ((Number) result.getObject(2)).doubleValue(), 0);
+          }
+        } finally {
+          AutoCloseables.close(results);
+        }
+      }
+    } finally {
+      sources.forEach(BaseFixedWidthVector::close);
+    }
+  }
+
+  @Test
+  public void testUnsupportedType() {
+    try (DateDayVector source = new DateDayVector("dates", allocator)) {
+      source.allocateNew(1);
+      source.set(0, 1);
+      source.setValueCount(1);
+      assertThrows(IllegalArgumentException.class, () -> CastKernels.toFloat8(source, allocator));
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.arrow.compute.ComparisonKernels.Operator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ComparisonKernels}.
+ */
+public class TestComparisonKernels {
+
+  private static final int VECTOR_LENGTH = 101;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private static boolean expected(Operator operator, int left, int right) {
+    switch (operator) {
+      case EQUAL:
+        return left == right;
+      case NOT_EQUAL:
+        return left != right;
+      case LESS_THAN:
+        return left < right;
+      case LESS_THAN_OR_EQUAL:
+        return left <= right;
+      case GREATER_THAN:
+        return left > right;
+      default:
+        return left >= right;
+    }
+  }
+
+  @Test
+  public void testIntComparison() {
+    try (IntVector left = new IntVector("left", allocator);
+         IntVector right = new IntVector("right", allocator)) {
+      left.allocateNew(VECTOR_LENGTH);
+      right.allocateNew(VECTOR_LENGTH);
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        left.set(i, i % 3);
+        if (i % 10 == 0) {
+          right.setNull(i);
+        } else {
+          right.set(i, 1);
+        }
+      }
+      left.setValueCount(VECTOR_LENGTH);
+      right.setValueCount(VECTOR_LENGTH);
+
+      for (Operator operator : Operator.values()) {
+        try (BitVector result = ComparisonKernels.compare(operator, left, right, allocator)) {
+          assertEquals(VECTOR_LENGTH, result.getValueCount());
+          for (int i = 0; i < VECTOR_LENGTH; i++) {
+            if (i % 10 == 0) {
+              assertTrue(result.isNull(i));
+            } else {
+              assertEquals(operator + " at " + i, expected(operator, i % 3, 1) ? 1 : 0, result.get(i));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNaNComparison() {
+    try (Float8Vector left = new Float8Vector("left", allocator);
+         Float8Vector right = new Float8Vector("right", allocator)) {
+      left.allocateNew(1);
+      right.allocateNew(1);
+      left.set(0, Double.NaN);
+      right.set(0, 1.0);
+      left.setValueCount(1);
+      right.setValueCount(1);
+
+      for (Operator operator : Operator.values()) {
+        try (BitVector result = ComparisonKernels.compare(operator, left, right, allocator)) {
+          assertEquals(operator.toString(), operator == Operator.NOT_EQUAL ? 1 : 0, result.get(0));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link DoubleAggregateState}.
+ */
+public class TestDoubleAggregateState {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  @Test
+  public void testAggregateWithNulls() {
+    try (Float8Vector vector = new Float8Vector("doubles", allocator)) {
+      vector.allocateNew(300);
+      long expectedCount = 0;
+      double expectedSum = 0;
+      for (int i = 0; i < 300; i++) {
+        if ((i >= 64 && i < 128) || i % 5 == 0) {
+          vector.setNull(i);
+        } else {
+          vector.set(i, i * 0.5);
+          expectedCount++;
+          expectedSum += i * 0.5;
+        }
+      }
+      vector.set(131, Double.NaN);
+      expectedSum -= 65.5;
+      vector.setValueCount(300);
+
+      DoubleAggregateState state = new DoubleAggregateState().update(vector);
+      assertEquals(expectedCount, state.getCount());
+      // NaN values are ignored by the min and the max, but not by the sum
+      assertEquals(Double.NaN, state.getSum(), 0);
+      assertEquals(0.5, state.getMin(), 0);
+      assertEquals(149.5, state.getMax(), 0);
+
+      vector.set(131, 65.5);
+      state = new DoubleAggregateState().update(vector);
+      assertEquals(expectedSum + 65.5, state.getSum(), 0);
+      assertEquals((expectedSum + 65.5) / expectedCount, state.getMean(), 0);
+    }
+  }
+
+  @Test
+  public void testPairwiseSummationAccuracy() {
+    final int length = 1 << 16;
+    try (Float8Vector vector = new Float8Vector("doubles", allocator)) {
+      vector.allocateNew(length);
+      for (int i = 0; i < length; i++) {
+        vector.set(i, 0.1);
+      }
+      vector.setValueCount(length);
+
+      double naiveSum = 0;
+      for (int i = 0; i < length; i++) {
+        naiveSum += 0.1;
+      }
+      final double exact = length / 10.0;
+      DoubleAggregateState state = new DoubleAggregateState().update(vector);
+      assertEquals(exact, state.getSum(), 1e-11);
+      // the naive running sum drifts much further
+      assertTrue(Math.abs(naiveSum - exact) > 1e-9);
+    }
+  }
+
+  @Test
+  public void testMergeStates() {
+    try (Float4Vector first = new Float4Vector("first", allocator);
+         Float8Vector second = new Float8Vector("second", allocator)) {
+      first.allocateNew(2);
+      first.set(0, 1.5f);
+      first.setNull(1);
+      first.setValueCount(2);
+      second.allocateNew(2);
+      second.set(0, -2.0);
+      second.set(1, 4.5);
+      second.setValueCount(2);
+
+      DoubleAggregateState streamed = new DoubleAggregateState().update(first).update(second);
+      DoubleAggregateState merged = new DoubleAggregateState().update(first)
+          .merge(new DoubleAggregateState().update(second));
+      for (DoubleAggregateState state : new DoubleAggregateState[] {streamed, merged}) {
+        assertEquals(3, state.getCount());
+        assertEquals(4.0, state.getSum(), 0);
+        assertEquals(-2.0, state.getMin(), 0);
+        assertEquals(4.5, state.getMax(), 0);
+        assertEquals(4.0 / 3, state.getMean(), 1e-12);
+      }
+    }
+  }
+
+  private Float8Vector randomVector(Random random, int length) {
+    Float8Vector vector = new Float8Vector("doubles", allocator);
+    vector.allocateNew(length);
+    for (int i = 0; i < length; i++) {
+      vector.set(i, random.nextDouble() * Math.pow(10, random.nextInt(8)));
+    }
+    vector.setValueCount(length);
+    return vector;
+  }
+
+  @Test
+  public void testMergeKeepsPairwiseSummation() {
+    final int length = 64 * PairwiseSum.BLOCK_SIZE;
+    final Random random = new Random(0);
+    try (Float8Vector first = randomVector(random, length);
+         Float8Vector second = randomVector(random, length);
+         Float8Vector third = randomVector(random, length);
+         Float8Vector fourth = randomVector(random, length)) {
+      DoubleAggregateState streamed = new DoubleAggregateState().update(first).update(second).update(third)
+          .update(fourth);
+      DoubleAggregateState merged = new DoubleAggregateState().update(first)
+          .merge(new DoubleAggregateState().update(second))
+          .merge(new DoubleAggregateState().update(third))
+          .merge(new DoubleAggregateState().update(fourth));
+      // the partial sums are merged level by level, so that the summation tree is the same
+      assertEquals(streamed.getSum(), merged.getSum(), 0);
+      assertEquals(streamed.update(first).getSum(), merged.update(first).getSum(), 0);
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    DoubleAggregateState state = new DoubleAggregateState();
+    assertEquals(0, state.getCount());
+    assertEquals(0, state.getSum(), 0);
+    assertNull(state.getMin());
+    assertNull(state.getMax());
+    assertNull(state.getMean());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.IntVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link LongAggregateState}.
+ */
+public class TestLongAggregateState {
+
+  private static final int VECTOR_LENGTH = 1000;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  @Test
+  public void testAggregateWithNulls() {
+    try (BigIntVector vector = new BigIntVector("longs", allocator)) {
+      vector.allocateNew(VECTOR_LENGTH);
+      long expectedSum = 0;
+      long expectedCount = 0;
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        // whole null words, full words and mixed words
+        if ((i >= 64 && i < 128) || (i >= 256 && i % 3 == 0)) {
+          vector.setNull(i);
+        } else {
+          vector.set(i, i - 500);
+          expectedSum += i - 500;
+          expectedCount++;
+        }
+      }
+      vector.setValueCount(VECTOR_LENGTH);
+
+      LongAggregateState state = new LongAggregateState().update(vector);
+      assertEquals(expectedCount, state.getCount());
+      assertEquals(expectedSum, state.getSum());
+      assertEquals(Long.valueOf(-500), state.getMin());
+      assertEquals(Long.valueOf(498), state.getMax());
+      assertEquals((double) expectedSum / expectedCount, state.getMean(), 0);
+    }
+  }
+
+  @Test
+  public void testAggregateWithoutNulls() {
+    try (IntVector vector = new IntVector("ints", allocator)) {
+      vector.allocateNew(VECTOR_LENGTH);
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        vector.set(i, Integer.MAX_VALUE - i);
+      }
+      vector.setValueCount(VECTOR_LENGTH);
+
+      // the sum of ints does not overflow
+      LongAggregateState state = new LongAggregateState().update(vector);
+      assertEquals(VECTOR_LENGTH, state.getCount());
+      assertEquals((long) Integer.MAX_VALUE * VECTOR_LENGTH - VECTOR_LENGTH * (VECTOR_LENGTH - 1) / 2, state.getSum());
+      assertEquals(Long.valueOf(Integer.MAX_VALUE - VECTOR_LENGTH + 1), state.getMin());
+      assertEquals(Long.valueOf(Integer.MAX_VALUE), state.getMax());
+    }
+  }
+
+  @Test
+  public void testMergeStates() {
+    try (BigIntVector first = new BigIntVector("first", allocator);
+         BigIntVector second = new BigIntVector("second", allocator)) {
+      first.allocateNew(3);
+      first.set(0, 5);
+      first.setNull(1);
+      first.set(2, 7);
+      first.setValueCount(3);
+      second.allocateNew(2);
+      second.set(0, -1);
+      second.set(1, 20);
+      second.setValueCount(2);
+
+      LongAggregateState streamed = new LongAggregateState().update(first).update(second);
+      LongAggregateState merged = new LongAggregateState().update(first)
+          .merge(new LongAggregateState().update(second));
+      for (LongAggregateState state : new LongAggregateState[] {streamed, merged}) {
+        assertEquals(4, state.getCount());
+        assertEquals(31, state.getSum());
+        assertEquals(Long.valueOf(-1), state.getMin());
+        assertEquals(Long.valueOf(20), state.getMax());
+        assertEquals(7.75, state.getMean(), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    try (BigIntVector vector = new BigIntVector("longs", allocator)) {
+      vector.allocateNew(2);
+      vector.setNull(0);
+      vector.setNull(1);
+      vector.setValueCount(2);
+
+      LongAggregateState state = new LongAggregateState().update(vector);
+      assertEquals(0, state.getCount());
+      assertEquals(0, state.getSum());
+      assertNull(state.getMin());
+      assertNull(state.getMax());
+      assertNull(state.getMean());
+    }
+  }
+}
@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link HashAggregator} and {@link HashGroupBy}.
+ */
+public class TestHashAggregator {
+
+  private static final Schema SCHEMA = new Schema(Arrays.asList(
+      Field.nullable("name", ArrowType.Utf8.INSTANCE),
+      Field.nullable("id", new ArrowType.Int(32, true)),
+      Field.nullable("value", new ArrowType.Int(32, true)),
+      Field.nullable("price", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE))));
+
+  private static final List<AggregateSpec> AGGREGATES = Arrays.asList(
+      AggregateSpec.countAll("rows"),
+      AggregateSpec.of(AggregateFunction.COUNT, "value", "values"),
+      AggregateSpec.of(AggregateFunction.SUM, "value", "sum"),
+      AggregateSpec.of(AggregateFunction.MIN, "value", "min"),
+      AggregateSpec.of(AggregateFunction.MAX, "price", "max_price"),
+      AggregateSpec.of(AggregateFunction.MEAN, "value", "mean"));
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  /**
+   * Fills a batch with the rows [start, start + rowCount): the name is null for the multiples of 11,
+   * the value is null for the multiples of 5, and the price is the row number.
+   */
+  private static void fill(VectorSchemaRoot root, int start, int rowCount) {
+    root.allocateNew();
+    final VarCharVector names = (VarCharVector) root.getVector("name");
+    final IntVector ids = (IntVector) root.getVector("id");
+    final IntVector values = (IntVector) root.getVector("value");
+    final Float8Vector prices = (Float8Vector) root.getVector("price");
+    for (int i = 0; i < rowCount; i++) {
+      final int row = start + i;
+      if (row % 11 == 0) {
+        names.setNull(i);
+      } else {
+        names.setSafe(i, name(row).getBytes(StandardCharsets.UTF_8));
+      }
+      ids.setSafe(i, row % 3);
+      if (row % 5 == 0) {
+        values.setNull(i);
+      } else {
+        values.setSafe(i, row);
+      }
+      prices.setSafe(i, row);
+    }
+    root.setRowCount(rowCount);
+  }
+
+  private static String name(int row) {
+    return row % 11 == 0 ? null : "name" + (row % 4);
+  }
+
+  /**
+   * The expected aggregates of a group of rows.
+   */
+  private static final class Expected {
+    long rows;
+    long values;
+    long sum;
+    Integer min;
+    double maxPrice = Double.NEGATIVE_INFINITY;
+
+    void add(int row) {
+      rows++;
+      maxPrice = Math.max(maxPrice, row);
+      if (row % 5 != 0) {
+        values++;
+        sum += row;
+        min = min == null ? row : Math.min(min, row);
+      }
+    }
+  }
+
+  private static Map<List<Object>, Expected> expected(int rowCount) {
+    final Map<List<Object>, Expected> expected = new HashMap<>();
+    for (int row = 0; row < rowCount; row++) {
+      expected.computeIfAbsent(Arrays.asList(name(row), row % 3), k -> new Expected()).add(row);
+    }
+    return expected;
+  }
+
+  private static void check(Map<List<Object>, Expected> expected, List<VectorSchemaRoot> results) {
+    int groupCount = 0;
+    for (VectorSchemaRoot result : results) {
+      for (int i = 0; i < result.getRowCount(); i++) {
+        final Object name = result.getVector("name").getObject(i);
+        final List<Object> key = Arrays.asList(name == null ? null : name.toString(),
+            result.getVector("id").getObject(i));
+        final Expected group = expected.get(key);
+        assertEquals(key.toString(), group.rows, ((BigIntVector) result.getVector("rows")).get(i));
+        assertEquals(group.values, ((BigIntVector) result.getVector("values")).get(i));
+        assertEquals(group.maxPrice, ((Float8Vector) result.getVector("max_price")).get(i), 0);
+        if (group.values == 0) {
+          assertNull(result.getVector("sum").getObject(i));
+          assertNull(result.getVector("min").getObject(i));
+          assertNull(result.getVector("mean").getObject(i));
+        } else {
+          assertEquals(group.sum, ((BigIntVector) result.getVector("sum")).get(i));
+          assertEquals((long) group.min, ((BigIntVector) result.getVector("min")).get(i));
+          assertEquals((double) group.sum / group.values, ((Float8Vector) result.getVector("mean")).get(i), 1e-9);
+        }
+        groupCount++;
+      }
+    }
+    assertEquals(expected.size(), groupCount);
+  }
+
+  @Test
+  public void testAggregateBatches() {
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         HashAggregator aggregator = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES,
+             allocator)) {
+      for (int start = 0; start < 300; start += 100) {
+        fill(batch, start, 100);
+        aggregator.consume(batch);
+      }
+      assertEquals(expected(300).size(), aggregator.getGroupCount());
+      try (VectorSchemaRoot result = aggregator.getResult()) {
+        assertEquals(aggregator.getOutputSchema(), result.getSchema());
+        check(expected(300), Collections.singletonList(result));
+      }
+    }
+  }
+
+  @Test
+  public void testOutputSchema() {
+    try (HashAggregator aggregator = new HashAggregator(SCHEMA, Collections.singletonList("id"), AGGREGATES,
+        allocator)) {
+      final List<Field> fields = aggregator.getOutputSchema().getFields();
+      assertEquals(SCHEMA.findField("id"), fields.get(0));
+      assertEquals(new ArrowType.Int(64, true), fields.get(1).getType());
+      assertEquals(false, fields.get(1).isNullable());
+      assertEquals(new ArrowType.Int(64, true), fields.get(3).getType());
+      assertEquals(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE), fields.get(5).getType());
+      assertEquals("mean", fields.get(6).getName());
+    }
+  }
+
+  @Test
+  public void testNoKeys() {
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         HashAggregator aggregator = new HashAggregator(SCHEMA, Collections.emptyList(), AGGREGATES, allocator)) {
+      fill(batch, 0, 100);
+      aggregator.consume(batch);
+      try (VectorSchemaRoot result = aggregator.getResult()) {
+        assertEquals(1, result.getRowCount());
+        assertEquals(100L, ((BigIntVector) result.getVector("rows")).get(0));
+        assertEquals(80L, ((BigIntVector) result.getVector("values")).get(0));
+        assertEquals(99.0, ((Float8Vector) result.getVector("max_price")).get(0), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         HashAggregator first = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES, allocator);
+         HashAggregator second = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES, allocator)) {
+      fill(batch, 0, 150);
+      first.consume(batch);
+      fill(batch, 150, 150);
+      second.consume(batch);
+      first.merge(second);
+      try (VectorSchemaRoot result = first.getResult()) {
+        check(expected(300), Collections.singletonList(result));
+      }
+    }
+  }
+
+  @Test
+  public void testMergeKeepsFirstRowOrder() {
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         HashAggregator all = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES, allocator);
+         HashAggregator first = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES, allocator);
+         HashAggregator second = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES, allocator)) {
+      fill(batch, 0, 20);
+      all.consume(batch);
+      first.consume(batch);
+      fill(batch, 20, 280);
+      all.consume(batch);
+      second.consume(batch);
+      first.merge(second);
+      try (VectorSchemaRoot expected = all.getResult();
+           VectorSchemaRoot result = first.getResult()) {
+        assertEquals(expected.getRowCount(), result.getRowCount());
+        for (int i = 0; i < result.getRowCount(); i++) {
+          assertEquals(expected.getVector("name").getObject(i), result.getVector("name").getObject(i));
+          assertEquals(expected.getVector("id").getObject(i), result.getVector("id").getObject(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDoubleSums() {
+    final Schema schema = new Schema(Arrays.asList(
+        Field.nullable("id", new ArrowType.Int(32, true)),
+        Field.nullable("x", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE))));
+    final List<AggregateSpec> aggregates = Arrays.asList(
+        AggregateSpec.of(AggregateFunction.SUM, "x", "sum"),
+        AggregateSpec.of(AggregateFunction.MEAN, "x", "mean"));
+    final int rowCount = 10_000;
+    final BigDecimal[] exactSums = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+    final long[] counts = new long[3];
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(schema, allocator);
+         HashAggregator first = new HashAggregator(schema, Collections.singletonList("id"), aggregates, allocator);
+         HashAggregator second = new HashAggregator(schema, Collections.singletonList("id"), aggregates,
+             allocator)) {
+      final IntVector ids = (IntVector) batch.getVector("id");
+      final Float8Vector xs = (Float8Vector) batch.getVector("x");
+      batch.allocateNew();
+      for (int i = 0; i < rowCount; i++) {
+        ids.setSafe(i, i % 3);
+        // whole words of nulls, and nulls within words
+        if ((i / 64) % 4 == 1 || i % 13 == 0) {
+          xs.setNull(i);
+        } else {
+          final double x = 0.1 * (i % 7) + 1e6;
+          xs.setSafe(i, x);
+          exactSums[i % 3] = exactSums[i % 3].add(new BigDecimal(x));
+          counts[i % 3]++;
+        }
+      }
+      batch.setRowCount(rowCount);
+      first.consume(batch);
+      second.consume(batch);
+      second.merge(first);
+      try (VectorSchemaRoot result = first.getResult();
+           VectorSchemaRoot merged = second.getResult()) {
+        for (int i = 0; i < 3; i++) {
+          final int id = (int) result.getVector("id").getObject(i);
+          final double exactSum = exactSums[id].doubleValue();
+          assertEquals(exactSum, ((Float8Vector) result.getVector("sum")).get(i), exactSum * 1e-15);
+          assertEquals(exactSum / counts[id], ((Float8Vector) result.getVector("mean")).get(i), 1e-9);
+          assertEquals(2 * exactSum, ((Float8Vector) merged.getVector("sum")).get(i), exactSum * 2e-15);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testResultBatches() {
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         HashAggregator aggregator = new HashAggregator(SCHEMA, Arrays.asList("name", "id"), AGGREGATES,
+             allocator)) {
+      fill(batch, 0, 300);
+      aggregator.consume(batch);
+      final List<VectorSchemaRoot> results = aggregator.getResults(4);
+      try {
+        assertEquals((aggregator.getGroupCount() + 3) / 4, results.size());
+        check(expected(300), results);
+      } finally {
+        results.forEach(VectorSchemaRoot::close);
+      }
+    }
+  }
+
+  private byte[] write(int start, int rowCount, int batchSize) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+         ArrowStreamWriter writer = new ArrowStreamWriter(batch, null, out)) {
+      writer.start();
+      for (int i = start; i < start + rowCount; i += batchSize) {
+        fill(batch, i, batchSize);
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testAggregateReader() throws IOException {
+    try (ArrowReader reader = new ArrowStreamReader(new ByteArrayInputStream(write(0, 300, 50)), allocator);
+         VectorSchemaRoot result = HashGroupBy.aggregate(reader, Arrays.asList("name", "id"), AGGREGATES,
+             allocator)) {
+      check(expected(300), Collections.singletonList(result));
+    }
+  }
+
+  @Test
+  public void testAggregateInParallel() throws Exception {
+    final List<ArrowReader> readers = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int start = 0; start < 400; start += 100) {
+        readers.add(new ArrowStreamReader(new ByteArrayInputStream(write(start, 100, 25)), allocator));
+      }
+      try (VectorSchemaRoot result = HashGroupBy.aggregate(readers, Arrays.asList("name", "id"), AGGREGATES,
+          allocator, executor)) {
+        check(expected(400), Collections.singletonList(result));
+      }
+    } finally {
+      executor.shutdown();
+      for (ArrowReader reader : readers) {
+        reader.close();
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidAggregates() {
+    assertThrows(IllegalArgumentException.class, () -> AggregateSpec.of(AggregateFunction.SUM, null, "sum"));
+    assertThrows(IllegalArgumentException.class, () ->
+        new HashAggregator(SCHEMA, Collections.singletonList("missing"), AGGREGATES, allocator));
+    assertThrows(UnsupportedOperationException.class, () -> new HashAggregator(SCHEMA,
+        Collections.singletonList("id"), Collections.singletonList(AggregateSpec.of(AggregateFunction.SUM,
+            "name", "sum")), allocator));
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link HashJoin}.
+ */
+public class TestHashJoin {
+
+  private static final Schema BUILD_SCHEMA = new Schema(Arrays.asList(
+      Field.nullable("key", new ArrowType.Int(32, true)),
+      new Field("label", FieldType.notNullable(ArrowType.Utf8.INSTANCE), null)));
+
+  private static final Schema PROBE_SCHEMA = new Schema(Arrays.asList(
+      Field.nullable("id", new ArrowType.Int(32, true)),
+      Field.nullable("ref", new ArrowType.Int(32, true))));
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  /**
+   * Creates a build batch with two rows for the even keys in [0, 2 * keyCount), labeled "k-0" and "k-1",
+   * and a row with a null key.
+   */
+  private VectorSchemaRoot createBuild(int keyCount) {
+    final VectorSchemaRoot root = VectorSchemaRoot.create(BUILD_SCHEMA, allocator);
+    root.allocateNew();
+    final IntVector keys = (IntVector) root.getVector("key");
+    final VarCharVector labels = (VarCharVector) root.getVector("label");
+    int row = 0;
+    for (int copy = 0; copy < 2; copy++) {
+      for (int i = 0; i < keyCount; i++) {
+        keys.setSafe(row, 2 * i);
+        labels.setSafe(row++, ((2 * i) + "-" + copy).getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    keys.setNull(row);
+    labels.setSafe(row++, "null".getBytes(StandardCharsets.UTF_8));
+    root.setRowCount(row);
+    return root;
+  }
+
+  /**
+   * Creates a probe batch referencing the keys [start, start + rowCount), with a null reference for the
+   * multiples of 7.
+   */
+  private VectorSchemaRoot createProbe(int start, int rowCount) {
+    final VectorSchemaRoot root = VectorSchemaRoot.create(PROBE_SCHEMA, allocator);
+    root.allocateNew();
+    final IntVector ids = (IntVector) root.getVector("id");
+    final IntVector refs = (IntVector) root.getVector("ref");
+    for (int i = 0; i < rowCount; i++) {
+      ids.setSafe(i, start + i);
+      if ((start + i) % 7 == 0) {
+        refs.setNull(i);
+      } else {
+        refs.setSafe(i, start + i);
+      }
+    }
+    root.setRowCount(rowCount);
+    return root;
+  }
+
+  private static boolean matches(int id, int keyCount) {
+    return id % 7 != 0 && id % 2 == 0 && id < 2 * keyCount;
+  }
+
+  private HashJoin createJoin(VectorSchemaRoot build, JoinType joinType) {
+    return new HashJoin(build, Collections.singletonList("key"), PROBE_SCHEMA, Collections.singletonList("ref"),
+        joinType, allocator);
+  }
+
+  @Test
+  public void testInnerJoin() {
+    try (VectorSchemaRoot build = createBuild(10);
+         VectorSchemaRoot probe = createProbe(0, 30);
+         HashJoin join = createJoin(build, JoinType.INNER);
+         VectorSchemaRoot result = join.probe(probe)) {
+      assertEquals(Arrays.asList("id", "ref", "label"), names(result.getSchema()));
+      assertEquals(result.getSchema(), join.getOutputSchema());
+      int row = 0;
+      for (int id = 0; id < 30; id++) {
+        if (matches(id, 10)) {
+          for (int copy = 0; copy < 2; copy++) {
+            assertEquals(id, result.getVector("id").getObject(row));
+            assertEquals(id, result.getVector("ref").getObject(row));
+            assertEquals(id + "-" + copy, result.getVector("label").getObject(row).toString());
+            row++;
+          }
+        }
+      }
+      assertEquals(row, result.getRowCount());
+    }
+  }
+
+  @Test
+  public void testLeftJoin() {
+    try (VectorSchemaRoot build = createBuild(10);
+         VectorSchemaRoot probe = createProbe(0, 30);
+         HashJoin join = createJoin(build, JoinType.LEFT);
+         VectorSchemaRoot result = join.probe(probe)) {
+      assertTrue(result.getSchema().findField("label").isNullable());
+      int row = 0;
+      for (int id = 0; id < 30; id++) {
+        final int copies = matches(id, 10) ? 2 : 1;
+        for (int copy = 0; copy < copies; copy++) {
+          assertEquals(id, result.getVector("id").getObject(row));
+          if (matches(id, 10)) {
+            assertEquals(id + "-" + copy, result.getVector("label").getObject(row).toString());
+          } else {
+            assertTrue(result.getVector("label").isNull(row));
+          }
+          row++;
+        }
+      }
+      assertEquals(row, result.getRowCount());
+    }
+  }
+
+  @Test
+  public void testSemiAndAntiJoins() {
+    try (VectorSchemaRoot build = createBuild(10);
+         VectorSchemaRoot probe = createProbe(0, 30);
+         HashJoin semiJoin = createJoin(build, JoinType.SEMI);
+         HashJoin antiJoin = createJoin(build, JoinType.ANTI);
+         VectorSchemaRoot semi = semiJoin.probe(probe);
+         VectorSchemaRoot anti = antiJoin.probe(probe)) {
+      assertEquals(PROBE_SCHEMA, semi.getSchema());
+      assertEquals(PROBE_SCHEMA, anti.getSchema());
+      int semiRow = 0;
+      int antiRow = 0;
+      for (int id = 0; id < 30; id++) {
+        if (matches(id, 10)) {
+          assertEquals(id, semi.getVector("id").getObject(semiRow++));
+        } else {
+          assertEquals(id, anti.getVector("id").getObject(antiRow++));
+        }
+      }
+      assertEquals(semiRow, semi.getRowCount());
+      assertEquals(antiRow, anti.getRowCount());
+    }
+  }
+
+  @Test
+  public void testParallelBuildAndProbe() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<VectorSchemaRoot> probes = new ArrayList<>();
+    try (VectorSchemaRoot build = createBuild(500);
+         HashJoin join = HashJoin.create(build, Collections.singletonList("key"), PROBE_SCHEMA,
+             Collections.singletonList("ref"), JoinType.INNER, allocator, 4, executor)) {
+      for (int start = 0; start < 1200; start += 300) {
+        probes.add(createProbe(start, 300));
+      }
+      final List<VectorSchemaRoot> results = join.probe(probes, executor);
+      try {
+        for (int i = 0; i < probes.size(); i++) {
+          final VectorSchemaRoot result = results.get(i);
+          int row = 0;
+          for (int id = i * 300; id < (i + 1) * 300; id++) {
+            if (matches(id, 500)) {
+              assertEquals(id, result.getVector("id").getObject(row));
+              assertEquals(id + "-0", result.getVector("label").getObject(row++).toString());
+              assertEquals(id + "-1", result.getVector("label").getObject(row++).toString());
+            }
+          }
+          assertEquals(row, result.getRowCount());
+        }
+      } finally {
+        results.forEach(VectorSchemaRoot::close);
+      }
+    } finally {
+      probes.forEach(VectorSchemaRoot::close);
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInvalidKeys() {
+    try (VectorSchemaRoot build = createBuild(1)) {
+      assertThrows(IllegalArgumentException.class, () -> new HashJoin(build, Collections.singletonList("label"),
+          PROBE_SCHEMA, Collections.singletonList("ref"), JoinType.INNER, allocator));
+      assertThrows(IllegalArgumentException.class, () -> new HashJoin(build, Collections.singletonList("key"),
+          PROBE_SCHEMA, Collections.singletonList("missing"), JoinType.INNER, allocator));
+      assertThrows(IllegalArgumentException.class, () -> HashJoin.create(build, Collections.singletonList("key"),
+          PROBE_SCHEMA, Collections.singletonList("ref"), JoinType.INNER, allocator, 3, null));
+    }
+  }
+
+  private static List<String> names(Schema schema) {
+    final List<String> names = new ArrayList<>();
+    for (Field field : schema.getFields()) {
+      names.add(field.getName());
+    }
+    return names;
+  }
+}
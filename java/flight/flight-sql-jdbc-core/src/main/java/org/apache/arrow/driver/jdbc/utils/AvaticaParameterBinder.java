@@ -150,6 +150,21 @@ public class AvaticaParameterBinder {
       return new LargeListAvaticaParameterConverter(type).bindParameter(vector, typedValue, index);
     }
 
+    @Override
+    public Boolean visit(ArrowType.ListView type) {
+      throw new UnsupportedOperationException("Binding parameters of type " + type + " is not supported");
+    }
+
+    @Override
+    public Boolean visit(ArrowType.LargeListView type) {
+      throw new UnsupportedOperationException("Binding parameters of type " + type + " is not supported");
+    }
+
+    @Override
+    public Boolean visit(ArrowType.RunEndEncoded type) {
+      throw new UnsupportedOperationException("Binding parameters of type " + type + " is not supported");
+    }
+
     @Override
     public Boolean visit(ArrowType.FixedSizeList type) {
       return new FixedSizeListAvaticaParameterConverter(type).bindParameter(vector, typedValue, index);
@@ -195,6 +210,16 @@ public class AvaticaParameterBinder {
       return new LargeBinaryAvaticaParameterConverter(type).bindParameter(vector, typedValue, index);
     }
 
+    @Override
+    public Boolean visit(ArrowType.Utf8View type) {
+      throw new UnsupportedOperationException("Binding parameters of type " + type + " is not supported");
+    }
+
+    @Override
+    public Boolean visit(ArrowType.BinaryView type) {
+      throw new UnsupportedOperationException("Binding parameters of type " + type + " is not supported");
+    }
+
     @Override
     public Boolean visit(ArrowType.FixedSizeBinary type) {
       return new FixedSizeBinaryAvaticaParameterConverter(type).bindParameter(vector, typedValue, index);
@@ -177,6 +177,21 @@ public final class ConvertUtils {
 
     }
 
+    @Override
+    public AvaticaParameter visit(ArrowType.ListView type) {
+      throw new UnsupportedOperationException("Parameters of type " + type + " are not supported");
+    }
+
+    @Override
+    public AvaticaParameter visit(ArrowType.LargeListView type) {
+      throw new UnsupportedOperationException("Parameters of type " + type + " are not supported");
+    }
+
+    @Override
+    public AvaticaParameter visit(ArrowType.RunEndEncoded type) {
+      throw new UnsupportedOperationException("Parameters of type " + type + " are not supported");
+    }
+
     @Override
     public AvaticaParameter visit(ArrowType.FixedSizeList type) {
       return new FixedSizeListAvaticaParameterConverter(type).createParameter(field);
@@ -224,6 +239,16 @@ public final class ConvertUtils {
       return new LargeBinaryAvaticaParameterConverter(type).createParameter(field);
     }
 
+    @Override
+    public AvaticaParameter visit(ArrowType.Utf8View type) {
+      throw new UnsupportedOperationException("Parameters of type " + type + " are not supported");
+    }
+
+    @Override
+    public AvaticaParameter visit(ArrowType.BinaryView type) {
+      throw new UnsupportedOperationException("Parameters of type " + type + " are not supported");
+    }
+
     @Override
     public AvaticaParameter visit(ArrowType.FixedSizeBinary type) {
       return new FixedSizeBinaryAvaticaParameterConverter(type).createParameter(field);
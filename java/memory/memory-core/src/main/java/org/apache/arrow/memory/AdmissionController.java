@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * Memory-pressure-aware admission control for allocations.
+ *
+ * <p>An AdmissionController is an {@link AllocationListener}: it must be configured as the listener of the
+ * allocators it controls (typically the {@link RootAllocator}; child allocators inherit their parent's
+ * listener by default). It then provides two facilities:
+ * <ul>
+ *   <li>{@link MemoryReclaimer}s can be registered. When an allocation fails because of a memory limit, they
+ *   are invoked in ascending order until enough memory was released, after which the allocation is retried.
+ *   This applies to all allocations, not only the ones made through this class.</li>
+ *   <li>{@link #allocate(BufferAllocator, long, int, long, TimeUnit)} allocates a buffer, or, if there is not
+ *   enough headroom even after reclaiming memory, waits asynchronously until enough memory has been released.
+ *   Waiting requests are served by decreasing priority, then in arrival order. A request that cannot be served
+ *   within its timeout fails with an {@link OutOfMemoryException}.</li>
+ * </ul>
+ *
+ * <p>Waiting requests are served from the controller's executor, never from the thread releasing memory.
+ * Requests are served strictly in order: a large request at the head of the queue holds back smaller, lower
+ * priority ones until it can be satisfied or times out.
+ *
+ * <p>Other listener callbacks can be forwarded to a delegate listener.
+ */
+@ThreadSafe
+public class AdmissionController implements AllocationListener, AutoCloseable {
+
+  private final AllocationListener delegate;
+  private final ScheduledExecutorService executor;
+  private final boolean ownsExecutor;
+
+  // guarded by this
+  private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+  private final AtomicInteger waiterCount = new AtomicInteger();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private final AtomicLong sequence = new AtomicLong();
+
+  private volatile RegisteredReclaimer[] reclaimers = new RegisteredReclaimer[0];
+  private volatile boolean closed = false;
+
+  /**
+   * Create an admission controller with its own (daemon) thread to serve waiting requests.
+   */
+  public AdmissionController() {
+    this(AllocationListener.NOOP, createExecutor(), true);
+  }
+
+  /**
+   * Create an admission controller.
+   *
+   * @param delegate the listener to forward all callbacks to.
+   * @param executor the executor used to serve waiting requests and to expire them. It is not shut down
+   *                 when this controller is closed.
+   */
+  public AdmissionController(AllocationListener delegate, ScheduledExecutorService executor) {
+    this(delegate, executor, false);
+  }
+
+  private AdmissionController(AllocationListener delegate, ScheduledExecutorService executor,
+      boolean ownsExecutor) {
+    this.delegate = Preconditions.checkNotNull(delegate, "delegate must not be null");
+    this.executor = Preconditions.checkNotNull(executor, "executor must not be null");
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  private static ScheduledExecutorService createExecutor() {
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+      final Thread thread = new Thread(r, "arrow-admission-controller");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  /**
+   * Register a reclaimer. Reclaimers with a lower order are invoked first; reclaimers with the same order
+   * are invoked in registration order.
+   *
+   * @param order the order of the reclaimer.
+   * @param reclaimer the reclaimer.
+   */
+  public synchronized void registerReclaimer(int order, MemoryReclaimer reclaimer) {
+    Preconditions.checkNotNull(reclaimer, "reclaimer must not be null");
+    final RegisteredReclaimer[] current = reclaimers;
+    final RegisteredReclaimer[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = new RegisteredReclaimer(order, sequence.getAndIncrement(), reclaimer);
+    Arrays.sort(updated);
+    reclaimers = updated;
+  }
+
+  /**
+   * Unregister a reclaimer.
+   *
+   * @param reclaimer the reclaimer.
+   * @return true if the reclaimer was registered.
+   */
+  public synchronized boolean unregisterReclaimer(MemoryReclaimer reclaimer) {
+    final List<RegisteredReclaimer> remaining = new ArrayList<>();
+    for (RegisteredReclaimer registered : reclaimers) {
+      if (registered.reclaimer != reclaimer) {
+        remaining.add(registered);
+      }
+    }
+    if (remaining.size() == reclaimers.length) {
+      return false;
+    }
+    reclaimers = remaining.toArray(new RegisteredReclaimer[0]);
+    return true;
+  }
+
+  /**
+   * Invoke the registered reclaimers in order, until at least the given number of bytes has been released.
+   *
+   * @param bytesNeeded the number of bytes to release.
+   * @return the number of bytes released.
+   */
+  public long reclaim(long bytesNeeded) {
+    long reclaimed = 0;
+    for (RegisteredReclaimer registered : reclaimers) {
+      if (reclaimed >= bytesNeeded) {
+        break;
+      }
+      reclaimed += Math.max(0, registered.reclaimer.reclaim(bytesNeeded - reclaimed));
+    }
+    return reclaimed;
+  }
+
+  /**
+   * Allocate a buffer, waiting for memory to be released if the allocator does not have enough headroom.
+   *
+   * @param allocator the allocator to allocate from. It must use this controller as its listener to be
+   *                  notified of releases.
+   * @param size the size of the buffer, in bytes.
+   * @param priority the priority of the request; higher priority requests are served first.
+   * @param timeout how long to wait for memory; zero or less to fail immediately.
+   * @param unit the unit of the timeout.
+   * @return a future completed with the buffer, or failed with an {@link OutOfMemoryException} if the
+   *         memory could not be allocated within the timeout. Cancelling the future withdraws the request.
+   */
+  public CompletableFuture<ArrowBuf> allocate(BufferAllocator allocator, long size, int priority,
+      long timeout, TimeUnit unit) {
+    Preconditions.checkNotNull(allocator, "allocator must not be null");
+    Preconditions.checkArgument(size >= 0, "the requested size must be non-negative");
+    Preconditions.checkState(!closed, "Admission controller is closed");
+
+    final CompletableFuture<ArrowBuf> future = new CompletableFuture<>();
+    // do not overtake requests that are already waiting, unless not willing to wait at all
+    if (waiterCount.get() == 0 || timeout <= 0) {
+      try {
+        future.complete(allocator.buffer(size));
+        return future;
+      } catch (OutOfMemoryException e) {
+        if (timeout <= 0) {
+          future.completeExceptionally(e);
+          return future;
+        }
+      }
+    }
+
+    final Waiter waiter = new Waiter(allocator, size, priority, sequence.getAndIncrement(), future);
+    synchronized (this) {
+      if (closed) {
+        future.completeExceptionally(new OutOfMemoryException("Admission controller is closed"));
+        return future;
+      }
+      waiters.add(waiter);
+      waiter.queued = true;
+      waiterCount.incrementAndGet();
+    }
+    final ScheduledFuture<?> expiration = executor.schedule(() -> expire(waiter), timeout, unit);
+    synchronized (this) {
+      if (waiter.queued) {
+        waiter.expiration = expiration;
+      } else {
+        // served, withdrawn or failed while the expiration was being scheduled
+        expiration.cancel(false);
+      }
+    }
+    future.whenComplete((buf, t) -> {
+      if (future.isCancelled()) {
+        remove(waiter);
+      }
+    });
+    // memory may have been released before the request was queued
+    requestDrain();
+    return future;
+  }
+
+  /**
+   * Allocate a buffer, blocking until memory is available or the timeout expires.
+   *
+   * @see #allocate(BufferAllocator, long, int, long, TimeUnit)
+   * @throws OutOfMemoryException if the memory could not be allocated within the timeout.
+   * @throws InterruptedException if the thread was interrupted while waiting. The request is withdrawn.
+   */
+  public ArrowBuf allocateBlocking(BufferAllocator allocator, long size, int priority, long timeout,
+      TimeUnit unit) throws InterruptedException {
+    final CompletableFuture<ArrowBuf> future = allocate(allocator, size, priority, timeout, unit);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      if (!future.cancel(false)) {
+        // the buffer was handed over concurrently
+        future.thenAccept(ArrowBuf::close);
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new OutOfMemoryException(e.getCause());
+    }
+  }
+
+  /**
+   * Get the number of requests currently waiting for memory.
+   */
+  public int getWaiterCount() {
+    return waiterCount.get();
+  }
+
+  private synchronized boolean remove(Waiter waiter) {
+    if (waiters.remove(waiter)) {
+      waiterCount.decrementAndGet();
+      waiter.dequeue();
+      return true;
+    }
+    return false;
+  }
+
+  private void expire(Waiter waiter) {
+    if (remove(waiter)) {
+      waiter.future.completeExceptionally(new OutOfMemoryException(String.format(
+          "Unable to allocate buffer of size %d from allocator[%s] within the admission timeout. " +
+              "Current allocation: %d", waiter.size, waiter.allocator.getName(),
+          waiter.allocator.getAllocatedMemory())));
+      // a lower priority request may fit now
+      requestDrain();
+    }
+  }
+
+  private void requestDrain() {
+    if (drainRequests.getAndIncrement() == 0) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        drainRequests.set(0);
+      }
+    }
+  }
+
+  private void drain() {
+    int requests = drainRequests.get();
+    while (true) {
+      serveWaiters();
+      requests = drainRequests.addAndGet(-requests);
+      if (requests == 0) {
+        return;
+      }
+    }
+  }
+
+  private void serveWaiters() {
+    while (true) {
+      final Waiter waiter;
+      synchronized (this) {
+        waiter = waiters.peek();
+      }
+      if (waiter == null) {
+        return;
+      }
+      if (waiter.future.isDone()) {
+        remove(waiter);
+        continue;
+      }
+
+      final BufferAllocator allocator = waiter.allocator;
+      // only try when the request is expected to fit, so that reclaimers are not invoked on every release
+      if (allocator.getHeadroom() < allocator.getRoundingPolicy().getRoundedSize(waiter.size)) {
+        return;
+      }
+      final ArrowBuf buf;
+      try {
+        buf = allocator.buffer(waiter.size);
+      } catch (OutOfMemoryException e) {
+        return;
+      } catch (RuntimeException e) {
+        if (remove(waiter)) {
+          waiter.future.completeExceptionally(e);
+        }
+        continue;
+      }
+
+      if (!remove(waiter) || !waiter.future.complete(buf)) {
+        buf.close();
+      }
+    }
+  }
+
+  /**
+   * Close this controller, failing all waiting requests. Reclaimers stay registered.
+   */
+  @Override
+  public void close() {
+    final List<Waiter> pending;
+    synchronized (this) {
+      closed = true;
+      pending = new ArrayList<>(waiters);
+      waiters.clear();
+      waiterCount.set(0);
+      for (Waiter waiter : pending) {
+        waiter.dequeue();
+      }
+    }
+    for (Waiter waiter : pending) {
+      waiter.future.completeExceptionally(new OutOfMemoryException("Admission controller is closed"));
+    }
+    if (ownsExecutor) {
+      executor.shutdownNow();
+    }
+  }
+
+  @Override
+  public void onPreAllocation(long size) {
+    delegate.onPreAllocation(size);
+  }
+
+  @Override
+  public void onAllocation(long size) {
+    delegate.onAllocation(size);
+  }
+
+  @Override
+  public void onRelease(long size) {
+    delegate.onRelease(size);
+    if (waiterCount.get() > 0) {
+      requestDrain();
+    }
+  }
+
+  @Override
+  public boolean onFailedAllocation(long size, AllocationOutcome outcome) {
+    if (delegate.onFailedAllocation(size, outcome)) {
+      return true;
+    }
+    return reclaim(size) > 0;
+  }
+
+  @Override
+  public void onChildAdded(BufferAllocator parentAllocator, BufferAllocator childAllocator) {
+    delegate.onChildAdded(parentAllocator, childAllocator);
+  }
+
+  @Override
+  public void onChildRemoved(BufferAllocator parentAllocator, BufferAllocator childAllocator) {
+    delegate.onChildRemoved(parentAllocator, childAllocator);
+  }
+
+  /**
+   * A request waiting for memory.
+   */
+  private static final class Waiter implements Comparable<Waiter> {
+    final BufferAllocator allocator;
+    final long size;
+    final int priority;
+    final long sequence;
+    final CompletableFuture<ArrowBuf> future;
+    // guarded by the controller
+    boolean queued;
+    ScheduledFuture<?> expiration;
+
+    Waiter(BufferAllocator allocator, long size, int priority, long sequence, CompletableFuture<ArrowBuf> future) {
+      this.allocator = allocator;
+      this.size = size;
+      this.priority = priority;
+      this.sequence = sequence;
+      this.future = future;
+    }
+
+    /* called when the waiter leaves the queue, with the controller locked */
+    void dequeue() {
+      queued = false;
+      if (expiration != null) {
+        expiration.cancel(false);
+      }
+    }
+
+    @Override
+    public int compareTo(Waiter other) {
+      if (priority != other.priority) {
+        return Integer.compare(other.priority, priority);
+      }
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+
+  /**
+   * A reclaimer along with its order.
+   */
+  private static final class RegisteredReclaimer implements Comparable<RegisteredReclaimer> {
+    final int order;
+    final long sequence;
+    final MemoryReclaimer reclaimer;
+
+    RegisteredReclaimer(int order, long sequence, MemoryReclaimer reclaimer) {
+      this.order = order;
+      this.sequence = sequence;
+      this.reclaimer = reclaimer;
+    }
+
+    @Override
+    public int compareTo(RegisteredReclaimer other) {
+      if (order != other.order) {
+        return Integer.compare(order, other.order);
+      }
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded for large buffer allocations. Only loaded through {@link AllocatorEvents}.
+ */
+@Name("org.apache.arrow.memory.Allocation")
+@Label("Arrow Buffer Allocation")
+@Category({"Apache Arrow", "Memory"})
+@Description("A buffer allocation above the configured size threshold")
+final class AllocationEvent extends Event {
+
+  @Label("Allocator")
+  String allocator;
+
+  @Label("Requested Size")
+  @DataAmount
+  long requestedSize;
+
+  @Label("Allocated Size")
+  @DataAmount
+  long size;
+
+  @Label("Allocator Allocated Memory")
+  @DataAmount
+  long allocatorAllocatedMemory;
+
+  static void emit(BufferAllocator allocator, long requestedSize, long size) {
+    final AllocationEvent event = new AllocationEvent();
+    if (event.isEnabled()) {
+      event.allocator = allocator.getName();
+      event.requestedSize = requestedSize;
+      event.size = size;
+      event.allocatorAllocatedMemory = allocator.getAllocatedMemory();
+      event.commit();
+    }
+  }
+}
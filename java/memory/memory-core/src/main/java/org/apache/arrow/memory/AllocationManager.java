@@ -30,7 +30,9 @@ import org.apache.arrow.util.Preconditions;
  * <p>This is a public interface implemented by concrete allocator implementations (e.g. Netty or Unsafe).
  *
  * <p>Threading: AllocationManager manages thread-safety internally. Operations within the context
- * of a single BufferLedger are lockless in nature and can be leveraged by multiple threads. Operations that cross the
+ * of a single BufferLedger are lockless in nature and can be leveraged by multiple threads: retaining, slicing and
+ * releasing buffers only take a lock when a ledger's reference count drops to zero, and associating the memory again
+ * with its owning allocator does not take a lock either. Operations that cross the
  * context of two ledgers will acquire a lock on the AllocationManager instance. Important note, there is one
  * AllocationManager per physical buffer allocation. As such, there will be thousands of these in a
  * typical query. The contention of acquiring a lock on AllocationManager should be very low.
@@ -49,6 +51,8 @@ public abstract class AllocationManager {
   // there are not supposed to be any references through other allocators. In practice, this doesn't do anything
   // as the implementation just forces ownership to be transferred to one of the other extant references.
   private volatile BufferLedger owningLedger;
+  // Set when this allocation was sampled by the LeakDetector; closed once the memory is released.
+  private LeakDetector.Tracker leakTracker;
 
   protected AllocationManager(BufferAllocator accountingAllocator) {
     Preconditions.checkNotNull(accountingAllocator);
@@ -65,10 +69,31 @@ public abstract class AllocationManager {
     return owningLedger;
   }
 
+  /**
+   * Associate a newly created allocation manager with the allocator it was created for. Since the
+   * allocation manager is not shared yet, the owning ledger is retained without any lookup or locking.
+   *
+   * @param allocator The allocator this allocation manager was created for.
+   * @return The owning reference manager, with a reference count of 1.
+   */
+  BufferLedger associateNew(final BufferAllocator allocator) {
+    final BufferLedger ledger = owningLedger;
+    if (ledger == null || ledger.getAllocator() != allocator || ledger.getRefCount() != 0) {
+      return associate(allocator);
+    }
+    allocator.assertOpen();
+    ledger.increment();
+    return ledger;
+  }
+
   void setOwningLedger(final BufferLedger ledger) {
     this.owningLedger = ledger;
   }
 
+  void setLeakTracker(final LeakDetector.Tracker tracker) {
+    this.leakTracker = tracker;
+  }
+
   /**
    * Associate the existing underlying buffer with a new allocator. This will increase the
    * reference count on the corresponding buffer ledger by 1.
@@ -86,6 +111,15 @@ public abstract class AllocationManager {
     Preconditions.checkState(root == allocator.getRoot(),
           "A buffer can only be associated between two allocators that share the same root");
 
+    if (retain) {
+      // fast path: the allocator already owns the memory, so its ledger can be looked up and
+      // retained without locking, as long as its reference count has not dropped to 0.
+      final BufferLedger ledger = owningLedger;
+      if (ledger != null && ledger.getAllocator() == allocator && ledger.tryIncrement()) {
+        return ledger;
+      }
+    }
+
     synchronized (this) {
       BufferLedger ledger = map.get(allocator);
       if (ledger != null) {
@@ -154,6 +188,10 @@ public abstract class AllocationManager {
         release0();
         oldAllocator.getListener().onRelease(getSize());
         owningLedger = null;
+        if (leakTracker != null) {
+          leakTracker.close();
+          leakTracker = null;
+        }
       } else {
         // since the refcount dropped to 0 for the owning reference manager and allocation
         // manager will no longer keep a mapping for it, we need to change the owning
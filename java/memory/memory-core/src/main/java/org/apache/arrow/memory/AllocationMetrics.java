@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * An {@link AllocationListener} that keeps low-overhead, always-on allocation statistics.
+ *
+ * <p>Unlike {@link BaseAllocator#DEBUG} mode, no stack traces or per-buffer bookkeeping are recorded; all
+ * counters are striped ({@link LongAdder}) or updated with a single CAS, so the listener can be left enabled
+ * in production. Since a listener is configured per allocator (children inherit their parent's listener
+ * unless one is passed to {@link BufferAllocator#newChildAllocator(String, AllocationListener, long, long)}),
+ * per-allocator metrics are obtained by giving each allocator of interest its own instance.
+ *
+ * <p>Allocation sizes are additionally recorded in a histogram of power-of-two size classes: size class
+ * {@code n} counts the allocations whose size {@code s} satisfies {@code 2^(n-1) < s <= 2^n}.
+ *
+ * <p>Releases are reported by the allocator owning the memory at release time, so when buffers are
+ * transferred between allocators that have distinct listeners, the outstanding byte counts of the
+ * individual listeners only add up across the whole tree.
+ *
+ * <p>Another listener may be wrapped, in which case all callbacks are forwarded to it after the
+ * statistics have been updated.
+ */
+@ThreadSafe
+public class AllocationMetrics implements AllocationListener {
+
+  /**
+   * The number of size classes tracked by the histogram.
+   */
+  public static final int NUM_SIZE_CLASSES = 64;
+
+  private final AllocationListener delegate;
+
+  private final LongAdder allocationCount = new LongAdder();
+  private final LongAdder allocatedBytes = new LongAdder();
+  private final LongAdder releaseCount = new LongAdder();
+  private final LongAdder releasedBytes = new LongAdder();
+  private final LongAdder failedAllocationCount = new LongAdder();
+  private final LongAdder failedAllocationBytes = new LongAdder();
+  private final LongAdder childAllocatorCount = new LongAdder();
+  private final LongAdder[] sizeClassCounts = new LongAdder[NUM_SIZE_CLASSES];
+
+  private final AtomicLong outstandingBytes = new AtomicLong();
+  private final AtomicLong peakOutstandingBytes = new AtomicLong();
+
+  public AllocationMetrics() {
+    this(AllocationListener.NOOP);
+  }
+
+  /**
+   * Creates metrics that forward every callback to the given listener.
+   *
+   * @param delegate the listener to forward callbacks to.
+   */
+  public AllocationMetrics(AllocationListener delegate) {
+    this.delegate = Preconditions.checkNotNull(delegate, "delegate must not be null");
+    for (int i = 0; i < NUM_SIZE_CLASSES; i++) {
+      sizeClassCounts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Get the size class of an allocation, i.e. the exponent of the smallest power of two that is greater
+   * than or equal to the given size.
+   *
+   * @param size the allocation size.
+   * @return the size class, between 0 and {@link #NUM_SIZE_CLASSES} - 1.
+   */
+  public static int sizeClass(long size) {
+    if (size <= 1) {
+      return 0;
+    }
+    return Math.min(NUM_SIZE_CLASSES - 1, 64 - Long.numberOfLeadingZeros(size - 1));
+  }
+
+  @Override
+  public void onPreAllocation(long size) {
+    delegate.onPreAllocation(size);
+  }
+
+  @Override
+  public void onAllocation(long size) {
+    allocationCount.increment();
+    allocatedBytes.add(size);
+    sizeClassCounts[sizeClass(size)].increment();
+    updatePeak(outstandingBytes.addAndGet(size));
+    delegate.onAllocation(size);
+  }
+
+  @Override
+  public void onRelease(long size) {
+    releaseCount.increment();
+    releasedBytes.add(size);
+    outstandingBytes.addAndGet(-size);
+    delegate.onRelease(size);
+  }
+
+  @Override
+  public boolean onFailedAllocation(long size, AllocationOutcome outcome) {
+    failedAllocationCount.increment();
+    failedAllocationBytes.add(size);
+    return delegate.onFailedAllocation(size, outcome);
+  }
+
+  @Override
+  public void onChildAdded(BufferAllocator parentAllocator, BufferAllocator childAllocator) {
+    childAllocatorCount.increment();
+    delegate.onChildAdded(parentAllocator, childAllocator);
+  }
+
+  @Override
+  public void onChildRemoved(BufferAllocator parentAllocator, BufferAllocator childAllocator) {
+    childAllocatorCount.decrement();
+    delegate.onChildRemoved(parentAllocator, childAllocator);
+  }
+
+  private void updatePeak(long current) {
+    long peak = peakOutstandingBytes.get();
+    while (current > peak) {
+      if (peakOutstandingBytes.compareAndSet(peak, current)) {
+        return;
+      }
+      peak = peakOutstandingBytes.get();
+    }
+  }
+
+  /**
+   * Get the number of successful allocations.
+   */
+  public long getAllocationCount() {
+    return allocationCount.sum();
+  }
+
+  /**
+   * Get the total number of bytes allocated so far (after rounding).
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes.sum();
+  }
+
+  /**
+   * Get the number of released allocations.
+   */
+  public long getReleaseCount() {
+    return releaseCount.sum();
+  }
+
+  /**
+   * Get the total number of bytes released so far.
+   */
+  public long getReleasedBytes() {
+    return releasedBytes.sum();
+  }
+
+  /**
+   * Get the number of allocation attempts that failed because of a memory limit. An attempt that
+   * succeeds on retry after {@link #onFailedAllocation(long, AllocationOutcome)} is still counted.
+   */
+  public long getFailedAllocationCount() {
+    return failedAllocationCount.sum();
+  }
+
+  /**
+   * Get the total number of bytes requested by failed allocation attempts.
+   */
+  public long getFailedAllocationBytes() {
+    return failedAllocationBytes.sum();
+  }
+
+  /**
+   * Get the number of currently open child allocators that were created with this listener.
+   */
+  public long getChildAllocatorCount() {
+    return childAllocatorCount.sum();
+  }
+
+  /**
+   * Get the number of bytes allocated but not yet released.
+   */
+  public long getOutstandingBytes() {
+    return outstandingBytes.get();
+  }
+
+  /**
+   * Get the highest value ever reached by {@link #getOutstandingBytes()}.
+   */
+  public long getPeakOutstandingBytes() {
+    return peakOutstandingBytes.get();
+  }
+
+  /**
+   * Get the number of allocations that fell into the given size class.
+   *
+   * @param sizeClass the size class, as returned by {@link #sizeClass(long)}.
+   * @return the number of allocations in the size class.
+   */
+  public long getSizeClassCount(int sizeClass) {
+    Preconditions.checkElementIndex(sizeClass, NUM_SIZE_CLASSES);
+    return sizeClassCounts[sizeClass].sum();
+  }
+
+  /**
+   * Get the histogram of allocation sizes, indexed by size class.
+   *
+   * @return a new array of {@link #NUM_SIZE_CLASSES} counts.
+   */
+  public long[] getSizeClassHistogram() {
+    final long[] histogram = new long[NUM_SIZE_CLASSES];
+    for (int i = 0; i < NUM_SIZE_CLASSES; i++) {
+      histogram[i] = sizeClassCounts[i].sum();
+    }
+    return histogram;
+  }
+
+  /**
+   * Reset all counters, including the peak, to zero. The outstanding byte count is preserved, as resetting
+   * it would make it go negative once outstanding buffers are released.
+   */
+  public void reset() {
+    allocationCount.reset();
+    allocatedBytes.reset();
+    releaseCount.reset();
+    releasedBytes.reset();
+    failedAllocationCount.reset();
+    failedAllocationBytes.reset();
+    for (LongAdder sizeClassCount : sizeClassCounts) {
+      sizeClassCount.reset();
+    }
+    peakOutstandingBytes.set(outstandingBytes.get());
+  }
+
+  @Override
+  public String toString() {
+    return "AllocationMetrics{" +
+        "allocations=" + getAllocationCount() +
+        ", allocatedBytes=" + getAllocatedBytes() +
+        ", releases=" + getReleaseCount() +
+        ", releasedBytes=" + getReleasedBytes() +
+        ", failedAllocations=" + getFailedAllocationCount() +
+        ", outstandingBytes=" + getOutstandingBytes() +
+        ", peakOutstandingBytes=" + getPeakOutstandingBytes() +
+        '}';
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+/**
+ * Emits Java Flight Recorder events for allocator activity that is interesting in production:
+ * allocations of at least {@link #ALLOCATION_EVENT_THRESHOLD} bytes, and allocators closed while
+ * memory is still outstanding.
+ *
+ * <p>The threshold defaults to 1 MiB and can be changed with the system property
+ * "arrow.memory.jfr.allocation_threshold". Events are only recorded when enabled in the active
+ * recording (e.g. with a custom JFR settings file), and the whole facility is a no-op on JVMs
+ * that do not ship the {@code jdk.jfr} API.
+ */
+final class AllocatorEvents {
+
+  public static final String ALLOCATION_THRESHOLD_PROPERTY = "arrow.memory.jfr.allocation_threshold";
+
+  static final long ALLOCATION_EVENT_THRESHOLD;
+  static final boolean JFR_AVAILABLE;
+
+  static {
+    long threshold = 1024 * 1024;
+    String propValue = System.getProperty(ALLOCATION_THRESHOLD_PROPERTY);
+    if (propValue != null) {
+      try {
+        threshold = Long.parseLong(propValue);
+      } catch (NumberFormatException e) {
+        // ignore the exception, and make the threshold remain unchanged
+      }
+    }
+    ALLOCATION_EVENT_THRESHOLD = threshold;
+
+    boolean available;
+    try {
+      Class.forName("jdk.jfr.Event");
+      available = true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      available = false;
+    }
+    JFR_AVAILABLE = available;
+  }
+
+  private AllocatorEvents() {
+  }
+
+  /**
+   * Record an allocation, if it is at least {@link #ALLOCATION_EVENT_THRESHOLD} bytes large.
+   */
+  static void allocation(BufferAllocator allocator, long requestedSize, long size) {
+    if (JFR_AVAILABLE && size >= ALLOCATION_EVENT_THRESHOLD) {
+      AllocationEvent.emit(allocator, requestedSize, size);
+    }
+  }
+
+  /**
+   * Record that an allocator was closed while still holding the given amount of memory.
+   */
+  static void closedWithOutstandingMemory(BufferAllocator allocator, long outstanding) {
+    if (JFR_AVAILABLE) {
+      AllocatorLeakEvent.emit(allocator, outstanding);
+    }
+  }
+}
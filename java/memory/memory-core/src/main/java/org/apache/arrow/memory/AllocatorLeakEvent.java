@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded when an allocator is closed with outstanding memory. Only loaded through
+ * {@link AllocatorEvents}.
+ */
+@Name("org.apache.arrow.memory.AllocatorLeak")
+@Label("Arrow Allocator Closed With Outstanding Memory")
+@Category({"Apache Arrow", "Memory"})
+@Description("An allocator was closed while buffers allocated from it were still open")
+final class AllocatorLeakEvent extends Event {
+
+  @Label("Allocator")
+  String allocator;
+
+  @Label("Parent Allocator")
+  String parentAllocator;
+
+  @Label("Outstanding Memory")
+  @DataAmount
+  long outstanding;
+
+  @Label("Peak Memory")
+  @DataAmount
+  long peak;
+
+  static void emit(BufferAllocator allocator, long outstanding) {
+    final AllocatorLeakEvent event = new AllocatorLeakEvent();
+    if (event.isEnabled()) {
+      event.allocator = allocator.getName();
+      final BufferAllocator parent = allocator.getParentAllocator();
+      event.parentAllocator = parent == null ? null : parent.getName();
+      event.outstanding = outstanding;
+      event.peak = allocator.getPeakMemoryAllocation();
+      event.commit();
+    }
+  }
+}
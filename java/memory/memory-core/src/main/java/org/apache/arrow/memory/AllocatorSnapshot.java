@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * An immutable snapshot of the state of an allocator and of its descendants, for diagnostics.
+ *
+ * <p>Unlike {@link BufferAllocator#toVerboseString()}, taking a snapshot only reads the counters of
+ * each allocator, and only locks the set of children of each allocator while copying it. As allocators
+ * keep being used while their tree is walked, the snapshot of a tree is not atomic: e.g. the allocated
+ * memory of a parent may not be exactly the sum of that of its children.
+ *
+ * <p>Snapshots can be walked with {@link #stream()}, exported with {@link #toJson()}, and compared with
+ * {@link #diff(AllocatorSnapshot)} to find which allocators (e.g. which queries or streams) have been
+ * consuming memory in the meantime.
+ */
+public final class AllocatorSnapshot {
+
+  private final String name;
+  private final long limit;
+  private final long allocatedMemory;
+  private final long peakMemoryAllocation;
+  private final List<AllocatorSnapshot> children;
+
+  private AllocatorSnapshot(String name, long limit, long allocatedMemory, long peakMemoryAllocation,
+      List<AllocatorSnapshot> children) {
+    this.name = name;
+    this.limit = limit;
+    this.allocatedMemory = allocatedMemory;
+    this.peakMemoryAllocation = peakMemoryAllocation;
+    this.children = children;
+  }
+
+  /**
+   * Take a snapshot of an allocator and of its descendants.
+   *
+   * @param allocator the allocator.
+   * @return the snapshot, whose children are sorted by name.
+   */
+  public static AllocatorSnapshot of(BufferAllocator allocator) {
+    final Collection<BufferAllocator> childAllocators = allocator.getChildAllocators();
+    final List<AllocatorSnapshot> children = new ArrayList<>(childAllocators.size());
+    for (BufferAllocator child : childAllocators) {
+      children.add(of(child));
+    }
+    children.sort(Comparator.comparing(AllocatorSnapshot::getName));
+    return new AllocatorSnapshot(allocator.getName(), allocator.getLimit(), allocator.getAllocatedMemory(),
+        allocator.getPeakMemoryAllocation(), Collections.unmodifiableList(children));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  /**
+   * Get the memory allocated by the allocator, including the memory allocated by its descendants.
+   */
+  public long getAllocatedMemory() {
+    return allocatedMemory;
+  }
+
+  /**
+   * Get the memory allocated by the allocator itself, i.e. not by its descendants.
+   */
+  public long getOwnAllocatedMemory() {
+    long own = allocatedMemory;
+    for (AllocatorSnapshot child : children) {
+      own -= child.allocatedMemory;
+    }
+    return Math.max(own, 0);
+  }
+
+  public long getPeakMemoryAllocation() {
+    return peakMemoryAllocation;
+  }
+
+  public int getChildCount() {
+    return children.size();
+  }
+
+  public List<AllocatorSnapshot> getChildren() {
+    return children;
+  }
+
+  /**
+   * Get this snapshot and the snapshots of all the descendants, in depth-first order.
+   */
+  public Stream<AllocatorSnapshot> stream() {
+    return Stream.concat(Stream.of(this), children.stream().flatMap(AllocatorSnapshot::stream));
+  }
+
+  /**
+   * Compare this snapshot with a previous snapshot of the same allocator. Children are matched by name.
+   *
+   * @param previous the previous snapshot.
+   * @return the differences between the snapshots.
+   */
+  public Diff diff(AllocatorSnapshot previous) {
+    return Diff.of(name, previous, this);
+  }
+
+  /**
+   * Convert the snapshot to a JSON object, with the fields {@code name}, {@code limit},
+   * {@code allocated}, {@code peak}, {@code childCount} and {@code children}.
+   */
+  public String toJson() {
+    final StringBuilder sb = new StringBuilder();
+    appendJson(sb);
+    return sb.toString();
+  }
+
+  private void appendJson(StringBuilder sb) {
+    sb.append("{\"name\":");
+    appendJsonString(sb, name);
+    sb.append(",\"limit\":").append(limit)
+        .append(",\"allocated\":").append(allocatedMemory)
+        .append(",\"peak\":").append(peakMemoryAllocation)
+        .append(",\"childCount\":").append(children.size())
+        .append(",\"children\":[");
+    for (int i = 0; i < children.size(); i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      children.get(i).appendJson(sb);
+    }
+    sb.append("]}");
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+
+  private static void appendJsonString(StringBuilder sb, String value) {
+    if (value == null) {
+      sb.append("null");
+      return;
+    }
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+  }
+
+  /**
+   * The differences between two snapshots of an allocator tree.
+   */
+  public static final class Diff {
+
+    /**
+     * The presence of an allocator in the compared snapshots.
+     */
+    public enum Status {
+      /**
+       * The allocator is only in the current snapshot.
+       */
+      ADDED,
+      /**
+       * The allocator is only in the previous snapshot.
+       */
+      REMOVED,
+      /**
+       * The allocator is in both snapshots.
+       */
+      PRESENT,
+    }
+
+    private final String name;
+    private final Status status;
+    private final long previousAllocatedMemory;
+    private final long currentAllocatedMemory;
+    private final long previousPeakMemoryAllocation;
+    private final long currentPeakMemoryAllocation;
+    private final List<Diff> children;
+
+    private Diff(String name, Status status, AllocatorSnapshot previous, AllocatorSnapshot current,
+        List<Diff> children) {
+      this.name = name;
+      this.status = status;
+      this.previousAllocatedMemory = previous == null ? 0 : previous.allocatedMemory;
+      this.currentAllocatedMemory = current == null ? 0 : current.allocatedMemory;
+      this.previousPeakMemoryAllocation = previous == null ? 0 : previous.peakMemoryAllocation;
+      this.currentPeakMemoryAllocation = current == null ? 0 : current.peakMemoryAllocation;
+      this.children = children;
+    }
+
+    private static Diff of(String name, AllocatorSnapshot previous, AllocatorSnapshot current) {
+      final List<AllocatorSnapshot> previousChildren = previous == null ?
+          Collections.emptyList() : previous.children;
+      final List<AllocatorSnapshot> currentChildren = current == null ?
+          Collections.emptyList() : current.children;
+
+      // match the children by name, in order for allocators with the same name
+      final Map<String, Deque<AllocatorSnapshot>> unmatched = new HashMap<>();
+      for (AllocatorSnapshot child : previousChildren) {
+        unmatched.computeIfAbsent(child.name, n -> new ArrayDeque<>()).add(child);
+      }
+      final List<Diff> children = new ArrayList<>();
+      for (AllocatorSnapshot child : currentChildren) {
+        final Deque<AllocatorSnapshot> candidates = unmatched.get(child.name);
+        final AllocatorSnapshot match = candidates == null ? null : candidates.poll();
+        children.add(of(child.name, match, child));
+      }
+      for (AllocatorSnapshot child : previousChildren) {
+        final Deque<AllocatorSnapshot> candidates = unmatched.get(child.name);
+        if (candidates.remove(child)) {
+          children.add(of(child.name, child, null));
+        }
+      }
+      children.sort(Comparator.comparing(Diff::getName));
+
+      final Status status = previous == null ? Status.ADDED : current == null ? Status.REMOVED : Status.PRESENT;
+      return new Diff(name, status, previous, current, Collections.unmodifiableList(children));
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public long getPreviousAllocatedMemory() {
+      return previousAllocatedMemory;
+    }
+
+    public long getCurrentAllocatedMemory() {
+      return currentAllocatedMemory;
+    }
+
+    /**
+     * Get the change of allocated memory, from the previous to the current snapshot.
+     */
+    public long getAllocatedMemoryDelta() {
+      return currentAllocatedMemory - previousAllocatedMemory;
+    }
+
+    /**
+     * Get the change of peak memory allocation, from the previous to the current snapshot.
+     */
+    public long getPeakMemoryAllocationDelta() {
+      return currentPeakMemoryAllocation - previousPeakMemoryAllocation;
+    }
+
+    public List<Diff> getChildren() {
+      return children;
+    }
+
+    /**
+     * Check whether the allocator or any of its descendants was added, removed, or has a different
+     * allocated memory.
+     */
+    public boolean isChanged() {
+      if (status != Status.PRESENT || getAllocatedMemoryDelta() != 0) {
+        return true;
+      }
+      for (Diff child : children) {
+        if (child.isChanged()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Get this diff and the diffs of all the descendants, in depth-first order.
+     */
+    public Stream<Diff> stream() {
+      return Stream.concat(Stream.of(this), children.stream().flatMap(Diff::stream));
+    }
+
+    /**
+     * Convert the diff to a JSON object, with the fields {@code name}, {@code status},
+     * {@code previousAllocated}, {@code currentAllocated}, {@code allocatedDelta}, {@code peakDelta}
+     * and {@code children}.
+     */
+    public String toJson() {
+      final StringBuilder sb = new StringBuilder();
+      appendJson(sb);
+      return sb.toString();
+    }
+
+    private void appendJson(StringBuilder sb) {
+      sb.append("{\"name\":");
+      appendJsonString(sb, name);
+      sb.append(",\"status\":\"").append(status).append('"')
+          .append(",\"previousAllocated\":").append(previousAllocatedMemory)
+          .append(",\"currentAllocated\":").append(currentAllocatedMemory)
+          .append(",\"allocatedDelta\":").append(getAllocatedMemoryDelta())
+          .append(",\"peakDelta\":").append(getPeakMemoryAllocationDelta())
+          .append(",\"children\":[");
+      for (int i = 0; i < children.size(); i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        children.get(i).appendJson(sb);
+      }
+      sb.append("]}");
+    }
+
+    @Override
+    public String toString() {
+      return toJson();
+    }
+  }
+}
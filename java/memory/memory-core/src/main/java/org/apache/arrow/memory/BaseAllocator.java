@@ -25,6 +25,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.arrow.memory.rounding.DefaultRoundingPolicy;
+import org.apache.arrow.memory.rounding.FactorGrowthPolicy;
+import org.apache.arrow.memory.rounding.GrowthPolicy;
 import org.apache.arrow.memory.rounding.RoundingPolicy;
 import org.apache.arrow.memory.util.AssertionUtil;
 import org.apache.arrow.memory.util.CommonUtil;
@@ -74,6 +76,7 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
   private final IdentityHashMap<Reservation, Object> reservations;
   private final HistoricalLog historicalLog;
   private final RoundingPolicy roundingPolicy;
+  private final GrowthPolicy growthPolicy;
   private final AllocationManager.Factory allocationManagerFactory;
 
   private volatile boolean isClosed = false; // the allocator has been closed
@@ -123,6 +126,7 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
       childLedgers = null;
     }
     this.roundingPolicy = config.getRoundingPolicy();
+    this.growthPolicy = config.getGrowthPolicy();
   }
 
   @Override
@@ -252,11 +256,13 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
     }
     try {
       final AllocationManager manager = new ForeignAllocationManager(this, allocation);
-      final BufferLedger ledger = manager.associate(this);
+      manager.setLeakTracker(LeakDetector.track(manager, this));
+      final BufferLedger ledger = manager.associateNew(this);
       final ArrowBuf buf =
           new ArrowBuf(ledger, /*bufferManager=*/null, size, allocation.memoryAddress());
       buf.writerIndex(size);
       listener.onAllocation(size);
+      AllocatorEvents.allocation(this, size, size);
       return buf;
     } catch (Throwable t) {
       try {
@@ -316,6 +322,7 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
       ArrowBuf buffer = bufferWithoutReservation(actualRequestSize, manager);
       success = true;
       listener.onAllocation(actualRequestSize);
+      AllocatorEvents.allocation(this, initialRequestSize, actualRequestSize);
       return buffer;
     } catch (OutOfMemoryError e) {
       throw e;
@@ -336,7 +343,8 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
     assertOpen();
 
     final AllocationManager manager = newAllocationManager(size);
-    final BufferLedger ledger = manager.associate(this); // +1 ref cnt (required)
+    manager.setLeakTracker(LeakDetector.track(manager, this));
+    final BufferLedger ledger = manager.associateNew(this); // +1 ref cnt (required)
     final ArrowBuf buffer = ledger.newArrowBuf(size, bufferManager);
 
     // make sure that our allocation is equal to what we expected.
@@ -382,6 +390,7 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
             .initReservation(initReservation)
             .maxAllocation(maxAllocation)
             .roundingPolicy(roundingPolicy)
+            .growthPolicy(growthPolicy)
             .allocationManagerFactory(allocationManagerFactory)
             .build());
 
@@ -474,6 +483,7 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
       String msg = String.format("Memory was leaked by query. Memory leaked: (%d)\n%s%s", allocated,
           outstandingChildAllocators.toString(), toString());
       logger.error(msg);
+      AllocatorEvents.closedWithOutstandingMemory(this, allocated);
       throw new IllegalStateException(msg);
     }
 
@@ -760,6 +770,11 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
     return roundingPolicy;
   }
 
+  @Override
+  public GrowthPolicy getGrowthPolicy() {
+    return growthPolicy;
+  }
+
   /**
    * Config class of {@link BaseAllocator}.
    */
@@ -805,6 +820,14 @@ abstract class BaseAllocator extends Accountant implements BufferAllocator {
     RoundingPolicy getRoundingPolicy() {
       return DefaultRoundingPolicy.DEFAULT_ROUNDING_POLICY;
     }
+
+    /**
+     * The policy for growing buffers that have run out of space, inherited by child allocators.
+     */
+    @Value.Default
+    GrowthPolicy getGrowthPolicy() {
+      return FactorGrowthPolicy.DOUBLING;
+    }
   }
 
   /**
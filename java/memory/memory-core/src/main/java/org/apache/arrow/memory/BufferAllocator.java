@@ -20,6 +20,8 @@ package org.apache.arrow.memory;
 import java.util.Collection;
 
 import org.apache.arrow.memory.rounding.DefaultRoundingPolicy;
+import org.apache.arrow.memory.rounding.FactorGrowthPolicy;
+import org.apache.arrow.memory.rounding.GrowthPolicy;
 import org.apache.arrow.memory.rounding.RoundingPolicy;
 
 /**
@@ -222,6 +224,16 @@ public interface BufferAllocator extends AutoCloseable {
    */
   String toVerboseString();
 
+  /**
+   * Take a cheap, immutable snapshot of the state of this allocator and of its descendants.
+   *
+   * @return the snapshot
+   * @see AllocatorSnapshot
+   */
+  default AllocatorSnapshot snapshot() {
+    return AllocatorSnapshot.of(this);
+  }
+
   /**
    * Asserts (using java assertions) that the provided allocator is currently open. If assertions
    * are disabled, this is
@@ -236,6 +248,14 @@ public interface BufferAllocator extends AutoCloseable {
     return DefaultRoundingPolicy.DEFAULT_ROUNDING_POLICY;
   }
 
+  /**
+   * Gets the growth policy of the allocator, used by vectors allocated from it to compute the size
+   * of their buffers when they run out of space.
+   */
+  default GrowthPolicy getGrowthPolicy() {
+    return FactorGrowthPolicy.DOUBLING;
+  }
+
   /**
    * EXPERIMENTAL: Wrap an allocation created outside this BufferAllocator.
    *
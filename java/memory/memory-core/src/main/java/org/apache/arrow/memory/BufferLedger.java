@@ -88,6 +88,25 @@ public class BufferLedger implements ValueWithKeyIncluded<BufferAllocator>, Refe
     bufRefCnt.incrementAndGet();
   }
 
+  /**
+   * Increment the ledger's reference count, unless it has already dropped to 0 (in which case
+   * the ledger is being, or has been, dissociated from its allocation manager).
+   * This does not require holding the allocation manager lock.
+   *
+   * @return true if the reference count was incremented, false otherwise
+   */
+  boolean tryIncrement() {
+    while (true) {
+      final int refCnt = bufRefCnt.get();
+      if (refCnt <= 0) {
+        return false;
+      }
+      if (bufRefCnt.compareAndSet(refCnt, refCnt + 1)) {
+        return true;
+      }
+    }
+  }
+
   /**
    * Decrement the ledger's reference count by 1 for the associated underlying
    * memory chunk. If the reference count drops to 0, it implies that
@@ -146,6 +165,21 @@ public class BufferLedger implements ValueWithKeyIncluded<BufferAllocator>, Refe
    */
   private int decrement(int decrement) {
     allocator.assertOpen();
+    // fast path: as long as the reference count stays positive, no other ledger or the
+    // allocation manager is affected, so a CAS is enough.
+    while (true) {
+      final int refCnt = bufRefCnt.get();
+      final int newRefCnt = refCnt - decrement;
+      if (newRefCnt <= 0) {
+        break;
+      }
+      if (bufRefCnt.compareAndSet(refCnt, newRefCnt)) {
+        return newRefCnt;
+      }
+    }
+
+    // slow path: the reference count (probably) drops to 0, which has to be done while
+    // holding the allocation manager lock so that the ledger is not concurrently associated again.
     final int outcome;
     synchronized (allocationManager) {
       outcome = bufRefCnt.addAndGet(-decrement);
@@ -465,12 +499,11 @@ public class BufferLedger implements ValueWithKeyIncluded<BufferAllocator>, Refe
    */
   @Override
   public long getAccountedSize() {
-    synchronized (allocationManager) {
-      if (allocationManager.getOwningLedger() == this) {
-        return allocationManager.getSize();
-      } else {
-        return 0;
-      }
+    // the owning ledger is volatile, no need to lock the allocation manager
+    if (allocationManager.getOwningLedger() == this) {
+      return allocationManager.getSize();
+    } else {
+      return 0;
     }
   }
 
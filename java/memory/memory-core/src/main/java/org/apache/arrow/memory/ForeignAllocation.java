@@ -17,6 +17,11 @@
 
 package org.apache.arrow.memory;
 
+import java.nio.ByteBuffer;
+
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+
 /**
  * EXPERIMENTAL: a memory allocation that does not come from a BufferAllocator, but rather an outside source (like JNI).
  *
@@ -37,6 +42,57 @@ public abstract class ForeignAllocation {
     this.size = size;
   }
 
+  /**
+   * Create an allocation over a region of memory owned by someone else, e.g. a JNI library or a
+   * memory-mapped file.
+   *
+   * @param memoryAddress the address of the region.
+   * @param size the size of the region.
+   * @param release called once when the allocation is freed, i.e. when all the buffers wrapping it
+   *     are closed. May be null if the memory does not need to be released.
+   * @return the allocation, to wrap with {@link BufferAllocator#wrapForeignAllocation(ForeignAllocation)}.
+   */
+  public static ForeignAllocation of(long memoryAddress, long size, Runnable release) {
+    Preconditions.checkArgument(size >= 0, "size must not be negative");
+    return new ForeignAllocation(size, memoryAddress) {
+      @Override
+      protected void release0() {
+        if (release != null) {
+          release.run();
+        }
+      }
+    };
+  }
+
+  /**
+   * Create an allocation over the remaining bytes of a direct {@link ByteBuffer}, e.g. a buffer of
+   * Netty or a {@link java.nio.MappedByteBuffer}.
+   *
+   * <p>The byte buffer is kept reachable until the allocation is freed, so that its memory is not
+   * reclaimed by the garbage collector while it is in use.
+   *
+   * @param buffer the direct byte buffer.
+   * @param release called once when the allocation is freed, i.e. when all the buffers wrapping it
+   *     are closed. May be null.
+   * @return the allocation, to wrap with {@link BufferAllocator#wrapForeignAllocation(ForeignAllocation)}.
+   */
+  public static ForeignAllocation of(ByteBuffer buffer, Runnable release) {
+    Preconditions.checkArgument(buffer.isDirect(), "expecting a direct byte buffer");
+    final long address = MemoryUtil.getByteBufferAddress(buffer) + buffer.position();
+    return new ForeignAllocation(buffer.remaining(), address) {
+      // strong reference to the byte buffer, which owns the memory
+      private ByteBuffer owner = buffer;
+
+      @Override
+      protected void release0() {
+        owner = null;
+        if (release != null) {
+          release.run();
+        }
+      }
+    };
+  }
+
   /**
    * Get the size of this allocation.
    */
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.arrow.memory.util.StackTrace;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.util.VisibleForTesting;
+
+/**
+ * Low-overhead leak detection for buffers, usable when {@link BaseAllocator#DEBUG} is too expensive.
+ *
+ * <p>Depending on the {@link Level}, the allocation stack trace of a sample of the allocated buffers is
+ * recorded. A phantom reference is kept on the {@link AllocationManager} of each sampled allocation; if the
+ * allocation manager becomes unreachable without its memory having been released (i.e. all
+ * {@link ArrowBuf}s were dropped without being closed), the leak is logged with the recorded stack trace the
+ * next time a buffer is sampled or {@link #checkForLeaks()} is called.
+ *
+ * <p>The level can be set with the system property "arrow.memory.leak_detection.level" (one of
+ * {@code DISABLED}, {@code SAMPLED}, {@code PARANOID}; default {@code DISABLED}) and the sampling interval
+ * of the {@code SAMPLED} level with "arrow.memory.leak_detection.sampling_interval" (default 128). Both can
+ * also be changed at runtime.
+ */
+public final class LeakDetector {
+
+  public static final String LEVEL_PROPERTY = "arrow.memory.leak_detection.level";
+  public static final String SAMPLING_INTERVAL_PROPERTY = "arrow.memory.leak_detection.sampling_interval";
+
+  static final int DEFAULT_SAMPLING_INTERVAL = 128;
+
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(LeakDetector.class);
+
+  /**
+   * The leak detection level.
+   */
+  public enum Level {
+    /**
+     * No allocation is tracked.
+     */
+    DISABLED,
+    /**
+     * One in {@link #getSamplingInterval()} allocations, chosen at random, is tracked.
+     */
+    SAMPLED,
+    /**
+     * Every allocation is tracked. Only suitable for testing.
+     */
+    PARANOID,
+  }
+
+  private static volatile Level level;
+  private static volatile int samplingInterval;
+
+  private static final ReferenceQueue<AllocationManager> queue = new ReferenceQueue<>();
+  // keeps the trackers themselves reachable until they are either closed or enqueued
+  private static final Set<Tracker> trackers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private static final AtomicLong reportedLeaks = new AtomicLong();
+
+  static {
+    Level initialLevel = Level.DISABLED;
+    try {
+      initialLevel = Level.valueOf(System.getProperty(LEVEL_PROPERTY));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      // ignore the exception, and make the level remain unchanged
+    }
+    level = initialLevel;
+
+    int initialInterval = DEFAULT_SAMPLING_INTERVAL;
+    try {
+      initialInterval = Integer.parseInt(System.getProperty(SAMPLING_INTERVAL_PROPERTY));
+    } catch (NumberFormatException e) {
+      // ignore the exception, and make the interval remain unchanged
+    }
+    samplingInterval = Math.max(1, initialInterval);
+
+    if (level != Level.DISABLED) {
+      logger.info("Leak detection level: {}, sampling interval: {}", level, samplingInterval);
+    }
+  }
+
+  private LeakDetector() {
+  }
+
+  public static Level getLevel() {
+    return level;
+  }
+
+  public static void setLevel(Level newLevel) {
+    level = Preconditions.checkNotNull(newLevel, "level must not be null");
+  }
+
+  public static int getSamplingInterval() {
+    return samplingInterval;
+  }
+
+  /**
+   * Set how many allocations are made, on average, for each allocation tracked at the
+   * {@link Level#SAMPLED} level.
+   *
+   * @param interval the sampling interval, must be positive.
+   */
+  public static void setSamplingInterval(int interval) {
+    Preconditions.checkArgument(interval > 0, "sampling interval must be positive");
+    samplingInterval = interval;
+  }
+
+  /**
+   * Get the number of leaks that have been reported since the JVM started.
+   */
+  public static long getReportedLeakCount() {
+    return reportedLeaks.get();
+  }
+
+  /**
+   * Report the leaks of all tracked allocations that have been garbage collected so far.
+   *
+   * @return the number of leaks found by this call.
+   */
+  public static int checkForLeaks() {
+    int leaks = 0;
+    Tracker tracker;
+    while ((tracker = (Tracker) queue.poll()) != null) {
+      if (trackers.remove(tracker)) {
+        tracker.report();
+        leaks++;
+      }
+    }
+    return leaks;
+  }
+
+  @VisibleForTesting
+  static int getTrackedCount() {
+    return trackers.size();
+  }
+
+  /**
+   * Possibly start tracking a new allocation, depending on the current level.
+   *
+   * @param manager the allocation manager of the new allocation.
+   * @param allocator the allocator the memory was allocated from.
+   * @return the tracker, or null if the allocation was not sampled.
+   */
+  static Tracker track(AllocationManager manager, BufferAllocator allocator) {
+    final Level currentLevel = level;
+    if (currentLevel == Level.DISABLED) {
+      return null;
+    }
+    if (currentLevel == Level.SAMPLED) {
+      final int interval = samplingInterval;
+      if (interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0) {
+        return null;
+      }
+    }
+
+    checkForLeaks();
+    final Tracker tracker = new Tracker(manager, allocator.getName(), manager.getSize());
+    trackers.add(tracker);
+    return tracker;
+  }
+
+  /**
+   * Tracks a single allocation. Must not hold any strong reference to the allocation manager.
+   */
+  static final class Tracker extends PhantomReference<AllocationManager> {
+    private final String allocatorName;
+    private final long size;
+    private final StackTrace stackTrace;
+
+    private Tracker(AllocationManager manager, String allocatorName, long size) {
+      super(manager, queue);
+      this.allocatorName = allocatorName;
+      this.size = size;
+      this.stackTrace = new StackTrace();
+    }
+
+    /**
+     * Stop tracking, called when the memory is released.
+     */
+    void close() {
+      if (trackers.remove(this)) {
+        clear();
+      }
+    }
+
+    private void report() {
+      reportedLeaks.incrementAndGet();
+      final StringBuilder sb = new StringBuilder();
+      sb.append("LEAK: a buffer of ")
+          .append(size)
+          .append(" bytes allocated from allocator[")
+          .append(allocatorName)
+          .append("] was garbage collected before being released. Allocated at:\n");
+      stackTrace.writeToBuilder(sb, 1);
+      logger.error(sb.toString());
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+/**
+ * A component able to give memory back when allocations fail, e.g. by evicting cached buffers or
+ * spilling data to disk. Reclaimers are registered with an {@link AdmissionController}.
+ */
+@FunctionalInterface
+public interface MemoryReclaimer {
+
+  /**
+   * Try to release memory.
+   *
+   * <p>This is called synchronously from the thread whose allocation failed, without any allocator
+   * lock held. An exception cannot be thrown by this method.
+   *
+   * @param bytesNeeded the number of bytes the failed allocation requested.
+   * @return the number of bytes actually released (0 if nothing could be released).
+   */
+  long reclaim(long bytesNeeded);
+}
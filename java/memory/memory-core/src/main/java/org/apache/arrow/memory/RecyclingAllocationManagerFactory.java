@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * An {@link AllocationManager.Factory} that recycles released memory. When all the buffers of an
+ * allocation have been released, its memory is kept in a free list for its size instead of being
+ * freed, and handed back to the next allocation of the same size.
+ *
+ * <p>This suits workloads that repeatedly allocate and release buffers of the same shapes, e.g. a
+ * stream of batches allocated with {@code VectorSchemaRoot.allocateNew()} and released with
+ * {@code clear()}: with the sizes rounded by the allocator, steady-state streaming then allocates
+ * almost no new memory. To use it, pass it to a {@link RootAllocator}; child allocators inherit it.
+ *
+ * <p>Memory is only recycled once it is not referenced by any allocator any more, so it is
+ * unaffected by ownership transfers between allocators. Pooled memory is not accounted by any
+ * allocator; it is bounded by the maximum number of pooled bytes and of pooled buffers per size,
+ * and freed when the factory is closed. Memory is allocated with {@code Unsafe} and is not zeroed,
+ * like that of the unsafe allocation manager.
+ */
+public final class RecyclingAllocationManagerFactory implements AllocationManager.Factory, AutoCloseable {
+
+  public static final long DEFAULT_MAX_POOLED_BYTES = 64L * 1024 * 1024;
+  public static final int DEFAULT_MAX_BUFFERS_PER_SIZE = 64;
+
+  private static final ArrowBuf EMPTY = new ArrowBuf(ReferenceManager.NO_OP,
+      null,
+      0,
+      MemoryUtil.UNSAFE.allocateMemory(0)
+  );
+
+  private final long maxPooledBytes;
+  private final int maxBuffersPerSize;
+
+  // the addresses of the pooled memory, by size; guarded by this
+  private final Map<Long, ArrayDeque<Long>> freeLists = new HashMap<>();
+  private long pooledBytes;
+  private long hitCount;
+  private long missCount;
+  private boolean closed;
+
+  /**
+   * Creates a factory with the default bounds.
+   */
+  public RecyclingAllocationManagerFactory() {
+    this(DEFAULT_MAX_POOLED_BYTES, DEFAULT_MAX_BUFFERS_PER_SIZE);
+  }
+
+  /**
+   * Creates a factory.
+   *
+   * @param maxPooledBytes the maximum total size of the pooled memory.
+   * @param maxBuffersPerSize the maximum number of pooled allocations of each size.
+   */
+  public RecyclingAllocationManagerFactory(long maxPooledBytes, int maxBuffersPerSize) {
+    Preconditions.checkArgument(maxPooledBytes >= 0, "maxPooledBytes must not be negative");
+    Preconditions.checkArgument(maxBuffersPerSize >= 0, "maxBuffersPerSize must not be negative");
+    this.maxPooledBytes = maxPooledBytes;
+    this.maxBuffersPerSize = maxBuffersPerSize;
+  }
+
+  @Override
+  public AllocationManager create(BufferAllocator accountingAllocator, long size) {
+    long address = take(size);
+    if (address == 0) {
+      address = MemoryUtil.UNSAFE.allocateMemory(size);
+    }
+    try {
+      return new RecyclingAllocationManager(accountingAllocator, address, size);
+    } catch (RuntimeException e) {
+      recycle(address, size);
+      throw e;
+    }
+  }
+
+  @Override
+  public ArrowBuf empty() {
+    return EMPTY;
+  }
+
+  /* Take pooled memory of the given size, returning 0 if there is none. */
+  private synchronized long take(long size) {
+    final ArrayDeque<Long> freeList = freeLists.get(size);
+    if (freeList == null || freeList.isEmpty()) {
+      missCount++;
+      return 0;
+    }
+    hitCount++;
+    pooledBytes -= size;
+    return freeList.pop();
+  }
+
+  /* Pool released memory, or free it if the pool is full. */
+  private void recycle(long address, long size) {
+    synchronized (this) {
+      if (!closed && pooledBytes + size <= maxPooledBytes) {
+        final ArrayDeque<Long> freeList = freeLists.computeIfAbsent(size, s -> new ArrayDeque<>());
+        if (freeList.size() < maxBuffersPerSize) {
+          freeList.push(address);
+          pooledBytes += size;
+          return;
+        }
+      }
+    }
+    MemoryUtil.UNSAFE.freeMemory(address);
+  }
+
+  /**
+   * Free all the pooled memory. The factory can still be used afterwards.
+   */
+  public void releasePooledMemory() {
+    final Map<Long, ArrayDeque<Long>> released;
+    synchronized (this) {
+      released = new HashMap<>(freeLists);
+      freeLists.clear();
+      pooledBytes = 0;
+    }
+    for (ArrayDeque<Long> freeList : released.values()) {
+      for (long address : freeList) {
+        MemoryUtil.UNSAFE.freeMemory(address);
+      }
+    }
+  }
+
+  /**
+   * Get the total size of the pooled memory.
+   */
+  public synchronized long getPooledBytes() {
+    return pooledBytes;
+  }
+
+  /**
+   * Get the number of allocations served with recycled memory.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Get the number of allocations that had to allocate new memory.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Free all the pooled memory, and stop pooling memory released from now on. Buffers that are
+   * still allocated remain valid.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    releasePooledMemory();
+  }
+
+  /**
+   * The allocation manager of recycled memory.
+   */
+  private final class RecyclingAllocationManager extends AllocationManager {
+    private final long address;
+    private final long size;
+
+    private RecyclingAllocationManager(BufferAllocator accountingAllocator, long address, long size) {
+      super(accountingAllocator);
+      this.address = address;
+      this.size = size;
+    }
+
+    @Override
+    public long getSize() {
+      return size;
+    }
+
+    @Override
+    protected long memoryAddress() {
+      return address;
+    }
+
+    @Override
+    protected void release0() {
+      recycle(address, size);
+    }
+  }
+}
@@ -18,6 +18,7 @@
 package org.apache.arrow.memory;
 
 import org.apache.arrow.memory.rounding.DefaultRoundingPolicy;
+import org.apache.arrow.memory.rounding.GrowthPolicy;
 import org.apache.arrow.memory.rounding.RoundingPolicy;
 import org.apache.arrow.util.VisibleForTesting;
 
@@ -57,6 +58,42 @@ public class RootAllocator extends BaseAllocator {
     );
   }
 
+  /**
+   * Constructor.
+   *
+   * @param listener        the allocation listener
+   * @param limit           max allocation size in bytes
+   * @param roundingPolicy  the policy for rounding the buffer size
+   * @param growthPolicy    the policy for growing the buffers of vectors, inherited by child allocators
+   */
+  public RootAllocator(final AllocationListener listener, final long limit, RoundingPolicy roundingPolicy,
+      GrowthPolicy growthPolicy) {
+    this(configBuilder()
+        .listener(listener)
+        .maxAllocation(limit)
+        .roundingPolicy(roundingPolicy)
+        .growthPolicy(growthPolicy)
+        .build()
+    );
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param listener                  the allocation listener
+   * @param limit                     max allocation size in bytes
+   * @param allocationManagerFactory  the factory of the allocation managers, inherited by child allocators
+   */
+  public RootAllocator(final AllocationListener listener, final long limit,
+      AllocationManager.Factory allocationManagerFactory) {
+    this(configBuilder()
+        .listener(listener)
+        .maxAllocation(limit)
+        .allocationManagerFactory(allocationManagerFactory)
+        .build()
+    );
+  }
+
   public RootAllocator(Config config) {
     super(null, "ROOT", config);
   }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.rounding;
+
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * The growth policy that grows buffers by a whole number of fixed-size chunks. This bounds the
+ * unused memory of a buffer by the chunk size, which suits large buffers whose final size is
+ * unknown, at the price of a number of reallocations proportional to the final size.
+ *
+ * <p>As the {@link DefaultRoundingPolicy} rounds sizes below its chunk size up to powers of two,
+ * this policy is best combined with a {@link SegmentRoundingPolicy} for smaller buffers.
+ */
+public class ChunkedGrowthPolicy implements GrowthPolicy {
+
+  private final long chunkSize;
+
+  /**
+   * Constructor for the chunked growth policy.
+   * @param chunkSize the chunk size, in bytes.
+   * @throws IllegalArgumentException if the chunk size is not positive.
+   */
+  public ChunkedGrowthPolicy(long chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "The chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public long getGrowthSize(long currentSize, long minSize) {
+    final long chunks = (minSize - currentSize + chunkSize - 1) / chunkSize;
+    return currentSize + Math.max(chunks, 1) * chunkSize;
+  }
+
+  public long getChunkSize() {
+    return chunkSize;
+  }
+}
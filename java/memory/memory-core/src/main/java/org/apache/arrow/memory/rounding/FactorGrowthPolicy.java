@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.rounding;
+
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * The growth policy that multiplies the size of a buffer by a constant factor. Geometric growth
+ * keeps the amortized cost of appending constant; smaller factors waste less memory at the price
+ * of more reallocations.
+ */
+public class FactorGrowthPolicy implements GrowthPolicy {
+
+  /**
+   * The default policy, which doubles the size of buffers.
+   */
+  public static final FactorGrowthPolicy DOUBLING = new FactorGrowthPolicy(2.0);
+
+  private final double factor;
+
+  /**
+   * Constructor for the factor growth policy.
+   * @param factor the growth factor.
+   * @throws IllegalArgumentException if the factor is not greater than 1.
+   */
+  public FactorGrowthPolicy(double factor) {
+    Preconditions.checkArgument(factor > 1.0, "The growth factor must be greater than 1");
+    this.factor = factor;
+  }
+
+  @Override
+  public long getGrowthSize(long currentSize, long minSize) {
+    final double grown = Math.ceil(currentSize * factor);
+    return grown >= Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(minSize, (long) grown);
+  }
+
+  public double getFactor() {
+    return factor;
+  }
+}
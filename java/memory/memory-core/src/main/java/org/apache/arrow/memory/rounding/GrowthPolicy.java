@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.rounding;
+
+/**
+ * The policy for growing a buffer that has run out of space, e.g. when a vector is reallocated.
+ * Given the current size of a buffer and the size it must at least have, the policy determines
+ * the size to reallocate it to. The result is then rounded by the {@link RoundingPolicy} of the
+ * allocator.
+ */
+public interface GrowthPolicy {
+
+  /**
+   * Gets the size to grow a buffer to.
+   * @param currentSize the current size of the buffer, in bytes.
+   * @param minSize the minimum size of the grown buffer, in bytes, greater than the current size.
+   * @return the new size of the buffer, at least minSize.
+   */
+  long getGrowthSize(long currentSize, long minSize);
+}
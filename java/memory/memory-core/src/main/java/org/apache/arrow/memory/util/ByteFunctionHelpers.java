@@ -338,10 +338,30 @@ public class ByteFunctionHelpers {
     return hasher.hashCode(buf, start, end - start);
   }
 
+  /**
+   * Compute a 64-bit hashCode with the given {@link ArrowBufHasher}, {@link ArrowBuf} and start/end index.
+   */
+  public static long hash64(ArrowBufHasher hasher, final ArrowBuf buf, long start, long end) {
+
+    if (hasher == null) {
+      hasher = SimpleHasher.INSTANCE;
+    }
+
+    return hasher.hashCode64(buf, start, end - start);
+  }
+
   /**
    * Generate a new hashCode with the given current hashCode and new hashCode.
    */
   public static int combineHash(int currentHash, int newHash) {
     return currentHash * 31 + newHash;
   }
+
+  /**
+   * Generate a new 64-bit hashCode with the given current hashCode and new hashCode.
+   */
+  public static long combineHash64(long currentHash, long newHash) {
+    // multiplying by a large odd constant spreads the current hash over all 64 bits
+    return currentHash * 0x9E3779B97F4A7C15L + newHash;
+  }
 }
@@ -44,6 +44,21 @@ public class MemoryUtil {
    */
   public static final long BYTE_ARRAY_BASE_OFFSET;
 
+  /**
+   * The start offset of array data relative to the start address of an int array object.
+   */
+  public static final long INT_ARRAY_BASE_OFFSET;
+
+  /**
+   * The start offset of array data relative to the start address of a long array object.
+   */
+  public static final long LONG_ARRAY_BASE_OFFSET;
+
+  /**
+   * The start offset of array data relative to the start address of a double array object.
+   */
+  public static final long DOUBLE_ARRAY_BASE_OFFSET;
+
   /**
    * The offset of the address field with the {@link java.nio.ByteBuffer} object.
    */
@@ -82,6 +97,9 @@ public class MemoryUtil {
 
       // get the offset of the data inside a byte array object
       BYTE_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+      INT_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(int[].class);
+      LONG_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(long[].class);
+      DOUBLE_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(double[].class);
 
       // get the offset of the address field in a java.nio.Buffer object
       Field addressField = java.nio.Buffer.class.getDeclaredField("address");
@@ -24,6 +24,8 @@ import org.apache.arrow.memory.ArrowBuf;
  * This class provides the basic framework for efficiently calculating the hash code.
  * <p>
  *   A default light-weight implementation is given in {@link SimpleHasher}.
+ *   {@link Xxh3Hasher} and {@link WyHasher} produce full 64-bit hash codes,
+ *   and are faster on long inputs.
  * </p>
  */
 public interface ArrowBufHasher {
@@ -44,4 +46,29 @@ public interface ArrowBufHasher {
    * @return the hash code.
    */
   int hashCode(ArrowBuf buf, long offset, long length);
+
+  /**
+   * Calculates a 64-bit hash code for a memory region.
+   * <p>
+   *   The default implementation only widens {@link #hashCode(long, long)}, so the result has no
+   *   more than 32 bits of entropy. Hashers with a 64-bit output override it.
+   * </p>
+   * @param address start address of the memory region.
+   * @param length length of the memory region.
+   * @return the hash code.
+   */
+  default long hashCode64(long address, long length) {
+    return hashCode(address, length);
+  }
+
+  /**
+   * Calculates a 64-bit hash code for a memory region.
+   * @param buf the buffer for the memory region.
+   * @param offset offset within the buffer for the memory region.
+   * @param length length of the memory region.
+   * @return the hash code.
+   */
+  default long hashCode64(ArrowBuf buf, long offset, long length) {
+    return hashCode(buf, offset, length);
+  }
 }
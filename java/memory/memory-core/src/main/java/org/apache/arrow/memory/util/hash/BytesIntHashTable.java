@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * An open-addressing hash table from byte sequences to int values, stored off-heap in
+ * {@link ArrowBuf}s allocated from (and accounted in) a {@link BufferAllocator}.
+ * <p>
+ *   The bytes of the keys are copied into an append-only key buffer. Each slot of the table holds the
+ *   64-bit hash code of its key, the position of the key in the key buffer and the value, so probing
+ *   compares hash codes first and only reads the key bytes of probable matches. Collisions are
+ *   resolved by linear probing, and the table doubles its capacity when its load factor is exceeded.
+ * </p>
+ * <p>
+ *   Keys are hashed with the {@link ArrowBufHasher#hashCode64(ArrowBuf, long, long) 64-bit hash code}
+ *   of the hasher of the table ({@link Xxh3Hasher} by default). Callers that already have the hash
+ *   codes of their keys (e.g. from a batch hashing pass) can pass them to the methods taking a hash.
+ * </p>
+ * <p>
+ *   Entries cannot be removed individually; {@link #clear()} removes all of them. This class is not
+ *   thread-safe, and must be closed to release its memory; it must not be used after that.
+ * </p>
+ */
+public class BytesIntHashTable implements AutoCloseable {
+
+  private static final int SLOT_WIDTH = 24;
+  private static final int KEY_OFFSET_OFFSET = 8;
+  private static final int KEY_LENGTH_OFFSET = 16;
+  private static final int VALUE_OFFSET = 20;
+
+  private static final long DEFAULT_KEY_BUFFER_SIZE = 1024;
+
+  private final BufferAllocator allocator;
+  private final ArrowBufHasher hasher;
+  private final float loadFactor;
+
+  private ArrowBuf slots;
+  private long slotsAddress;
+  private int capacity;
+  private int mask;
+  private int threshold;
+  private int size;
+
+  private ArrowBuf keys;
+  private long keysEnd;
+
+  /**
+   * Creates a hash table with the default initial capacity, load factor and hasher.
+   * @param allocator the allocator for the memory of the table.
+   */
+  public BytesIntHashTable(BufferAllocator allocator) {
+    this(allocator, LongIntHashTable.DEFAULT_INITIAL_CAPACITY, LongIntHashTable.DEFAULT_LOAD_FACTOR,
+        Xxh3Hasher.INSTANCE);
+  }
+
+  /**
+   * Creates a hash table.
+   * @param allocator the allocator for the memory of the table.
+   * @param initialCapacity the number of entries the table can hold before being resized.
+   * @param loadFactor the maximum ratio of entries to slots, between 0 and 1 (exclusive).
+   * @param hasher the hasher of the keys.
+   */
+  public BytesIntHashTable(BufferAllocator allocator, int initialCapacity, float loadFactor, ArrowBufHasher hasher) {
+    Preconditions.checkArgument(initialCapacity >= 0, "initial capacity must not be negative");
+    Preconditions.checkArgument(loadFactor > 0 && loadFactor < 1, "load factor must be in (0, 1)");
+    this.allocator = Preconditions.checkNotNull(allocator, "allocator must not be null");
+    this.hasher = Preconditions.checkNotNull(hasher, "hasher must not be null");
+    this.loadFactor = loadFactor;
+    allocateSlots(LongIntHashTable.slotCountFor(initialCapacity, loadFactor));
+    try {
+      keys = allocator.buffer(DEFAULT_KEY_BUFFER_SIZE);
+    } catch (RuntimeException e) {
+      slots.close();
+      throw e;
+    }
+  }
+
+  private void allocateSlots(int slotCount) {
+    final ArrowBuf newSlots = allocator.buffer((long) slotCount * SLOT_WIDTH);
+    newSlots.setZero(0, newSlots.capacity());
+    slots = newSlots;
+    slotsAddress = newSlots.memoryAddress();
+    capacity = slotCount;
+    mask = slotCount - 1;
+    threshold = (int) Math.min(slotCount - 1L, (long) (slotCount * (double) loadFactor));
+  }
+
+  /**
+   * Computes the hash code of a key, as used by this table.
+   */
+  public long hash(ArrowBuf buf, long offset, int length) {
+    return hasher.hashCode64(buf, offset, length);
+  }
+
+  // the key length is stored plus one, so that a zero-filled slot is empty
+  private static boolean isOccupied(long slot) {
+    return MemoryUtil.UNSAFE.getInt(slot + KEY_LENGTH_OFFSET) != 0;
+  }
+
+  private static int keyLength(long slot) {
+    return MemoryUtil.UNSAFE.getInt(slot + KEY_LENGTH_OFFSET) - 1;
+  }
+
+  /**
+   * Find the slot of a key, or the empty slot where it would be inserted.
+   */
+  private long findSlot(long hash, ArrowBuf buf, long offset, int length) {
+    int index = (int) hash & mask;
+    while (true) {
+      final long slot = slotsAddress + (long) index * SLOT_WIDTH;
+      if (!isOccupied(slot)) {
+        return slot;
+      }
+      if (MemoryUtil.UNSAFE.getLong(slot) == hash && keyLength(slot) == length) {
+        final long keyOffset = MemoryUtil.UNSAFE.getLong(slot + KEY_OFFSET_OFFSET);
+        if (ByteFunctionHelpers.equal(keys, keyOffset, keyOffset + length, buf, offset, offset + length) == 1) {
+          return slot;
+        }
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  /**
+   * Gets the value of a key.
+   * @param buf the buffer containing the key.
+   * @param offset the offset of the key in the buffer.
+   * @param length the length of the key.
+   * @param defaultValue the value to return if the key is absent.
+   * @return the value of the key, or the default value.
+   */
+  public int get(ArrowBuf buf, long offset, int length, int defaultValue) {
+    return get(hash(buf, offset, length), buf, offset, length, defaultValue);
+  }
+
+  /**
+   * Gets the value of a key, whose hash code is already known.
+   * @param hash the hash code of the key, computed by {@link #hash(ArrowBuf, long, int)}.
+   * @param buf the buffer containing the key.
+   * @param offset the offset of the key in the buffer.
+   * @param length the length of the key.
+   * @param defaultValue the value to return if the key is absent.
+   * @return the value of the key, or the default value.
+   */
+  public int get(long hash, ArrowBuf buf, long offset, int length, int defaultValue) {
+    final long slot = findSlot(hash, buf, offset, length);
+    return isOccupied(slot) ? MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET) : defaultValue;
+  }
+
+  /**
+   * Gets the value of the key pointed to by an {@link ArrowBufPointer}.
+   */
+  public int get(ArrowBufPointer key, int defaultValue) {
+    return get(key.getBuf(), key.getOffset(), (int) key.getLength(), defaultValue);
+  }
+
+  /**
+   * Checks if the table contains a key.
+   */
+  public boolean containsKey(ArrowBuf buf, long offset, int length) {
+    return isOccupied(findSlot(hash(buf, offset, length), buf, offset, length));
+  }
+
+  /**
+   * Sets the value of a key, replacing its previous value if any.
+   * @param buf the buffer containing the key.
+   * @param offset the offset of the key in the buffer.
+   * @param length the length of the key.
+   * @param value the value.
+   * @return true if the key was absent.
+   */
+  public boolean put(ArrowBuf buf, long offset, int length, int value) {
+    final long hash = hash(buf, offset, length);
+    final long slot = findSlot(hash, buf, offset, length);
+    if (isOccupied(slot)) {
+      MemoryUtil.UNSAFE.putInt(slot + VALUE_OFFSET, value);
+      return false;
+    }
+    insert(slot, hash, buf, offset, length, value);
+    return true;
+  }
+
+  /**
+   * Gets the value of a key, inserting the given value first if the key is absent. This is the
+   * typical operation of dictionary encoding: {@code index = table.getOrPut(buf, offset, length, table.size())}.
+   * @param buf the buffer containing the key.
+   * @param offset the offset of the key in the buffer.
+   * @param length the length of the key.
+   * @param value the value to insert if the key is absent.
+   * @return the value of the key, which is the given value if the key was absent.
+   */
+  public int getOrPut(ArrowBuf buf, long offset, int length, int value) {
+    return getOrPut(hash(buf, offset, length), buf, offset, length, value);
+  }
+
+  /**
+   * Gets the value of a key whose hash code is already known, inserting the given value first if the
+   * key is absent.
+   * @param hash the hash code of the key, computed by {@link #hash(ArrowBuf, long, int)}.
+   * @param buf the buffer containing the key.
+   * @param offset the offset of the key in the buffer.
+   * @param length the length of the key.
+   * @param value the value to insert if the key is absent.
+   * @return the value of the key, which is the given value if the key was absent.
+   */
+  public int getOrPut(long hash, ArrowBuf buf, long offset, int length, int value) {
+    final long slot = findSlot(hash, buf, offset, length);
+    if (isOccupied(slot)) {
+      return MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET);
+    }
+    insert(slot, hash, buf, offset, length, value);
+    return value;
+  }
+
+  private void insert(long slot, long hash, ArrowBuf buf, long offset, int length, int value) {
+    // grow first, so that a failed allocation leaves the table unchanged
+    if (keysEnd + length > keys.capacity()) {
+      growKeys(keysEnd + length);
+    }
+    if (size >= threshold) {
+      rehash(capacity * 2);
+      slot = findSlot(hash, buf, offset, length);
+    }
+    keys.setBytes(keysEnd, buf, offset, length);
+    MemoryUtil.UNSAFE.putLong(slot, hash);
+    MemoryUtil.UNSAFE.putLong(slot + KEY_OFFSET_OFFSET, keysEnd);
+    MemoryUtil.UNSAFE.putInt(slot + KEY_LENGTH_OFFSET, length + 1);
+    MemoryUtil.UNSAFE.putInt(slot + VALUE_OFFSET, value);
+    keysEnd += length;
+    size++;
+  }
+
+  private void growKeys(long minSize) {
+    final ArrowBuf newKeys = allocator.buffer(CommonUtil.nextPowerOfTwo(Math.max(minSize, keys.capacity() * 2)));
+    newKeys.setBytes(0, keys, 0, keysEnd);
+    keys.close();
+    keys = newKeys;
+  }
+
+  private void rehash(int newCapacity) {
+    Preconditions.checkState(newCapacity > 0 && newCapacity <= LongIntHashTable.MAX_CAPACITY, "hash table is full");
+    final ArrowBuf oldSlots = slots;
+    final long oldAddress = slotsAddress;
+    final int oldCapacity = capacity;
+    allocateSlots(newCapacity);
+    try {
+      for (int i = 0; i < oldCapacity; i++) {
+        final long oldSlot = oldAddress + (long) i * SLOT_WIDTH;
+        if (isOccupied(oldSlot)) {
+          // keys are unique, so the first empty slot is the right one
+          int index = (int) MemoryUtil.UNSAFE.getLong(oldSlot) & mask;
+          long slot = slotsAddress + (long) index * SLOT_WIDTH;
+          while (isOccupied(slot)) {
+            index = (index + 1) & mask;
+            slot = slotsAddress + (long) index * SLOT_WIDTH;
+          }
+          MemoryUtil.UNSAFE.copyMemory(oldSlot, slot, SLOT_WIDTH);
+        }
+      }
+    } finally {
+      oldSlots.close();
+    }
+  }
+
+  /**
+   * Calls the consumer for each entry of the table, in slot order.
+   */
+  public void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < capacity; i++) {
+      final long slot = slotsAddress + (long) i * SLOT_WIDTH;
+      if (isOccupied(slot)) {
+        consumer.accept(keys, MemoryUtil.UNSAFE.getLong(slot + KEY_OFFSET_OFFSET), keyLength(slot),
+            MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET));
+      }
+    }
+  }
+
+  /**
+   * Removes all the entries, keeping the current capacity.
+   */
+  public void clear() {
+    slots.setZero(0, slots.capacity());
+    keysEnd = 0;
+    size = 0;
+  }
+
+  /**
+   * Gets the number of entries.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of slots of the table.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Gets the number of bytes of memory used by the table, including the key bytes.
+   */
+  public long getBufferSize() {
+    return slots.capacity() + keys.capacity();
+  }
+
+  @Override
+  public void close() {
+    if (slots != null) {
+      slots.close();
+      keys.close();
+      slots = null;
+      keys = null;
+    }
+  }
+
+  /**
+   * Consumer of the entries of a {@link BytesIntHashTable}. The key is only valid during the call.
+   */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(ArrowBuf keyBuffer, long keyOffset, int keyLength, int value);
+  }
+}
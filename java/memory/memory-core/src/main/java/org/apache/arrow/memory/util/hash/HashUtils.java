@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import org.apache.arrow.memory.util.MemoryUtil;
+
+/**
+ * Memory access and arithmetic helpers shared by the 64-bit hashers.
+ */
+final class HashUtils {
+
+  private HashUtils() {
+  }
+
+  /**
+   * Read a little-endian long from memory.
+   */
+  static long getLongLE(long address) {
+    final long value = MemoryUtil.UNSAFE.getLong(address);
+    return MemoryUtil.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+  }
+
+  /**
+   * Read a little-endian unsigned int from memory.
+   */
+  static long getIntLE(long address) {
+    final int value = MemoryUtil.UNSAFE.getInt(address);
+    return (MemoryUtil.LITTLE_ENDIAN ? value : Integer.reverseBytes(value)) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Read an unsigned byte from memory.
+   */
+  static long getByte(long address) {
+    return MemoryUtil.UNSAFE.getByte(address) & 0xFFL;
+  }
+
+  /**
+   * Read a little-endian long from a byte array.
+   */
+  static long getLongLE(byte[] bytes, int offset) {
+    final long value = MemoryUtil.UNSAFE.getLong(bytes, MemoryUtil.BYTE_ARRAY_BASE_OFFSET + offset);
+    return MemoryUtil.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+  }
+
+  /**
+   * Read a little-endian unsigned int from a byte array.
+   */
+  static long getIntLE(byte[] bytes, int offset) {
+    final int value = MemoryUtil.UNSAFE.getInt(bytes, MemoryUtil.BYTE_ARRAY_BASE_OFFSET + offset);
+    return (MemoryUtil.LITTLE_ENDIAN ? value : Integer.reverseBytes(value)) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Write a little-endian long to a byte array.
+   */
+  static void putLongLE(byte[] bytes, int offset, long value) {
+    MemoryUtil.UNSAFE.putLong(bytes, MemoryUtil.BYTE_ARRAY_BASE_OFFSET + offset,
+        MemoryUtil.LITTLE_ENDIAN ? value : Long.reverseBytes(value));
+  }
+
+  /**
+   * Returns the high 64 bits of the unsigned 128-bit product of the two arguments.
+   * (Math.multiplyHigh is not available on Java 8, and is signed.)
+   */
+  static long unsignedMultiplyHigh(long a, long b) {
+    final long aLo = a & 0xFFFFFFFFL;
+    final long aHi = a >>> 32;
+    final long bLo = b & 0xFFFFFFFFL;
+    final long bHi = b >>> 32;
+
+    final long loLo = aLo * bLo;
+    final long hiLo = aHi * bLo;
+    final long loHi = aLo * bHi;
+    final long hiHi = aHi * bHi;
+
+    final long cross = (loLo >>> 32) + (hiLo & 0xFFFFFFFFL) + loHi;
+    return (hiLo >>> 32) + (cross >>> 32) + hiHi;
+  }
+
+  /**
+   * Multiply the two arguments as unsigned 64-bit integers, and fold the 128-bit product by XOR-ing
+   * its low and high halves.
+   */
+  static long multiplyFold(long a, long b) {
+    return (a * b) ^ unsignedMultiplyHigh(a, b);
+  }
+
+  /**
+   * Fold a 64-bit hash code into 32 bits.
+   */
+  static int fold(long hash) {
+    return (int) (hash ^ (hash >>> 32));
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+
+/**
+ * An open-addressing hash table from long keys to int values, stored off-heap in an {@link ArrowBuf}
+ * allocated from (and accounted in) a {@link BufferAllocator}.
+ * <p>
+ *   Entries are stored inline in 16-byte slots (key, value and an occupied flag), and collisions are
+ *   resolved by linear probing, so a lookup usually touches a single cache line and no Java object is
+ *   created per entry. The table doubles its capacity when its load factor is exceeded.
+ * </p>
+ * <p>
+ *   Entries cannot be removed individually; {@link #clear()} removes all of them. This class is not
+ *   thread-safe, and must be closed to release its memory; it must not be used after that.
+ * </p>
+ */
+public class LongIntHashTable implements AutoCloseable {
+
+  public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private static final int SLOT_WIDTH = 16;
+  private static final int VALUE_OFFSET = 8;
+  private static final int OCCUPIED_OFFSET = 12;
+
+  private final BufferAllocator allocator;
+  private final float loadFactor;
+
+  private ArrowBuf slots;
+  private long slotsAddress;
+  private int capacity;
+  private int mask;
+  private int threshold;
+  private int size;
+
+  /**
+   * Creates a hash table with the default initial capacity and load factor.
+   * @param allocator the allocator for the memory of the table.
+   */
+  public LongIntHashTable(BufferAllocator allocator) {
+    this(allocator, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a hash table.
+   * @param allocator the allocator for the memory of the table.
+   * @param initialCapacity the number of entries the table can hold before being resized.
+   * @param loadFactor the maximum ratio of entries to slots, between 0 and 1 (exclusive).
+   */
+  public LongIntHashTable(BufferAllocator allocator, int initialCapacity, float loadFactor) {
+    Preconditions.checkArgument(initialCapacity >= 0, "initial capacity must not be negative");
+    Preconditions.checkArgument(loadFactor > 0 && loadFactor < 1, "load factor must be in (0, 1)");
+    this.allocator = Preconditions.checkNotNull(allocator, "allocator must not be null");
+    this.loadFactor = loadFactor;
+    allocateSlots(slotCountFor(initialCapacity, loadFactor));
+  }
+
+  static int slotCountFor(int entries, float loadFactor) {
+    final long slotCount = Math.max(2, (long) Math.ceil(entries / (double) loadFactor));
+    Preconditions.checkArgument(slotCount <= MAX_CAPACITY, "capacity %s is too large", entries);
+    return CommonUtil.nextPowerOfTwo((int) slotCount);
+  }
+
+  private void allocateSlots(int slotCount) {
+    final ArrowBuf newSlots = allocator.buffer((long) slotCount * SLOT_WIDTH);
+    newSlots.setZero(0, newSlots.capacity());
+    slots = newSlots;
+    slotsAddress = newSlots.memoryAddress();
+    capacity = slotCount;
+    mask = slotCount - 1;
+    threshold = (int) Math.min(slotCount - 1L, (long) (slotCount * (double) loadFactor));
+  }
+
+  /**
+   * Spread the bits of the key (the finalizer of MurmurHash3).
+   */
+  static long mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb9fe1a85ec53L;
+    return key ^ (key >>> 33);
+  }
+
+  /**
+   * Find the slot of a key, or the empty slot where it would be inserted.
+   */
+  private long findSlot(long key) {
+    int index = (int) mix(key) & mask;
+    while (true) {
+      final long slot = slotsAddress + (long) index * SLOT_WIDTH;
+      if (MemoryUtil.UNSAFE.getInt(slot + OCCUPIED_OFFSET) == 0 || MemoryUtil.UNSAFE.getLong(slot) == key) {
+        return slot;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private static boolean isOccupied(long slot) {
+    return MemoryUtil.UNSAFE.getInt(slot + OCCUPIED_OFFSET) != 0;
+  }
+
+  /**
+   * Gets the value of a key.
+   * @param key the key.
+   * @param defaultValue the value to return if the key is absent.
+   * @return the value of the key, or the default value.
+   */
+  public int get(long key, int defaultValue) {
+    final long slot = findSlot(key);
+    return isOccupied(slot) ? MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET) : defaultValue;
+  }
+
+  /**
+   * Checks if the table contains a key.
+   */
+  public boolean containsKey(long key) {
+    return isOccupied(findSlot(key));
+  }
+
+  /**
+   * Sets the value of a key, replacing its previous value if any.
+   * @param key the key.
+   * @param value the value.
+   * @return true if the key was absent.
+   */
+  public boolean put(long key, int value) {
+    final long slot = findSlot(key);
+    if (isOccupied(slot)) {
+      MemoryUtil.UNSAFE.putInt(slot + VALUE_OFFSET, value);
+      return false;
+    }
+    insert(slot, key, value);
+    return true;
+  }
+
+  /**
+   * Gets the value of a key, inserting the given value first if the key is absent. This is the
+   * typical operation of dictionary encoding: {@code index = table.getOrPut(key, table.size())}.
+   * @param key the key.
+   * @param value the value to insert if the key is absent.
+   * @return the value of the key, which is the given value if the key was absent.
+   */
+  public int getOrPut(long key, int value) {
+    final long slot = findSlot(key);
+    if (isOccupied(slot)) {
+      return MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET);
+    }
+    insert(slot, key, value);
+    return value;
+  }
+
+  private void insert(long slot, long key, int value) {
+    if (size >= threshold) {
+      // resize first, so that a failed allocation leaves the table unchanged
+      rehash(capacity * 2);
+      slot = findSlot(key);
+    }
+    MemoryUtil.UNSAFE.putLong(slot, key);
+    MemoryUtil.UNSAFE.putInt(slot + VALUE_OFFSET, value);
+    MemoryUtil.UNSAFE.putInt(slot + OCCUPIED_OFFSET, 1);
+    size++;
+  }
+
+  private void rehash(int newCapacity) {
+    Preconditions.checkState(newCapacity > 0 && newCapacity <= MAX_CAPACITY, "hash table is full");
+    final ArrowBuf oldSlots = slots;
+    final long oldAddress = slotsAddress;
+    final int oldCapacity = capacity;
+    allocateSlots(newCapacity);
+    try {
+      for (int i = 0; i < oldCapacity; i++) {
+        final long oldSlot = oldAddress + (long) i * SLOT_WIDTH;
+        if (isOccupied(oldSlot)) {
+          final long key = MemoryUtil.UNSAFE.getLong(oldSlot);
+          final long slot = findSlot(key);
+          MemoryUtil.UNSAFE.putLong(slot, key);
+          MemoryUtil.UNSAFE.putInt(slot + VALUE_OFFSET, MemoryUtil.UNSAFE.getInt(oldSlot + VALUE_OFFSET));
+          MemoryUtil.UNSAFE.putInt(slot + OCCUPIED_OFFSET, 1);
+        }
+      }
+    } finally {
+      oldSlots.close();
+    }
+  }
+
+  /**
+   * Calls the consumer for each entry of the table, in slot order.
+   */
+  public void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < capacity; i++) {
+      final long slot = slotsAddress + (long) i * SLOT_WIDTH;
+      if (isOccupied(slot)) {
+        consumer.accept(MemoryUtil.UNSAFE.getLong(slot), MemoryUtil.UNSAFE.getInt(slot + VALUE_OFFSET));
+      }
+    }
+  }
+
+  /**
+   * Removes all the entries, keeping the current capacity.
+   */
+  public void clear() {
+    slots.setZero(0, slots.capacity());
+    size = 0;
+  }
+
+  /**
+   * Gets the number of entries.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of slots of the table.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Gets the number of bytes of memory used by the table.
+   */
+  public long getBufferSize() {
+    return slots.capacity();
+  }
+
+  @Override
+  public void close() {
+    if (slots != null) {
+      slots.close();
+      slots = null;
+    }
+  }
+
+  /**
+   * Consumer of the entries of a {@link LongIntHashTable}.
+   */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(long key, int value);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import static org.apache.arrow.memory.util.hash.HashUtils.getByte;
+import static org.apache.arrow.memory.util.hash.HashUtils.getIntLE;
+import static org.apache.arrow.memory.util.hash.HashUtils.getLongLE;
+import static org.apache.arrow.memory.util.hash.HashUtils.multiplyFold;
+import static org.apache.arrow.memory.util.hash.HashUtils.unsignedMultiplyHigh;
+
+import org.apache.arrow.memory.ArrowBuf;
+
+/**
+ * Implementation of the wyhash hashing algorithm (version "final 4"), with its default secret.
+ * Details of the algorithm can be found in
+ * https://github.com/wangyi-fudan/wyhash
+ * <p>
+ *   wyhash reads 16 bytes per step (48 bytes per step for inputs longer than 48 bytes)
+ *   and is mostly based on 64x64-bit multiplications, which makes it one of the fastest
+ *   hash functions for short and medium keys. It produces 64-bit hash codes.
+ * </p>
+ * <p>
+ *   The produced hash codes are the same as the ones of the reference
+ *   implementation on little-endian platforms.
+ * </p>
+ */
+public class WyHasher implements ArrowBufHasher {
+
+  public static final WyHasher INSTANCE = new WyHasher();
+
+  private static final long SECRET0 = 0x2d358dccaa6c78a5L;
+  private static final long SECRET1 = 0x8bb84b93962eacc9L;
+  private static final long SECRET2 = 0x4b33a62ed433d4a3L;
+  private static final long SECRET3 = 0x4d5a2da51de1aa47L;
+
+  private final long seed;
+
+  /**
+   * Creates a default wyhash hasher, with seed 0.
+   */
+  public WyHasher() {
+    this(0);
+  }
+
+  /**
+   * Creates a wyhash hasher.
+   * @param seed the seed for the hasher.
+   */
+  public WyHasher(long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public int hashCode(long address, long length) {
+    return HashUtils.fold(hashCode64(address, length, seed));
+  }
+
+  @Override
+  public int hashCode(ArrowBuf buf, long offset, long length) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode(buf.memoryAddress() + offset, length);
+  }
+
+  @Override
+  public long hashCode64(long address, long length) {
+    return hashCode64(address, length, seed);
+  }
+
+  @Override
+  public long hashCode64(ArrowBuf buf, long offset, long length) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode64(buf.memoryAddress() + offset, length, seed);
+  }
+
+  /**
+   * Calculates the 64-bit hash code for a memory region.
+   * @param buf the buffer for the memory region.
+   * @param offset offset within the buffer for the memory region.
+   * @param length length of the memory region.
+   * @param seed the seed.
+   * @return the hash code.
+   */
+  public static long hashCode64(ArrowBuf buf, long offset, long length, long seed) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode64(buf.memoryAddress() + offset, length, seed);
+  }
+
+  /**
+   * Calculates the 64-bit hash code for a memory region.
+   * @param address start address of the memory region.
+   * @param length length of the memory region.
+   * @param seed the seed.
+   * @return the hash code.
+   */
+  public static long hashCode64(long address, long length, long seed) {
+    seed ^= multiplyFold(seed ^ SECRET0, SECRET1);
+    long a;
+    long b;
+    if (length <= 16) {
+      if (length >= 4) {
+        final long shift = (length >>> 3) << 2;
+        a = (getIntLE(address) << 32) | getIntLE(address + shift);
+        b = (getIntLE(address + length - 4) << 32) | getIntLE(address + length - 4 - shift);
+      } else if (length > 0) {
+        a = (getByte(address) << 16) | (getByte(address + (length >>> 1)) << 8) | getByte(address + length - 1);
+        b = 0;
+      } else {
+        a = 0;
+        b = 0;
+      }
+    } else {
+      long p = address;
+      long remaining = length;
+      if (remaining > 48) {
+        long see1 = seed;
+        long see2 = seed;
+        while (remaining > 48) {
+          seed = multiplyFold(getLongLE(p) ^ SECRET1, getLongLE(p + 8) ^ seed);
+          see1 = multiplyFold(getLongLE(p + 16) ^ SECRET2, getLongLE(p + 24) ^ see1);
+          see2 = multiplyFold(getLongLE(p + 32) ^ SECRET3, getLongLE(p + 40) ^ see2);
+          p += 48;
+          remaining -= 48;
+        }
+        seed ^= see1 ^ see2;
+      }
+      while (remaining > 16) {
+        seed = multiplyFold(getLongLE(p) ^ SECRET1, getLongLE(p + 8) ^ seed);
+        p += 16;
+        remaining -= 16;
+      }
+      a = getLongLE(p + remaining - 16);
+      b = getLongLE(p + remaining - 8);
+    }
+    a ^= SECRET1;
+    b ^= seed;
+    final long lo = a * b;
+    final long hi = unsignedMultiplyHigh(a, b);
+    return multiplyFold(lo ^ SECRET0 ^ length, hi ^ SECRET1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    WyHasher that = (WyHasher) o;
+    return seed == that.seed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(seed);
+  }
+}
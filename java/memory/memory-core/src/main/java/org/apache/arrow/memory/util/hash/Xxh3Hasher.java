@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import static org.apache.arrow.memory.util.hash.HashUtils.getByte;
+import static org.apache.arrow.memory.util.hash.HashUtils.getIntLE;
+import static org.apache.arrow.memory.util.hash.HashUtils.getLongLE;
+import static org.apache.arrow.memory.util.hash.HashUtils.multiplyFold;
+
+import org.apache.arrow.memory.ArrowBuf;
+
+/**
+ * Implementation of the 64-bit variant of the XXH3 hashing algorithm (xxHash 0.8).
+ * Details of the algorithm can be found in
+ * https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md
+ * <p>
+ *   XXH3 consumes 8 bytes per step for short inputs, and stripes of 64 bytes
+ *   for long inputs, so it is much faster than {@link MurmurHasher} on long keys.
+ *   Its 64-bit output is also suitable for hash tables with a very large number
+ *   of entries, where 32-bit hash codes collide too often.
+ * </p>
+ * <p>
+ *   The produced hash codes are the same as the ones of the reference
+ *   implementation ({@code XXH3_64bits_withSeed}) on little-endian platforms.
+ * </p>
+ */
+public class Xxh3Hasher implements ArrowBufHasher {
+
+  public static final Xxh3Hasher INSTANCE = new Xxh3Hasher();
+
+  private static final long PRIME32_1 = 0x9E3779B1L;
+  private static final long PRIME32_2 = 0x85EBCA77L;
+  private static final long PRIME32_3 = 0xC2B2AE3DL;
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final long PRIME_MX1 = 0x165667919E3779F9L;
+  private static final long PRIME_MX2 = 0x9FB21C651E98DF25L;
+
+  private static final int SECRET_SIZE = 192;
+  private static final int STRIPE_LEN = 64;
+  private static final int SECRET_CONSUME_RATE = 8;
+  private static final int STRIPES_PER_BLOCK = (SECRET_SIZE - STRIPE_LEN) / SECRET_CONSUME_RATE;
+  private static final int BLOCK_LEN = STRIPE_LEN * STRIPES_PER_BLOCK;
+  private static final int SECRET_LASTACC_START = 7;
+  private static final int SECRET_MERGEACCS_START = 11;
+  private static final int MIDSIZE_STARTOFFSET = 3;
+  private static final int MIDSIZE_LASTOFFSET = 17;
+  private static final int SECRET_SIZE_MIN = 136;
+
+  /**
+   * The default secret of the reference implementation, as little-endian longs.
+   */
+  private static final long[] DEFAULT_SECRET_LONGS = {
+      0xbe4ba423396cfeb8L, 0x1cad21f72c81017cL, 0xdb979083e96dd4deL,
+      0x1f67b3b7a4a44072L, 0x78e5c0cc4ee679cbL, 0x2172ffcc7dd05a82L,
+      0x8e2443f7744608b8L, 0x4c263a81e69035e0L, 0xcb00c391bb52283cL,
+      0xa32e531b8b65d088L, 0x4ef90da297486471L, 0xd8acdea946ef1938L,
+      0x3f349ce33f76faa8L, 0x1d4f0bc7c7bbdcf9L, 0x3159b4cd4be0518aL,
+      0x647378d9c97e9fc8L, 0xc3ebd33483acc5eaL, 0xeb6313faffa081c5L,
+      0x49daf0b751dd0d17L, 0x9e68d429265516d3L, 0xfca1477d58be162bL,
+      0xce31d07ad1b8f88fL, 0x280416958f3acb45L, 0x7e404bbbcafbd7afL
+  };
+
+  private static final byte[] DEFAULT_SECRET = new byte[SECRET_SIZE];
+
+  static {
+    for (int i = 0; i < DEFAULT_SECRET_LONGS.length; i++) {
+      HashUtils.putLongLE(DEFAULT_SECRET, i * 8, DEFAULT_SECRET_LONGS[i]);
+    }
+  }
+
+  private final long seed;
+
+  /**
+   * The secret used for inputs longer than 240 bytes, derived from the seed.
+   */
+  private final byte[] longSecret;
+
+  /**
+   * Creates a default XXH3 hasher, with seed 0.
+   */
+  public Xxh3Hasher() {
+    this(0);
+  }
+
+  /**
+   * Creates an XXH3 hasher.
+   * @param seed the seed for the hasher.
+   */
+  public Xxh3Hasher(long seed) {
+    this.seed = seed;
+    this.longSecret = deriveSecret(seed);
+  }
+
+  @Override
+  public int hashCode(long address, long length) {
+    return HashUtils.fold(hashCode64(address, length));
+  }
+
+  @Override
+  public int hashCode(ArrowBuf buf, long offset, long length) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode(buf.memoryAddress() + offset, length);
+  }
+
+  @Override
+  public long hashCode64(long address, long length) {
+    return hash(address, length, seed, longSecret);
+  }
+
+  @Override
+  public long hashCode64(ArrowBuf buf, long offset, long length) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode64(buf.memoryAddress() + offset, length);
+  }
+
+  /**
+   * Calculates the 64-bit hash code for a memory region.
+   * @param buf the buffer for the memory region.
+   * @param offset offset within the buffer for the memory region.
+   * @param length length of the memory region.
+   * @param seed the seed.
+   * @return the hash code.
+   */
+  public static long hashCode64(ArrowBuf buf, long offset, long length, long seed) {
+    buf.checkBytes(offset, offset + length);
+    return hashCode64(buf.memoryAddress() + offset, length, seed);
+  }
+
+  /**
+   * Calculates the 64-bit hash code for a memory region.
+   * @param address start address of the memory region.
+   * @param length length of the memory region.
+   * @param seed the seed.
+   * @return the hash code.
+   */
+  public static long hashCode64(long address, long length, long seed) {
+    return hash(address, length, seed, null);
+  }
+
+  private static long hash(long address, long length, long seed, byte[] longSecret) {
+    if (length <= 16) {
+      return hashLen0To16(address, length, seed);
+    }
+    if (length <= 128) {
+      return hashLen17To128(address, length, seed);
+    }
+    if (length <= 240) {
+      return hashLen129To240(address, length, seed);
+    }
+    if (longSecret == null) {
+      longSecret = deriveSecret(seed);
+    }
+    return hashLong(address, length, longSecret);
+  }
+
+  private static byte[] deriveSecret(long seed) {
+    if (seed == 0) {
+      return DEFAULT_SECRET;
+    }
+    final byte[] secret = new byte[SECRET_SIZE];
+    for (int i = 0; i < SECRET_SIZE; i += 16) {
+      HashUtils.putLongLE(secret, i, getLongLE(DEFAULT_SECRET, i) + seed);
+      HashUtils.putLongLE(secret, i + 8, getLongLE(DEFAULT_SECRET, i + 8) - seed);
+    }
+    return secret;
+  }
+
+  private static long secret(int offset) {
+    return getLongLE(DEFAULT_SECRET, offset);
+  }
+
+  private static long hashLen0To16(long address, long length, long seed) {
+    if (length > 8) {
+      final long bitflip1 = (secret(24) ^ secret(32)) + seed;
+      final long bitflip2 = (secret(40) ^ secret(48)) - seed;
+      final long inputLo = getLongLE(address) ^ bitflip1;
+      final long inputHi = getLongLE(address + length - 8) ^ bitflip2;
+      final long acc = length + Long.reverseBytes(inputLo) + inputHi + multiplyFold(inputLo, inputHi);
+      return avalanche(acc);
+    }
+    if (length >= 4) {
+      seed ^= ((long) Integer.reverseBytes((int) seed)) << 32;
+      final long input1 = getIntLE(address);
+      final long input2 = getIntLE(address + length - 4);
+      final long bitflip = (secret(8) ^ secret(16)) - seed;
+      final long input64 = input2 + (input1 << 32);
+      return rrmxmx(input64 ^ bitflip, length);
+    }
+    if (length > 0) {
+      final long c1 = getByte(address);
+      final long c2 = getByte(address + (length >> 1));
+      final long c3 = getByte(address + length - 1);
+      final long combined = (c1 << 16) | (c2 << 24) | c3 | (length << 8);
+      final long bitflip = (getIntLE(DEFAULT_SECRET, 0) ^ getIntLE(DEFAULT_SECRET, 4)) + seed;
+      return xxh64Avalanche(combined ^ bitflip);
+    }
+    return xxh64Avalanche(seed ^ secret(56) ^ secret(64));
+  }
+
+  private static long mix16(long address, int secretOffset, long seed) {
+    final long inputLo = getLongLE(address);
+    final long inputHi = getLongLE(address + 8);
+    return multiplyFold(inputLo ^ (secret(secretOffset) + seed), inputHi ^ (secret(secretOffset + 8) - seed));
+  }
+
+  private static long hashLen17To128(long address, long length, long seed) {
+    long acc = length * PRIME64_1;
+    if (length > 32) {
+      if (length > 64) {
+        if (length > 96) {
+          acc += mix16(address + 48, 96, seed);
+          acc += mix16(address + length - 64, 112, seed);
+        }
+        acc += mix16(address + 32, 64, seed);
+        acc += mix16(address + length - 48, 80, seed);
+      }
+      acc += mix16(address + 16, 32, seed);
+      acc += mix16(address + length - 32, 48, seed);
+    }
+    acc += mix16(address, 0, seed);
+    acc += mix16(address + length - 16, 16, seed);
+    return avalanche(acc);
+  }
+
+  private static long hashLen129To240(long address, long length, long seed) {
+    long acc = length * PRIME64_1;
+    final int rounds = (int) length / 16;
+    for (int i = 0; i < 8; i++) {
+      acc += mix16(address + 16 * i, 16 * i, seed);
+    }
+    acc = avalanche(acc);
+    for (int i = 8; i < rounds; i++) {
+      acc += mix16(address + 16 * i, 16 * (i - 8) + MIDSIZE_STARTOFFSET, seed);
+    }
+    acc += mix16(address + length - 16, SECRET_SIZE_MIN - MIDSIZE_LASTOFFSET, seed);
+    return avalanche(acc);
+  }
+
+  private static long hashLong(long address, long length, byte[] secret) {
+    final long[] acc = {PRIME32_3, PRIME64_1, PRIME64_2, PRIME64_3, PRIME64_4, PRIME32_2, PRIME64_5, PRIME32_1};
+
+    final long blocks = (length - 1) / BLOCK_LEN;
+    for (long n = 0; n < blocks; n++) {
+      accumulate(acc, address + n * BLOCK_LEN, secret, STRIPES_PER_BLOCK);
+      scramble(acc, secret);
+    }
+
+    // last partial block
+    final int stripes = (int) (((length - 1) - BLOCK_LEN * blocks) / STRIPE_LEN);
+    accumulate(acc, address + blocks * BLOCK_LEN, secret, stripes);
+
+    // last stripe
+    accumulate512(acc, address + length - STRIPE_LEN, secret, SECRET_SIZE - STRIPE_LEN - SECRET_LASTACC_START);
+
+    long result = length * PRIME64_1;
+    for (int i = 0; i < 4; i++) {
+      final int offset = SECRET_MERGEACCS_START + 16 * i;
+      result += multiplyFold(acc[2 * i] ^ getLongLE(secret, offset), acc[2 * i + 1] ^ getLongLE(secret, offset + 8));
+    }
+    return avalanche(result);
+  }
+
+  private static void accumulate(long[] acc, long address, byte[] secret, int stripes) {
+    for (int s = 0; s < stripes; s++) {
+      accumulate512(acc, address + (long) s * STRIPE_LEN, secret, s * SECRET_CONSUME_RATE);
+    }
+  }
+
+  private static void accumulate512(long[] acc, long address, byte[] secret, int secretOffset) {
+    for (int i = 0; i < 8; i++) {
+      final long dataVal = getLongLE(address + 8 * i);
+      final long dataKey = dataVal ^ getLongLE(secret, secretOffset + 8 * i);
+      acc[i ^ 1] += dataVal;
+      acc[i] += (dataKey & 0xFFFFFFFFL) * (dataKey >>> 32);
+    }
+  }
+
+  private static void scramble(long[] acc, byte[] secret) {
+    for (int i = 0; i < 8; i++) {
+      long a = acc[i];
+      a ^= a >>> 47;
+      a ^= getLongLE(secret, SECRET_SIZE - STRIPE_LEN + 8 * i);
+      acc[i] = a * PRIME32_1;
+    }
+  }
+
+  private static long xxh64Avalanche(long hash) {
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    return hash ^ (hash >>> 32);
+  }
+
+  private static long avalanche(long hash) {
+    hash ^= hash >>> 37;
+    hash *= PRIME_MX1;
+    return hash ^ (hash >>> 32);
+  }
+
+  private static long rrmxmx(long hash, long length) {
+    hash ^= Long.rotateLeft(hash, 49) ^ Long.rotateLeft(hash, 24);
+    hash *= PRIME_MX2;
+    hash ^= (hash >>> 35) + length;
+    hash *= PRIME_MX2;
+    return hash ^ (hash >>> 28);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Xxh3Hasher that = (Xxh3Hasher) o;
+    return seed == that.seed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(seed);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Utility methods to run tasks on an {@link ExecutorService} and wait for all of them.
+ *
+ * <p>If a task fails, or the caller is interrupted, the tasks that did not start are skipped and the
+ * started tasks are waited for until they have finished before the failure is thrown, so the caller
+ * can release the state that the tasks use, e.g. the vectors they write into.
+ */
+public final class ParallelTasks {
+
+  private ParallelTasks() {
+  }
+
+  /**
+   * A task that may throw a checked exception.
+   *
+   * @param <E> the type of checked exception.
+   */
+  @FunctionalInterface
+  public interface Task<E extends Exception> {
+
+    /**
+     * Runs the task.
+     *
+     * @throws E if the task fails.
+     */
+    void run() throws E;
+  }
+
+  /**
+   * Runs tasks on an executor, and waits for all of them to complete.
+   *
+   * @param tasks the tasks.
+   * @param executor the executor.
+   * @throws InterruptedException if interrupted while waiting for the tasks.
+   */
+  public static void runAll(List<? extends Runnable> tasks, ExecutorService executor) throws InterruptedException {
+    final List<Task<RuntimeException>> checkedTasks = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      checkedTasks.add(task::run);
+    }
+    runAll(checkedTasks, RuntimeException.class, executor);
+  }
+
+  /**
+   * Runs tasks that may throw a checked exception on an executor, and waits for all of them to complete.
+   *
+   * @param tasks the tasks.
+   * @param exceptionType the type of checked exception thrown by the tasks.
+   * @param executor the executor.
+   * @param <E> the type of checked exception.
+   * @throws E the first failure of a task, in the order of the tasks.
+   * @throws InterruptedException if interrupted while waiting for the tasks.
+   */
+  public static <E extends Exception> void runAll(List<? extends Task<E>> tasks, Class<E> exceptionType,
+      ExecutorService executor) throws E, InterruptedException {
+    // a task is claimed either by the worker running it or, after a failure, by the caller skipping it
+    final AtomicBoolean[] claimed = new AtomicBoolean[tasks.size()];
+    final CountDownLatch finished = new CountDownLatch(tasks.size());
+    final List<Future<?>> futures = new ArrayList<>(tasks.size());
+    try {
+      for (int i = 0; i < tasks.size(); i++) {
+        final Task<E> task = tasks.get(i);
+        final AtomicBoolean taskClaimed = claimed[i] = new AtomicBoolean();
+        futures.add(executor.submit(() -> {
+          if (taskClaimed.compareAndSet(false, true)) {
+            try {
+              task.run();
+            } finally {
+              finished.countDown();
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          final Throwable cause = e.getCause();
+          if (exceptionType.isInstance(cause)) {
+            throw exceptionType.cast(cause);
+          } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          } else if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new RuntimeException(cause);
+        }
+      }
+    } catch (Exception | Error e) {
+      awaitTermination(claimed, futures, finished);
+      throw e;
+    }
+  }
+
+  /**
+   * Skips the tasks that did not start, and waits until the started tasks have finished, even if
+   * interrupted, since the caller releases the state they use once this returns.
+   */
+  private static void awaitTermination(AtomicBoolean[] claimed, List<Future<?>> futures, CountDownLatch finished) {
+    for (int i = 0; i < claimed.length; i++) {
+      if (claimed[i] == null || claimed[i].compareAndSet(false, true)) {
+        finished.countDown();
+      }
+    }
+    for (Future<?> future : futures) {
+      future.cancel(false);
+    }
+    boolean interrupted = false;
+    while (true) {
+      try {
+        finished.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link AdmissionController}.
+ */
+public class TestAdmissionController {
+
+  @Test
+  public void testReclaimersInvokedInOrder() {
+    final List<String> calls = new ArrayList<>();
+    try (AdmissionController controller = new AdmissionController();
+         BufferAllocator allocator = new RootAllocator(controller, 1024)) {
+      final List<ArrowBuf> cache = new ArrayList<>();
+      cache.add(allocator.buffer(512));
+      final ArrowBuf pinned = allocator.buffer(512);
+
+      final MemoryReclaimer spill = bytes -> {
+        calls.add("spill");
+        return 0;
+      };
+      controller.registerReclaimer(10, spill);
+      controller.registerReclaimer(0, bytes -> {
+        calls.add("evict");
+        long released = 0;
+        for (ArrowBuf buf : cache) {
+          released += buf.capacity();
+          buf.close();
+        }
+        cache.clear();
+        return released;
+      });
+      controller.registerReclaimer(5, bytes -> {
+        calls.add("compact");
+        return 0;
+      });
+
+      try (ArrowBuf buf = allocator.buffer(256)) {
+        assertEquals(256, buf.capacity());
+      }
+      // the first reclaimer released enough memory
+      assertEquals(1, calls.size());
+      assertEquals("evict", calls.get(0));
+
+      calls.clear();
+      assertThrows(OutOfMemoryException.class, () -> allocator.buffer(1024));
+      assertEquals(3, calls.size());
+      assertEquals("evict", calls.get(0));
+      assertEquals("compact", calls.get(1));
+      assertEquals("spill", calls.get(2));
+
+      assertTrue(controller.unregisterReclaimer(spill));
+      assertFalse(controller.unregisterReclaimer(spill));
+      pinned.close();
+    }
+  }
+
+  @Test
+  public void testWaitForRelease() throws Exception {
+    try (AdmissionController controller = new AdmissionController();
+         BufferAllocator root = new RootAllocator(controller, 1024);
+         BufferAllocator child = root.newChildAllocator("child", 0, Long.MAX_VALUE)) {
+      final ArrowBuf held = child.buffer(1024);
+
+      final CompletableFuture<ArrowBuf> future = controller.allocate(child, 512, 0, 1, TimeUnit.MINUTES);
+      assertFalse(future.isDone());
+      assertEquals(1, controller.getWaiterCount());
+
+      held.close();
+      try (ArrowBuf buf = future.get(10, TimeUnit.SECONDS)) {
+        assertEquals(512, buf.capacity());
+        assertEquals(512, child.getAllocatedMemory());
+      }
+      assertEquals(0, controller.getWaiterCount());
+    }
+  }
+
+  @Test
+  public void testPriority() throws Exception {
+    try (AdmissionController controller = new AdmissionController();
+         BufferAllocator allocator = new RootAllocator(controller, 1024)) {
+      final ArrowBuf held1 = allocator.buffer(512);
+      final ArrowBuf held2 = allocator.buffer(512);
+
+      final CompletableFuture<ArrowBuf> low = controller.allocate(allocator, 512, 1, 1, TimeUnit.MINUTES);
+      final CompletableFuture<ArrowBuf> high = controller.allocate(allocator, 512, 10, 1, TimeUnit.MINUTES);
+      assertEquals(2, controller.getWaiterCount());
+
+      held1.close();
+      final ArrowBuf highBuf = high.get(10, TimeUnit.SECONDS);
+      assertFalse(low.isDone());
+
+      held2.close();
+      final ArrowBuf lowBuf = low.get(10, TimeUnit.SECONDS);
+      highBuf.close();
+      lowBuf.close();
+    }
+  }
+
+  @Test
+  public void testTimeoutAndCancel() throws Exception {
+    try (AdmissionController controller = new AdmissionController();
+         BufferAllocator allocator = new RootAllocator(controller, 1024);
+         ArrowBuf held = allocator.buffer(1024)) {
+      final CompletableFuture<ArrowBuf> immediate = controller.allocate(allocator, 512, 0, 0, TimeUnit.SECONDS);
+      assertTrue(immediate.isCompletedExceptionally());
+
+      final CompletableFuture<ArrowBuf> timedOut =
+          controller.allocate(allocator, 512, 0, 10, TimeUnit.MILLISECONDS);
+      final ExecutionException e = assertThrows(ExecutionException.class, () -> timedOut.get(10, TimeUnit.SECONDS));
+      assertTrue(e.getCause() instanceof OutOfMemoryException);
+
+      assertThrows(OutOfMemoryException.class,
+          () -> controller.allocateBlocking(allocator, 512, 0, 10, TimeUnit.MILLISECONDS));
+
+      final CompletableFuture<ArrowBuf> cancelled = controller.allocate(allocator, 512, 0, 1, TimeUnit.MINUTES);
+      assertEquals(1, controller.getWaiterCount());
+      cancelled.cancel(false);
+      assertEquals(0, controller.getWaiterCount());
+    }
+  }
+
+  @Test
+  public void testServedBeforeExpirationIsScheduled() throws Exception {
+    final AtomicReference<Runnable> beforeSchedule = new AtomicReference<>();
+    final AtomicReference<ScheduledFuture<?>> expiration = new AtomicReference<>();
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1) {
+      @Override
+      public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        final Runnable hook = beforeSchedule.getAndSet(null);
+        if (hook == null) {
+          return super.schedule(command, delay, unit);
+        }
+        hook.run();
+        expiration.set(super.schedule(command, delay, unit));
+        return expiration.get();
+      }
+    };
+    executor.setRemoveOnCancelPolicy(true);
+    try (AdmissionController controller = new AdmissionController(AllocationListener.NOOP, executor);
+         BufferAllocator allocator = new RootAllocator(controller, 1024)) {
+      final ArrowBuf held = allocator.buffer(1024);
+      // release the memory and wait until the request is served, before its expiration is scheduled
+      beforeSchedule.set(() -> {
+        held.close();
+        try {
+          executor.submit(() -> { }).get();
+        } catch (InterruptedException | ExecutionException e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      final CompletableFuture<ArrowBuf> future = controller.allocate(allocator, 512, 0, 1, TimeUnit.MINUTES);
+      try (ArrowBuf buf = future.get(10, TimeUnit.SECONDS)) {
+        assertEquals(512, buf.capacity());
+      }
+      // the expiration of the served request was cancelled, and nothing else is scheduled once the
+      // last drain has run
+      assertTrue(expiration.get().isCancelled());
+      executor.submit(() -> { }).get();
+      assertTrue(executor.getQueue().isEmpty());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCloseFailsWaiters() {
+    final AdmissionController controller = new AdmissionController();
+    try (BufferAllocator allocator = new RootAllocator(controller, 1024);
+         ArrowBuf held = allocator.buffer(1024)) {
+      final CompletableFuture<ArrowBuf> future = controller.allocate(allocator, 512, 0, 1, TimeUnit.MINUTES);
+      controller.close();
+      assertTrue(future.isCompletedExceptionally());
+      assertThrows(IllegalStateException.class,
+          () -> controller.allocate(allocator, 512, 0, 1, TimeUnit.MINUTES));
+    }
+  }
+}
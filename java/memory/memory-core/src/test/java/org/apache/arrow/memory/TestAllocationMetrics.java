@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test cases for {@link AllocationMetrics} and the JFR events emitted by allocators.
+ */
+public class TestAllocationMetrics {
+
+  @Test
+  public void testSizeClass() {
+    assertEquals(0, AllocationMetrics.sizeClass(0));
+    assertEquals(0, AllocationMetrics.sizeClass(1));
+    assertEquals(1, AllocationMetrics.sizeClass(2));
+    assertEquals(2, AllocationMetrics.sizeClass(3));
+    assertEquals(10, AllocationMetrics.sizeClass(1024));
+    assertEquals(11, AllocationMetrics.sizeClass(1025));
+    assertEquals(63, AllocationMetrics.sizeClass(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testCountsAndPeak() {
+    final AllocationMetrics metrics = new AllocationMetrics();
+    try (BufferAllocator allocator = new RootAllocator(metrics, Long.MAX_VALUE)) {
+      try (ArrowBuf buf1 = allocator.buffer(1024);
+           ArrowBuf buf2 = allocator.buffer(4096)) {
+        assertEquals(2, metrics.getAllocationCount());
+        assertEquals(5120, metrics.getAllocatedBytes());
+        assertEquals(5120, metrics.getOutstandingBytes());
+      }
+      try (ArrowBuf buf = allocator.buffer(1000)) {
+        assertEquals(1024, metrics.getOutstandingBytes());
+      }
+
+      assertEquals(3, metrics.getAllocationCount());
+      assertEquals(3, metrics.getReleaseCount());
+      assertEquals(6144, metrics.getReleasedBytes());
+      assertEquals(0, metrics.getOutstandingBytes());
+      assertEquals(5120, metrics.getPeakOutstandingBytes());
+      assertEquals(2, metrics.getSizeClassCount(10));
+      assertEquals(1, metrics.getSizeClassCount(12));
+      assertEquals(3, metrics.getSizeClassHistogram()[10] + metrics.getSizeClassHistogram()[12]);
+
+      metrics.reset();
+      assertEquals(0, metrics.getAllocationCount());
+      assertEquals(0, metrics.getPeakOutstandingBytes());
+    }
+  }
+
+  @Test
+  public void testFailedAllocationsAndChildren() {
+    final AllocationMetrics metrics = new AllocationMetrics();
+    try (BufferAllocator root = new RootAllocator(metrics, 1024);
+         BufferAllocator child = root.newChildAllocator("child", 0, Long.MAX_VALUE)) {
+      assertEquals(1, metrics.getChildAllocatorCount());
+      assertThrows(OutOfMemoryException.class, () -> child.buffer(2048));
+      assertEquals(1, metrics.getFailedAllocationCount());
+      assertEquals(2048, metrics.getFailedAllocationBytes());
+      assertEquals(0, metrics.getAllocationCount());
+    }
+    assertEquals(0, metrics.getChildAllocatorCount());
+  }
+
+  @Test
+  public void testDelegate() {
+    final AllocationMetrics inner = new AllocationMetrics();
+    final AllocationMetrics outer = new AllocationMetrics(inner);
+    try (BufferAllocator allocator = new RootAllocator(outer, Long.MAX_VALUE);
+         ArrowBuf buf = allocator.buffer(64)) {
+      assertEquals(1, outer.getAllocationCount());
+      assertEquals(1, inner.getAllocationCount());
+    }
+    assertEquals(1, inner.getReleaseCount());
+  }
+
+  @Test
+  public void testJfrEvents() throws Exception {
+    final Path file = Files.createTempFile("arrow-allocator", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("org.apache.arrow.memory.Allocation");
+      recording.enable("org.apache.arrow.memory.AllocatorLeak");
+      recording.start();
+
+      // closing the root fails, as it still accounts for the buffer leaked by the child
+      assertThrows(IllegalStateException.class, () -> {
+        try (BufferAllocator root = new RootAllocator()) {
+          try (ArrowBuf buf = root.buffer(AllocatorEvents.ALLOCATION_EVENT_THRESHOLD);
+               ArrowBuf small = root.buffer(16)) {
+            assertEquals(16, small.capacity());
+          }
+          // leak a small buffer so that closing the child reports it. It cannot be released once the
+          // child is closed.
+          final BufferAllocator child = root.newChildAllocator("leaky", 0, Long.MAX_VALUE);
+          child.buffer(16);
+          assertThrows(IllegalStateException.class, child::close);
+        }
+      });
+
+      recording.stop();
+      recording.dump(file);
+
+      final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      final List<RecordedEvent> allocations = events.stream()
+          .filter(e -> e.getEventType().getName().equals("org.apache.arrow.memory.Allocation"))
+          .collect(Collectors.toList());
+      assertEquals(1, allocations.size());
+      assertEquals("ROOT", allocations.get(0).getString("allocator"));
+      assertEquals(AllocatorEvents.ALLOCATION_EVENT_THRESHOLD, allocations.get(0).getLong("size"));
+
+      final List<RecordedEvent> leaks = events.stream()
+          .filter(e -> e.getEventType().getName().equals("org.apache.arrow.memory.AllocatorLeak"))
+          .filter(e -> "leaky".equals(e.getString("allocator")))
+          .collect(Collectors.toList());
+      assertEquals(1, leaks.size());
+      assertEquals("ROOT", leaks.get(0).getString("parentAllocator"));
+      assertEquals(16, leaks.get(0).getLong("outstanding"));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
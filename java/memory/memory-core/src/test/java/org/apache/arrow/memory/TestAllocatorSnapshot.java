@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link AllocatorSnapshot}.
+ */
+public class TestAllocatorSnapshot {
+
+  @Test
+  public void testSnapshot() {
+    try (BufferAllocator root = new RootAllocator(1 << 20);
+         BufferAllocator query1 = root.newChildAllocator("query1", 0, 1 << 16);
+         BufferAllocator query2 = root.newChildAllocator("query2", 0, Long.MAX_VALUE);
+         BufferAllocator operator = query1.newChildAllocator("scan", 0, Long.MAX_VALUE);
+         ArrowBuf buf1 = operator.buffer(1024);
+         ArrowBuf buf2 = query2.buffer(4096)) {
+      final ArrowBuf buf3 = root.buffer(256);
+      final ArrowBuf temp = query1.buffer(8192);
+      temp.close();
+
+      final AllocatorSnapshot snapshot = root.snapshot();
+      assertEquals("ROOT", snapshot.getName());
+      assertEquals(1 << 20, snapshot.getLimit());
+      assertEquals(1024 + 4096 + 256, snapshot.getAllocatedMemory());
+      assertEquals(256, snapshot.getOwnAllocatedMemory());
+      assertEquals(2, snapshot.getChildCount());
+
+      final AllocatorSnapshot query1Snapshot = snapshot.getChildren().get(0);
+      assertEquals("query1", query1Snapshot.getName());
+      assertEquals(1 << 16, query1Snapshot.getLimit());
+      assertEquals(1024, query1Snapshot.getAllocatedMemory());
+      assertEquals(8192 + 1024, query1Snapshot.getPeakMemoryAllocation());
+      assertEquals(0, query1Snapshot.getOwnAllocatedMemory());
+
+      final List<String> names = snapshot.stream().map(AllocatorSnapshot::getName).collect(Collectors.toList());
+      assertEquals(4, names.size());
+      assertEquals("ROOT", names.get(0));
+      assertEquals("query1", names.get(1));
+      assertEquals("scan", names.get(2));
+      assertEquals("query2", names.get(3));
+
+      // the snapshot is immutable
+      buf3.close();
+      assertEquals(1024 + 4096 + 256, snapshot.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testJson() {
+    try (BufferAllocator root = new RootAllocator(1024);
+         BufferAllocator child = root.newChildAllocator("stream \"a\"\n", 0, 512);
+         ArrowBuf buf = child.buffer(64)) {
+      assertEquals("{\"name\":\"ROOT\",\"limit\":1024,\"allocated\":64,\"peak\":64,\"childCount\":1,\"children\":[" +
+              "{\"name\":\"stream \\\"a\\\"\\n\",\"limit\":512,\"allocated\":64,\"peak\":64,\"childCount\":0," +
+              "\"children\":[]}]}",
+          root.snapshot().toJson());
+    }
+  }
+
+  @Test
+  public void testDiff() {
+    try (BufferAllocator root = new RootAllocator(Long.MAX_VALUE);
+         BufferAllocator stable = root.newChildAllocator("stable", 0, Long.MAX_VALUE);
+         BufferAllocator growing = root.newChildAllocator("growing", 0, Long.MAX_VALUE);
+         ArrowBuf buf = stable.buffer(128)) {
+      final BufferAllocator finished = root.newChildAllocator("finished", 0, Long.MAX_VALUE);
+      final ArrowBuf growingBuf1 = growing.buffer(256);
+      final AllocatorSnapshot before = root.snapshot();
+      assertFalse(root.snapshot().diff(before).isChanged());
+
+      finished.close();
+      final ArrowBuf growingBuf2 = growing.buffer(1024);
+      try (BufferAllocator started = root.newChildAllocator("started", 0, Long.MAX_VALUE)) {
+        final AllocatorSnapshot.Diff diff = root.snapshot().diff(before);
+        assertTrue(diff.isChanged());
+        assertEquals(AllocatorSnapshot.Diff.Status.PRESENT, diff.getStatus());
+        assertEquals(1024, diff.getAllocatedMemoryDelta());
+
+        final List<AllocatorSnapshot.Diff> children = diff.getChildren();
+        assertEquals(4, children.size());
+        assertEquals("finished", children.get(0).getName());
+        assertEquals(AllocatorSnapshot.Diff.Status.REMOVED, children.get(0).getStatus());
+        assertEquals("growing", children.get(1).getName());
+        assertEquals(1024, children.get(1).getAllocatedMemoryDelta());
+        assertEquals(256 + 1024, children.get(1).getCurrentAllocatedMemory());
+        assertEquals("stable", children.get(2).getName());
+        assertFalse(children.get(2).isChanged());
+        assertEquals("started", children.get(3).getName());
+        assertEquals(AllocatorSnapshot.Diff.Status.ADDED, children.get(3).getStatus());
+
+        // find the allocator consuming the most memory since the previous snapshot
+        assertEquals("growing", diff.stream().skip(1)
+            .max((a, b) -> Long.compare(a.getAllocatedMemoryDelta(), b.getAllocatedMemoryDelta())).get().getName());
+        assertTrue(diff.toJson().contains("{\"name\":\"finished\",\"status\":\"REMOVED\",\"previousAllocated\":0"));
+      }
+      growingBuf1.close();
+      growingBuf2.close();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+
+/**
+ * Stress tests for concurrent reference counting in {@link BufferLedger}.
+ */
+public class TestBufferLedgerConcurrency {
+
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 20_000;
+
+  @Test
+  public void testConcurrentRetainSliceRelease() throws Exception {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      final ArrowBuf buf = allocator.buffer(1024);
+      final ReferenceManager refManager = buf.getReferenceManager();
+
+      runConcurrently(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < ITERATIONS; i++) {
+          final int count = random.nextInt(1, 4);
+          refManager.retain(count);
+          final int offset = random.nextInt(0, 512);
+          final ArrowBuf slice = buf.slice(offset, 64);
+          assertEquals(buf.memoryAddress() + offset, slice.memoryAddress());
+          assertEquals(buf.getLong(offset), slice.getLong(0));
+          refManager.release(count);
+        }
+      });
+
+      assertEquals(1, refManager.getRefCount());
+      assertEquals(1024, allocator.getAllocatedMemory());
+      buf.close();
+      assertEquals(0, allocator.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testConcurrentAssociateAcrossAllocators() throws Exception {
+    try (BufferAllocator root = new RootAllocator()) {
+      final BufferAllocator[] children = new BufferAllocator[4];
+      for (int i = 0; i < children.length; i++) {
+        children[i] = root.newChildAllocator("child" + i, 0, Long.MAX_VALUE);
+      }
+      final ArrowBuf buf = children[0].buffer(4096);
+
+      runConcurrently(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < ITERATIONS; i++) {
+          final BufferAllocator target = children[random.nextInt(children.length)];
+          // associates with either the owning ledger (lock-free path) or another ledger
+          final ArrowBuf retained = buf.getReferenceManager().retain(buf, target);
+          retained.getReferenceManager().retain();
+          retained.getReferenceManager().release();
+          retained.close();
+        }
+      });
+
+      assertEquals(1, buf.refCnt());
+      assertEquals(4096, root.getAllocatedMemory());
+      assertEquals(4096, children[0].getAllocatedMemory());
+      buf.close();
+      for (BufferAllocator child : children) {
+        assertEquals(0, child.getAllocatedMemory());
+        child.close();
+      }
+      assertEquals(0, root.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testConcurrentAllocateTransferRelease() throws Exception {
+    try (BufferAllocator root = new RootAllocator();
+         BufferAllocator source = root.newChildAllocator("source", 0, Long.MAX_VALUE);
+         BufferAllocator target = root.newChildAllocator("target", 0, Long.MAX_VALUE)) {
+      runConcurrently(() -> {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+          final ArrowBuf buf = source.buffer(128);
+          final ArrowBuf shared = buf.getReferenceManager().retain(buf, target);
+          final ArrowBuf transferred =
+              buf.getReferenceManager().transferOwnership(buf, target).getTransferredBuffer();
+          buf.close();
+          shared.close();
+          transferred.close();
+        }
+      });
+      assertEquals(0, source.getAllocatedMemory());
+      assertEquals(0, target.getAllocatedMemory());
+      assertEquals(0, root.getAllocatedMemory());
+    }
+  }
+
+  private static void runConcurrently(ThrowingRunnable task) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          barrier.await();
+          task.run();
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+}
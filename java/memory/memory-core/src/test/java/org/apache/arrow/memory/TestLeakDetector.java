@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link LeakDetector}.
+ */
+public class TestLeakDetector {
+
+  @After
+  public void tearDown() {
+    LeakDetector.setLevel(LeakDetector.Level.DISABLED);
+    LeakDetector.setSamplingInterval(LeakDetector.DEFAULT_SAMPLING_INTERVAL);
+  }
+
+  @Test
+  public void testDisabled() {
+    LeakDetector.setLevel(LeakDetector.Level.DISABLED);
+    final int tracked = LeakDetector.getTrackedCount();
+    try (BufferAllocator allocator = new RootAllocator();
+         ArrowBuf buf = allocator.buffer(16)) {
+      assertEquals(tracked, LeakDetector.getTrackedCount());
+    }
+  }
+
+  @Test
+  public void testReleasedBufferIsNotTracked() {
+    LeakDetector.setLevel(LeakDetector.Level.PARANOID);
+    final int tracked = LeakDetector.getTrackedCount();
+    try (BufferAllocator allocator = new RootAllocator()) {
+      final ArrowBuf buf = allocator.buffer(16);
+      assertEquals(tracked + 1, LeakDetector.getTrackedCount());
+      // transfers keep the same underlying allocation, hence the same tracker
+      try (BufferAllocator child = allocator.newChildAllocator("child", 0, Long.MAX_VALUE)) {
+        final ArrowBuf transferred = buf.getReferenceManager().transferOwnership(buf, child).getTransferredBuffer();
+        buf.close();
+        assertEquals(tracked + 1, LeakDetector.getTrackedCount());
+        transferred.close();
+      }
+      assertEquals(tracked, LeakDetector.getTrackedCount());
+    }
+  }
+
+  @Test
+  public void testSampling() {
+    LeakDetector.setLevel(LeakDetector.Level.SAMPLED);
+    LeakDetector.setSamplingInterval(2);
+    final int tracked = LeakDetector.getTrackedCount();
+    final int bufferCount = 200;
+    final ArrowBuf[] buffers = new ArrowBuf[bufferCount];
+    try (BufferAllocator allocator = new RootAllocator()) {
+      for (int i = 0; i < bufferCount; i++) {
+        buffers[i] = allocator.buffer(16);
+      }
+      // each allocation is sampled with a probability of 1/2, so some of them are tracked and some are not
+      final int sampled = LeakDetector.getTrackedCount() - tracked;
+      assertTrue("sampled " + sampled + " allocations", sampled > 0 && sampled < bufferCount);
+
+      for (ArrowBuf buffer : buffers) {
+        buffer.close();
+      }
+      // closed buffers are no longer tracked
+      assertEquals(tracked, LeakDetector.getTrackedCount());
+    }
+  }
+
+  @Test
+  public void testLeakIsReported() throws InterruptedException {
+    LeakDetector.setLevel(LeakDetector.Level.PARANOID);
+    final long reported = LeakDetector.getReportedLeakCount();
+    // the leaked memory stays accounted for, so this allocator is deliberately not closed
+    final BufferAllocator allocator = new RootAllocator();
+    leakBuffer(allocator);
+
+    int leaks = 0;
+    for (int i = 0; i < 100 && leaks == 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+      leaks = LeakDetector.checkForLeaks();
+    }
+    assertEquals(1, leaks);
+    assertTrue(LeakDetector.getReportedLeakCount() > reported);
+    assertEquals(64, allocator.getAllocatedMemory());
+  }
+
+  private static void leakBuffer(BufferAllocator allocator) {
+    allocator.buffer(64);
+  }
+}
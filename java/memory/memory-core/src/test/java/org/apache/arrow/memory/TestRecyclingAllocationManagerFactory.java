@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link RecyclingAllocationManagerFactory}.
+ */
+public class TestRecyclingAllocationManagerFactory {
+
+  @Test
+  public void testRecycleSameSize() {
+    try (RecyclingAllocationManagerFactory factory = new RecyclingAllocationManagerFactory();
+         BufferAllocator allocator = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE, factory)) {
+      final ArrowBuf first = allocator.buffer(1024);
+      final long address = first.memoryAddress();
+      first.close();
+      assertEquals(1024, factory.getPooledBytes());
+      assertEquals(0, allocator.getAllocatedMemory());
+
+      try (ArrowBuf second = allocator.buffer(1024);
+           ArrowBuf other = allocator.buffer(2048)) {
+        assertEquals(address, second.memoryAddress());
+        assertNotEquals(address, other.memoryAddress());
+        assertEquals(0, factory.getPooledBytes());
+        assertEquals(3072, allocator.getAllocatedMemory());
+      }
+      assertEquals(1, factory.getHitCount());
+      assertEquals(2, factory.getMissCount());
+      assertEquals(3072, factory.getPooledBytes());
+    }
+  }
+
+  @Test
+  public void testBounds() {
+    try (RecyclingAllocationManagerFactory factory = new RecyclingAllocationManagerFactory(4096, 2);
+         BufferAllocator allocator = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE, factory)) {
+      final List<ArrowBuf> buffers = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        buffers.add(allocator.buffer(512));
+      }
+      buffers.add(allocator.buffer(2048));
+      buffers.add(allocator.buffer(8192));
+      buffers.forEach(ArrowBuf::close);
+
+      // at most 2 buffers of 512 bytes, and nothing beyond 4096 bytes in total
+      assertEquals(512 * 2 + 2048, factory.getPooledBytes());
+
+      factory.releasePooledMemory();
+      assertEquals(0, factory.getPooledBytes());
+    }
+  }
+
+  @Test
+  public void testOwnershipTransfer() {
+    try (RecyclingAllocationManagerFactory factory = new RecyclingAllocationManagerFactory();
+         BufferAllocator root = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE, factory);
+         BufferAllocator child1 = root.newChildAllocator("child1", 0, Long.MAX_VALUE);
+         BufferAllocator child2 = root.newChildAllocator("child2", 0, Long.MAX_VALUE)) {
+      final ArrowBuf buf = child1.buffer(1024);
+      final ArrowBuf transferred = buf.getReferenceManager().transferOwnership(buf, child2).getTransferredBuffer();
+      buf.close();
+      // still referenced through the second allocator
+      assertEquals(0, factory.getPooledBytes());
+      assertEquals(1024, child2.getAllocatedMemory());
+
+      final ArrowBuf shared = transferred.getReferenceManager().retain(transferred, child1);
+      transferred.close();
+      assertEquals(0, factory.getPooledBytes());
+      shared.close();
+      assertEquals(1024, factory.getPooledBytes());
+      assertEquals(0, root.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testClose() {
+    final RecyclingAllocationManagerFactory factory = new RecyclingAllocationManagerFactory();
+    try (BufferAllocator allocator = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE, factory)) {
+      allocator.buffer(1024).close();
+      final ArrowBuf held = allocator.buffer(2048);
+      factory.close();
+      assertEquals(0, factory.getPooledBytes());
+
+      // buffers remain valid, and are freed rather than pooled once the factory is closed
+      held.setLong(0, 42);
+      assertEquals(42, held.getLong(0));
+      held.close();
+      assertEquals(0, factory.getPooledBytes());
+    }
+  }
+}
@@ -164,4 +164,43 @@ public class TestByteFunctionHelpers {
 
     buffer1.close();
   }
+
+  @Test
+  public void testMismatchAtEveryPosition() {
+    final int length = 200;
+    try (ArrowBuf buffer1 = allocator.buffer(length);
+         ArrowBuf buffer2 = allocator.buffer(length)) {
+      final byte[] bytes = new byte[length];
+      for (int i = 0; i < length; i++) {
+        buffer1.setByte(i, i);
+        buffer2.setByte(i, i);
+        bytes[i] = (byte) i;
+      }
+
+      for (int pos = 0; pos < length; pos++) {
+        // lower all bytes after the mismatch so that only the first differing byte can decide the order
+        buffer1.setByte(pos, pos + 1);
+        for (int i = pos + 1; i < length; i++) {
+          buffer1.setByte(i, 0);
+        }
+        assertEquals(0, ByteFunctionHelpers.equal(buffer1, 0, length, buffer2, 0, length));
+        assertEquals(1, ByteFunctionHelpers.compare(buffer1, 0, length, buffer2, 0, length));
+        assertEquals(-1, ByteFunctionHelpers.compare(buffer2, 0, length, buffer1, 0, length));
+        assertEquals(1, ByteFunctionHelpers.compare(buffer1, 0, length, bytes, 0, length));
+        // the prefix up to the mismatch is still equal
+        assertEquals(1, ByteFunctionHelpers.equal(buffer1, 0, pos, buffer2, 0, pos));
+        assertEquals(0, ByteFunctionHelpers.compare(buffer1, 0, pos, bytes, 0, pos));
+
+        for (int i = pos; i < length; i++) {
+          buffer1.setByte(i, i);
+        }
+      }
+
+      // unsigned comparison of the first differing byte
+      buffer1.setByte(100, 0xFF);
+      assertEquals(1, ByteFunctionHelpers.compare(buffer1, 0, length, buffer2, 0, length));
+      assertEquals(-1, ByteFunctionHelpers.compare(buffer2, 0, length, buffer1, 0, length));
+      assertEquals(1, ByteFunctionHelpers.compare(buffer1, 0, length, bytes, 0, length));
+    }
+  }
 }
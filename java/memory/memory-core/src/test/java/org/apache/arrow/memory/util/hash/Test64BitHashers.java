@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Xxh3Hasher} and {@link WyHasher}, against hash codes
+ * computed with the reference implementations.
+ */
+public class Test64BitHashers {
+
+  private static final int DATA_LENGTH = 3000;
+
+  /**
+   * {seed, length, expected hash code} for XXH3_64bits_withSeed on the test data.
+   */
+  private static final long[][] XXH3_HASH_CODES = {
+    {0, 0, 0x2d06800538d394c2L},
+    {0, 1, 0x4c5cca45d0f4811fL},
+    {0, 3, 0x15f7093b173d005cL},
+    {0, 4, 0xdca012f95811b6b9L},
+    {0, 8, 0xdec6a9a43575982eL},
+    {0, 9, 0xcbe393399f17ffbdL},
+    {0, 16, 0x7e484c18d74895d0L},
+    {0, 17, 0x208bde5ee2bed407L},
+    {0, 33, 0x199a362122d71f46L},
+    {0, 64, 0xdd30702ab46b3745L},
+    {0, 97, 0x60e3e1d0d43785b3L},
+    {0, 128, 0xf92b70eaa21a6288L},
+    {0, 129, 0xf8f76713f2bb60faL},
+    {0, 240, 0xccc7375172c41f03L},
+    {0, 241, 0x0b3b630948ce4a00L},
+    {0, 1024, 0x23bc880ebf0d29c6L},
+    {0, 2049, 0x5045460f5d85c275L},
+    {42, 0, 0xb029411ff43d84d2L},
+    {42, 1, 0xc72384329881f542L},
+    {42, 3, 0x0322c472f9dd3c8aL},
+    {42, 4, 0x859b7ff8d1723aa1L},
+    {42, 8, 0xb18293e9a9982b58L},
+    {42, 9, 0x0131443739131d68L},
+    {42, 16, 0x0126fe5707ca8f2bL},
+    {42, 17, 0x7c41a57ae29003daL},
+    {42, 33, 0x734e7e91898f6405L},
+    {42, 64, 0xe94502d7ed30cc44L},
+    {42, 97, 0xd8d72381192f3746L},
+    {42, 128, 0x9a3b44e5f1d705d8L},
+    {42, 129, 0xb672f12eed8cd6b0L},
+    {42, 240, 0x4b05be6354f2e1c7L},
+    {42, 241, 0x015f3bb61c188b1aL},
+    {42, 1024, 0x7123704382c38bc0L},
+    {42, 2049, 0x4aa2be061b5e9c85L}
+  };
+
+  /**
+   * {seed, length, expected hash code} for wyhash on the test data.
+   */
+  private static final long[][] WYHASH_HASH_CODES = {
+    {0, 0, 0x93228a4de0eec5a2L},
+    {0, 1, 0x9676022bfd177d90L},
+    {0, 3, 0xe9609c2e635eb614L},
+    {0, 4, 0x856e7a5c5ce6b65eL},
+    {0, 8, 0xca9f70fc67bbea6dL},
+    {0, 9, 0xffc95eb435cad534L},
+    {0, 16, 0xbdc55046c6d1ec4fL},
+    {0, 17, 0xb3889b861f2af496L},
+    {0, 33, 0x4d6d2f48276e8b1aL},
+    {0, 64, 0xc3740ca8602134a2L},
+    {0, 97, 0xe9848a86f5cae82fL},
+    {0, 128, 0xdb0c71e155b9f910L},
+    {0, 129, 0xe9e805e7d4ccedefL},
+    {0, 240, 0x5b788f05bfee9144L},
+    {0, 241, 0x6cc70902194732c2L},
+    {0, 1024, 0x5b23e3113b70a154L},
+    {0, 2049, 0x23eed682ffbcd41bL},
+    {42, 0, 0x2ac44db3deb05300L},
+    {42, 1, 0xf8656bbaffcf166aL},
+    {42, 3, 0xee5af0c23246b548L},
+    {42, 4, 0x5792c648078ce9a5L},
+    {42, 8, 0xb7a15093927ed50fL},
+    {42, 9, 0x49e5d4385d999674L},
+    {42, 16, 0xc565f33549e1e599L},
+    {42, 17, 0x80f3c1342ebf3cb1L},
+    {42, 33, 0xb683da93c7a13a0aL},
+    {42, 64, 0xa10273b9004c53f7L},
+    {42, 97, 0x4068d95da5157502L},
+    {42, 128, 0x9c334c4571add701L},
+    {42, 129, 0x041ea447f8c9a001L},
+    {42, 240, 0x53fcc132d2231d57L},
+    {42, 241, 0x35a918b741eb23eeL},
+    {42, 1024, 0xe3505b4b61801624L},
+    {42, 2049, 0x8b76e90d8d78ae4bL}
+  };
+
+  private BufferAllocator allocator;
+
+  private ArrowBuf data;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+    data = allocator.buffer(DATA_LENGTH);
+    for (int i = 0; i < DATA_LENGTH; i++) {
+      data.setByte(i, i * 31 + 7);
+    }
+  }
+
+  @After
+  public void shutdown() {
+    data.close();
+    allocator.close();
+  }
+
+  @Test
+  public void testXxh3ReferenceHashCodes() {
+    for (long[] expected : XXH3_HASH_CODES) {
+      final long seed = expected[0];
+      final int length = (int) expected[1];
+      assertEquals("length " + length, expected[2], Xxh3Hasher.hashCode64(data, 0, length, seed));
+      assertEquals("length " + length, expected[2], new Xxh3Hasher(seed).hashCode64(data, 0, length));
+    }
+  }
+
+  @Test
+  public void testWyHashReferenceHashCodes() {
+    for (long[] expected : WYHASH_HASH_CODES) {
+      final long seed = expected[0];
+      final int length = (int) expected[1];
+      assertEquals("length " + length, expected[2], WyHasher.hashCode64(data, 0, length, seed));
+      assertEquals("length " + length, expected[2], new WyHasher(seed).hashCode64(data, 0, length));
+    }
+  }
+
+  @Test
+  public void testWyHashTestVectors() {
+    // the test vectors published with the reference implementation, with seed i for the i-th message
+    final String[] messages = {"", "a", "abc", "message digest", "abcdefghijklmnopqrstuvwxyz",
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789",
+        "12345678901234567890123456789012345678901234567890123456789012345678901234567890"};
+    final long[] expected = {0x93228a4de0eec5a2L, 0xc5bac3db178713c4L, 0xa97f2f7b1d9b3314L, 0x786d1f1df3801df4L,
+        0xdca5a8138ad37c87L, 0xb9e734f117cfaf70L, 0x6cc5eab49a92d617L};
+    for (int i = 0; i < messages.length; i++) {
+      final byte[] bytes = messages[i].getBytes(StandardCharsets.US_ASCII);
+      try (ArrowBuf buf = allocator.buffer(Math.max(1, bytes.length))) {
+        buf.setBytes(0, bytes);
+        assertEquals(messages[i], expected[i], WyHasher.hashCode64(buf, 0, bytes.length, i));
+      }
+    }
+  }
+
+  @Test
+  public void testUnalignedAddress() {
+    // the same bytes at different alignments produce the same hash code
+    try (ArrowBuf buf = allocator.buffer(DATA_LENGTH + 8)) {
+      for (int shift = 1; shift < 8; shift++) {
+        buf.setBytes(shift, data, 0, DATA_LENGTH);
+        for (long[] expected : XXH3_HASH_CODES) {
+          assertEquals(expected[2], Xxh3Hasher.hashCode64(buf, shift, expected[1], expected[0]));
+        }
+        for (long[] expected : WYHASH_HASH_CODES) {
+          assertEquals(expected[2], WyHasher.hashCode64(buf, shift, expected[1], expected[0]));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSeed() {
+    assertEquals(new Xxh3Hasher(), Xxh3Hasher.INSTANCE);
+    assertNotEquals(new Xxh3Hasher(1), new Xxh3Hasher(2));
+    assertNotEquals(new Xxh3Hasher(1).hashCode64(data, 0, 1000), new Xxh3Hasher(2).hashCode64(data, 0, 1000));
+    assertEquals(new WyHasher(), WyHasher.INSTANCE);
+    assertNotEquals(new WyHasher(1).hashCode64(data, 0, 1000), new WyHasher(2).hashCode64(data, 0, 1000));
+  }
+
+  @Test
+  public void testIntHashCodeIsFolded() {
+    final long hash64 = Xxh3Hasher.INSTANCE.hashCode64(data, 0, 100);
+    assertEquals((int) (hash64 ^ (hash64 >>> 32)), Xxh3Hasher.INSTANCE.hashCode(data, 0, 100));
+    final long wyHash64 = WyHasher.INSTANCE.hashCode64(data, 0, 100);
+    assertEquals((int) (wyHash64 ^ (wyHash64 >>> 32)), WyHasher.INSTANCE.hashCode(data, 0, 100));
+  }
+}
@@ -88,6 +88,7 @@ public class TestArrowBufHasher {
     int hashCode1 = hasher.hashCode(buf1, offset1, length1);
     int hashCode2 = hasher.hashCode(buf2, offset2, length2);
     assertEquals(hashCode1, hashCode2);
+    assertEquals(hasher.hashCode64(buf1, offset1, length1), hasher.hashCode64(buf2, offset2, length2));
   }
 
   @Test
@@ -139,6 +140,12 @@ public class TestArrowBufHasher {
         SimpleHasher.INSTANCE},
       new Object[] {MurmurHasher.class.getSimpleName(),
         new MurmurHasher()
+      },
+      new Object[] {Xxh3Hasher.class.getSimpleName(),
+        new Xxh3Hasher()
+      },
+      new Object[] {WyHasher.class.getSimpleName(),
+        new WyHasher()
       }
     );
   }
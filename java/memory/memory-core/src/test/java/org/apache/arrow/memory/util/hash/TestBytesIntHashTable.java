@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link BytesIntHashTable}.
+ */
+public class TestBytesIntHashTable {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private static String getString(ArrowBuf buf, long offset, int length) {
+    final byte[] bytes = new byte[length];
+    buf.getBytes(offset, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testPutAndGet() {
+    try (BytesIntHashTable table = new BytesIntHashTable(allocator);
+         ArrowBuf buf = allocator.buffer(64)) {
+      buf.setBytes(0, "applebananaapple".getBytes(StandardCharsets.UTF_8));
+
+      assertTrue(table.put(buf, 0, 5, 1));
+      assertTrue(table.put(buf, 5, 6, 2));
+      // empty keys are valid keys
+      assertTrue(table.put(buf, 0, 0, 3));
+      assertFalse(table.put(buf, 11, 5, 4));
+
+      assertEquals(3, table.size());
+      assertEquals(4, table.get(buf, 0, 5, -1));
+      assertEquals(2, table.get(buf, 5, 6, -1));
+      assertEquals(3, table.get(buf, 11, 0, -1));
+      assertEquals(-1, table.get(buf, 0, 4, -1));
+      assertTrue(table.containsKey(buf, 5, 6));
+      assertFalse(table.containsKey(buf, 1, 5));
+      assertEquals(2, table.get(new ArrowBufPointer(buf, 5, 6), -1));
+
+      assertEquals(4, table.getOrPut(buf, 11, 5, 10));
+      final long hash = table.hash(buf, 1, 4);
+      assertEquals(10, table.getOrPut(hash, buf, 1, 4, 10));
+      assertEquals(10, table.get(hash, buf, 1, 4, -1));
+      assertEquals(4, table.size());
+    }
+  }
+
+  @Test
+  public void testResize() {
+    final Map<String, Integer> expected = new HashMap<>();
+    try (BytesIntHashTable table = new BytesIntHashTable(allocator, 0, 0.75f, SimpleHasher.INSTANCE);
+         ArrowBuf buf = allocator.buffer(64)) {
+      for (int i = 0; i < 10_000; i++) {
+        final String key = "key" + (i % 5000) * 7919;
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        buf.setBytes(0, bytes);
+        final int value = table.getOrPut(buf, 0, bytes.length, table.size());
+        assertEquals((int) expected.computeIfAbsent(key, k -> expected.size()), value);
+      }
+      assertEquals(5000, table.size());
+      assertEquals(table.getBufferSize() + buf.capacity(), allocator.getAllocatedMemory());
+
+      final Map<String, Integer> actual = new HashMap<>();
+      table.forEach((keys, offset, length, value) -> actual.put(getString(keys, offset, length), value));
+      assertEquals(expected, actual);
+    }
+    assertEquals(0, allocator.getAllocatedMemory());
+  }
+
+  @Test
+  public void testClear() {
+    try (BytesIntHashTable table = new BytesIntHashTable(allocator);
+         ArrowBuf buf = allocator.buffer(64)) {
+      buf.setBytes(0, "abcdefgh".getBytes(StandardCharsets.UTF_8));
+      for (int i = 0; i < 8; i++) {
+        table.put(buf, i, 1, i);
+      }
+      table.clear();
+      assertEquals(0, table.size());
+      assertFalse(table.containsKey(buf, 0, 1));
+      assertEquals(7, table.getOrPut(buf, 3, 1, 7));
+      table.forEach((keys, offset, length, value) -> assertEquals("d", getString(keys, offset, length)));
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link LongIntHashTable}.
+ */
+public class TestLongIntHashTable {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  @Test
+  public void testPutAndGet() {
+    try (LongIntHashTable table = new LongIntHashTable(allocator)) {
+      assertEquals(-1, table.get(0, -1));
+      assertTrue(table.put(0, 10));
+      assertTrue(table.put(Long.MIN_VALUE, 20));
+      assertTrue(table.put(Long.MAX_VALUE, 30));
+      assertFalse(table.put(0, 11));
+
+      assertEquals(3, table.size());
+      assertEquals(11, table.get(0, -1));
+      assertEquals(20, table.get(Long.MIN_VALUE, -1));
+      assertEquals(30, table.get(Long.MAX_VALUE, -1));
+      assertTrue(table.containsKey(Long.MAX_VALUE));
+      assertFalse(table.containsKey(1));
+
+      assertEquals(20, table.getOrPut(Long.MIN_VALUE, 3));
+      assertEquals(3, table.getOrPut(1, 3));
+      assertEquals(4, table.size());
+    }
+  }
+
+  @Test
+  public void testResize() {
+    final Map<Long, Integer> expected = new HashMap<>();
+    final Random random = new Random(0);
+    try (LongIntHashTable table = new LongIntHashTable(allocator, 0, 0.5f)) {
+      assertEquals(2, table.capacity());
+      for (int i = 0; i < 10_000; i++) {
+        // include sequential keys, which share their low bits
+        final long key = i % 2 == 0 ? i : random.nextLong();
+        assertEquals(expected.put(key, i) == null, table.put(key, i));
+      }
+      assertEquals(expected.size(), table.size());
+      assertTrue(table.capacity() >= table.size() * 2);
+      assertEquals(table.getBufferSize(), allocator.getAllocatedMemory());
+
+      for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+        assertEquals((int) entry.getValue(), table.get(entry.getKey(), -1));
+      }
+      final Map<Long, Integer> actual = new HashMap<>();
+      table.forEach(actual::put);
+      assertEquals(expected, actual);
+    }
+    assertEquals(0, allocator.getAllocatedMemory());
+  }
+
+  @Test
+  public void testClear() {
+    try (LongIntHashTable table = new LongIntHashTable(allocator)) {
+      for (int i = 0; i < 100; i++) {
+        table.put(i, i);
+      }
+      final int capacity = table.capacity();
+      table.clear();
+      assertEquals(0, table.size());
+      assertEquals(capacity, table.capacity());
+      assertFalse(table.containsKey(5));
+      table.put(5, 50);
+      assertEquals(50, table.get(5, -1));
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new LongIntHashTable(allocator, -1, 0.75f));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntHashTable(allocator, 16, 1f));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntHashTable(allocator, Integer.MAX_VALUE, 0.75f));
+    assertEquals(0, allocator.getAllocatedMemory());
+  }
+}
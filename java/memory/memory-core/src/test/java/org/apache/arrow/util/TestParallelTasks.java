@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ParallelTasks}.
+ */
+public class TestParallelTasks {
+
+  private ExecutorService executor;
+
+  @Before
+  public void init() {
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void terminate() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testRunAll() throws InterruptedException {
+    final AtomicInteger count = new AtomicInteger();
+    final List<Runnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      tasks.add(count::incrementAndGet);
+    }
+    ParallelTasks.runAll(tasks, executor);
+    assertEquals(10, count.get());
+  }
+
+  @Test
+  public void testFailureWaitsForRunningTasks() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicBoolean finished = new AtomicBoolean();
+    final IllegalStateException failure = new IllegalStateException("failure");
+    final List<Runnable> tasks = new ArrayList<>();
+    tasks.add(() -> {
+      try {
+        started.await();
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      finished.set(true);
+    });
+    tasks.add(() -> {
+      started.countDown();
+      throw failure;
+    });
+    assertSame(failure, assertThrows(IllegalStateException.class, () -> ParallelTasks.runAll(tasks, executor)));
+    // the running task completed before the failure was thrown
+    assertTrue(finished.get());
+  }
+
+  @Test
+  public void testFirstFailureWaitsForLaterRunningTasks() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicBoolean finished = new AtomicBoolean();
+    final IllegalStateException failure = new IllegalStateException("failure");
+    final List<Runnable> tasks = new ArrayList<>();
+    tasks.add(() -> {
+      try {
+        started.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw failure;
+    });
+    tasks.add(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      finished.set(true);
+    });
+    assertSame(failure, assertThrows(IllegalStateException.class, () -> ParallelTasks.runAll(tasks, executor)));
+    // the later task was still running when the first one failed, and completed before the failure was thrown
+    assertTrue(finished.get());
+  }
+
+  @Test
+  public void testCheckedFailure() {
+    final IOException failure = new IOException("failure");
+    final AtomicBoolean ran = new AtomicBoolean();
+    final List<ParallelTasks.Task<IOException>> tasks = new ArrayList<>();
+    tasks.add(() -> {
+      throw failure;
+    });
+    tasks.add(() -> ran.set(true));
+    assertSame(failure, assertThrows(IOException.class,
+        () -> ParallelTasks.runAll(tasks, IOException.class, executor)));
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+}
@@ -18,10 +18,15 @@
 package org.apache.arrow.memory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.arrow.memory.util.MemoryUtil;
 import org.junit.After;
@@ -131,6 +136,24 @@ public class TestForeignAllocation {
     }
   }
 
+  @Test
+  public void wrapDirectByteBuffer() {
+    final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(32).order(ByteOrder.nativeOrder());
+    byteBuffer.putLong(8, 42L);
+    byteBuffer.position(8);
+    final AtomicBoolean released = new AtomicBoolean();
+    try (ArrowBuf buf = allocator.wrapForeignAllocation(ForeignAllocation.of(byteBuffer, () -> released.set(true)))) {
+      assertEquals(24, buf.capacity());
+      assertEquals(42L, buf.getLong(0));
+      assertEquals(24, allocator.getAllocatedMemory());
+      assertFalse(released.get());
+    }
+    assertTrue(released.get());
+    assertEquals(0, allocator.getAllocatedMemory());
+
+    assertThrows(IllegalArgumentException.class, () -> ForeignAllocation.of(ByteBuffer.allocate(8), null));
+  }
+
   private static class UnsafeForeignAllocation extends ForeignAllocation {
     boolean released = false;
 
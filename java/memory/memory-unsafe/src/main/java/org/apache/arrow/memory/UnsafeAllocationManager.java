@@ -18,40 +18,129 @@
 package org.apache.arrow.memory;
 
 import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Allocation manager based on unsafe API.
+ *
+ * <p>The memory can be aligned beyond what the system allocator guarantees, e.g. to 64 bytes for
+ * aligned SIMD loads, with the system property "arrow.memory.unsafe.alignment" (default 8, i.e. no
+ * extra alignment). Allocations of at least "arrow.memory.unsafe.huge_page_threshold" bytes (disabled
+ * by default, and at least {@link #HUGE_PAGE_SIZE}) are aligned to {@link #HUGE_PAGE_SIZE}, so that on
+ * Linux, with transparent huge pages enabled, they can be backed by huge pages, which reduces TLB misses
+ * when scanning large buffers.
+ *
+ * <p>Aligned allocations reserve up to alignment - 1 bytes of padding from the system allocator, which
+ * are not counted in the size accounted by the {@link BufferAllocator}. Since the threshold is at least
+ * the huge page size, the padding of a huge page aligned allocation is always less than its size.
+ * Factories with other settings can be created with {@link #newFactory(long, long)}.
  */
 public final class UnsafeAllocationManager extends AllocationManager {
 
+  private static final Logger logger = LoggerFactory.getLogger(UnsafeAllocationManager.class);
+
+  public static final String ALIGNMENT_PROPERTY = "arrow.memory.unsafe.alignment";
+  public static final String HUGE_PAGE_THRESHOLD_PROPERTY = "arrow.memory.unsafe.huge_page_threshold";
+
+  /**
+   * The size of the huge pages of x86-64 and AArch64 Linux (with 4K base pages).
+   */
+  public static final long HUGE_PAGE_SIZE = 2L * 1024 * 1024;
+
+  static final long DEFAULT_ALIGNMENT = 8;
+
   private static final ArrowBuf EMPTY = new ArrowBuf(ReferenceManager.NO_OP,
       null,
       0,
       MemoryUtil.UNSAFE.allocateMemory(0)
   );
 
-  public static final AllocationManager.Factory FACTORY = new Factory() {
-    @Override
-    public AllocationManager create(BufferAllocator accountingAllocator, long size) {
-      return new UnsafeAllocationManager(accountingAllocator, size);
-    }
-
-    @Override
-    public ArrowBuf empty() {
-      return EMPTY;
-    }
-  };
+  public static final AllocationManager.Factory FACTORY = newFactory(
+      getAlignment(Long.getLong(ALIGNMENT_PROPERTY, DEFAULT_ALIGNMENT)),
+      getHugePageThreshold(Long.getLong(HUGE_PAGE_THRESHOLD_PROPERTY, Long.MAX_VALUE)));
 
   private final long allocatedSize;
 
   private final long allocatedAddress;
 
+  // the address returned by the system allocator, which must be freed
+  private final long baseAddress;
+
   UnsafeAllocationManager(BufferAllocator accountingAllocator, long requestedSize) {
+    this(accountingAllocator, requestedSize, DEFAULT_ALIGNMENT);
+  }
+
+  UnsafeAllocationManager(BufferAllocator accountingAllocator, long requestedSize, long alignment) {
     super(accountingAllocator);
-    allocatedAddress = MemoryUtil.UNSAFE.allocateMemory(requestedSize);
+    if (alignment <= DEFAULT_ALIGNMENT) {
+      baseAddress = MemoryUtil.UNSAFE.allocateMemory(requestedSize);
+      allocatedAddress = baseAddress;
+    } else {
+      // the padding (less than the alignment) is not accounted, see the class comment
+      baseAddress = MemoryUtil.UNSAFE.allocateMemory(requestedSize + alignment - 1);
+      allocatedAddress = (baseAddress + alignment - 1) & -alignment;
+    }
     allocatedSize = requestedSize;
   }
 
+  /**
+   * Create a factory of allocation managers with the given alignment settings.
+   *
+   * @param alignment the alignment of the memory, a power of 2.
+   * @param hugePageThreshold the minimum size of the allocations aligned to {@link #HUGE_PAGE_SIZE}, at
+   *     least {@link #HUGE_PAGE_SIZE} (use {@link Long#MAX_VALUE} to disable huge page alignment).
+   * @return the factory.
+   */
+  public static AllocationManager.Factory newFactory(long alignment, long hugePageThreshold) {
+    Preconditions.checkArgument(isValidAlignment(alignment), "The alignment must be a power of 2");
+    Preconditions.checkArgument(hugePageThreshold >= HUGE_PAGE_SIZE,
+        "The huge page threshold must be at least the huge page size %s", HUGE_PAGE_SIZE);
+    return new Factory() {
+      @Override
+      public AllocationManager create(BufferAllocator accountingAllocator, long size) {
+        final long effectiveAlignment = size >= hugePageThreshold ? Math.max(alignment, HUGE_PAGE_SIZE) : alignment;
+        return new UnsafeAllocationManager(accountingAllocator, size, effectiveAlignment);
+      }
+
+      @Override
+      public ArrowBuf empty() {
+        return EMPTY;
+      }
+    };
+  }
+
+  /**
+   * Validate the alignment set by the system property, falling back to the default if it is invalid, so
+   * that a bad setting does not prevent this class from being initialized.
+   */
+  static long getAlignment(long alignment) {
+    if (!isValidAlignment(alignment)) {
+      logger.warn("Invalid {}: {} (expected: power of 2), using the default alignment {}",
+          ALIGNMENT_PROPERTY, alignment, DEFAULT_ALIGNMENT);
+      return DEFAULT_ALIGNMENT;
+    }
+    return alignment;
+  }
+
+  /**
+   * Validate the huge page threshold set by the system property, disabling huge page alignment if it
+   * is invalid.
+   */
+  static long getHugePageThreshold(long hugePageThreshold) {
+    if (hugePageThreshold < HUGE_PAGE_SIZE) {
+      logger.warn("Invalid {}: {} (expected: at least {}), huge page alignment is disabled",
+          HUGE_PAGE_THRESHOLD_PROPERTY, hugePageThreshold, HUGE_PAGE_SIZE);
+      return Long.MAX_VALUE;
+    }
+    return hugePageThreshold;
+  }
+
+  private static boolean isValidAlignment(long alignment) {
+    return alignment > 0 && (alignment & (alignment - 1)) == 0;
+  }
+
   @Override
   public long getSize() {
     return allocatedSize;
@@ -64,7 +153,7 @@ public final class UnsafeAllocationManager extends AllocationManager {
 
   @Override
   protected void release0() {
-    MemoryUtil.UNSAFE.freeMemory(allocatedAddress);
+    MemoryUtil.UNSAFE.freeMemory(baseAddress);
   }
 
 }
@@ -18,6 +18,7 @@
 package org.apache.arrow.memory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -65,4 +66,55 @@ public class TestUnsafeAllocationManager {
       readWriteArrowBuf(buffer);
     }
   }
+
+  @Test
+  public void testAlignedAllocation() {
+    final AllocationManager.Factory factory = UnsafeAllocationManager.newFactory(64, Long.MAX_VALUE);
+    try (BaseAllocator allocator = new RootAllocator(
+        BaseAllocator.configBuilder().allocationManagerFactory(factory).build())) {
+      for (long size : new long[] {8, 64, 128, 4096}) {
+        try (ArrowBuf buffer = allocator.buffer(size)) {
+          assertEquals(0, buffer.memoryAddress() % 64);
+          assertEquals(size, ((BufferLedger) buffer.getReferenceManager()).getAllocationManager().getSize());
+          readWriteArrowBuf(buffer);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testHugePageAlignedAllocation() {
+    final long hugePageSize = UnsafeAllocationManager.HUGE_PAGE_SIZE;
+    final AllocationManager.Factory factory = UnsafeAllocationManager.newFactory(64, hugePageSize);
+    try (BaseAllocator allocator = new RootAllocator(
+        BaseAllocator.configBuilder().allocationManagerFactory(factory).build());
+         ArrowBuf small = allocator.buffer(1024);
+         ArrowBuf large = allocator.buffer(hugePageSize)) {
+      assertEquals(0, small.memoryAddress() % 64);
+      assertEquals(0, large.memoryAddress() % hugePageSize);
+      // the padding is not accounted
+      assertEquals(1024 + hugePageSize, allocator.getAllocatedMemory());
+      readWriteArrowBuf(large);
+    }
+  }
+
+  @Test
+  public void testInvalidAlignment() {
+    assertThrows(IllegalArgumentException.class, () -> UnsafeAllocationManager.newFactory(48, Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> UnsafeAllocationManager.newFactory(64, -1));
+    // a threshold below the huge page size would allow more padding than the size of the allocation
+    assertThrows(IllegalArgumentException.class, () -> UnsafeAllocationManager.newFactory(64, 1024 * 1024));
+  }
+
+  @Test
+  public void testInvalidAlignmentProperties() {
+    // invalid system properties fall back to the defaults instead of failing the class initialization
+    assertEquals(64, UnsafeAllocationManager.getAlignment(64));
+    assertEquals(UnsafeAllocationManager.DEFAULT_ALIGNMENT, UnsafeAllocationManager.getAlignment(48));
+    assertEquals(UnsafeAllocationManager.DEFAULT_ALIGNMENT, UnsafeAllocationManager.getAlignment(0));
+    assertEquals(UnsafeAllocationManager.HUGE_PAGE_SIZE,
+        UnsafeAllocationManager.getHugePageThreshold(UnsafeAllocationManager.HUGE_PAGE_SIZE));
+    assertEquals(Long.MAX_VALUE, UnsafeAllocationManager.getHugePageThreshold(1024));
+    assertEquals(Long.MAX_VALUE, UnsafeAllocationManager.getHugePageThreshold(-1));
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.algorithm.selection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for {@link VectorTaker}, compared to a {@link ValueVector#copyFromSafe(int, int, ValueVector)} loop.
+ */
+public class VectorTakerBenchmarks {
+
+  private static final int VECTOR_LENGTH = 1024 * 1024;
+
+  /**
+   * State object for the benchmarks.
+   */
+  @State(Scope.Benchmark)
+  public static class TakeState {
+
+    BufferAllocator allocator;
+
+    IntVector intVector;
+
+    VarCharVector varCharVector;
+
+    IntVector indices;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      allocator = new RootAllocator(Integer.MAX_VALUE);
+      intVector = new IntVector("int vector", allocator);
+      varCharVector = new VarCharVector("varchar vector", allocator);
+      indices = new IntVector("indices", allocator);
+
+      intVector.allocateNew(VECTOR_LENGTH);
+      varCharVector.allocateNew(VECTOR_LENGTH * 8L, VECTOR_LENGTH);
+      indices.allocateNew(VECTOR_LENGTH);
+      Random random = new Random(0);
+      for (int i = 0; i < VECTOR_LENGTH; i++) {
+        if (i % 10 == 0) {
+          intVector.setNull(i);
+          varCharVector.setNull(i);
+        } else {
+          intVector.set(i, i);
+          varCharVector.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        indices.set(i, random.nextInt(VECTOR_LENGTH));
+      }
+      intVector.setValueCount(VECTOR_LENGTH);
+      varCharVector.setValueCount(VECTOR_LENGTH);
+      indices.setValueCount(VECTOR_LENGTH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownState() {
+      intVector.close();
+      varCharVector.close();
+      indices.close();
+      allocator.close();
+    }
+  }
+
+  private static void copyFromSafe(ValueVector source, IntVector indices, ValueVector target) {
+    target.allocateNew();
+    for (int i = 0; i < indices.getValueCount(); i++) {
+      target.copyFromSafe(indices.get(i), i, source);
+    }
+    target.setValueCount(indices.getValueCount());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int takeFixedWidth(TakeState state) {
+    try (IntVector result = VectorTaker.take(state.intVector, state.indices, state.allocator)) {
+      return result.getValueCount();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int copyFromSafeFixedWidth(TakeState state) {
+    try (IntVector result = new IntVector("result", state.allocator)) {
+      copyFromSafe(state.intVector, state.indices, result);
+      return result.getValueCount();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int takeVariableWidth(TakeState state) {
+    try (VarCharVector result = VectorTaker.take(state.varCharVector, state.indices, state.allocator)) {
+      return result.getValueCount();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int copyFromSafeVariableWidth(TakeState state) {
+    try (VarCharVector result = new VarCharVector("result", state.allocator)) {
+      copyFromSafe(state.varCharVector, state.indices, result);
+      return result.getValueCount();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+            .include(VectorTakerBenchmarks.class.getSimpleName())
+            .forks(1)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.compute.groupby;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for {@link HashAggregator}, with low and high cardinality keys.
+ */
+public class HashAggregatorBenchmarks {
+
+  private static final int BATCH_SIZE = 64 * 1024;
+
+  private static final int BATCH_COUNT = 16;
+
+  private static final Schema SCHEMA = new Schema(Arrays.asList(
+      Field.nullable("key", new ArrowType.Int(64, true)),
+      Field.nullable("value", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE))));
+
+  private static final List<AggregateSpec> AGGREGATES = Arrays.asList(
+      AggregateSpec.countAll("count"),
+      AggregateSpec.of(AggregateFunction.SUM, "value", "sum"),
+      AggregateSpec.of(AggregateFunction.MAX, "value", "max"));
+
+  /**
+   * State object for the benchmarks.
+   */
+  @State(Scope.Benchmark)
+  public static class AggregateState {
+
+    /**
+     * The number of distinct keys.
+     */
+    @Param({"16", "262144"})
+    int cardinality;
+
+    BufferAllocator allocator;
+
+    VectorSchemaRoot batch;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      allocator = new RootAllocator(Integer.MAX_VALUE);
+      batch = VectorSchemaRoot.create(SCHEMA, allocator);
+      batch.allocateNew();
+      final BigIntVector keys = (BigIntVector) batch.getVector("key");
+      final Float8Vector values = (Float8Vector) batch.getVector("value");
+      Random random = new Random(0);
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        keys.setSafe(i, random.nextInt(cardinality));
+        values.setSafe(i, random.nextDouble());
+      }
+      batch.setRowCount(BATCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownState() {
+      batch.close();
+      allocator.close();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int aggregate(AggregateState state) {
+    try (HashAggregator aggregator = new HashAggregator(SCHEMA, Collections.singletonList("key"), AGGREGATES,
+        state.allocator)) {
+      for (int i = 0; i < BATCH_COUNT; i++) {
+        aggregator.consume(state.batch);
+      }
+      try (VectorSchemaRoot result = aggregator.getResult()) {
+        return result.getRowCount();
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+            .include(HashAggregatorBenchmarks.class.getSimpleName())
+            .forks(1)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
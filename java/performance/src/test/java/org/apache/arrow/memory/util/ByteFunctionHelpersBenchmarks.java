@@ -27,6 +27,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -127,6 +128,81 @@ public class ByteFunctionHelpersBenchmarks {
             state.buffer2, 0, ArrowArrayEqualState.BUFFER_CAPACITY);
   }
 
+  /**
+   * State object for the long string / binary key benchmarks: two equal byte sequences
+   * (or sequences differing only in their last byte) of various lengths.
+   */
+  @State(Scope.Benchmark)
+  public static class LongKeyState {
+
+    @Param({"16", "23", "64", "100", "256", "4096"})
+    private int length;
+
+    private BufferAllocator allocator;
+
+    private ArrowBuf buffer1;
+
+    private ArrowBuf buffer2;
+
+    private ArrowBuf buffer3;
+
+    private byte[] array;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      allocator = new RootAllocator(ALLOCATOR_CAPACITY);
+      buffer1 = allocator.buffer(length);
+      buffer2 = allocator.buffer(length);
+      buffer3 = allocator.buffer(length);
+      array = new byte[length];
+
+      for (int i = 0; i < length; i++) {
+        buffer1.setByte(i, 'a' + i % 26);
+        buffer2.setByte(i, 'a' + i % 26);
+        buffer3.setByte(i, 'a' + i % 26);
+        array[i] = (byte) ('a' + i % 26);
+      }
+      // keys sharing a long common prefix, as in sorted or clustered binary columns
+      buffer3.setByte(length - 1, 'z' + 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      buffer1.close();
+      buffer2.close();
+      buffer3.close();
+      allocator.close();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int longStringEquals(LongKeyState state) {
+    return ByteFunctionHelpers.equal(state.buffer1, 0, state.length, state.buffer2, 0, state.length);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int longStringCompare(LongKeyState state) {
+    return ByteFunctionHelpers.compare(state.buffer1, 0, state.length, state.buffer2, 0, state.length);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int binaryKeyCompareLastByteDiffers(LongKeyState state) {
+    return ByteFunctionHelpers.compare(state.buffer1, 0, state.length, state.buffer3, 0, state.length);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int longStringArrayCompare(LongKeyState state) {
+    return ByteFunctionHelpers.compare(state.buffer1, 0, state.length, state.array, 0, state.length);
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(ByteFunctionHelpersBenchmarks.class.getSimpleName())
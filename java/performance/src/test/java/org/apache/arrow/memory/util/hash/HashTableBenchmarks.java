@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.memory.util.hash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for {@link LongIntHashTable} and {@link BytesIntHashTable}, compared with the
+ * {@link HashMap} based approach (as in dictionary encoding) they replace.
+ */
+@State(Scope.Benchmark)
+public class HashTableBenchmarks {
+
+  private static final int KEY_COUNT = 1024 * 1024;
+
+  // the number of distinct keys
+  @Param({"1024", "65536"})
+  private int cardinality;
+
+  private BufferAllocator allocator;
+
+  private long[] longKeys;
+
+  private ArrowBuf bytesKeys;
+
+  private int[] bytesOffsets;
+
+  /**
+   * Setup benchmarks.
+   */
+  @Setup(Level.Trial)
+  public void prepare() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+    final Random random = new Random(0);
+    longKeys = new long[KEY_COUNT];
+    bytesOffsets = new int[KEY_COUNT + 1];
+    final byte[][] strings = new byte[cardinality][];
+    for (int i = 0; i < cardinality; i++) {
+      strings[i] = ("value-" + random.nextLong()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    long totalLength = 0;
+    final int[] choices = new int[KEY_COUNT];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      choices[i] = random.nextInt(cardinality);
+      longKeys[i] = choices[i] * 0x1000L;
+      totalLength += strings[choices[i]].length;
+    }
+    bytesKeys = allocator.buffer(totalLength);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      final byte[] string = strings[choices[i]];
+      bytesKeys.setBytes(bytesOffsets[i], string);
+      bytesOffsets[i + 1] = bytesOffsets[i] + string.length;
+    }
+  }
+
+  /**
+   * Tear down benchmarks.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    bytesKeys.close();
+    allocator.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int encodeLongs() {
+    try (LongIntHashTable table = new LongIntHashTable(allocator)) {
+      int sum = 0;
+      for (int i = 0; i < KEY_COUNT; i++) {
+        sum += table.getOrPut(longKeys[i], table.size());
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int encodeLongsHashMap() {
+    final Map<Long, Integer> map = new HashMap<>();
+    int sum = 0;
+    for (int i = 0; i < KEY_COUNT; i++) {
+      sum += map.computeIfAbsent(longKeys[i], k -> map.size());
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int encodeBytes() {
+    try (BytesIntHashTable table = new BytesIntHashTable(allocator)) {
+      int sum = 0;
+      for (int i = 0; i < KEY_COUNT; i++) {
+        sum += table.getOrPut(bytesKeys, bytesOffsets[i], bytesOffsets[i + 1] - bytesOffsets[i], table.size());
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int encodeBytesHashMap() {
+    final Map<ArrowBufPointer, Integer> map = new HashMap<>();
+    int sum = 0;
+    for (int i = 0; i < KEY_COUNT; i++) {
+      final ArrowBufPointer pointer =
+          new ArrowBufPointer(bytesKeys, bytesOffsets[i], bytesOffsets[i + 1] - bytesOffsets[i]);
+      sum += map.computeIfAbsent(pointer, k -> map.size());
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(HashTableBenchmarks.class.getSimpleName())
+        .forks(1)
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.memory.util.hash.Xxh3Hasher;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for {@link VectorBatchHasher}, compared with hashing one element at a time.
+ */
+@State(Scope.Benchmark)
+public class VectorBatchHasherBenchmarks {
+
+  private static final int VECTOR_LENGTH = 64 * 1024;
+
+  private final ArrowBufHasher hasher = Xxh3Hasher.INSTANCE;
+
+  private BufferAllocator allocator;
+
+  private BigIntVector bigIntVector;
+
+  private VarCharVector varCharVector;
+
+  private List<ValueVector> columns;
+
+  private long[] out;
+
+  /**
+   * Setup benchmarks.
+   */
+  @Setup(Level.Trial)
+  public void prepare() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+    bigIntVector = new BigIntVector("bigint", allocator);
+    varCharVector = new VarCharVector("varchar", allocator);
+    bigIntVector.allocateNew(VECTOR_LENGTH);
+    varCharVector.allocateNew(VECTOR_LENGTH);
+    for (int i = 0; i < VECTOR_LENGTH; i++) {
+      if (i % 10 == 0) {
+        bigIntVector.setNull(i);
+        varCharVector.setNull(i);
+      } else {
+        bigIntVector.set(i, i * 31L);
+        varCharVector.setSafe(i, ("key-" + i).getBytes());
+      }
+    }
+    bigIntVector.setValueCount(VECTOR_LENGTH);
+    varCharVector.setValueCount(VECTOR_LENGTH);
+    columns = Arrays.asList(bigIntVector, varCharVector);
+    out = new long[VECTOR_LENGTH];
+  }
+
+  /**
+   * Tear down benchmarks.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    bigIntVector.close();
+    varCharVector.close();
+    allocator.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long[] hashRowsPerElement() {
+    for (int i = 0; i < VECTOR_LENGTH; i++) {
+      long hash = 0;
+      for (ValueVector column : columns) {
+        hash = ByteFunctionHelpers.combineHash64(hash, column.hashCode64(i, hasher));
+      }
+      out[i] = hash;
+    }
+    return out;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long[] hashRowsBatch() {
+    VectorBatchHasher.hashRows(columns, 0, VECTOR_LENGTH, out, hasher);
+    return out;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(VectorBatchHasherBenchmarks.class.getSimpleName())
+        .forks(1)
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for combining many small batches with {@link VectorSchemaRootAppender}.
+ */
+@State(Scope.Benchmark)
+public class VectorSchemaRootAppenderBenchmarks {
+
+  private static final int BATCH_COUNT = 256;
+
+  private static final int BATCH_SIZE = 1024;
+
+  private static final Schema SCHEMA = new Schema(Arrays.asList(
+      Field.nullable("int", new ArrowType.Int(32, true)),
+      Field.nullable("bigint", new ArrowType.Int(64, true)),
+      Field.nullable("varchar", ArrowType.Utf8.INSTANCE)));
+
+  private BufferAllocator allocator;
+
+  private List<VectorSchemaRoot> batches;
+
+  private ExecutorService executor;
+
+  /**
+   * Setup benchmarks.
+   */
+  @Setup
+  public void prepare() {
+    allocator = new RootAllocator(Integer.MAX_VALUE);
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    batches = new ArrayList<>(BATCH_COUNT);
+    for (int b = 0; b < BATCH_COUNT; b++) {
+      final VectorSchemaRoot batch = VectorSchemaRoot.create(SCHEMA, allocator);
+      batch.allocateNew();
+      final IntVector ints = (IntVector) batch.getVector("int");
+      final BigIntVector bigInts = (BigIntVector) batch.getVector("bigint");
+      final VarCharVector varChars = (VarCharVector) batch.getVector("varchar");
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        if (i % 3 == 0) {
+          ints.setNull(i);
+          varChars.setNull(i);
+        } else {
+          ints.setSafe(i, i);
+          varChars.setSafe(i, ("teststring" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        bigInts.setSafe(i, (long) b * i);
+      }
+      batch.setRowCount(BATCH_SIZE);
+      batches.add(batch);
+    }
+  }
+
+  /**
+   * Tear down benchmarks.
+   */
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+    batches.forEach(VectorSchemaRoot::close);
+    allocator.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int append() {
+    try (VectorSchemaRoot result = VectorSchemaRoot.create(SCHEMA, allocator)) {
+      result.allocateNew();
+      VectorSchemaRootAppender.append(false, result, batches.toArray(new VectorSchemaRoot[0]));
+      return result.getRowCount();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int concat() {
+    try (VectorSchemaRoot result = VectorSchemaRootAppender.concat(batches, allocator)) {
+      return result.getRowCount();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int concatInParallel() throws InterruptedException {
+    try (VectorSchemaRoot result = VectorSchemaRootAppender.concat(batches, allocator, executor)) {
+      return result.getRowCount();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(VectorSchemaRootAppenderBenchmarks.class.getSimpleName())
+        .forks(1)
+        .build();
+
+    new Runner(opt).run();
+  }
+}
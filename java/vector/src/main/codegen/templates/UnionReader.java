@@ -50,7 +50,7 @@ public class UnionReader extends AbstractFieldReader {
     return TYPES[data.getTypeValue(idx())];
   }
 
-  private static MinorType[] TYPES = new MinorType[45];
+  private static MinorType[] TYPES = new MinorType[MinorType.values().length];
 
   static {
     for (MinorType minorType : MinorType.values()) {
@@ -21,6 +21,8 @@ import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,13 +32,16 @@ import org.apache.arrow.memory.util.ArrowBufPointer;
 import org.apache.arrow.memory.util.ByteFunctionHelpers;
 import org.apache.arrow.memory.util.MemoryUtil;
 import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.memory.util.hash.SimpleHasher;
 import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.compare.VectorVisitor;
 import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.util.CallBack;
+import org.apache.arrow.vector.util.DataSizeRoundingUtil;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * BaseFixedWidthVector provides an abstract interface for
@@ -55,6 +60,13 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   protected ArrowBuf validityBuffer;
   protected ArrowBuf valueBuffer;
   protected int valueCount;
+  private boolean deferValidityAllocation;
+  /*
+   * -1 when the validity buffer is allocated. Otherwise the validity buffer is empty, the values
+   * before this index are valid and the others are null, as if the validity buffer started with
+   * that many set bits; Integer.MAX_VALUE when every value is valid.
+   */
+  private int validPrefixLength = -1;
 
   /**
    * Constructs a new instance.
@@ -105,11 +117,13 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
 
   /**
    * Get the memory address of buffer that manages the validity
-   * (NULL or NON-NULL nature) of elements in the vector.
+   * (NULL or NON-NULL nature) of elements in the vector. This allocates
+   * the validity buffer if its allocation is deferred.
    * @return starting address of the buffer
    */
   @Override
   public long getValidityBufferAddress() {
+    materializeValidityBuffer();
     return (validityBuffer.memoryAddress());
   }
 
@@ -137,11 +151,13 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   /**
    * Get buffer that manages the validity (NULL or NON-NULL nature) of
    * elements in the vector. Consider it as a buffer for internal bit vector
-   * data structure.
+   * data structure. This allocates the validity buffer if its allocation
+   * is deferred.
    * @return buffer
    */
   @Override
   public ArrowBuf getValidityBuffer() {
+    materializeValidityBuffer();
     return validityBuffer;
   }
 
@@ -190,7 +206,11 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    * Call this if you change the capacity of valueBuffer or validityBuffer.
    */
   protected void refreshValueCapacity() {
-    actualValueCapacity = Math.min(getValueBufferValueCapacity(), getValidityBufferValueCapacity());
+    if (validPrefixLength >= 0) {
+      actualValueCapacity = getValueBufferValueCapacity();
+    } else {
+      actualValueCapacity = Math.min(getValueBufferValueCapacity(), getValidityBufferValueCapacity());
+    }
   }
 
   protected int getValueBufferValueCapacity() {
@@ -202,11 +222,147 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   }
 
   /**
-   * zero out the vector and the data in associated buffers.
+   * Sets whether the vector allocates its validity buffer on the first null rather than with its data
+   * buffer. Until then, the vector is all valid: {@link #isNull(int)} returns false at every index,
+   * including the indices that were never set, and the null count is zero. This saves the memory of
+   * the validity buffer and the writes to it for the vectors that have no null, but the values that are
+   * not set are not null, so they must be set with {@link #setNull(int)}. The setting takes effect when
+   * the vector is next allocated, reset or cleared.
+   *
+   * @param deferValidityAllocation true to allocate the validity buffer on the first null
+   */
+  public void setDeferValidityAllocation(boolean deferValidityAllocation) {
+    this.deferValidityAllocation = deferValidityAllocation;
+    if (valueBuffer.capacity() == 0 && validityBuffer.capacity() == 0) {
+      initValidityState();
+    }
+  }
+
+  /**
+   * Get whether the vector allocates its validity buffer on the first null.
+   *
+   * @return true if the allocation of the validity buffer is deferred
+   * @see #setDeferValidityAllocation(boolean)
+   */
+  public boolean isDeferValidityAllocation() {
+    return deferValidityAllocation;
+  }
+
+  /**
+   * Check whether every value of the vector is valid without the validity buffer being allocated,
+   * either because its allocation is deferred or because the vector was loaded from an empty validity
+   * buffer.
+   *
+   * @return true if every value is valid and the validity buffer is not allocated
+   */
+  public boolean isAllValid() {
+    return validPrefixLength >= valueCount;
+  }
+
+  /* whether the validity buffer is not allocated, the validity being given by the valid prefix */
+  boolean hasValidPrefix() {
+    return validPrefixLength >= 0;
+  }
+
+  /* the validity state of a vector without buffers */
+  private void initValidityState() {
+    validPrefixLength = deferValidityAllocation ? Integer.MAX_VALUE : -1;
+  }
+
+  /**
+   * Allocate the validity buffer if its allocation is deferred, with the validity of the values
+   * that the vector tracks without it.
+   */
+  private void materializeValidityBuffer() {
+    if (validPrefixLength < 0) {
+      return;
+    }
+    final int valueCapacity = getValueBufferValueCapacity();
+    final ArrowBuf newValidityBuffer = allocator.buffer(getValidityBufferSizeFromCount(valueCapacity));
+    newValidityBuffer.setZero(0, newValidityBuffer.capacity());
+    BitVectorHelper.setRangeToOne(newValidityBuffer, 0, Math.min(validPrefixLength, valueCapacity));
+    validityBuffer.getReferenceManager().release();
+    validityBuffer = newValidityBuffer;
+    validPrefixLength = -1;
+    refreshValueCapacity();
+  }
+
+  /**
+   * Mark the value at the given index as valid in the validity buffer. The subclasses set the
+   * validity with this method rather than with the validity buffer, which may not be allocated.
+   *
+   * @param index position of the value
+   */
+  protected final void setValidityBit(int index) {
+    if (validPrefixLength < 0) {
+      BitVectorHelper.setBit(validityBuffer, index);
+    } else if (index == validPrefixLength) {
+      validPrefixLength++;
+    } else if (index > validPrefixLength) {
+      materializeValidityBuffer();
+      BitVectorHelper.setBit(validityBuffer, index);
+    }
+  }
+
+  /**
+   * Mark the value at the given index as null in the validity buffer, allocating the validity buffer
+   * if its allocation is deferred and the value is valid.
+   *
+   * @param index position of the value
+   */
+  protected final void unsetValidityBit(int index) {
+    if (validPrefixLength >= 0 && index >= validPrefixLength) {
+      return;
+    }
+    materializeValidityBuffer();
+    BitVectorHelper.unsetBit(validityBuffer, index);
+  }
+
+  /**
+   * Same as {@link #setValidityBit(int)} if isSet is not zero, and {@link #unsetValidityBit(int)} otherwise.
+   *
+   * @param index position of the value
+   * @param isSet 0 for a null value, a valid value otherwise
+   */
+  protected final void setValidityBit(int index, int isSet) {
+    if (isSet != 0) {
+      setValidityBit(index);
+    } else {
+      unsetValidityBit(index);
+    }
+  }
+
+  /**
+   * Mark a range of values as valid in the validity buffer.
+   *
+   * @param index position of the first value
+   * @param length number of values
+   */
+  protected final void setValidityRangeToOne(int index, int length) {
+    if (validPrefixLength >= 0 && index <= validPrefixLength) {
+      validPrefixLength = Math.max(validPrefixLength, index + length);
+      return;
+    }
+    materializeValidityBuffer();
+    BitVectorHelper.setRangeToOne(validityBuffer, index, length);
+  }
+
+  /**
+   * zero out the vector and the data in associated buffers. If the allocation of the
+   * validity buffer is deferred, the vector is all valid again and its validity buffer
+   * is released.
    */
   @Override
   public void zeroVector() {
-    initValidityBuffer();
+    if (deferValidityAllocation) {
+      validityBuffer = releaseBuffer(validityBuffer);
+      validPrefixLength = Integer.MAX_VALUE;
+      refreshValueCapacity();
+    } else if (validPrefixLength >= 0) {
+      validPrefixLength = 0;
+    } else {
+      initValidityBuffer();
+    }
     initValueBuffer();
   }
 
@@ -246,6 +402,7 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
     valueCount = 0;
     validityBuffer = releaseBuffer(validityBuffer);
     valueBuffer = releaseBuffer(valueBuffer);
+    initValidityState();
     refreshValueCapacity();
   }
 
@@ -335,15 +492,28 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    * conditions.
    */
   private void allocateBytes(int valueCount) {
-    DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(valueCount, typeWidth);
-    valueBuffer = buffers.getDataBuf();
-    validityBuffer = buffers.getValidityBuf();
+    if (validPrefixLength >= 0) {
+      valueBuffer = allocator.buffer(getDataBufferSizeFromCount(valueCount));
+    } else {
+      DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(valueCount, typeWidth);
+      valueBuffer = buffers.getDataBuf();
+      validityBuffer = buffers.getValidityBuf();
+    }
     zeroVector();
 
     refreshValueCapacity();
     lastValueCapacity = getValueCapacity();
   }
 
+  /* the size of the data buffer for the given number of values, without the validity buffer */
+  private long getDataBufferSizeFromCount(int valueCount) {
+    if (typeWidth == 0) {
+      /* specialized handling for BitVector */
+      return DataSizeRoundingUtil.roundUpTo8Multiple(getValidityBufferSizeFromCount(valueCount));
+    }
+    return DataSizeRoundingUtil.roundUpTo8Multiple((long) valueCount * typeWidth);
+  }
+
   /**
    * During splitAndTransfer, if we splitting from a random position within a byte,
    * we can't just slice the source buffer so we have to explicitly allocate the
@@ -406,6 +576,7 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   @Override
   public ArrowBuf[] getBuffers(boolean clear) {
     final ArrowBuf[] buffers;
+    materializeValidityBuffer();
     setReaderAndWriterIndex();
     if (getBufferSize() == 0) {
       buffers = new ArrowBuf[0];
@@ -424,36 +595,74 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   }
 
   /**
-   * Resize the vector to increase the capacity. The internal behavior is to
-   * double the current value capacity.
+   * Resize the vector to increase the capacity. The new capacity is computed by the
+   * {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * value capacity.
    */
   @Override
   public void reAlloc() {
-    int targetValueCount = getValueCapacity() * 2;
-    if (targetValueCount == 0) {
-      if (lastValueCapacity > 0) {
-        targetValueCount = lastValueCapacity;
-      } else {
-        targetValueCount = INITIAL_VALUE_ALLOCATION * 2;
-      }
+    int targetValueCount;
+    if (getValueCapacity() > 0) {
+      targetValueCount = computeGrowthValueCount(getValueCapacity(), typeWidth);
+    } else if (lastValueCapacity > 0) {
+      targetValueCount = lastValueCapacity;
+    } else {
+      targetValueCount = INITIAL_VALUE_ALLOCATION * 2;
     }
     computeAndCheckBufferSize(targetValueCount);
+    reallocBuffers(targetValueCount, valueBuffer.capacity(), validityBuffer.capacity());
+    lastValueCapacity = getValueCapacity();
+  }
 
+  /**
+   * Release the memory not needed to hold the {@link #getValueCount()} values of the vector, by
+   * reallocating its buffers to the smallest size the rounding policy of the allocator allows.
+   * This does nothing if that would not save memory.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    final long size = validPrefixLength >= 0 ? getDataBufferSizeFromCount(valueCount) :
+        computeCombinedBufferSize(valueCount, typeWidth);
+    if (size >= valueBuffer.capacity() + validityBuffer.capacity()) {
+      return;
+    }
+    final long valueBytes = typeWidth == 0 ? getValidityBufferSizeFromCount(valueCount) : (long) valueCount * typeWidth;
+    reallocBuffers(valueCount, valueBytes, getValidityBufferSizeFromCount(valueCount));
+  }
+
+  /*
+   * Reallocate the value and validity buffers for the given value count, keeping the given number
+   * of bytes of each of them and zeroing the rest.
+   */
+  private void reallocBuffers(int targetValueCount, long valueBytes, long validityBytes) {
+    if (validPrefixLength >= 0) {
+      /* the validity buffer is not allocated */
+      final ArrowBuf newValueBuffer = allocator.buffer(getDataBufferSizeFromCount(targetValueCount));
+      newValueBuffer.setBytes(0, valueBuffer, 0, valueBytes);
+      newValueBuffer.setZero(valueBytes, newValueBuffer.capacity() - valueBytes);
+      valueBuffer.getReferenceManager().release();
+      valueBuffer = newValueBuffer;
+      refreshValueCapacity();
+      return;
+    }
     DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(targetValueCount, typeWidth);
     final ArrowBuf newValueBuffer = buffers.getDataBuf();
-    newValueBuffer.setBytes(0, valueBuffer, 0, valueBuffer.capacity());
-    newValueBuffer.setZero(valueBuffer.capacity(), newValueBuffer.capacity() - valueBuffer.capacity());
+    newValueBuffer.setBytes(0, valueBuffer, 0, valueBytes);
+    newValueBuffer.setZero(valueBytes, newValueBuffer.capacity() - valueBytes);
     valueBuffer.getReferenceManager().release();
     valueBuffer = newValueBuffer;
 
     final ArrowBuf newValidityBuffer = buffers.getValidityBuf();
-    newValidityBuffer.setBytes(0, validityBuffer, 0, validityBuffer.capacity());
-    newValidityBuffer.setZero(validityBuffer.capacity(), newValidityBuffer.capacity() - validityBuffer.capacity());
+    newValidityBuffer.setBytes(0, validityBuffer, 0, validityBytes);
+    newValidityBuffer.setZero(validityBytes, newValidityBuffer.capacity() - validityBytes);
     validityBuffer.getReferenceManager().release();
     validityBuffer = newValidityBuffer;
 
     refreshValueCapacity();
-    lastValueCapacity = getValueCapacity();
   }
 
   /**
@@ -507,8 +716,11 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
     ArrowBuf bitBuffer = ownBuffers.get(0);
     ArrowBuf dataBuffer = ownBuffers.get(1);
 
-    validityBuffer.getReferenceManager().release();
-    validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    validityBuffer = releaseBuffer(validityBuffer);
+    validPrefixLength = BitVectorHelper.getValidPrefixLength(fieldNode, bitBuffer);
+    if (validPrefixLength < 0) {
+      validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    }
     valueBuffer.getReferenceManager().release();
     valueBuffer = dataBuffer.getReferenceManager().retain(dataBuffer, allocator);
     refreshValueCapacity();
@@ -522,6 +734,15 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    * @return the inner buffers.
    */
   public List<ArrowBuf> getFieldBuffers() {
+    materializeValidityBuffer();
+    return getFieldBuffersToWrite();
+  }
+
+  @Override
+  List<ArrowBuf> getFieldBuffersToWrite() {
+    if (!isAllValid()) {
+      materializeValidityBuffer();
+    }
     List<ArrowBuf> result = new ArrayList<>(2);
     setReaderAndWriterIndex();
     result.add(validityBuffer);
@@ -534,13 +755,14 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    * Set the reader and writer indexes for the inner buffers.
    */
   private void setReaderAndWriterIndex() {
-    validityBuffer.readerIndex(0);
     valueBuffer.readerIndex(0);
+    if (validPrefixLength < 0) {
+      validityBuffer.readerIndex(0);
+      validityBuffer.writerIndex(valueCount == 0 ? 0 : getValidityBufferSizeFromCount(valueCount));
+    }
     if (valueCount == 0) {
-      validityBuffer.writerIndex(0);
       valueBuffer.writerIndex(0);
     } else {
-      validityBuffer.writerIndex(getValidityBufferSizeFromCount(valueCount));
       if (typeWidth == 0) {
         /* specialized handling for BitVector */
         valueBuffer.writerIndex(getValidityBufferSizeFromCount(valueCount));
@@ -616,7 +838,10 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   public void transferTo(BaseFixedWidthVector target) {
     compareTypes(target, "transferTo");
     target.clear();
-    target.validityBuffer = transferBuffer(validityBuffer, target.allocator);
+    if (validPrefixLength < 0) {
+      target.validityBuffer = transferBuffer(validityBuffer, target.allocator);
+    }
+    target.validPrefixLength = validPrefixLength;
     target.valueBuffer = transferBuffer(valueBuffer, target.allocator);
     target.valueCount = valueCount;
     target.refreshValueCapacity();
@@ -636,7 +861,9 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
         "Invalid parameters startIndex: %s, length: %s for valueCount: %s", startIndex, length, valueCount);
     compareTypes(target, "splitAndTransferTo");
     target.clear();
-    splitAndTransferValidityBuffer(startIndex, length, target);
+    if (!splitAndTransferValidPrefix(startIndex, length, target)) {
+      splitAndTransferValidityBuffer(startIndex, length, target);
+    }
     splitAndTransferValueBuffer(startIndex, length, target);
     target.setValueCount(length);
   }
@@ -653,6 +880,20 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
     target.refreshValueCapacity();
   }
 
+  /*
+   * Split the validity of a vector whose validity buffer is not allocated, without allocating the
+   * validity buffer of the target vector. Returns false if the validity buffer is allocated.
+   */
+  boolean splitAndTransferValidPrefix(int startIndex, int length, BaseFixedWidthVector target) {
+    if (validPrefixLength < 0) {
+      return false;
+    }
+    target.validPrefixLength = validPrefixLength == Integer.MAX_VALUE ? Integer.MAX_VALUE :
+        Math.max(0, Math.min(validPrefixLength - startIndex, length));
+    target.refreshValueCapacity();
+    return true;
+  }
+
   /**
    * Validity buffer has multiple cases of split and transfer depending on
    * the starting position of the source index.
@@ -731,6 +972,9 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    */
   @Override
   public int getNullCount() {
+    if (validPrefixLength >= 0) {
+      return valueCount - Math.min(validPrefixLength, valueCount);
+    }
     return BitVectorHelper.getNullCount(validityBuffer, valueCount);
   }
 
@@ -822,6 +1066,9 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
    * @return 1 if element at given index is not null, 0 otherwise
    */
   public int isSet(int index) {
+    if (validPrefixLength >= 0) {
+      return index < validPrefixLength ? 1 : 0;
+    }
     final int byteIndex = index >> 3;
     final byte b = validityBuffer.getByte(byteIndex);
     final int bitIndex = index & 7;
@@ -836,7 +1083,7 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   @Override
   public void setIndexDefined(int index) {
     handleSafe(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
   }
 
   public void set(int index, byte[] value, int start, int length) {
@@ -856,6 +1103,141 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   }
 
 
+  /*----------------------------------------------------------------*
+   |                                                                |
+   |                helper methods for bulk access                  |
+   |                                                                |
+   *----------------------------------------------------------------*/
+
+
+  /**
+   * Copy a range of a primitive array, whose elements have the width of this vector, into the
+   * data buffer with a single memory copy, and set the validity of the range from a null mask.
+   * All the bounds are checked before the vector is changed.
+   *
+   * @param index position of the first element to set
+   * @param src the primitive array
+   * @param srcBaseOffset the offset of the array data, e.g. {@link MemoryUtil#LONG_ARRAY_BASE_OFFSET}
+   * @param srcLength the length of the array
+   * @param srcOffset position of the first element to copy in the array
+   * @param length number of elements to copy
+   * @param nulls the null mask (true for null), indexed like the array, or null if there is no null
+   */
+  protected void setAllFromArray(int index, Object src, long srcBaseOffset, int srcLength, int srcOffset, int length,
+      boolean[] nulls) {
+    checkArrayRange(srcOffset, length, srcLength);
+    if (nulls != null) {
+      checkArrayRange(srcOffset, length, nulls.length);
+    }
+    copyFromArray(index, src, srcBaseOffset, srcOffset, length);
+    setValidityRangeToOne(index, length);
+    if (nulls != null) {
+      for (int i = 0; i < length; i++) {
+        if (nulls[srcOffset + i]) {
+          unsetValidityBit(index + i);
+        }
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #setAllFromArray(int, Object, long, int, int, int, boolean[])} with the null mask
+   * given as a bit set.
+   *
+   * @param index position of the first element to set
+   * @param src the primitive array
+   * @param srcBaseOffset the offset of the array data, e.g. {@link MemoryUtil#LONG_ARRAY_BASE_OFFSET}
+   * @param srcLength the length of the array
+   * @param srcOffset position of the first element to copy in the array
+   * @param length number of elements to copy
+   * @param nulls the null mask (set bits for nulls), indexed like the array, or null if there is no null
+   */
+  protected void setAllFromArray(int index, Object src, long srcBaseOffset, int srcLength, int srcOffset, int length,
+      BitSet nulls) {
+    checkArrayRange(srcOffset, length, srcLength);
+    copyFromArray(index, src, srcBaseOffset, srcOffset, length);
+    setValidityRangeToOne(index, length);
+    if (nulls != null) {
+      final int end = srcOffset + length;
+      for (int i = nulls.nextSetBit(srcOffset); i >= 0 && i < end; i = nulls.nextSetBit(i + 1)) {
+        unsetValidityBit(index + i - srcOffset);
+      }
+    }
+  }
+
+  /**
+   * Copy a range of the data buffer into a primitive array, whose elements have the width of this
+   * vector, with a single memory copy, and the validity of the range into a null mask. The elements
+   * of null positions are copied as they are. All the bounds are checked before the array is changed.
+   *
+   * @param index position of the first element to copy
+   * @param dst the primitive array
+   * @param dstBaseOffset the offset of the array data, e.g. {@link MemoryUtil#LONG_ARRAY_BASE_OFFSET}
+   * @param dstLength the length of the array
+   * @param dstOffset position in the array to copy the first element to
+   * @param length number of elements to copy
+   * @param nulls the null mask to fill (true for null), indexed like the array, or null
+   */
+  protected void getAllToArray(int index, Object dst, long dstBaseOffset, int dstLength, int dstOffset, int length,
+      boolean[] nulls) {
+    checkArrayRange(dstOffset, length, dstLength);
+    if (nulls != null) {
+      checkArrayRange(dstOffset, length, nulls.length);
+    }
+    copyToArray(index, dst, dstBaseOffset, dstOffset, length);
+    if (nulls != null) {
+      for (int i = 0; i < length; i++) {
+        nulls[dstOffset + i] = isSet(index + i) == 0;
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #getAllToArray(int, Object, long, int, int, int, boolean[])} with the null mask
+   * given as a bit set.
+   *
+   * @param index position of the first element to copy
+   * @param dst the primitive array
+   * @param dstBaseOffset the offset of the array data, e.g. {@link MemoryUtil#LONG_ARRAY_BASE_OFFSET}
+   * @param dstLength the length of the array
+   * @param dstOffset position in the array to copy the first element to
+   * @param length number of elements to copy
+   * @param nulls the null mask to fill (set bits for nulls), indexed like the array
+   */
+  protected void getAllToArray(int index, Object dst, long dstBaseOffset, int dstLength, int dstOffset, int length,
+      BitSet nulls) {
+    checkArrayRange(dstOffset, length, dstLength);
+    copyToArray(index, dst, dstBaseOffset, dstOffset, length);
+    for (int i = 0; i < length; i++) {
+      nulls.set(dstOffset + i, isSet(index + i) == 0);
+    }
+  }
+
+  private void copyFromArray(int index, Object src, long srcBaseOffset, int srcOffset, int length) {
+    final long start = (long) index * typeWidth;
+    final long bytes = (long) length * typeWidth;
+    valueBuffer.checkBytes(start, start + bytes);
+    MemoryUtil.UNSAFE.copyMemory(src, srcBaseOffset + (long) srcOffset * typeWidth,
+        null, valueBuffer.memoryAddress() + start, bytes);
+  }
+
+  private void copyToArray(int index, Object dst, long dstBaseOffset, int dstOffset, int length) {
+    final long start = (long) index * typeWidth;
+    final long bytes = (long) length * typeWidth;
+    valueBuffer.checkBytes(start, start + bytes);
+    MemoryUtil.UNSAFE.copyMemory(null, valueBuffer.memoryAddress() + start,
+        dst, dstBaseOffset + (long) dstOffset * typeWidth, bytes);
+  }
+
+  private static void checkArrayRange(int offset, int length, int arrayLength) {
+    // the bounds of the array are always checked, as writing out of them would corrupt the heap
+    if (offset < 0 || length < 0 || (long) offset + length > arrayLength) {
+      throw new IndexOutOfBoundsException(String.format("offset: %d, length: %d (expected: range(0, %d))",
+          offset, length, arrayLength));
+    }
+  }
+
+
   /*----------------------------------------------------------------*
    |                                                                |
    |                helper methods for setters                      |
@@ -882,9 +1264,9 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
   public void copyFrom(int fromIndex, int thisIndex, ValueVector from) {
     Preconditions.checkArgument(this.getMinorType() == from.getMinorType());
     if (from.isNull(fromIndex)) {
-      BitVectorHelper.unsetBit(this.getValidityBuffer(), thisIndex);
+      unsetValidityBit(thisIndex);
     } else {
-      BitVectorHelper.setBit(this.getValidityBuffer(), thisIndex);
+      setValidityBit(thisIndex);
       MemoryUtil.UNSAFE.copyMemory(from.getDataBuffer().memoryAddress() + (long) fromIndex * typeWidth,
               this.getDataBuffer().memoryAddress() + (long) thisIndex * typeWidth, typeWidth);
     }
@@ -915,7 +1297,7 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
     handleSafe(index);
     // not really needed to set the bit to 0 as long as
     // the buffer always starts from 0.
-    BitVectorHelper.unsetBit(validityBuffer, index);
+    unsetValidityBit(index);
   }
 
   @Override
@@ -948,6 +1330,62 @@ public abstract class BaseFixedWidthVector extends BaseValueVector
     return ByteFunctionHelpers.hash(hasher, this.getDataBuffer(), start, end);
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isNull(index)) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    long start = (long) typeWidth * index;
+    long end = (long) typeWidth * (index + 1);
+    return ByteFunctionHelpers.hash64(hasher, this.getDataBuffer(), start, end);
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    if (hasher == null) {
+      hasher = SimpleHasher.INSTANCE;
+    }
+    final long width = typeWidth;
+    final long dataAddress = valueBuffer.memoryAddress();
+    if (validPrefixLength >= 0) {
+      final int validCount = getValidPrefixCount(start, count);
+      for (int i = 0; i < validCount; i++) {
+        out[i] = hasher.hashCode64(dataAddress + (start + i) * width, width);
+      }
+      Arrays.fill(out, validCount, count, ArrowBufPointer.NULL_HASH_CODE);
+      return;
+    }
+    final long validityAddress = validityBuffer.memoryAddress();
+    int i = 0;
+    while (i < count) {
+      final int index = start + i;
+      if ((index & 63) != 0 || count - i < Long.SIZE) {
+        // a value before the first or after the last whole validity word of the range
+        out[i] = ((MemoryUtil.UNSAFE.getByte(validityAddress + (index >> 3)) >> (index & 7)) & 1) == 0 ?
+            ArrowBufPointer.NULL_HASH_CODE : hasher.hashCode64(dataAddress + index * width, width);
+        i++;
+        continue;
+      }
+      // a whole validity word, hashing only its valid values
+      long word = MemoryUtil.UNSAFE.getLong(validityAddress + (index >> 3));
+      if (word != -1L) {
+        Arrays.fill(out, i, i + Long.SIZE, ArrowBufPointer.NULL_HASH_CODE);
+      }
+      while (word != 0) {
+        final int bit = Long.numberOfTrailingZeros(word);
+        out[i + bit] = hasher.hashCode64(dataAddress + (index + bit) * width, width);
+        word &= word - 1;
+      }
+      i += Long.SIZE;
+    }
+  }
+
+  /* the number of values at the start of the given range that are in the valid prefix */
+  int getValidPrefixCount(int start, int count) {
+    return Math.max(0, Math.min(count, validPrefixLength - start));
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
@@ -21,6 +21,7 @@ import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,14 +31,18 @@ import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.memory.util.ArrowBufPointer;
 import org.apache.arrow.memory.util.ByteFunctionHelpers;
 import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.MemoryUtil;
 import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.memory.util.hash.SimpleHasher;
 import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.compare.VectorVisitor;
 import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.util.CallBack;
+import org.apache.arrow.vector.util.DataSizeRoundingUtil;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * BaseLargeVariableWidthVector is a base class providing functionality for large strings/large bytes types.
@@ -58,6 +63,13 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   protected int valueCount;
   protected int lastSet;
   protected final Field field;
+  private boolean deferValidityAllocation;
+  /*
+   * -1 when the validity buffer is allocated. Otherwise the validity buffer is empty, the values
+   * before this index are valid and the others are null, as if the validity buffer started with
+   * that many set bits; Integer.MAX_VALUE when every value is valid.
+   */
+  private int validPrefixLength = -1;
 
   /**
    * Constructs a new instance.
@@ -86,11 +98,13 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   /**
    * Get buffer that manages the validity (NULL or NON-NULL nature) of
    * elements in the vector. Consider it as a buffer for internal bit vector
-   * data structure.
+   * data structure. This allocates the validity buffer if its allocation
+   * is deferred.
    * @return buffer
    */
   @Override
   public ArrowBuf getValidityBuffer() {
+    materializeValidityBuffer();
     return validityBuffer;
   }
 
@@ -125,11 +139,13 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
 
   /**
    * Get the memory address of buffer that manages the validity
-   * (NULL or NON-NULL nature) of elements in the vector.
+   * (NULL or NON-NULL nature) of elements in the vector. This allocates
+   * the validity buffer if its allocation is deferred.
    * @return starting address of the buffer
    */
   @Override
   public long getValidityBufferAddress() {
+    materializeValidityBuffer();
     return validityBuffer.memoryAddress();
   }
 
@@ -194,6 +210,9 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   @Override
   public int getValueCapacity() {
     final long offsetValueCapacity = Math.max(getOffsetBufferValueCapacity() - 1, 0);
+    if (validPrefixLength >= 0) {
+      return capAtMaxInt(offsetValueCapacity);
+    }
     return capAtMaxInt(Math.min(offsetValueCapacity, getValidityBufferValueCapacity()));
   }
 
@@ -206,10 +225,124 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   }
 
   /**
-   * zero out the vector and the data in associated buffers.
+   * Sets whether the vector allocates its validity buffer on the first null rather than with its offset
+   * buffer. Until then, the vector is all valid: {@link #isNull(int)} returns false at every index,
+   * including the indices that were never set, and the null count is zero. This saves the memory of
+   * the validity buffer and the writes to it for the vectors that have no null, but the values that are
+   * not set are empty rather than null, so nulls must be set with {@link #setNull(int)}. The setting
+   * takes effect when the vector is next allocated, reset or cleared.
+   *
+   * @param deferValidityAllocation true to allocate the validity buffer on the first null
+   */
+  public void setDeferValidityAllocation(boolean deferValidityAllocation) {
+    this.deferValidityAllocation = deferValidityAllocation;
+    if (offsetBuffer.capacity() == 0 && validityBuffer.capacity() == 0) {
+      initValidityState();
+    }
+  }
+
+  /**
+   * Get whether the vector allocates its validity buffer on the first null.
+   *
+   * @return true if the allocation of the validity buffer is deferred
+   * @see #setDeferValidityAllocation(boolean)
+   */
+  public boolean isDeferValidityAllocation() {
+    return deferValidityAllocation;
+  }
+
+  /**
+   * Check whether every value of the vector is valid without the validity buffer being allocated,
+   * either because its allocation is deferred or because the vector was loaded from an empty validity
+   * buffer.
+   *
+   * @return true if every value is valid and the validity buffer is not allocated
+   */
+  public boolean isAllValid() {
+    return validPrefixLength >= valueCount;
+  }
+
+  /* the validity state of a vector without buffers */
+  private void initValidityState() {
+    validPrefixLength = deferValidityAllocation ? Integer.MAX_VALUE : -1;
+  }
+
+  /**
+   * Allocate the validity buffer if its allocation is deferred, with the validity of the values
+   * that the vector tracks without it.
+   */
+  private void materializeValidityBuffer() {
+    if (validPrefixLength < 0) {
+      return;
+    }
+    final int valueCapacity = getValueCapacity();
+    final ArrowBuf newValidityBuffer = allocator.buffer(getValidityBufferSizeFromCount(valueCapacity));
+    newValidityBuffer.setZero(0, newValidityBuffer.capacity());
+    BitVectorHelper.setRangeToOne(newValidityBuffer, 0, Math.min(validPrefixLength, valueCapacity));
+    validityBuffer.getReferenceManager().release();
+    validityBuffer = newValidityBuffer;
+    validPrefixLength = -1;
+  }
+
+  /**
+   * Mark the value at the given index as valid in the validity buffer. The subclasses set the
+   * validity with this method rather than with the validity buffer, which may not be allocated.
+   *
+   * @param index position of the value
+   */
+  protected final void setValidityBit(int index) {
+    if (validPrefixLength < 0) {
+      BitVectorHelper.setBit(validityBuffer, index);
+    } else if (index == validPrefixLength) {
+      validPrefixLength++;
+    } else if (index > validPrefixLength) {
+      materializeValidityBuffer();
+      BitVectorHelper.setBit(validityBuffer, index);
+    }
+  }
+
+  /**
+   * Mark the value at the given index as null in the validity buffer, allocating the validity buffer
+   * if its allocation is deferred and the value is valid.
+   *
+   * @param index position of the value
+   */
+  protected final void unsetValidityBit(int index) {
+    if (validPrefixLength >= 0 && index >= validPrefixLength) {
+      return;
+    }
+    materializeValidityBuffer();
+    BitVectorHelper.unsetBit(validityBuffer, index);
+  }
+
+  /**
+   * Same as {@link #setValidityBit(int)} if isSet is not zero, and {@link #unsetValidityBit(int)} otherwise.
+   *
+   * @param index position of the value
+   * @param isSet 0 for a null value, a valid value otherwise
+   */
+  protected final void setValidityBit(int index, int isSet) {
+    if (isSet != 0) {
+      setValidityBit(index);
+    } else {
+      unsetValidityBit(index);
+    }
+  }
+
+  /**
+   * zero out the vector and the data in associated buffers. If the allocation of the
+   * validity buffer is deferred, the vector is all valid again and its validity buffer
+   * is released.
    */
   public void zeroVector() {
-    initValidityBuffer();
+    if (deferValidityAllocation) {
+      validityBuffer = releaseBuffer(validityBuffer);
+      validPrefixLength = Integer.MAX_VALUE;
+    } else if (validPrefixLength >= 0) {
+      validPrefixLength = 0;
+    } else {
+      initValidityBuffer();
+    }
     initOffsetBuffer();
     valueBuffer.setZero(0, valueBuffer.capacity());
   }
@@ -250,6 +383,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     validityBuffer = releaseBuffer(validityBuffer);
     valueBuffer = releaseBuffer(valueBuffer);
     offsetBuffer = releaseBuffer(offsetBuffer);
+    initValidityState();
     lastSet = -1;
     valueCount = 0;
   }
@@ -303,8 +437,11 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     ArrowBuf offBuffer = ownBuffers.get(1);
     ArrowBuf dataBuffer = ownBuffers.get(2);
 
-    validityBuffer.getReferenceManager().release();
-    validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    validityBuffer = releaseBuffer(validityBuffer);
+    validPrefixLength = BitVectorHelper.getValidPrefixLength(fieldNode, bitBuffer);
+    if (validPrefixLength < 0) {
+      validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    }
     offsetBuffer.getReferenceManager().release();
     offsetBuffer = offBuffer.getReferenceManager().retain(offBuffer, allocator);
     valueBuffer.getReferenceManager().release();
@@ -319,6 +456,15 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    * @return the inner buffers.
    */
   public List<ArrowBuf> getFieldBuffers() {
+    materializeValidityBuffer();
+    return getFieldBuffersToWrite();
+  }
+
+  @Override
+  List<ArrowBuf> getFieldBuffersToWrite() {
+    if (!isAllValid()) {
+      materializeValidityBuffer();
+    }
     // before flight/IPC, we must bring the vector to a consistent state.
     // this is because, it is possible that the offset buffers of some trailing values
     // are not updated. this may cause some data in the data buffer being lost.
@@ -338,16 +484,17 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    * Set the reader and writer indexes for the inner buffers.
    */
   private void setReaderAndWriterIndex() {
-    validityBuffer.readerIndex(0);
     offsetBuffer.readerIndex(0);
     valueBuffer.readerIndex(0);
+    if (validPrefixLength < 0) {
+      validityBuffer.readerIndex(0);
+      validityBuffer.writerIndex(valueCount == 0 ? 0 : getValidityBufferSizeFromCount(valueCount));
+    }
     if (valueCount == 0) {
-      validityBuffer.writerIndex(0);
       offsetBuffer.writerIndex(0);
       valueBuffer.writerIndex(0);
     } else {
       final long lastDataOffset = getStartOffset(valueCount);
-      validityBuffer.writerIndex(getValidityBufferSizeFromCount(valueCount));
       offsetBuffer.writerIndex((long) (valueCount + 1) * OFFSET_WIDTH);
       valueBuffer.writerIndex(lastDataOffset);
     }
@@ -442,12 +589,17 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     valueBuffer = allocator.buffer(curSize);
     valueBuffer.readerIndex(0);
 
-    /* allocate offset buffer and validity buffer */
-    DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(valueCount + 1, OFFSET_WIDTH);
-    offsetBuffer = buffers.getDataBuf();
-    validityBuffer = buffers.getValidityBuf();
-    initOffsetBuffer();
-    initValidityBuffer();
+    if (validPrefixLength >= 0) {
+      /* allocate offset buffer only, the validity buffer is not allocated */
+      allocateOffsetBuffer(DataSizeRoundingUtil.roundUpTo8Multiple((long) (valueCount + 1) * OFFSET_WIDTH));
+    } else {
+      /* allocate offset buffer and validity buffer */
+      DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(valueCount + 1, OFFSET_WIDTH);
+      offsetBuffer = buffers.getDataBuf();
+      validityBuffer = buffers.getValidityBuf();
+      initOffsetBuffer();
+      initValidityBuffer();
+    }
 
     lastValueCapacity = getValueCapacity();
     lastValueAllocationSizeInBytes = capAtMaxInt(valueBuffer.capacity());
@@ -468,8 +620,9 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   }
 
   /**
-   * Resize the vector to increase the capacity. The internal behavior is to
-   * double the current value capacity.
+   * Resize the vector to increase the capacity. The new capacity is computed by the
+   * {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * capacity.
    */
   public void reAlloc() {
     reallocDataBuffer();
@@ -478,29 +631,39 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
 
   /**
    * Reallocate the data buffer. Data Buffer stores the actual data for
-   * LARGEVARCHAR or LARGEVARBINARY elements in the vector. The behavior is to double
-   * the size of buffer.
+   * LARGEVARCHAR or LARGEVARBINARY elements in the vector. The new size is computed by
+   * the growth policy of the vector, which by default doubles the size of buffer.
    * @throws OversizedAllocationException if the desired new size is more than
    *                                      max allowed
    * @throws OutOfMemoryException if the internal memory allocation fails
    */
   public void reallocDataBuffer() {
     final long currentBufferCapacity = valueBuffer.capacity();
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (lastValueAllocationSizeInBytes > 0) {
-        newAllocationSize = lastValueAllocationSizeInBytes;
-      } else {
-        newAllocationSize = INITIAL_BYTE_COUNT * 2;
-      }
+    if (currentBufferCapacity > 0) {
+      growDataBuffer(currentBufferCapacity + 1);
+      return;
+    }
+    long newAllocationSize = INITIAL_BYTE_COUNT * 2;
+    if (lastValueAllocationSizeInBytes > 0) {
+      newAllocationSize = lastValueAllocationSizeInBytes;
     }
     newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     assert newAllocationSize >= 1;
 
+    reallocDataBufferExactly(newAllocationSize, currentBufferCapacity);
+  }
+
+  /* Grow the data buffer to at least the given size, following the growth policy. */
+  private void growDataBuffer(long minSize) {
+    reallocDataBufferExactly(getGrowthPolicy().getGrowthSize(valueBuffer.capacity(), minSize), valueBuffer.capacity());
+  }
+
+  /* Reallocate the data buffer to the given size, keeping the given number of bytes. */
+  private void reallocDataBufferExactly(long newAllocationSize, long bytesToCopy) {
     checkDataBufferSize(newAllocationSize);
 
     final ArrowBuf newBuf = allocator.buffer(newAllocationSize);
-    newBuf.setBytes(0, valueBuffer, 0, currentBufferCapacity);
+    newBuf.setBytes(0, valueBuffer, 0, bytesToCopy);
     valueBuffer.getReferenceManager().release();
     valueBuffer = newBuf;
     lastValueAllocationSizeInBytes = valueBuffer.capacity();
@@ -530,30 +693,104 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    * @throws OutOfMemoryException if the internal memory allocation fails
    */
   public void reallocValidityAndOffsetBuffers() {
-    int targetOffsetCount = capAtMaxInt((offsetBuffer.capacity() / OFFSET_WIDTH) * 2);
-    if (targetOffsetCount == 0) {
-      if (lastValueCapacity > 0) {
-        targetOffsetCount = (lastValueCapacity + 1);
-      } else {
-        targetOffsetCount = 2 * (INITIAL_VALUE_ALLOCATION + 1);
-      }
+    final int offsetCount = capAtMaxInt(offsetBuffer.capacity() / OFFSET_WIDTH);
+    int targetOffsetCount;
+    if (offsetCount > 0) {
+      targetOffsetCount = computeGrowthValueCount(offsetCount, OFFSET_WIDTH);
+    } else if (lastValueCapacity > 0) {
+      targetOffsetCount = (lastValueCapacity + 1);
+    } else {
+      targetOffsetCount = 2 * (INITIAL_VALUE_ALLOCATION + 1);
     }
     computeAndCheckOffsetsBufferSize(targetOffsetCount);
+    reallocValidityAndOffsetBuffers(targetOffsetCount, offsetBuffer.capacity(), validityBuffer.capacity());
+    lastValueCapacity = getValueCapacity();
+  }
 
+  /*
+   * Reallocate the offset and validity buffers for the given offset count, keeping the given number
+   * of bytes of each of them and zeroing the rest.
+   */
+  private void reallocValidityAndOffsetBuffers(int targetOffsetCount, long offsetBytes, long validityBytes) {
+    if (validPrefixLength >= 0) {
+      /* the validity buffer is not allocated */
+      final ArrowBuf newOffsetBuffer =
+          allocator.buffer(DataSizeRoundingUtil.roundUpTo8Multiple((long) targetOffsetCount * OFFSET_WIDTH));
+      newOffsetBuffer.setBytes(0, offsetBuffer, 0, offsetBytes);
+      newOffsetBuffer.setZero(offsetBytes, newOffsetBuffer.capacity() - offsetBytes);
+      offsetBuffer.getReferenceManager().release();
+      offsetBuffer = newOffsetBuffer;
+      return;
+    }
     DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(targetOffsetCount, OFFSET_WIDTH);
     final ArrowBuf newOffsetBuffer = buffers.getDataBuf();
-    newOffsetBuffer.setBytes(0, offsetBuffer, 0, offsetBuffer.capacity());
-    newOffsetBuffer.setZero(offsetBuffer.capacity(), newOffsetBuffer.capacity() - offsetBuffer.capacity());
+    newOffsetBuffer.setBytes(0, offsetBuffer, 0, offsetBytes);
+    newOffsetBuffer.setZero(offsetBytes, newOffsetBuffer.capacity() - offsetBytes);
     offsetBuffer.getReferenceManager().release();
     offsetBuffer = newOffsetBuffer;
 
     final ArrowBuf newValidityBuffer = buffers.getValidityBuf();
-    newValidityBuffer.setBytes(0, validityBuffer, 0, validityBuffer.capacity());
-    newValidityBuffer.setZero(validityBuffer.capacity(), newValidityBuffer.capacity() - validityBuffer.capacity());
+    newValidityBuffer.setBytes(0, validityBuffer, 0, validityBytes);
+    newValidityBuffer.setZero(validityBytes, newValidityBuffer.capacity() - validityBytes);
     validityBuffer.getReferenceManager().release();
     validityBuffer = newValidityBuffer;
+  }
 
-    lastValueCapacity = getValueCapacity();
+  /**
+   * Grow the vector, if needed, so that it can hold the given total number of values of the given
+   * average size without any further reallocation. Unlike the growth policy, this sizes the buffers
+   * exactly (up to the rounding policy of the allocator), e.g. from the known statistics of the
+   * data being loaded.
+   * @param valueCount the total number of values the vector must hold.
+   * @param density the average number of bytes per value.
+   */
+  public void ensureCapacity(int valueCount, double density) {
+    final long dataSize = Math.max((long) Math.ceil(valueCount * density), 1L);
+    checkDataBufferSize(dataSize);
+    computeAndCheckOffsetsBufferSize(valueCount);
+    if (getValueCapacity() < valueCount) {
+      reallocValidityAndOffsetBuffers(valueCount + 1, offsetBuffer.capacity(), validityBuffer.capacity());
+      lastValueCapacity = getValueCapacity();
+    }
+    if (valueBuffer.capacity() < dataSize) {
+      reallocDataBufferExactly(dataSize, valueBuffer.capacity());
+    }
+  }
+
+  /**
+   * Grow the vector, if needed, so that it can hold the given total number of values without any
+   * further reallocation, assuming that the values still to set have the average size of the
+   * values set so far. See {@link #ensureCapacity(int, double)}.
+   * @param valueCount the total number of values the vector must hold.
+   */
+  public void ensureCapacity(int valueCount) {
+    final int setCount = lastSet + 1;
+    final double density = setCount > 0 ? (double) getStartOffset(setCount) / setCount : DEFAULT_RECORD_BYTE_COUNT;
+    ensureCapacity(valueCount, density);
+  }
+
+  /**
+   * Release the memory not needed to hold the {@link #getValueCount()} values of the vector, by
+   * reallocating its buffers to the smallest size the rounding policy of the allocator allows.
+   * Buffers that would not shrink are kept.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    final long offsetsSize = validPrefixLength >= 0 ?
+        DataSizeRoundingUtil.roundUpTo8Multiple((long) (valueCount + 1) * OFFSET_WIDTH) :
+        computeCombinedBufferSize(valueCount + 1, OFFSET_WIDTH);
+    if (offsetsSize < offsetBuffer.capacity() + validityBuffer.capacity()) {
+      reallocValidityAndOffsetBuffers(valueCount + 1, (long) (valueCount + 1) * OFFSET_WIDTH,
+          getValidityBufferSizeFromCount(valueCount));
+    }
+    final long dataSize = getStartOffset(valueCount);
+    if (allocator.getRoundingPolicy().getRoundedSize(dataSize) < valueBuffer.capacity()) {
+      reallocDataBufferExactly(dataSize, dataSize);
+    }
   }
 
   /**
@@ -625,6 +862,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   @Override
   public ArrowBuf[] getBuffers(boolean clear) {
     final ArrowBuf[] buffers;
+    materializeValidityBuffer();
     setReaderAndWriterIndex();
     if (getBufferSize() == 0) {
       buffers = new ArrowBuf[0];
@@ -710,7 +948,10 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   public void transferTo(BaseLargeVariableWidthVector target) {
     compareTypes(target, "transferTo");
     target.clear();
-    target.validityBuffer = transferBuffer(validityBuffer, target.allocator);
+    if (validPrefixLength < 0) {
+      target.validityBuffer = transferBuffer(validityBuffer, target.allocator);
+    }
+    target.validPrefixLength = validPrefixLength;
     target.valueBuffer = transferBuffer(valueBuffer, target.allocator);
     target.offsetBuffer = transferBuffer(offsetBuffer, target.allocator);
     target.setLastSet(this.lastSet);
@@ -769,6 +1010,12 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    */
   private void splitAndTransferValidityBuffer(int startIndex, int length,
                                               BaseLargeVariableWidthVector target) {
+    if (validPrefixLength >= 0) {
+      /* the validity buffer is not allocated, nor is the one of the target */
+      target.validPrefixLength = validPrefixLength == Integer.MAX_VALUE ? Integer.MAX_VALUE :
+          Math.max(0, Math.min(validPrefixLength - startIndex, length));
+      return;
+    }
     int firstByteSource = BitVectorHelper.byteIndex(startIndex);
     int lastByteSource = BitVectorHelper.byteIndex(valueCount - 1);
     int byteSizeTarget = getValidityBufferSizeFromCount(length);
@@ -836,6 +1083,9 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    * @return the number of null elements.
    */
   public int getNullCount() {
+    if (validPrefixLength >= 0) {
+      return valueCount - Math.min(validPrefixLength, valueCount);
+    }
     return BitVectorHelper.getNullCount(validityBuffer, valueCount);
   }
 
@@ -867,6 +1117,9 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
    * @return 1 if element at given index is not null, 0 otherwise
    */
   public int isSet(int index) {
+    if (validPrefixLength >= 0) {
+      return index < validPrefixLength ? 1 : 0;
+    }
     final int byteIndex = index >> 3;
     final byte b = validityBuffer.getByte(byteIndex);
     final int bitIndex = index & 7;
@@ -943,7 +1196,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     while (index >= getValueCapacity()) {
       reallocValidityAndOffsetBuffers();
     }
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
   }
 
   /**
@@ -988,7 +1241,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   public void set(int index, byte[] value) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setBytes(index, value, 0, value.length);
     lastSet = index;
   }
@@ -1005,7 +1258,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     assert index >= 0;
     handleSafe(index, value.length);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setBytes(index, value, 0, value.length);
     lastSet = index;
   }
@@ -1022,7 +1275,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   public void set(int index, byte[] value, int start, int length) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setBytes(index, value, start, length);
     lastSet = index;
   }
@@ -1041,7 +1294,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     assert index >= 0;
     handleSafe(index, length);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setBytes(index, value, start, length);
     lastSet = index;
   }
@@ -1058,7 +1311,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   public void set(int index, ByteBuffer value, int start, int length) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + length);
     valueBuffer.setBytes(startOffset, value, start, length);
@@ -1079,7 +1332,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     assert index >= 0;
     handleSafe(index, length);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + length);
     valueBuffer.setBytes(startOffset, value, start, length);
@@ -1096,7 +1349,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     while (index >= getValueCapacity()) {
       reallocValidityAndOffsetBuffers();
     }
-    BitVectorHelper.unsetBit(validityBuffer, index);
+    unsetValidityBit(index);
   }
 
   /**
@@ -1113,7 +1366,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     assert index >= 0;
     final long dataLength = end - start;
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, isSet);
+    setValidityBit(index, isSet);
     final long startOffset = offsetBuffer.getLong((long) index * OFFSET_WIDTH);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, end);
     valueBuffer.setBytes(startOffset, buffer, start, dataLength);
@@ -1136,7 +1389,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     final long dataLength = end - start;
     handleSafe(index, (int) dataLength);
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, isSet);
+    setValidityBit(index, isSet);
     final long startOffset = offsetBuffer.getLong((long) index * OFFSET_WIDTH);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + dataLength);
     valueBuffer.setBytes(startOffset, buffer, start, dataLength);
@@ -1155,7 +1408,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
   public void set(int index, long start, int length, ArrowBuf buffer) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = offsetBuffer.getLong((long) index * OFFSET_WIDTH);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + length);
     final ArrowBuf bb = buffer.slice(start, length);
@@ -1177,7 +1430,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     assert index >= 0;
     handleSafe(index, length);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = offsetBuffer.getLong((long) index * OFFSET_WIDTH);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + length);
     final ArrowBuf bb = buffer.slice(start, length);
@@ -1245,9 +1498,12 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
       reallocValidityAndOffsetBuffers();
     }
     final long startOffset = lastSet < 0 ? 0L : getStartOffset(lastSet + 1);
-    while (valueBuffer.capacity() < (startOffset + dataLength)) {
+    if (valueBuffer.capacity() == 0) {
       reallocDataBuffer();
     }
+    if (valueBuffer.capacity() < (startOffset + dataLength)) {
+      growDataBuffer(startOffset + dataLength);
+    }
   }
 
   /**
@@ -1310,7 +1566,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     Preconditions.checkArgument(this.getMinorType() == from.getMinorType());
     if (from.isNull(fromIndex)) {
       fillHoles(thisIndex);
-      BitVectorHelper.unsetBit(this.validityBuffer, thisIndex);
+      unsetValidityBit(thisIndex);
       final long copyStart = offsetBuffer.getLong((long) thisIndex * OFFSET_WIDTH);
       offsetBuffer.setLong((long) (thisIndex + 1) * OFFSET_WIDTH, copyStart);
     } else {
@@ -1318,7 +1574,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
       final long end = from.getOffsetBuffer().getLong((long) (fromIndex + 1) * OFFSET_WIDTH);
       final long length = end - start;
       fillHoles(thisIndex);
-      BitVectorHelper.setBit(this.validityBuffer, thisIndex);
+      setValidityBit(thisIndex);
       final long copyStart = getStartOffset(thisIndex);
       from.getDataBuffer().getBytes(start, this.valueBuffer, copyStart, (int) length);
       offsetBuffer.setLong((long) (thisIndex + 1) * OFFSET_WIDTH, copyStart + length);
@@ -1341,7 +1597,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     if (from.isNull(fromIndex)) {
       handleSafe(thisIndex, 0);
       fillHoles(thisIndex);
-      BitVectorHelper.unsetBit(this.validityBuffer, thisIndex);
+      unsetValidityBit(thisIndex);
       final long copyStart = offsetBuffer.getLong((long) thisIndex * OFFSET_WIDTH);
       offsetBuffer.setLong((long) (thisIndex + 1) * OFFSET_WIDTH, copyStart);
     } else {
@@ -1350,7 +1606,7 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
       final int length = (int) (end - start);
       handleSafe(thisIndex, length);
       fillHoles(thisIndex);
-      BitVectorHelper.setBit(this.validityBuffer, thisIndex);
+      setValidityBit(thisIndex);
       final long copyStart = getStartOffset(thisIndex);
       from.getDataBuffer().getBytes(start, this.valueBuffer, copyStart, length);
       offsetBuffer.setLong((long) (thisIndex + 1) * OFFSET_WIDTH, copyStart + length);
@@ -1390,6 +1646,64 @@ public abstract class BaseLargeVariableWidthVector extends BaseValueVector
     return ByteFunctionHelpers.hash(hasher, this.getDataBuffer(), start, end);
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isNull(index)) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    final long start = getStartOffset(index);
+    final long end = getEndOffset(index);
+    return ByteFunctionHelpers.hash64(hasher, this.getDataBuffer(), start, end);
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    if (hasher == null) {
+      hasher = SimpleHasher.INSTANCE;
+    }
+    final long offsetAddress = offsetBuffer.memoryAddress();
+    final long dataAddress = valueBuffer.memoryAddress();
+    if (validPrefixLength >= 0) {
+      final int validCount = Math.max(0, Math.min(count, validPrefixLength - start));
+      for (int i = 0; i < validCount; i++) {
+        out[i] = hashValue(offsetAddress, dataAddress, start + i, hasher);
+      }
+      Arrays.fill(out, validCount, count, ArrowBufPointer.NULL_HASH_CODE);
+      return;
+    }
+    final long validityAddress = validityBuffer.memoryAddress();
+    int i = 0;
+    while (i < count) {
+      final int index = start + i;
+      if ((index & 63) != 0 || count - i < Long.SIZE) {
+        // a value before the first or after the last whole validity word of the range
+        out[i] = ((MemoryUtil.UNSAFE.getByte(validityAddress + (index >> 3)) >> (index & 7)) & 1) == 0 ?
+            ArrowBufPointer.NULL_HASH_CODE : hashValue(offsetAddress, dataAddress, index, hasher);
+        i++;
+        continue;
+      }
+      // a whole validity word, hashing only its valid values
+      long word = MemoryUtil.UNSAFE.getLong(validityAddress + (index >> 3));
+      if (word != -1L) {
+        Arrays.fill(out, i, i + Long.SIZE, ArrowBufPointer.NULL_HASH_CODE);
+      }
+      while (word != 0) {
+        final int bit = Long.numberOfTrailingZeros(word);
+        out[i + bit] = hashValue(offsetAddress, dataAddress, index + bit, hasher);
+        word &= word - 1;
+      }
+      i += Long.SIZE;
+    }
+  }
+
+  private static long hashValue(long offsetAddress, long dataAddress, int index, ArrowBufHasher hasher) {
+    final long offsetPosition = offsetAddress + (long) index * OFFSET_WIDTH;
+    final long startOffset = MemoryUtil.UNSAFE.getLong(offsetPosition);
+    final long endOffset = MemoryUtil.UNSAFE.getLong(offsetPosition + OFFSET_WIDTH);
+    return hasher.hashCode64(dataAddress + startOffset, endOffset - startOffset);
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
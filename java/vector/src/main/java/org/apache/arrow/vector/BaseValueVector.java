@@ -19,10 +19,12 @@ package org.apache.arrow.vector;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.ReferenceManager;
+import org.apache.arrow.memory.rounding.GrowthPolicy;
 import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.complex.reader.FieldReader;
 import org.apache.arrow.vector.util.DataSizeRoundingUtil;
@@ -53,10 +55,28 @@ public abstract class BaseValueVector implements ValueVector {
 
   protected volatile FieldReader fieldReader;
 
+  private GrowthPolicy growthPolicy;
+
   protected BaseValueVector(BufferAllocator allocator) {
     this.allocator = Preconditions.checkNotNull(allocator, "allocator cannot be null");
   }
 
+  /**
+   * Gets the policy for growing the buffers of this vector when they run out of space. Unless set
+   * with {@link #setGrowthPolicy(GrowthPolicy)}, this is the growth policy of the allocator.
+   */
+  public GrowthPolicy getGrowthPolicy() {
+    return growthPolicy == null ? allocator.getGrowthPolicy() : growthPolicy;
+  }
+
+  /**
+   * Sets the policy for growing the buffers of this vector when they run out of space.
+   * @param growthPolicy the growth policy, or null to use the growth policy of the allocator.
+   */
+  public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+    this.growthPolicy = growthPolicy;
+  }
+
   @Override
   public abstract String getName();
 
@@ -119,6 +139,22 @@ public abstract class BaseValueVector implements ValueVector {
     return buffer;
   }
 
+  /**
+   * Reallocate a buffer down to the smallest size the rounding policy of the allocator allows for
+   * the given number of bytes, keeping these bytes. The buffer is returned unchanged if it would not
+   * shrink, otherwise it is released. Used to implement {@link #trimToSize()}.
+   */
+  protected ArrowBuf trimBuffer(ArrowBuf buffer, long size) {
+    if (allocator.getRoundingPolicy().getRoundedSize(size) >= buffer.capacity()) {
+      return buffer;
+    }
+    final ArrowBuf newBuffer = allocator.buffer(size);
+    newBuffer.setBytes(0, buffer, 0, size);
+    newBuffer.setZero(size, newBuffer.capacity() - size);
+    buffer.getReferenceManager().release();
+    return newBuffer;
+  }
+
   /* number of bytes for the validity buffer for the given valueCount */
   protected static int getValidityBufferSizeFromCount(final int valueCount) {
     return DataSizeRoundingUtil.divideBy8Ceil(valueCount);
@@ -207,16 +243,9 @@ public abstract class BaseValueVector implements ValueVector {
     } else {
       // Due to the rounding policy, the bufferSize could be greater than the
       // requested size. Utilize the allocated buffer fully.;
-      long actualCount = (long) ((bufferSize * 8.0) / (8 * typeWidth + 1));
-      do {
-        validityBufferSize = roundUp8ForValidityBuffer(actualCount);
-        dataBufferSize = DataSizeRoundingUtil.roundUpTo8Multiple(actualCount * typeWidth);
-        if (validityBufferSize + dataBufferSize <= bufferSize) {
-          break;
-        }
-        --actualCount;
-      }
-      while (true);
+      long actualCount = getValueCountForSize(bufferSize, typeWidth);
+      validityBufferSize = roundUp8ForValidityBuffer(actualCount);
+      dataBufferSize = DataSizeRoundingUtil.roundUpTo8Multiple(actualCount * typeWidth);
     }
 
 
@@ -245,6 +274,43 @@ public abstract class BaseValueVector implements ValueVector {
     return new DataAndValidityBuffers(dataBuf, validityBuf);
   }
 
+  /*
+   * Compute the maximum number of values whose data and validity buffers fit in a combined buffer
+   * of the given size.
+   */
+  private static long getValueCountForSize(long bufferSize, int typeWidth) {
+    if (typeWidth == 0) {
+      return bufferSize / 2 * 8;
+    }
+    long actualCount = (long) ((bufferSize * 8.0) / (8 * typeWidth + 1));
+    while (roundUp8ForValidityBuffer(actualCount) +
+        DataSizeRoundingUtil.roundUpTo8Multiple(actualCount * typeWidth) > bufferSize) {
+      --actualCount;
+    }
+    return actualCount;
+  }
+
+  /**
+   * Compute the value count to reallocate a pair of data and validity buffers holding the given
+   * number of values to, following the growth policy of this vector.
+   */
+  int computeGrowthValueCount(int currentValueCount, int typeWidth) {
+    final long currentSize = computeCombinedBufferSize(currentValueCount, typeWidth);
+    final long newSize = allocator.getRoundingPolicy().getRoundedSize(
+        getGrowthPolicy().getGrowthSize(currentSize, currentSize + 1));
+    final long newValueCount = Math.max(currentValueCount + 1L, getValueCountForSize(newSize, typeWidth));
+    return (int) Math.min(newValueCount, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Compute the size to reallocate a buffer of the given non-zero capacity to, following the growth
+   * policy of this vector and the rounding policy of the allocator.
+   */
+  protected long computeGrowthBufferSize(long currentCapacity) {
+    return allocator.getRoundingPolicy().getRoundedSize(
+        getGrowthPolicy().getGrowthSize(currentCapacity, currentCapacity + 1));
+  }
+
   public static ArrowBuf transferBuffer(final ArrowBuf srcBuffer, final BufferAllocator targetAllocator) {
     final ReferenceManager referenceManager = srcBuffer.getReferenceManager();
     return referenceManager.transferOwnership(srcBuffer, targetAllocator).getTransferredBuffer();
@@ -255,6 +321,15 @@ public abstract class BaseValueVector implements ValueVector {
     throw new UnsupportedOperationException();
   }
 
+  /*
+   * Get the buffers of this field vector to write them in the IPC format, in which the validity buffer
+   * of a vector without null may be empty. The vectors that defer the allocation of their validity
+   * buffer return it empty rather than allocating it.
+   */
+  List<ArrowBuf> getFieldBuffersToWrite() {
+    return ((FieldVector) this).getFieldBuffers();
+  }
+
   @Override
   public void copyFromSafe(int fromIndex, int thisIndex, ValueVector from) {
     throw new UnsupportedOperationException();
@@ -0,0 +1,1306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.ReusableBuffer;
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.CallBack;
+import org.apache.arrow.vector.util.OversizedAllocationException;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * BaseVariableWidthViewVector is a base class providing functionality for the view layout of
+ * strings/bytes types (Utf8View, BinaryView).
+ *
+ * <p>Instead of offsets, each element has a 16 byte view. The first 4 bytes hold the length of the
+ * value. Values of at most {@link #INLINE_SIZE} bytes are stored in the remaining 12 bytes of the
+ * view. For longer values, the view holds the first 4 bytes of the value (its prefix), followed by
+ * the index of the data buffer holding the value and the offset of the value in that buffer. A
+ * vector can have any number of such (variadic) data buffers.
+ *
+ * <p>As views are independent of each other, slicing or filtering a vector does not need to rewrite
+ * or copy the data buffers, and many comparisons can be decided from the views alone.
+ */
+public abstract class BaseVariableWidthViewVector extends BaseValueVector
+    implements VariableWidthVector, FieldVector, VectorDefinitionSetter {
+
+  /**
+   * The width of each view, in bytes.
+   */
+  public static final int ELEMENT_SIZE = 16;
+
+  /**
+   * The maximum length of values stored in the view itself.
+   */
+  public static final int INLINE_SIZE = 12;
+
+  public static final int LENGTH_WIDTH = 4;
+  public static final int PREFIX_WIDTH = 4;
+  public static final int BUF_INDEX_WIDTH = 4;
+
+  static final long PREFIX_OFFSET = LENGTH_WIDTH;
+  static final long BUF_INDEX_OFFSET = PREFIX_OFFSET + PREFIX_WIDTH;
+  static final long BUF_OFFSET_OFFSET = BUF_INDEX_OFFSET + BUF_INDEX_WIDTH;
+
+  /**
+   * The default size of the data buffers allocated to hold the values that are not inlined.
+   */
+  public static final int DEFAULT_DATA_BUFFER_SIZE = 32 * 1024;
+
+  private static final int MAX_BUFFER_SIZE = (int) Math.min(MAX_ALLOCATION_SIZE, Integer.MAX_VALUE);
+  private int lastValueCapacity;
+  private long dataBufferSize;
+
+  protected ArrowBuf validityBuffer;
+  protected ArrowBuf viewBuffer;
+  /*
+   * Only the free space at the end of the last data buffer (beyond its writer index) is used for new
+   * values. Data buffers shared with other vectors have their writer index set to their capacity.
+   */
+  protected final List<ArrowBuf> dataBuffers;
+  protected int valueCount;
+  protected final Field field;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param field The field materialized by this vector.
+   * @param allocator The allocator to use for creating/resizing buffers
+   */
+  public BaseVariableWidthViewVector(Field field, final BufferAllocator allocator) {
+    super(allocator);
+    this.field = field;
+    lastValueCapacity = INITIAL_VALUE_ALLOCATION;
+    dataBufferSize = DEFAULT_DATA_BUFFER_SIZE;
+    valueCount = 0;
+    validityBuffer = allocator.getEmpty();
+    viewBuffer = allocator.getEmpty();
+    dataBuffers = new ArrayList<>();
+  }
+
+  @Override
+  public String getName() {
+    return field.getName();
+  }
+
+  /**
+   * Get buffer that manages the validity (NULL or NON-NULL nature) of
+   * elements in the vector.
+   * @return buffer
+   */
+  @Override
+  public ArrowBuf getValidityBuffer() {
+    return validityBuffer;
+  }
+
+  /**
+   * Get the buffer that stores the views of the elements in the vector.
+   * @return buffer
+   */
+  @Override
+  public ArrowBuf getDataBuffer() {
+    return viewBuffer;
+  }
+
+  /**
+   * Same as {@link #getDataBuffer()}.
+   * @return buffer
+   */
+  public ArrowBuf getViewBuffer() {
+    return viewBuffer;
+  }
+
+  /**
+   * Get the buffers that store the values not inlined in the views. Note that the list changes as
+   * values are set, thus external classes shouldn't hold a reference to it.
+   * @return the data buffers
+   */
+  public List<ArrowBuf> getDataBuffers() {
+    return Collections.unmodifiableList(dataBuffers);
+  }
+
+  /**
+   * Views have no offset buffer.
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public ArrowBuf getOffsetBuffer() {
+    throw new UnsupportedOperationException("Variable width view vectors have no offset buffer");
+  }
+
+  /**
+   * Views have no offset buffer.
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public long getOffsetBufferAddress() {
+    throw new UnsupportedOperationException("Variable width view vectors have no offset buffer");
+  }
+
+  /**
+   * Get the memory address of buffer that manages the validity
+   * (NULL or NON-NULL nature) of elements in the vector.
+   * @return starting address of the buffer
+   */
+  @Override
+  public long getValidityBufferAddress() {
+    return validityBuffer.memoryAddress();
+  }
+
+  /**
+   * Get the memory address of buffer that stores the views of the elements in the vector.
+   * @return starting address of the buffer
+   */
+  @Override
+  public long getDataBufferAddress() {
+    return viewBuffer.memoryAddress();
+  }
+
+  /**
+   * Sets the desired value capacity for the vector. This function doesn't
+   * allocate any memory for the vector.
+   * @param valueCount desired number of elements in the vector
+   */
+  @Override
+  public void setInitialCapacity(int valueCount) {
+    checkViewBufferSize(valueCount);
+    lastValueCapacity = valueCount;
+  }
+
+  /**
+   * Sets the desired value capacity for the vector, and the size of the first data buffer from the
+   * expected average size of the values. This function doesn't allocate any memory for the vector.
+   * @param valueCount desired number of elements in the vector
+   * @param density average number of bytes per element in the vector
+   */
+  @Override
+  public void setInitialCapacity(int valueCount, double density) {
+    setInitialCapacity(valueCount);
+    final long size = (long) Math.ceil(valueCount * density);
+    if (size > 0) {
+      checkDataBufferSize(size);
+      dataBufferSize = size;
+    }
+  }
+
+  /**
+   * Get the current capacity which does not exceed either validity buffer or view buffer.
+   * Note: Here the `getValueCapacity` has no relationship with the data buffers, which are allocated
+   * as needed.
+   * @return number of elements that vector can hold.
+   */
+  @Override
+  public int getValueCapacity() {
+    final int viewValueCapacity = capAtMaxInt(viewBuffer.capacity() / ELEMENT_SIZE);
+    return Math.min(viewValueCapacity, capAtMaxInt(validityBuffer.capacity() * 8));
+  }
+
+  /**
+   * zero out the validity and view buffers of the vector.
+   */
+  public void zeroVector() {
+    validityBuffer.setZero(0, validityBuffer.capacity());
+    viewBuffer.setZero(0, viewBuffer.capacity());
+  }
+
+  /**
+   * Reset the vector to initial state. Unlike for {@link BaseVariableWidthVector}, the data buffers
+   * are released, as they may be shared with other vectors.
+   */
+  @Override
+  public void reset() {
+    zeroVector();
+    releaseDataBuffers();
+    valueCount = 0;
+  }
+
+  /**
+   * Close the vector and release the associated buffers.
+   */
+  @Override
+  public void close() {
+    clear();
+  }
+
+  /**
+   * Same as {@link #close()}.
+   */
+  @Override
+  public void clear() {
+    validityBuffer = releaseBuffer(validityBuffer);
+    viewBuffer = releaseBuffer(viewBuffer);
+    releaseDataBuffers();
+    valueCount = 0;
+  }
+
+  private void releaseDataBuffers() {
+    for (ArrowBuf dataBuffer : dataBuffers) {
+      dataBuffer.getReferenceManager().release();
+    }
+    dataBuffers.clear();
+  }
+
+  /**
+   * Get the inner vectors.
+   *
+   * @deprecated This API will be removed as the current implementations no longer support inner vectors.
+   *
+   * @return the inner vectors for this field as defined by the TypeLayout
+   */
+  @Deprecated
+  @Override
+  public List<BufferBacked> getFieldInnerVectors() {
+    throw new UnsupportedOperationException("There are no inner vectors. Use getFieldBuffers");
+  }
+
+  /**
+   * Initialize the children in schema for this Field. This operation is a
+   * NO-OP for scalar types since they don't have any children.
+   * @param children the schema
+   * @throws IllegalArgumentException if children is a non-empty list for scalar types.
+   */
+  @Override
+  public void initializeChildrenFromFields(List<Field> children) {
+    if (!children.isEmpty()) {
+      throw new IllegalArgumentException("primitive type vector can not have children");
+    }
+  }
+
+  /**
+   * Get the inner child vectors.
+   * @return list of child vectors for complex types, empty list for scalar vector types
+   */
+  @Override
+  public List<FieldVector> getChildrenFromFields() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Load the buffers of this vector with provided source buffers.
+   * The caller manages the source buffers and populates them before invoking
+   * this method.
+   * @param fieldNode  the fieldNode indicating the value count
+   * @param ownBuffers the validity and view buffers, followed by the data buffers
+   */
+  @Override
+  public void loadFieldBuffers(ArrowFieldNode fieldNode, List<ArrowBuf> ownBuffers) {
+    Preconditions.checkArgument(ownBuffers.size() >= 2,
+        "Expected at least 2 buffers (validity and views), got %s", ownBuffers.size());
+    ArrowBuf bitBuffer = ownBuffers.get(0);
+    ArrowBuf views = ownBuffers.get(1);
+
+    validityBuffer.getReferenceManager().release();
+    validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    viewBuffer.getReferenceManager().release();
+    viewBuffer = views.getReferenceManager().retain(views, allocator);
+    releaseDataBuffers();
+    for (int i = 2; i < ownBuffers.size(); i++) {
+      ArrowBuf dataBuffer = ownBuffers.get(i);
+      dataBuffers.add(seal(dataBuffer.getReferenceManager().retain(dataBuffer, allocator)));
+    }
+
+    valueCount = fieldNode.getLength();
+  }
+
+  /* Prevent the free space of a buffer shared with other vectors from being used for new values. */
+  private static ArrowBuf seal(ArrowBuf dataBuffer) {
+    dataBuffer.readerIndex(0);
+    dataBuffer.writerIndex(dataBuffer.capacity());
+    return dataBuffer;
+  }
+
+  /**
+   * Get the buffers belonging to this vector: the validity buffer, the view buffer and the
+   * data buffers.
+   * @return the inner buffers.
+   */
+  @Override
+  public List<ArrowBuf> getFieldBuffers() {
+    List<ArrowBuf> result = new ArrayList<>(2 + dataBuffers.size());
+    setReaderAndWriterIndex();
+    result.add(validityBuffer);
+    result.add(viewBuffer);
+    result.addAll(dataBuffers);
+    return result;
+  }
+
+  /**
+   * Set the reader and writer indexes for the validity and view buffers. The writer index of each
+   * data buffer always marks its used bytes.
+   */
+  private void setReaderAndWriterIndex() {
+    validityBuffer.readerIndex(0);
+    viewBuffer.readerIndex(0);
+    if (valueCount == 0) {
+      validityBuffer.writerIndex(0);
+      viewBuffer.writerIndex(0);
+    } else {
+      validityBuffer.writerIndex(getValidityBufferSizeFromCount(valueCount));
+      viewBuffer.writerIndex((long) valueCount * ELEMENT_SIZE);
+    }
+  }
+
+  /**
+   * Same as {@link #allocateNewSafe()}.
+   */
+  @Override
+  public void allocateNew() {
+    allocateNew(lastValueCapacity);
+  }
+
+  /**
+   * Allocate memory for the vector. We internally use a default value count
+   * of 4096 to allocate memory for at least these many elements in the
+   * vector.
+   *
+   * @return false if memory allocation fails, true otherwise.
+   */
+  @Override
+  public boolean allocateNewSafe() {
+    try {
+      allocateNew(lastValueCapacity);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  /**
+   * Allocate memory for the vector to support storing at least the provided number of
+   * elements in the vector. This method must be called prior to using the ValueVector.
+   * Data buffers are allocated as values are set, the first one with the given size.
+   *
+   * @param totalBytes desired size of the first data buffer
+   * @param valueCount the desired number of elements in the vector
+   * @throws org.apache.arrow.memory.OutOfMemoryException if memory allocation fails
+   */
+  @Override
+  public void allocateNew(long totalBytes, int valueCount) {
+    assert totalBytes >= 0;
+    if (totalBytes > 0) {
+      checkDataBufferSize(totalBytes);
+      dataBufferSize = totalBytes;
+    }
+    allocateNew(valueCount);
+  }
+
+  /**
+   * Allocate memory for the validity and view buffers of the vector to support storing at least the
+   * provided number of elements.
+   *
+   * @param valueCount the desired number of elements in the vector
+   * @throws org.apache.arrow.memory.OutOfMemoryException if memory allocation fails
+   */
+  @Override
+  public void allocateNew(int valueCount) {
+    checkViewBufferSize(valueCount);
+
+    /* we are doing a new allocation -- release the current buffers */
+    clear();
+
+    try {
+      DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(valueCount, ELEMENT_SIZE);
+      viewBuffer = buffers.getDataBuf();
+      validityBuffer = buffers.getValidityBuf();
+      zeroVector();
+      lastValueCapacity = getValueCapacity();
+    } catch (Exception e) {
+      clear();
+      throw e;
+    }
+  }
+
+  /* Check if the data buffer size is within bounds. */
+  private void checkDataBufferSize(long size) {
+    if (size > MAX_BUFFER_SIZE || size < 0) {
+      throw new OversizedAllocationException("Memory required for data buffer " +
+          "is (" + size + "), which is overflow or more than max allowed (" + MAX_BUFFER_SIZE + ")");
+    }
+  }
+
+  /* Check if the size of the validity and view buffers of the given value count is within bounds. */
+  private void checkViewBufferSize(int valueCount) {
+    final long size = computeCombinedBufferSize(valueCount, ELEMENT_SIZE);
+    if (size > MAX_ALLOCATION_SIZE) {
+      throw new OversizedAllocationException("Requested amount of memory is more than max allowed");
+    }
+  }
+
+  /**
+   * Resize the validity and view buffers to increase the capacity. The new capacity is computed by
+   * the {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * capacity. Data buffers are allocated as needed and never reallocated.
+   */
+  @Override
+  public void reAlloc() {
+    final int currentValueCapacity = getValueCapacity();
+    int targetValueCount;
+    if (currentValueCapacity > 0) {
+      targetValueCount = computeGrowthValueCount(currentValueCapacity, ELEMENT_SIZE);
+    } else if (lastValueCapacity > 0) {
+      targetValueCount = lastValueCapacity;
+    } else {
+      targetValueCount = INITIAL_VALUE_ALLOCATION * 2;
+    }
+    checkViewBufferSize(targetValueCount);
+    reallocViewAndValidityBuffers(targetValueCount, viewBuffer.capacity(), validityBuffer.capacity());
+    lastValueCapacity = getValueCapacity();
+  }
+
+  /*
+   * Reallocate the view and validity buffers for the given value count, keeping the given number
+   * of bytes of each of them and zeroing the rest.
+   */
+  private void reallocViewAndValidityBuffers(int targetValueCount, long viewBytes, long validityBytes) {
+    DataAndValidityBuffers buffers = allocFixedDataAndValidityBufs(targetValueCount, ELEMENT_SIZE);
+    final ArrowBuf newViewBuffer = buffers.getDataBuf();
+    newViewBuffer.setBytes(0, viewBuffer, 0, viewBytes);
+    newViewBuffer.setZero(viewBytes, newViewBuffer.capacity() - viewBytes);
+    viewBuffer.getReferenceManager().release();
+    viewBuffer = newViewBuffer;
+
+    final ArrowBuf newValidityBuffer = buffers.getValidityBuf();
+    newValidityBuffer.setBytes(0, validityBuffer, 0, validityBytes);
+    newValidityBuffer.setZero(validityBytes, newValidityBuffer.capacity() - validityBytes);
+    validityBuffer.getReferenceManager().release();
+    validityBuffer = newValidityBuffer;
+  }
+
+  /**
+   * Release the memory not needed to hold the {@link #getValueCount()} values of the vector, by
+   * reallocating its validity and view buffers to the smallest size the rounding policy of the
+   * allocator allows. Data buffers are kept.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    final long size = computeCombinedBufferSize(valueCount, ELEMENT_SIZE);
+    if (size < viewBuffer.capacity() + validityBuffer.capacity()) {
+      reallocViewAndValidityBuffers(valueCount, (long) valueCount * ELEMENT_SIZE,
+          getValidityBufferSizeFromCount(valueCount));
+    }
+  }
+
+  /**
+   * Get the total size (number of bytes) of the data buffers.
+   * @return number of bytes in the data buffers
+   */
+  @Override
+  public int getByteCapacity() {
+    long capacity = 0;
+    for (ArrowBuf dataBuffer : dataBuffers) {
+      capacity += dataBuffer.capacity();
+    }
+    return capAtMaxInt(capacity);
+  }
+
+  /**
+   * Get the number of bytes used in the data buffers.
+   * @return number of used bytes in the data buffers
+   */
+  @Override
+  public int sizeOfValueBuffer() {
+    long size = 0;
+    for (ArrowBuf dataBuffer : dataBuffers) {
+      size += dataBuffer.writerIndex();
+    }
+    return capAtMaxInt(size);
+  }
+
+  /**
+   * Get the size (number of bytes) of underlying buffers used by this
+   * vector.
+   * @return size of underlying buffers.
+   */
+  @Override
+  public int getBufferSize() {
+    return getBufferSizeFor(this.valueCount);
+  }
+
+  /**
+   * Get the potential buffer size for a particular number of records. As the values of the data
+   * buffers are in no particular order, all the used bytes of the data buffers are counted.
+   * @param valueCount desired number of elements in the vector
+   * @return estimated size of underlying buffers if the vector holds
+   *         a given number of elements
+   */
+  @Override
+  public int getBufferSizeFor(final int valueCount) {
+    if (valueCount == 0) {
+      return 0;
+    }
+    final long validityBufferSize = getValidityBufferSizeFromCount(valueCount);
+    final long viewBufferSize = (long) valueCount * ELEMENT_SIZE;
+    return capAtMaxInt(validityBufferSize + viewBufferSize + sizeOfValueBuffer());
+  }
+
+  /**
+   * Get information about how this field is materialized.
+   * @return the field corresponding to this vector
+   */
+  @Override
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Return the underlying buffers associated with this vector. Note that this doesn't
+   * impact the reference counts for this buffer so it only should be used for in-context
+   * access. Also note that this buffer changes regularly thus
+   * external classes shouldn't hold a reference to it (unless they change it).
+   *
+   * @param clear Whether to clear vector before returning; the buffers will still be refcounted
+   *              but the returned array will be the only reference to them
+   * @return The underlying {@link ArrowBuf buffers} that is used by this
+   *         vector instance.
+   */
+  @Override
+  public ArrowBuf[] getBuffers(boolean clear) {
+    final ArrowBuf[] buffers;
+    setReaderAndWriterIndex();
+    if (getBufferSize() == 0) {
+      buffers = new ArrowBuf[0];
+    } else {
+      buffers = getFieldBuffers().toArray(new ArrowBuf[0]);
+    }
+    if (clear) {
+      for (final ArrowBuf buffer : buffers) {
+        buffer.getReferenceManager().retain();
+      }
+      clear();
+    }
+    return buffers;
+  }
+
+  /**
+   * Validate the scalar values held by this vector.
+   */
+  public void validateScalars() {
+    // No validation by default.
+  }
+
+  /**
+   * Construct a transfer pair of this vector and another vector of same type.
+   * @param field The field materialized by this vector.
+   * @param allocator allocator for the target vector
+   * @param callBack not used
+   * @return TransferPair
+   */
+  @Override
+  public TransferPair getTransferPair(Field field, BufferAllocator allocator, CallBack callBack) {
+    return getTransferPair(field, allocator);
+  }
+
+  /**
+   * Construct a transfer pair of this vector and another vector of same type.
+   * @param ref name of the target vector
+   * @param allocator allocator for the target vector
+   * @param callBack not used
+   * @return TransferPair
+   */
+  @Override
+  public TransferPair getTransferPair(String ref, BufferAllocator allocator, CallBack callBack) {
+    return getTransferPair(ref, allocator);
+  }
+
+  /**
+   * Construct a transfer pair of this vector and another vector of same type.
+   * @param allocator allocator for the target vector
+   * @return TransferPair
+   */
+  @Override
+  public TransferPair getTransferPair(BufferAllocator allocator) {
+    return getTransferPair(getName(), allocator);
+  }
+
+  /**
+   * Construct a transfer pair of this vector and another vector of same type.
+   * @param ref name of the target vector
+   * @param allocator allocator for the target vector
+   * @return TransferPair
+   */
+  @Override
+  public abstract TransferPair getTransferPair(String ref, BufferAllocator allocator);
+
+  /**
+   * Construct a transfer pair of this vector and another vector of same type.
+   * @param field The field materialized by this vector.
+   * @param allocator allocator for the target vector
+   * @return TransferPair
+   */
+  @Override
+  public abstract TransferPair getTransferPair(Field field, BufferAllocator allocator);
+
+  /**
+   * Transfer this vector'data to another vector. The memory associated
+   * with this vector is transferred to the allocator of target vector
+   * for accounting and management purposes.
+   * @param target destination vector for transfer
+   */
+  public void transferTo(BaseVariableWidthViewVector target) {
+    compareTypes(target, "transferTo");
+    target.clear();
+    target.validityBuffer = transferBuffer(validityBuffer, target.allocator);
+    target.viewBuffer = transferBuffer(viewBuffer, target.allocator);
+    for (ArrowBuf dataBuffer : dataBuffers) {
+      target.dataBuffers.add(transferBuffer(dataBuffer, target.allocator).writerIndex(dataBuffer.writerIndex()));
+    }
+    target.setValueCount(this.valueCount);
+    clear();
+  }
+
+  /**
+   * Slice this vector at desired index and length and transfer the
+   * corresponding data to the target vector. The views are sliced and the data buffers are shared
+   * with the target vector, so no value is copied.
+   * @param startIndex start position of the split in source vector.
+   * @param length length of the split.
+   * @param target destination vector
+   */
+  public void splitAndTransferTo(int startIndex, int length,
+                                 BaseVariableWidthViewVector target) {
+    Preconditions.checkArgument(startIndex >= 0 && length >= 0 && startIndex + length <= valueCount,
+        "Invalid parameters startIndex: %s, length: %s for valueCount: %s", startIndex, length, valueCount);
+    compareTypes(target, "splitAndTransferTo");
+    target.clear();
+    if (length > 0) {
+      splitAndTransferValidityBuffer(startIndex, length, target);
+      final ArrowBuf slicedViewBuffer =
+          viewBuffer.slice((long) startIndex * ELEMENT_SIZE, (long) length * ELEMENT_SIZE);
+      target.viewBuffer = transferBuffer(slicedViewBuffer, target.allocator);
+      for (ArrowBuf dataBuffer : dataBuffers) {
+        target.dataBuffers.add(seal(dataBuffer.getReferenceManager().retain(dataBuffer, target.allocator)));
+      }
+      target.setValueCount(length);
+    }
+  }
+
+  /*
+   * Transfer the validity.
+   */
+  private void splitAndTransferValidityBuffer(int startIndex, int length,
+                                              BaseVariableWidthViewVector target) {
+    final int firstByteSource = BitVectorHelper.byteIndex(startIndex);
+    final int lastByteSource = BitVectorHelper.byteIndex(valueCount - 1);
+    final int byteSizeTarget = getValidityBufferSizeFromCount(length);
+    final int offset = startIndex % 8;
+
+    if (offset == 0) {
+      // slice
+      target.validityBuffer.getReferenceManager().release();
+      final ArrowBuf slicedValidityBuffer = validityBuffer.slice(firstByteSource, byteSizeTarget);
+      target.validityBuffer = transferBuffer(slicedValidityBuffer, target.allocator);
+      return;
+    }
+
+    /* Copy data
+     * When the first bit starts from the middle of a byte (offset != 0),
+     * copy data from src BitVector.
+     * Each byte in the target is composed by a part in i-th byte,
+     * another part in (i+1)-th byte.
+     */
+    target.validityBuffer.getReferenceManager().release();
+    target.validityBuffer = target.allocator.buffer(byteSizeTarget);
+    target.validityBuffer.readerIndex(0);
+    target.validityBuffer.setZero(0, target.validityBuffer.capacity());
+
+    for (int i = 0; i < byteSizeTarget - 1; i++) {
+      byte b1 = BitVectorHelper.getBitsFromCurrentByte(this.validityBuffer, firstByteSource + i, offset);
+      byte b2 = BitVectorHelper.getBitsFromNextByte(this.validityBuffer, firstByteSource + i + 1, offset);
+
+      target.validityBuffer.setByte(i, (b1 + b2));
+    }
+    /* Copying the last piece is done in the following manner:
+     * if the source vector has 1 or more bytes remaining, we copy
+     * the last piece as a byte formed by shifting data
+     * from the current byte and the next byte.
+     *
+     * if the source vector has no more bytes remaining
+     * (we are at the last byte), we copy the last piece as a byte
+     * by shifting data from the current byte.
+     */
+    if ((firstByteSource + byteSizeTarget - 1) < lastByteSource) {
+      byte b1 = BitVectorHelper.getBitsFromCurrentByte(this.validityBuffer,
+          firstByteSource + byteSizeTarget - 1, offset);
+      byte b2 = BitVectorHelper.getBitsFromNextByte(this.validityBuffer,
+          firstByteSource + byteSizeTarget, offset);
+
+      target.validityBuffer.setByte(byteSizeTarget - 1, b1 + b2);
+    } else {
+      byte b1 = BitVectorHelper.getBitsFromCurrentByte(this.validityBuffer,
+          firstByteSource + byteSizeTarget - 1, offset);
+      target.validityBuffer.setByte(byteSizeTarget - 1, b1);
+    }
+  }
+
+
+  /*----------------------------------------------------------------*
+   |                                                                |
+   |                common getters and setters                      |
+   |                                                                |
+   *----------------------------------------------------------------*/
+
+
+  /**
+   * Get the number of elements that are null in the vector.
+   *
+   * @return the number of null elements.
+   */
+  @Override
+  public int getNullCount() {
+    return BitVectorHelper.getNullCount(validityBuffer, valueCount);
+  }
+
+  /**
+   * Check if the given index is within the current value capacity
+   * of the vector.
+   *
+   * @param index  position to check
+   * @return true if index is within the current value capacity
+   */
+  public boolean isSafe(int index) {
+    return index < getValueCapacity();
+  }
+
+  /**
+   * Check if element at given index is null.
+   *
+   * @param index  position of element
+   * @return true if element at given index is null
+   */
+  @Override
+  public boolean isNull(int index) {
+    return (isSet(index) == 0);
+  }
+
+  /**
+   * Same as {@link #isNull(int)}.
+   *
+   * @param index  position of element
+   * @return 1 if element at given index is not null, 0 otherwise
+   */
+  public int isSet(int index) {
+    final int byteIndex = index >> 3;
+    final byte b = validityBuffer.getByte(byteIndex);
+    final int bitIndex = index & 7;
+    return (b >> bitIndex) & 0x01;
+  }
+
+  /**
+   * Get the value count of vector. This will always be zero unless
+   * setValueCount(int) has been called prior to calling this.
+   *
+   * @return valueCount for the vector
+   */
+  @Override
+  public int getValueCount() {
+    return valueCount;
+  }
+
+  /**
+   * Sets the value count for the vector.
+   *
+   * @param valueCount   value count
+   */
+  @Override
+  public void setValueCount(int valueCount) {
+    assert valueCount >= 0;
+    this.valueCount = valueCount;
+    while (valueCount > getValueCapacity()) {
+      reAlloc();
+    }
+    setReaderAndWriterIndex();
+  }
+
+  /**
+   * Mark the particular position in the vector as non-null.
+   *
+   * @param index position of the element.
+   */
+  @Override
+  public void setIndexDefined(int index) {
+    handleSafe(index);
+    BitVectorHelper.setBit(validityBuffer, index);
+  }
+
+  /**
+   * Get the length of the element at specified index.
+   *
+   * @param index   position of element to get
+   * @return greater than 0 length for non-null element, 0 otherwise
+   */
+  public int getValueLength(int index) {
+    assert index >= 0;
+    if (isSet(index) == 0) {
+      return 0;
+    }
+    return viewBuffer.getInt((long) index * ELEMENT_SIZE);
+  }
+
+  /**
+   * Get the buffer holding the bytes of the non-null element at the given index, that is the view
+   * buffer for inlined values or one of the data buffers.
+   *
+   * @param index position of the element
+   * @param length length of the element, see {@link #getValueLength(int)}
+   * @return the buffer
+   */
+  protected final ArrowBuf getValueBuffer(int index, int length) {
+    if (length <= INLINE_SIZE) {
+      return viewBuffer;
+    }
+    return dataBuffers.get(viewBuffer.getInt((long) index * ELEMENT_SIZE + BUF_INDEX_OFFSET));
+  }
+
+  /**
+   * Get the offset, in the buffer returned by {@link #getValueBuffer(int, int)}, of the bytes of the
+   * non-null element at the given index.
+   *
+   * @param index position of the element
+   * @param length length of the element, see {@link #getValueLength(int)}
+   * @return the offset
+   */
+  protected final long getValueOffset(int index, int length) {
+    if (length <= INLINE_SIZE) {
+      return (long) index * ELEMENT_SIZE + PREFIX_OFFSET;
+    }
+    return viewBuffer.getInt((long) index * ELEMENT_SIZE + BUF_OFFSET_OFFSET);
+  }
+
+  /**
+   * Get the bytes of the non-null element at the given index.
+   *
+   * @param index position of the element
+   * @return array of bytes
+   */
+  protected final byte[] getBytes(int index) {
+    final int length = viewBuffer.getInt((long) index * ELEMENT_SIZE);
+    final byte[] result = new byte[length];
+    getValueBuffer(index, length).getBytes(getValueOffset(index, length), result, 0, length);
+    return result;
+  }
+
+  /**
+   * Read the value at the given position to the given output buffer.
+   * The caller is responsible for checking for nullity first.
+   *
+   * @param index position of element.
+   * @param buffer the buffer to write into.
+   */
+  public void read(int index, ReusableBuffer<?> buffer) {
+    final int length = viewBuffer.getInt((long) index * ELEMENT_SIZE);
+    buffer.set(getValueBuffer(index, length), getValueOffset(index, length), length);
+  }
+
+  /**
+   * Set the variable length element at the specified index to the supplied
+   * byte array. This is same as using {@link #set(int, byte[], int, int)}
+   * with start as 0 and length as value.length
+   *
+   * @param index   position of the element to set
+   * @param value   array of bytes to write
+   */
+  public void set(int index, byte[] value) {
+    set(index, value, 0, value.length);
+  }
+
+  /**
+   * Same as {@link #set(int, byte[])} except that it handles the
+   * case where index is beyond the existing capacity of the vector.
+   *
+   * @param index   position of the element to set
+   * @param value   array of bytes to write
+   */
+  public void setSafe(int index, byte[] value) {
+    setSafe(index, value, 0, value.length);
+  }
+
+  /**
+   * Set the variable length element at the specified index to the supplied
+   * byte array. Data buffers are allocated as needed.
+   *
+   * @param index   position of the element to set
+   * @param value   array of bytes to write
+   * @param start   start index in array of bytes
+   * @param length  length of data in array of bytes
+   */
+  public void set(int index, byte[] value, int start, int length) {
+    assert index >= 0;
+    BitVectorHelper.setBit(validityBuffer, index);
+    setBytes(index, value, start, length);
+  }
+
+  /**
+   * Same as {@link #set(int, byte[], int, int)} except that it handles the
+   * case where index is beyond the existing capacity of the vector.
+   *
+   * @param index   position of the element to set
+   * @param value   array of bytes to write
+   * @param start   start index in array of bytes
+   * @param length  length of data in array of bytes
+   */
+  public void setSafe(int index, byte[] value, int start, int length) {
+    assert index >= 0;
+    handleSafe(index);
+    set(index, value, start, length);
+  }
+
+  /**
+   * Set the variable length element at the specified index to the
+   * content in supplied ByteBuffer.
+   *
+   * @param index   position of the element to set
+   * @param value   ByteBuffer with data
+   * @param start   start index in ByteBuffer
+   * @param length  length of data in ByteBuffer
+   */
+  public void set(int index, ByteBuffer value, int start, int length) {
+    assert index >= 0;
+    BitVectorHelper.setBit(validityBuffer, index);
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    viewBuffer.setInt(viewOffset, length);
+    if (length <= INLINE_SIZE) {
+      viewBuffer.setZero(viewOffset + PREFIX_OFFSET, INLINE_SIZE);
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, value, start, length);
+    } else {
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, value, start, PREFIX_WIDTH);
+      final ArrowBuf dataBuffer = reserveData(index, length);
+      dataBuffer.setBytes(dataBuffer.writerIndex() - length, value, start, length);
+    }
+  }
+
+  /**
+   * Same as {@link #set(int, ByteBuffer, int, int)} except that it handles the
+   * case where index is beyond the existing capacity of the vector.
+   *
+   * @param index   position of the element to set
+   * @param value   ByteBuffer with data
+   * @param start   start index in ByteBuffer
+   * @param length  length of data in ByteBuffer
+   */
+  public void setSafe(int index, ByteBuffer value, int start, int length) {
+    assert index >= 0;
+    handleSafe(index);
+    set(index, value, start, length);
+  }
+
+  /**
+   * Set the element at the given index to null.
+   *
+   * @param index   position of element
+   */
+  @Override
+  public void setNull(int index) {
+    handleSafe(index);
+    BitVectorHelper.unsetBit(validityBuffer, index);
+    viewBuffer.setZero((long) index * ELEMENT_SIZE, ELEMENT_SIZE);
+  }
+
+  /**
+   * Store the given value at a particular position in the vector. isSet indicates
+   * whether the value is NULL or not.
+   * @param index position of the new value
+   * @param isSet 0 for NULL value, 1 otherwise
+   * @param start start position of data in buffer
+   * @param end end position of data in buffer
+   * @param buffer data buffer containing the variable width element to be stored
+   *               in the vector
+   */
+  public void set(int index, int isSet, int start, int end, ArrowBuf buffer) {
+    assert index >= 0;
+    if (isSet == 0) {
+      BitVectorHelper.unsetBit(validityBuffer, index);
+      viewBuffer.setZero((long) index * ELEMENT_SIZE, ELEMENT_SIZE);
+    } else {
+      set(index, start, end - start, buffer);
+    }
+  }
+
+  /**
+   * Same as {@link #set(int, int, int, int, ArrowBuf)} except that it handles the case
+   * when index is greater than or equal to current value capacity of the
+   * vector.
+   * @param index position of the new value
+   * @param isSet 0 for NULL value, 1 otherwise
+   * @param start start position of data in buffer
+   * @param end end position of data in buffer
+   * @param buffer data buffer containing the variable width element to be stored
+   *               in the vector
+   */
+  public void setSafe(int index, int isSet, int start, int end, ArrowBuf buffer) {
+    assert index >= 0;
+    handleSafe(index);
+    set(index, isSet, start, end, buffer);
+  }
+
+  /**
+   * Store the given value at a particular position in the vector.
+   * @param index position of the new value
+   * @param start start position of data in buffer
+   * @param length length of data in buffer
+   * @param buffer data buffer containing the variable width element to be stored
+   *               in the vector
+   */
+  public void set(int index, int start, int length, ArrowBuf buffer) {
+    assert index >= 0;
+    BitVectorHelper.setBit(validityBuffer, index);
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    viewBuffer.setInt(viewOffset, length);
+    if (length <= INLINE_SIZE) {
+      viewBuffer.setZero(viewOffset + PREFIX_OFFSET, INLINE_SIZE);
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, buffer, start, length);
+    } else {
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, buffer, start, PREFIX_WIDTH);
+      final ArrowBuf dataBuffer = reserveData(index, length);
+      dataBuffer.setBytes(dataBuffer.writerIndex() - length, buffer, start, length);
+    }
+  }
+
+  /**
+   * Same as {@link #set(int, int, int, ArrowBuf)} except that it handles the case
+   * when index is greater than or equal to current value capacity of the
+   * vector.
+   * @param index position of the new value
+   * @param start start position of data in buffer
+   * @param length length of data in buffer
+   * @param buffer data buffer containing the variable width element to be stored
+   *               in the vector
+   */
+  public void setSafe(int index, int start, int length, ArrowBuf buffer) {
+    assert index >= 0;
+    handleSafe(index);
+    set(index, start, length, buffer);
+  }
+
+
+  /*----------------------------------------------------------------*
+   |                                                                |
+   |                helper methods for setters                      |
+   |                                                                |
+   *----------------------------------------------------------------*/
+
+
+  protected final void setBytes(int index, byte[] value, int start, int length) {
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    viewBuffer.setInt(viewOffset, length);
+    if (length <= INLINE_SIZE) {
+      viewBuffer.setZero(viewOffset + PREFIX_OFFSET, INLINE_SIZE);
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, value, start, length);
+    } else {
+      viewBuffer.setBytes(viewOffset + PREFIX_OFFSET, value, start, PREFIX_WIDTH);
+      final ArrowBuf dataBuffer = reserveData(index, length);
+      dataBuffer.setBytes(dataBuffer.writerIndex() - length, value, start, length);
+    }
+  }
+
+  /*
+   * Reserve the given number of bytes at the end of the data buffers for the element at the given
+   * index, allocating a new data buffer if the last one is full, and set the buffer index and
+   * offset of its view. The reserved bytes end at the writer index of the returned buffer.
+   */
+  private ArrowBuf reserveData(int index, int length) {
+    ArrowBuf dataBuffer = dataBuffers.isEmpty() ? null : dataBuffers.get(dataBuffers.size() - 1);
+    if (dataBuffer == null || dataBuffer.capacity() - dataBuffer.writerIndex() < length) {
+      dataBuffer = allocator.buffer(Math.max(length, dataBufferSize));
+      dataBuffer.readerIndex(0);
+      dataBuffer.writerIndex(0);
+      dataBuffers.add(dataBuffer);
+    }
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    final long dataOffset = dataBuffer.writerIndex();
+    viewBuffer.setInt(viewOffset + BUF_INDEX_OFFSET, dataBuffers.size() - 1);
+    viewBuffer.setInt(viewOffset + BUF_OFFSET_OFFSET, (int) dataOffset);
+    dataBuffer.writerIndex(dataOffset + length);
+    return dataBuffer;
+  }
+
+  protected final void handleSafe(int index) {
+    while (index >= getValueCapacity()) {
+      reAlloc();
+    }
+  }
+
+  /**
+   * Copy a cell value from a particular index in source vector to a particular
+   * position in this vector.
+   *
+   * @param fromIndex position to copy from in source vector
+   * @param thisIndex position to copy to in this vector
+   * @param from source vector
+   */
+  @Override
+  public void copyFrom(int fromIndex, int thisIndex, ValueVector from) {
+    Preconditions.checkArgument(this.getMinorType() == from.getMinorType());
+    final BaseVariableWidthViewVector fromVector = (BaseVariableWidthViewVector) from;
+    final long thisViewOffset = (long) thisIndex * ELEMENT_SIZE;
+    if (fromVector.isNull(fromIndex)) {
+      BitVectorHelper.unsetBit(this.validityBuffer, thisIndex);
+      viewBuffer.setZero(thisViewOffset, ELEMENT_SIZE);
+      return;
+    }
+    BitVectorHelper.setBit(this.validityBuffer, thisIndex);
+    final long fromViewOffset = (long) fromIndex * ELEMENT_SIZE;
+    final int length = fromVector.viewBuffer.getInt(fromViewOffset);
+    if (length <= INLINE_SIZE) {
+      fromVector.viewBuffer.getBytes(fromViewOffset, viewBuffer, thisViewOffset, ELEMENT_SIZE);
+    } else {
+      // the length and the prefix
+      fromVector.viewBuffer.getBytes(fromViewOffset, viewBuffer, thisViewOffset, LENGTH_WIDTH + PREFIX_WIDTH);
+      final ArrowBuf dataBuffer = reserveData(thisIndex, length);
+      fromVector.getValueBuffer(fromIndex, length).getBytes(fromVector.getValueOffset(fromIndex, length),
+          dataBuffer, dataBuffer.writerIndex() - length, length);
+    }
+  }
+
+  /**
+   * Same as {@link #copyFrom(int, int, ValueVector)} except that
+   * it handles the case when the capacity of the vector needs to be expanded
+   * before copy.
+   *
+   * @param fromIndex position to copy from in source vector
+   * @param thisIndex position to copy to in this vector
+   * @param from source vector
+   */
+  @Override
+  public void copyFromSafe(int fromIndex, int thisIndex, ValueVector from) {
+    handleSafe(thisIndex);
+    copyFrom(fromIndex, thisIndex, from);
+  }
+
+  @Override
+  public ArrowBufPointer getDataPointer(int index) {
+    return getDataPointer(index, new ArrowBufPointer());
+  }
+
+  @Override
+  public ArrowBufPointer getDataPointer(int index, ArrowBufPointer reuse) {
+    if (isNull(index)) {
+      reuse.set(null, 0, 0);
+    } else {
+      final int length = viewBuffer.getInt((long) index * ELEMENT_SIZE);
+      reuse.set(getValueBuffer(index, length), getValueOffset(index, length), length);
+    }
+    return reuse;
+  }
+
+  /**
+   * Check if the non-null elements at the given positions of this vector and another one are equal.
+   * Elements of different lengths or prefixes are told apart from their views alone.
+   *
+   * @param index position of the element in this vector
+   * @param other the other vector
+   * @param otherIndex position of the element in the other vector
+   * @return true if the elements are equal
+   */
+  public boolean valueEquals(int index, BaseVariableWidthViewVector other, int otherIndex) {
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    final long otherViewOffset = (long) otherIndex * ELEMENT_SIZE;
+    // the length and the prefix
+    if (viewBuffer.getLong(viewOffset) != other.viewBuffer.getLong(otherViewOffset)) {
+      return false;
+    }
+    final int length = viewBuffer.getInt(viewOffset);
+    if (length <= PREFIX_WIDTH) {
+      return true;
+    }
+    if (length <= INLINE_SIZE) {
+      return viewBuffer.getLong(viewOffset + BUF_INDEX_OFFSET) ==
+          other.viewBuffer.getLong(otherViewOffset + BUF_INDEX_OFFSET);
+    }
+    final long start = getValueOffset(index, length);
+    final long otherStart = other.getValueOffset(otherIndex, length);
+    return ByteFunctionHelpers.equal(getValueBuffer(index, length), start + PREFIX_WIDTH, start + length,
+        other.getValueBuffer(otherIndex, length), otherStart + PREFIX_WIDTH, otherStart + length) != 0;
+  }
+
+  /**
+   * Compare the non-null elements at the given positions of this vector and another one
+   * lexicographically, as unsigned bytes. Elements with different prefixes are ordered from their
+   * views alone.
+   *
+   * @param index position of the element in this vector
+   * @param other the other vector
+   * @param otherIndex position of the element in the other vector
+   * @return a negative value if the element of this vector is smaller, a positive value if it is
+   *     greater, 0 if they are equal
+   */
+  public int compareValues(int index, BaseVariableWidthViewVector other, int otherIndex) {
+    final long viewOffset = (long) index * ELEMENT_SIZE;
+    final long otherViewOffset = (long) otherIndex * ELEMENT_SIZE;
+    final int length = viewBuffer.getInt(viewOffset);
+    final int otherLength = other.viewBuffer.getInt(otherViewOffset);
+    // padding bytes are zero, and a shorter value with the same prefix compares as smaller below
+    final int prefix = Integer.reverseBytes(viewBuffer.getInt(viewOffset + PREFIX_OFFSET));
+    final int otherPrefix = Integer.reverseBytes(other.viewBuffer.getInt(otherViewOffset + PREFIX_OFFSET));
+    if (prefix != otherPrefix) {
+      return ByteFunctionHelpers.unsignedIntCompare(prefix, otherPrefix);
+    }
+    final long start = getValueOffset(index, length);
+    final long otherStart = other.getValueOffset(otherIndex, otherLength);
+    return ByteFunctionHelpers.compare(getValueBuffer(index, length), start, start + length,
+        other.getValueBuffer(otherIndex, otherLength), otherStart, otherStart + otherLength);
+  }
+
+  @Override
+  public int hashCode(int index) {
+    return hashCode(index, null);
+  }
+
+  @Override
+  public int hashCode(int index, ArrowBufHasher hasher) {
+    if (isNull(index)) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    final int length = viewBuffer.getInt((long) index * ELEMENT_SIZE);
+    final long start = getValueOffset(index, length);
+    return ByteFunctionHelpers.hash(hasher, getValueBuffer(index, length), start, start + length);
+  }
+
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isNull(index)) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    final int length = viewBuffer.getInt((long) index * ELEMENT_SIZE);
+    final long start = getValueOffset(index, length);
+    return ByteFunctionHelpers.hash64(hasher, getValueBuffer(index, length), start, start + length);
+  }
+
+  @Override
+  public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
+    return visitor.visit(this, value);
+  }
+}
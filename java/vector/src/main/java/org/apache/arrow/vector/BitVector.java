@@ -20,9 +20,13 @@ package org.apache.arrow.vector;
 import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
 import static org.apache.arrow.vector.NullCheckingForGet.NULL_CHECKING_ENABLED;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.apache.arrow.memory.util.MemoryUtil;
 import org.apache.arrow.memory.util.hash.ArrowBufHasher;
 import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.complex.impl.BitReaderImpl;
@@ -34,6 +38,7 @@ import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * BitVector implements a fixed width (1 bit) vector of
@@ -46,6 +51,11 @@ public final class BitVector extends BaseFixedWidthVector {
 
   private static final int HASH_CODE_FOR_ONE = 19;
 
+  /* the values 0 and 1 as single bytes, hashed by the hashers passed to the hash methods */
+  private static final ByteBuffer BIT_VALUES = ByteBuffer.allocateDirect(2).put(1, (byte) 1);
+
+  private static final long BIT_VALUES_ADDRESS = MemoryUtil.getByteBufferAddress(BIT_VALUES);
+
   /**
    * Instantiate a BitVector. This doesn't allocate any memory for
    * the data in vector.
@@ -154,8 +164,10 @@ public final class BitVector extends BaseFixedWidthVector {
         "Invalid parameters startIndex: %s, length: %s for valueCount: %s", startIndex, length, valueCount);
     compareTypes(target, "splitAndTransferTo");
     target.clear();
-    target.validityBuffer = splitAndTransferBuffer(startIndex, length, target,
-            validityBuffer, target.validityBuffer);
+    if (!splitAndTransferValidPrefix(startIndex, length, target)) {
+      target.validityBuffer = splitAndTransferBuffer(startIndex, length, target,
+              validityBuffer, target.validityBuffer);
+    }
     target.valueBuffer = splitAndTransferBuffer(startIndex, length, target,
             valueBuffer, target.valueBuffer);
     target.refreshValueCapacity();
@@ -295,12 +307,11 @@ public final class BitVector extends BaseFixedWidthVector {
   @Override
   public void copyFrom(int fromIndex, int thisIndex, ValueVector from) {
     Preconditions.checkArgument(this.getMinorType() == from.getMinorType());
-    boolean fromIsSet = BitVectorHelper.get(from.getValidityBuffer(), fromIndex) != 0;
-    if (fromIsSet) {
-      BitVectorHelper.setBit(validityBuffer, thisIndex);
+    if (!from.isNull(fromIndex)) {
+      setValidityBit(thisIndex);
       BitVectorHelper.setValidityBit(valueBuffer, thisIndex, ((BitVector) from).getBit(fromIndex));
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, thisIndex);
+      unsetValidityBit(thisIndex);
     }
   }
 
@@ -318,7 +329,7 @@ public final class BitVector extends BaseFixedWidthVector {
    * @param value value of element
    */
   public void set(int index, int value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     if (value != 0) {
       BitVectorHelper.setBit(valueBuffer, index);
     } else {
@@ -338,14 +349,14 @@ public final class BitVector extends BaseFixedWidthVector {
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       if (holder.value != 0) {
         BitVectorHelper.setBit(valueBuffer, index);
       } else {
         BitVectorHelper.unsetBit(valueBuffer, index);
       }
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -356,7 +367,7 @@ public final class BitVector extends BaseFixedWidthVector {
    * @param holder data holder for value of element
    */
   public void set(int index, BitHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     if (holder.value != 0) {
       BitVectorHelper.setBit(valueBuffer, index);
     } else {
@@ -415,7 +426,7 @@ public final class BitVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -439,7 +450,7 @@ public final class BitVector extends BaseFixedWidthVector {
    * @param index position of element
    */
   public void setToOne(int index) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     BitVectorHelper.setBit(valueBuffer, index);
   }
 
@@ -479,7 +490,63 @@ public final class BitVector extends BaseFixedWidthVector {
 
   @Override
   public int hashCode(int index, ArrowBufHasher hasher) {
-    return hashCode(index);
+    if (hasher == null || isNull(index)) {
+      return hashCode(index);
+    }
+    return hasher.hashCode(BIT_VALUES_ADDRESS + getBit(index), 1);
+  }
+
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (hasher == null || isNull(index)) {
+      return hashCode(index);
+    }
+    return hasher.hashCode64(BIT_VALUES_ADDRESS + getBit(index), 1);
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    // a value is either 0 or 1, so each is hashed once
+    final long zeroHash = hasher == null ? HASH_CODE_FOR_ZERO : hasher.hashCode64(BIT_VALUES_ADDRESS, 1);
+    final long oneHash = hasher == null ? HASH_CODE_FOR_ONE : hasher.hashCode64(BIT_VALUES_ADDRESS + 1, 1);
+    final long dataAddress = valueBuffer.memoryAddress();
+    if (hasValidPrefix()) {
+      final int validCount = getValidPrefixCount(start, count);
+      for (int i = 0; i < validCount; i++) {
+        out[i] = bitAt(dataAddress, start + i) == 0 ? zeroHash : oneHash;
+      }
+      Arrays.fill(out, validCount, count, ArrowBufPointer.NULL_HASH_CODE);
+      return;
+    }
+    final long validityAddress = validityBuffer.memoryAddress();
+    int i = 0;
+    while (i < count) {
+      final int index = start + i;
+      if ((index & 63) != 0 || count - i < Long.SIZE) {
+        // a value before the first or after the last whole validity word of the range
+        out[i] = bitAt(validityAddress, index) == 0 ? ArrowBufPointer.NULL_HASH_CODE :
+            bitAt(dataAddress, index) == 0 ? zeroHash : oneHash;
+        i++;
+        continue;
+      }
+      // a whole word of validity bits and the matching word of values
+      long word = MemoryUtil.UNSAFE.getLong(validityAddress + (index >> 3));
+      final long values = MemoryUtil.UNSAFE.getLong(dataAddress + (index >> 3));
+      if (word != -1L) {
+        Arrays.fill(out, i, i + Long.SIZE, ArrowBufPointer.NULL_HASH_CODE);
+      }
+      while (word != 0) {
+        final int bit = Long.numberOfTrailingZeros(word);
+        out[i + bit] = ((values >>> bit) & 1) == 0 ? zeroHash : oneHash;
+        word &= word - 1;
+      }
+      i += Long.SIZE;
+    }
+  }
+
+  private static int bitAt(long address, int index) {
+    return (MemoryUtil.UNSAFE.getByte(address + (index >> 3)) >> (index & 7)) & 1;
   }
 
   /**
@@ -489,40 +556,8 @@ public final class BitVector extends BaseFixedWidthVector {
    * @param count         the number of bits to set
    */
   public void setRangeToOne(int firstBitIndex, int count) {
-    int startByteIndex = BitVectorHelper.byteIndex(firstBitIndex);
-    final int lastBitIndex = firstBitIndex + count;
-    final int endByteIndex = BitVectorHelper.byteIndex(lastBitIndex);
-    final int startByteBitIndex = BitVectorHelper.bitIndex(firstBitIndex);
-    final int endBytebitIndex = BitVectorHelper.bitIndex(lastBitIndex);
-    if (count < 8 && startByteIndex == endByteIndex) {
-      // handles the case where we don't have a first and a last byte
-      byte bitMask = 0;
-      for (int i = startByteBitIndex; i < endBytebitIndex; ++i) {
-        bitMask |= (byte) (1L << i);
-      }
-      BitVectorHelper.setBitMaskedByte(validityBuffer, startByteIndex, bitMask);
-      BitVectorHelper.setBitMaskedByte(valueBuffer, startByteIndex, bitMask);
-    } else {
-      // fill in first byte (if it's not full)
-      if (startByteBitIndex != 0) {
-        final byte bitMask = (byte) (0xFFL << startByteBitIndex);
-        BitVectorHelper.setBitMaskedByte(validityBuffer, startByteIndex, bitMask);
-        BitVectorHelper.setBitMaskedByte(valueBuffer, startByteIndex, bitMask);
-        ++startByteIndex;
-      }
-
-      // fill in one full byte at a time
-      validityBuffer.setOne(startByteIndex, endByteIndex - startByteIndex);
-      valueBuffer.setOne(startByteIndex, endByteIndex - startByteIndex);
-
-      // fill in the last byte (if it's not full)
-      if (endBytebitIndex != 0) {
-        final int byteIndex = BitVectorHelper.byteIndex(lastBitIndex - endBytebitIndex);
-        final byte bitMask = (byte) (0xFFL >>> ((8 - endBytebitIndex) & 7));
-        BitVectorHelper.setBitMaskedByte(validityBuffer, byteIndex, bitMask);
-        BitVectorHelper.setBitMaskedByte(valueBuffer, byteIndex, bitMask);
-      }
-    }
+    setValidityRangeToOne(firstBitIndex, count);
+    BitVectorHelper.setRangeToOne(valueBuffer, firstBitIndex, count);
   }
 
 
@@ -310,6 +310,26 @@ public class BitVectorHelper {
     return (byte) ((data.getByte(index) << (8 - offset)));
   }
 
+  /**
+   * Get the number of leading valid values of a vector loaded from the given validity buffer when the
+   * vector does not need to allocate a validity buffer, because the source validity buffer is not
+   * present (as it may be in IPC) and the values are either all valid or all null.
+   *
+   * @param fieldNode the field node of the vector
+   * @param sourceValidityBuffer the source validity buffer, may be null
+   * @return the number of values if they are all valid, 0 if they are all null, or -1 if the
+   *         vector needs a validity buffer
+   */
+  public static int getValidPrefixLength(final ArrowFieldNode fieldNode, final ArrowBuf sourceValidityBuffer) {
+    if (sourceValidityBuffer != null && sourceValidityBuffer.capacity() != 0) {
+      return -1;
+    }
+    if (fieldNode.getNullCount() == 0) {
+      return fieldNode.getLength();
+    }
+    return fieldNode.getNullCount() == fieldNode.getLength() ? 0 : -1;
+  }
+
   /**
    * Returns a new buffer if the source validity buffer is either all null or all
    * not-null, otherwise returns a buffer pointing to the same memory as source.
@@ -335,19 +355,21 @@ public class BitVectorHelper {
     if (isValidityBufferNull &&
         (fieldNode.getNullCount() == 0 || fieldNode.getNullCount() == valueCount)) {
       newBuffer = allocator.buffer(getValidityBufferSize(valueCount));
-      newBuffer.setZero(0, newBuffer.capacity());
       if (fieldNode.getNullCount() != 0) {
         /* all NULLs */
+        newBuffer.setZero(0, newBuffer.capacity());
         return newBuffer;
       }
-      /* all non-NULLs */
+      /* all non-NULLs, each byte is written once */
       int fullBytesCount = valueCount / 8;
       newBuffer.setOne(0, fullBytesCount);
       int remainder = valueCount % 8;
       if (remainder > 0) {
         byte bitMask = (byte) (0xFFL >>> ((8 - remainder) & 7));
         newBuffer.setByte(fullBytesCount, bitMask);
+        fullBytesCount++;
       }
+      newBuffer.setZero(fullBytesCount, newBuffer.capacity() - fullBytesCount);
     } else {
       /* mixed byte pattern -- create another ArrowBuf associated with the
        * target allocator
@@ -372,6 +394,40 @@ public class BitVectorHelper {
     data.setByte(byteIndex, currentByte);
   }
 
+  /**
+   * Set count bits to 1 in the buffer starting at firstBitIndex.
+   *
+   * @param data buffer to set
+   * @param firstBitIndex the index of the first bit to set
+   * @param count the number of bits to set
+   */
+  public static void setRangeToOne(ArrowBuf data, int firstBitIndex, int count) {
+    if (count <= 0) {
+      return;
+    }
+    int startByteIndex = byteIndex(firstBitIndex);
+    final int lastBitIndex = firstBitIndex + count;
+    final int endByteIndex = byteIndex(lastBitIndex);
+    final int startByteBitIndex = bitIndex(firstBitIndex);
+    final int endByteBitIndex = bitIndex(lastBitIndex);
+    if (startByteIndex == endByteIndex) {
+      // all the bits are in a single byte
+      setBitMaskedByte(data, startByteIndex, (byte) ((0xFF << startByteBitIndex) & (0xFF >>> (8 - endByteBitIndex))));
+      return;
+    }
+    // fill in the first byte (if it's not full)
+    if (startByteBitIndex != 0) {
+      setBitMaskedByte(data, startByteIndex, (byte) (0xFF << startByteBitIndex));
+      ++startByteIndex;
+    }
+    // fill in one full byte at a time
+    data.setOne(startByteIndex, endByteIndex - startByteIndex);
+    // fill in the last byte (if it's not full)
+    if (endByteBitIndex != 0) {
+      setBitMaskedByte(data, endByteIndex, (byte) (0xFF >>> (8 - endByteBitIndex)));
+    }
+  }
+
   /**
    * Concat two validity buffers.
    * @param input1 the first validity buffer.
@@ -33,7 +33,10 @@ public class BufferLayout {
     DATA("DATA"),
     OFFSET("OFFSET"),
     VALIDITY("VALIDITY"),
-    TYPE("TYPE_ID");
+    TYPE("TYPE_ID"),
+    VIEWS("VIEWS"),
+    SIZE("SIZE"),
+    VARIADIC_DATA_BUFFERS("VARIADIC_DATA_BUFFERS");
 
     private final String name;
 
@@ -50,6 +53,9 @@ public class BufferLayout {
   private static final BufferLayout OFFSET_BUFFER = new BufferLayout(BufferType.OFFSET, 32);
   private static final BufferLayout LARGE_OFFSET_BUFFER = new BufferLayout(BufferType.OFFSET, 64);
   private static final BufferLayout TYPE_BUFFER = new BufferLayout(BufferType.TYPE, 32);
+  private static final BufferLayout VIEW_BUFFER = new BufferLayout(BufferType.VIEWS, 128);
+  private static final BufferLayout SIZE_BUFFER = new BufferLayout(BufferType.SIZE, 32);
+  private static final BufferLayout LARGE_SIZE_BUFFER = new BufferLayout(BufferType.SIZE, 64);
   private static final BufferLayout BIT_BUFFER = new BufferLayout(BufferType.DATA, 1);
   private static final BufferLayout VALUES_256 = new BufferLayout(BufferType.DATA, 256);
   private static final BufferLayout VALUES_128 = new BufferLayout(BufferType.DATA, 128);
@@ -70,6 +76,21 @@ public class BufferLayout {
     return LARGE_OFFSET_BUFFER;
   }
 
+  public static BufferLayout sizeBuffer() {
+    return SIZE_BUFFER;
+  }
+
+  public static BufferLayout largeSizeBuffer() {
+    return LARGE_SIZE_BUFFER;
+  }
+
+  /**
+   * Returns the buffer of the 16 byte views of variable width view types (e.g. Utf8View).
+   */
+  public static BufferLayout viewBuffer() {
+    return VIEW_BUFFER;
+  }
+
   /**
    * Returns a databuffer for the given bitwidth.  Only supports powers of two between 8 and 128
    * inclusive.
@@ -157,7 +157,7 @@ public final class DateDayVector extends BaseFixedWidthVector {
    * @param value   value of element
    */
   public void set(int index, int value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, value);
   }
 
@@ -173,10 +173,10 @@ public final class DateDayVector extends BaseFixedWidthVector {
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       setValue(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -187,7 +187,7 @@ public final class DateDayVector extends BaseFixedWidthVector {
    * @param holder  data holder for value of element
    */
   public void set(int index, DateDayHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, holder.value);
   }
 
@@ -242,7 +242,7 @@ public final class DateDayVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -160,7 +160,7 @@ public final class DateMilliVector extends BaseFixedWidthVector {
    * @param value   value of element
    */
   public void set(int index, long value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, value);
   }
 
@@ -176,10 +176,10 @@ public final class DateMilliVector extends BaseFixedWidthVector {
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       setValue(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -190,7 +190,7 @@ public final class DateMilliVector extends BaseFixedWidthVector {
    * @param holder  data holder for value of element
    */
   public void set(int index, DateMilliHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, holder.value);
   }
 
@@ -245,7 +245,7 @@ public final class DateMilliVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
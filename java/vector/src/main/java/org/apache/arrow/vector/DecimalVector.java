@@ -197,7 +197,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param buffer   ArrowBuf containing decimal value.
    */
   public void set(int index, ArrowBuf buffer) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * TYPE_WIDTH, buffer, 0, TYPE_WIDTH);
   }
 
@@ -217,7 +217,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param value array of bytes containing decimal in big endian byte order.
    */
   public void setBigEndian(int index, byte[] value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int length = value.length;
 
     // do the bound check.
@@ -271,7 +271,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param buffer   ArrowBuf containing decimal value.
    */
   public void set(int index, long start, ArrowBuf buffer) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * TYPE_WIDTH, buffer, start, TYPE_WIDTH);
   }
 
@@ -284,7 +284,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    */
   public void setSafe(int index, long start, ArrowBuf buffer, int length) {
     handleSafe(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
 
     // do the bound checks.
     buffer.checkBytes(start, start + length);
@@ -321,7 +321,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    */
   public void setBigEndianSafe(int index, long start, ArrowBuf buffer, int length) {
     handleSafe(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
 
     // do the bound checks.
     buffer.checkBytes(start, start + length);
@@ -360,7 +360,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param value   BigDecimal containing decimal value.
    */
   public void set(int index, BigDecimal value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     DecimalUtility.checkPrecisionAndScale(value, precision, scale);
     DecimalUtility.writeBigDecimalToArrowBuf(value, valueBuffer, index, TYPE_WIDTH);
   }
@@ -372,7 +372,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param value   long value.
    */
   public void set(int index, long value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     DecimalUtility.writeLongToArrowBuf(value, valueBuffer, index, TYPE_WIDTH);
   }
 
@@ -388,10 +388,10 @@ public final class DecimalVector extends BaseFixedWidthVector {
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       valueBuffer.setBytes((long) index * TYPE_WIDTH, holder.buffer, holder.start, TYPE_WIDTH);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -402,7 +402,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
    * @param holder  data holder for value of element
    */
   public void set(int index, DecimalHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * TYPE_WIDTH, holder.buffer, holder.start, TYPE_WIDTH);
   }
 
@@ -508,7 +508,7 @@ public final class DecimalVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, start, buffer);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
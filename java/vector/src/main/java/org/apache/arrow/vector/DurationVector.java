@@ -218,7 +218,7 @@ public final class DurationVector extends BaseFixedWidthVector {
    * @param value   value of element
    */
   public void set(int index, ArrowBuf value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * TYPE_WIDTH, value, 0, TYPE_WIDTH);
   }
 
@@ -230,7 +230,7 @@ public final class DurationVector extends BaseFixedWidthVector {
    */
   public void set(int index, long value) {
     final long offsetIndex = (long) index * TYPE_WIDTH;
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setLong(offsetIndex, value);
   }
 
@@ -251,7 +251,7 @@ public final class DurationVector extends BaseFixedWidthVector {
     } else if (holder.isSet > 0) {
       set(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -333,7 +333,7 @@ public final class DurationVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -90,6 +90,11 @@ public abstract class ExtensionTypeVector<T extends ValueVector & FieldVector> e
     this.underlyingVector.reAlloc();
   }
 
+  @Override
+  public void trimToSize() {
+    this.underlyingVector.trimToSize();
+  }
+
   @Override
   public void setInitialCapacity(int numRecords) {
     this.underlyingVector.setInitialCapacity(numRecords);
@@ -175,7 +175,7 @@ public class FixedSizeBinaryVector extends BaseFixedWidthVector {
     assert index >= 0;
     Preconditions.checkNotNull(value, "expecting a valid byte array");
     assert byteWidth <= value.length;
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * byteWidth, value, 0, byteWidth);
   }
 
@@ -195,7 +195,7 @@ public class FixedSizeBinaryVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -213,7 +213,7 @@ public class FixedSizeBinaryVector extends BaseFixedWidthVector {
   public void set(int index, ArrowBuf buffer) {
     assert index >= 0;
     assert byteWidth <= buffer.capacity();
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * byteWidth, buffer, 0, byteWidth);
   }
 
@@ -240,7 +240,7 @@ public class FixedSizeBinaryVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, buffer);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -301,7 +301,7 @@ public class FixedSizeBinaryVector extends BaseFixedWidthVector {
     } else if (holder.isSet > 0) {
       set(index, holder.buffer);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
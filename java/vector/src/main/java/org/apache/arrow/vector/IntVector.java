@@ -19,8 +19,11 @@ package org.apache.arrow.vector;
 
 import static org.apache.arrow.vector.NullCheckingForGet.NULL_CHECKING_ENABLED;
 
+import java.util.BitSet;
+
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
 import org.apache.arrow.vector.complex.impl.IntReaderImpl;
 import org.apache.arrow.vector.complex.reader.FieldReader;
 import org.apache.arrow.vector.holders.IntHolder;
@@ -157,7 +160,7 @@ public final class IntVector extends BaseFixedWidthVector implements BaseIntVect
    * @param value value of element
    */
   public void set(int index, int value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, value);
   }
 
@@ -173,10 +176,10 @@ public final class IntVector extends BaseFixedWidthVector implements BaseIntVect
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       setValue(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -187,7 +190,7 @@ public final class IntVector extends BaseFixedWidthVector implements BaseIntVect
    * @param holder data holder for value of element
    */
   public void set(int index, IntHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, holder.value);
   }
 
@@ -242,7 +245,7 @@ public final class IntVector extends BaseFixedWidthVector implements BaseIntVect
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -260,6 +263,127 @@ public final class IntVector extends BaseFixedWidthVector implements BaseIntVect
     set(index, isSet, value);
   }
 
+  /**
+   * Set a range of elements from an array with a single memory copy, and mark them as non-null.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   */
+  public void setAll(int index, int[] src, int srcOffset, int length) {
+    setAllFromArray(index, src, MemoryUtil.INT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, (boolean[]) null);
+  }
+
+  /**
+   * Set a range of elements from an array with a single memory copy, with the nulls given by a mask.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   * @param nulls the null mask (true for null), indexed like src, or null if there is no null
+   */
+  public void setAll(int index, int[] src, int srcOffset, int length, boolean[] nulls) {
+    setAllFromArray(index, src, MemoryUtil.INT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, nulls);
+  }
+
+  /**
+   * Set a range of elements from an array with a single memory copy, with the nulls given by a mask.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   * @param nulls the null mask (set bits for nulls), indexed like src, or null if there is no null
+   */
+  public void setAll(int index, int[] src, int srcOffset, int length, BitSet nulls) {
+    setAllFromArray(index, src, MemoryUtil.INT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, nulls);
+  }
+
+  /**
+   * Same as {@link #setAll(int, int[], int, int)} except that it handles the
+   * case when the range exceeds the current value capacity of the vector.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   */
+  public void setAllSafe(int index, int[] src, int srcOffset, int length) {
+    handleSafe(index + length - 1);
+    setAll(index, src, srcOffset, length);
+  }
+
+  /**
+   * Same as {@link #setAll(int, int[], int, int, boolean[])} except that it handles the
+   * case when the range exceeds the current value capacity of the vector.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   * @param nulls the null mask (true for null), indexed like src, or null if there is no null
+   */
+  public void setAllSafe(int index, int[] src, int srcOffset, int length, boolean[] nulls) {
+    handleSafe(index + length - 1);
+    setAll(index, src, srcOffset, length, nulls);
+  }
+
+  /**
+   * Same as {@link #setAll(int, int[], int, int, BitSet)} except that it handles the
+   * case when the range exceeds the current value capacity of the vector.
+   *
+   * @param index position of the first element to set
+   * @param src the values
+   * @param srcOffset position of the first value in the array
+   * @param length number of elements to set
+   * @param nulls the null mask (set bits for nulls), indexed like src, or null if there is no null
+   */
+  public void setAllSafe(int index, int[] src, int srcOffset, int length, BitSet nulls) {
+    handleSafe(index + length - 1);
+    setAll(index, src, srcOffset, length, nulls);
+  }
+
+  /**
+   * Get a range of elements into an array with a single memory copy. Unlike {@link #get(int)},
+   * null elements are not checked: their values are copied as they are.
+   *
+   * @param index position of the first element to get
+   * @param dst the array to fill
+   * @param dstOffset position in the array of the first element
+   * @param length number of elements to get
+   */
+  public void getAll(int index, int[] dst, int dstOffset, int length) {
+    getAllToArray(index, dst, MemoryUtil.INT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, (boolean[]) null);
+  }
+
+  /**
+   * Get a range of elements into an array with a single memory copy, and their nulls into a mask.
+   *
+   * @param index position of the first element to get
+   * @param dst the array to fill
+   * @param dstOffset position in the array of the first element
+   * @param length number of elements to get
+   * @param nulls the null mask to fill (true for null), indexed like dst
+   */
+  public void getAll(int index, int[] dst, int dstOffset, int length, boolean[] nulls) {
+    getAllToArray(index, dst, MemoryUtil.INT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, nulls);
+  }
+
+  /**
+   * Get a range of elements into an array with a single memory copy, and their nulls into a mask.
+   *
+   * @param index position of the first element to get
+   * @param dst the array to fill
+   * @param dstOffset position in the array of the first element
+   * @param length number of elements to get
+   * @param nulls the null mask to fill (set bits for nulls), indexed like dst
+   */
+  public void getAll(int index, int[] dst, int dstOffset, int length, BitSet nulls) {
+    getAllToArray(index, dst, MemoryUtil.INT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, nulls);
+  }
+
   /**
    * Given a data buffer, get the value stored at a particular position
    * in the vector.
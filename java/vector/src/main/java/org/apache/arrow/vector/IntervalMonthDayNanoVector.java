@@ -232,7 +232,7 @@ public final class IntervalMonthDayNanoVector extends BaseFixedWidthVector {
    * @param value   value of element
    */
   public void set(int index, ArrowBuf value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setBytes((long) index * TYPE_WIDTH, value, 0, TYPE_WIDTH);
   }
 
@@ -246,7 +246,7 @@ public final class IntervalMonthDayNanoVector extends BaseFixedWidthVector {
    */
   public void set(int index, int months, int days, long nanoseconds) {
     final long offsetIndex = (long) index * TYPE_WIDTH;
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     valueBuffer.setInt(offsetIndex, months);
     valueBuffer.setInt(offsetIndex + DAY_OFFSET, days);
     valueBuffer.setLong((offsetIndex + NANOSECOND_OFFSET), nanoseconds);
@@ -266,7 +266,7 @@ public final class IntervalMonthDayNanoVector extends BaseFixedWidthVector {
     } else if (holder.isSet > 0) {
       set(index, holder.months, holder.days, holder.nanoseconds);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -348,7 +348,7 @@ public final class IntervalMonthDayNanoVector extends BaseFixedWidthVector {
     if (isSet > 0) {
       set(index, months, days, nanoseconds);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
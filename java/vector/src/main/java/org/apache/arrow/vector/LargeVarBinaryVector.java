@@ -172,7 +172,7 @@ public final class LargeVarBinaryVector extends BaseLargeVariableWidthVector {
   public void set(int index, LargeVarBinaryHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int dataLength = (int) (holder.end - holder.start);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + dataLength);
@@ -193,7 +193,7 @@ public final class LargeVarBinaryVector extends BaseLargeVariableWidthVector {
     final int dataLength = (int) (holder.end - holder.start);
     handleSafe(index, dataLength);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + dataLength);
     valueBuffer.setBytes(startOffset, holder.buffer, holder.start, dataLength);
@@ -210,7 +210,7 @@ public final class LargeVarBinaryVector extends BaseLargeVariableWidthVector {
   public void set(int index, NullableLargeVarBinaryHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     final long startOffset = getStartOffset(index);
     if (holder.isSet != 0) {
       final int dataLength = (int) (holder.end - holder.start);
@@ -242,7 +242,7 @@ public final class LargeVarBinaryVector extends BaseLargeVariableWidthVector {
     } else {
       fillEmpties(index + 1);
     }
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     lastSet = index;
   }
 
@@ -182,7 +182,7 @@ public final class LargeVarCharVector extends BaseLargeVariableWidthVector {
   public void set(int index, LargeVarCharHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int dataLength = (int) (holder.end - holder.start);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + dataLength);
@@ -203,7 +203,7 @@ public final class LargeVarCharVector extends BaseLargeVariableWidthVector {
     final int dataLength = (int) (holder.end - holder.start);
     handleSafe(index, dataLength);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final long startOffset = getStartOffset(index);
     offsetBuffer.setLong((long) (index + 1) * OFFSET_WIDTH, startOffset + dataLength);
     valueBuffer.setBytes(startOffset, holder.buffer, holder.start, dataLength);
@@ -220,7 +220,7 @@ public final class LargeVarCharVector extends BaseLargeVariableWidthVector {
   public void set(int index, NullableLargeVarCharHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     final long startOffset = getStartOffset(index);
     if (holder.isSet != 0) {
       final int dataLength = (int) (holder.end - holder.start);
@@ -252,7 +252,7 @@ public final class LargeVarCharVector extends BaseLargeVariableWidthVector {
     } else {
       fillHoles(index + 1);
     }
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     lastSet = index;
   }
 
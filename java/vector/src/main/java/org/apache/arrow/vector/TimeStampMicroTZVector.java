@@ -164,10 +164,10 @@ public final class TimeStampMicroTZVector extends TimeStampVector {
       throw new IllegalArgumentException(
           String.format("holder.timezone: %s not equal to vector timezone: %s", holder.timezone, this.timeZone));
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       setValue(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -182,7 +182,7 @@ public final class TimeStampMicroTZVector extends TimeStampVector {
       throw new IllegalArgumentException(
           String.format("holder.timezone: %s not equal to vector timezone: %s", holder.timezone, this.timeZone));
     }
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, holder.value);
   }
 
@@ -161,7 +161,7 @@ public final class TinyIntVector extends BaseFixedWidthVector implements BaseInt
    * @param value   value of element
    */
   public void set(int index, int value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, value);
   }
 
@@ -172,7 +172,7 @@ public final class TinyIntVector extends BaseFixedWidthVector implements BaseInt
    * @param value   value of element
    */
   public void set(int index, byte value) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, value);
   }
 
@@ -188,10 +188,10 @@ public final class TinyIntVector extends BaseFixedWidthVector implements BaseInt
     if (holder.isSet < 0) {
       throw new IllegalArgumentException();
     } else if (holder.isSet > 0) {
-      BitVectorHelper.setBit(validityBuffer, index);
+      setValidityBit(index);
       setValue(index, holder.value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -202,7 +202,7 @@ public final class TinyIntVector extends BaseFixedWidthVector implements BaseInt
    * @param holder  data holder for value of element
    */
   public void set(int index, TinyIntHolder holder) {
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     setValue(index, holder.value);
   }
 
@@ -270,7 +270,7 @@ public final class TinyIntVector extends BaseFixedWidthVector implements BaseInt
     if (isSet > 0) {
       set(index, value);
     } else {
-      BitVectorHelper.unsetBit(validityBuffer, index);
+      unsetValidityBit(index);
     }
   }
 
@@ -28,6 +28,7 @@ import org.apache.arrow.vector.BufferLayout.BufferType;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.ArrowType.ArrowTypeVisitor;
 import org.apache.arrow.vector.types.pojo.ArrowType.Binary;
+import org.apache.arrow.vector.types.pojo.ArrowType.BinaryView;
 import org.apache.arrow.vector.types.pojo.ArrowType.Bool;
 import org.apache.arrow.vector.types.pojo.ArrowType.Date;
 import org.apache.arrow.vector.types.pojo.ArrowType.Decimal;
@@ -46,6 +47,7 @@ import org.apache.arrow.vector.types.pojo.ArrowType.Time;
 import org.apache.arrow.vector.types.pojo.ArrowType.Timestamp;
 import org.apache.arrow.vector.types.pojo.ArrowType.Union;
 import org.apache.arrow.vector.types.pojo.ArrowType.Utf8;
+import org.apache.arrow.vector.types.pojo.ArrowType.Utf8View;
 
 /**
  * The buffer layout of vectors for a given type.
@@ -117,6 +119,32 @@ public class TypeLayout {
         return new TypeLayout(vectors);
       }
 
+      @Override
+      public TypeLayout visit(ArrowType.ListView type) {
+        List<BufferLayout> vectors = asList(
+            BufferLayout.validityVector(),
+            BufferLayout.offsetBuffer(),
+            BufferLayout.sizeBuffer()
+        );
+        return new TypeLayout(vectors);
+      }
+
+      @Override
+      public TypeLayout visit(ArrowType.LargeListView type) {
+        List<BufferLayout> vectors = asList(
+            BufferLayout.validityVector(),
+            BufferLayout.largeOffsetBuffer(),
+            BufferLayout.largeSizeBuffer()
+        );
+        return new TypeLayout(vectors);
+      }
+
+      @Override
+      public TypeLayout visit(ArrowType.RunEndEncoded type) {
+        // the run ends and the values are child arrays, there is no validity buffer
+        return new TypeLayout(Collections.<BufferLayout>emptyList());
+      }
+
       @Override
       public TypeLayout visit(FixedSizeList type) {
         List<BufferLayout> vectors = asList(
@@ -188,6 +216,21 @@ public class TypeLayout {
         return newLargeVariableWidthTypeLayout();
       }
 
+      @Override
+      public TypeLayout visit(Utf8View type) {
+        return newVariableWidthViewTypeLayout();
+      }
+
+      @Override
+      public TypeLayout visit(BinaryView type) {
+        return newVariableWidthViewTypeLayout();
+      }
+
+      private TypeLayout newVariableWidthViewTypeLayout() {
+        // followed by any number of variadic data buffers
+        return new TypeLayout(asList(BufferLayout.validityVector(), BufferLayout.viewBuffer()), false);
+      }
+
       private TypeLayout newVariableWidthTypeLayout() {
         return newPrimitiveTypeLayout(BufferLayout.validityVector(), BufferLayout.offsetBuffer(),
           BufferLayout.byteVector());
@@ -268,6 +311,12 @@ public class TypeLayout {
        */
       static final int VARIABLE_WIDTH_BUFFER_COUNT = 3;
 
+      /**
+       * All variable width view vectors have at least 2 buffers: a validity buffer and a view buffer,
+       * followed by a variable number of data buffers, not counted here.
+       */
+      static final int VARIABLE_WIDTH_VIEW_BUFFER_COUNT = 2;
+
       @Override
       public Integer visit(Int type) {
         return FIXED_WIDTH_BUFFER_COUNT;
@@ -310,6 +359,24 @@ public class TypeLayout {
         return 2;
       }
 
+      @Override
+      public Integer visit(ArrowType.ListView type) {
+        // validity buffer + offset buffer + size buffer
+        return 3;
+      }
+
+      @Override
+      public Integer visit(ArrowType.LargeListView type) {
+        // validity buffer + offset buffer + size buffer
+        return 3;
+      }
+
+      @Override
+      public Integer visit(ArrowType.RunEndEncoded type) {
+        // no buffers, only the run ends and values children
+        return 0;
+      }
+
       @Override
       public Integer visit(FixedSizeList type) {
         // validity buffer
@@ -362,6 +429,16 @@ public class TypeLayout {
         return VARIABLE_WIDTH_BUFFER_COUNT;
       }
 
+      @Override
+      public Integer visit(Utf8View type) {
+        return VARIABLE_WIDTH_VIEW_BUFFER_COUNT;
+      }
+
+      @Override
+      public Integer visit(BinaryView type) {
+        return VARIABLE_WIDTH_VIEW_BUFFER_COUNT;
+      }
+
       @Override
       public Integer visit(Null type) {
         return 0;
@@ -392,9 +469,23 @@ public class TypeLayout {
 
   private final List<BufferLayout> bufferLayouts;
 
+  private final boolean isFixedBufferCount;
+
   public TypeLayout(List<BufferLayout> bufferLayouts) {
+    this(bufferLayouts, true);
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param bufferLayouts the layouts of the buffers every vector of the type has.
+   * @param isFixedBufferCount false if these buffers may be followed by a variable number of
+   *     {@link BufferType#VARIADIC_DATA_BUFFERS variadic data buffers}.
+   */
+  public TypeLayout(List<BufferLayout> bufferLayouts, boolean isFixedBufferCount) {
     super();
     this.bufferLayouts = Preconditions.checkNotNull(bufferLayouts);
+    this.isFixedBufferCount = isFixedBufferCount;
   }
 
   public TypeLayout(BufferLayout... bufferLayouts) {
@@ -421,13 +512,21 @@ public class TypeLayout {
     return types;
   }
 
+  /**
+   * Returns false if vectors of the type have, in addition to the {@linkplain #getBufferLayouts() fixed
+   * buffers}, a variable number of variadic data buffers.
+   */
+  public boolean isFixedBufferCount() {
+    return isFixedBufferCount;
+  }
+
   public String toString() {
-    return bufferLayouts.toString();
+    return isFixedBufferCount ? bufferLayouts.toString() : bufferLayouts + " + " + BufferType.VARIADIC_DATA_BUFFERS;
   }
 
   @Override
   public int hashCode() {
-    return bufferLayouts.hashCode();
+    return 31 * bufferLayouts.hashCode() + Boolean.hashCode(isFixedBufferCount);
   }
 
   @Override
@@ -442,7 +541,7 @@ public class TypeLayout {
       return false;
     }
     TypeLayout other = (TypeLayout) obj;
-    return bufferLayouts.equals(other.bufferLayouts);
+    return bufferLayouts.equals(other.bufferLayouts) && isFixedBufferCount == other.isFixedBufferCount;
   }
 
 }
@@ -30,6 +30,7 @@ import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.util.CallBack;
 import org.apache.arrow.vector.util.TransferPair;
 import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * An abstraction that is used to store a sequence of values in an individual column.
@@ -78,6 +79,13 @@ public interface ValueVector extends Closeable, Iterable<ValueVector> {
    */
   void reAlloc();
 
+  /**
+   * Release the memory not needed to hold the current values of the vector, e.g. before sending or
+   * caching a batch. Vectors whose buffers cannot be trimmed leave them unchanged.
+   */
+  default void trimToSize() {
+  }
+
   BufferAllocator getAllocator();
 
   /**
@@ -288,6 +296,34 @@ public interface ValueVector extends Closeable, Iterable<ValueVector> {
    */
   int hashCode(int index, ArrowBufHasher hasher);
 
+  /**
+   * Returns a 64-bit hashCode of element in index with the given hasher.
+   * The default implementation widens {@link #hashCode(int, ArrowBufHasher)}; vectors
+   * override it so that hashers with a 64-bit output keep their full width.
+   */
+  default long hashCode64(int index, ArrowBufHasher hasher) {
+    return hashCode(index, hasher);
+  }
+
+  /**
+   * Computes the 64-bit hashCodes of a range of elements with the given hasher, i.e.
+   * {@code out[i] = hashCode64(start + i, hasher)} for {@code 0 <= i < count}.
+   *
+   * <p>Vectors override this to hash their values in a tight loop, without a virtual call and
+   * bounds checks for each element.
+   *
+   * @param start the index of the first element.
+   * @param count the number of elements.
+   * @param out the array to store the hashCodes in, starting at index 0.
+   * @param hasher the hasher, or null to use the default one.
+   */
+  default void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    for (int i = 0; i < count; i++) {
+      out[i] = hashCode64(start + i, hasher);
+    }
+  }
+
   /**
    * Copy a cell value from a particular index in source vector to a particular
    * position in this vector.
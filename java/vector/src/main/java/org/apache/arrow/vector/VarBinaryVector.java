@@ -173,7 +173,7 @@ public final class VarBinaryVector extends BaseVariableWidthVector {
   public void set(int index, VarBinaryHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int dataLength = holder.end - holder.start;
     final int startOffset = getStartOffset(index);
     offsetBuffer.setInt((index + 1) * OFFSET_WIDTH, startOffset + dataLength);
@@ -194,7 +194,7 @@ public final class VarBinaryVector extends BaseVariableWidthVector {
     final int dataLength = holder.end - holder.start;
     handleSafe(index, dataLength);
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int startOffset = getStartOffset(index);
     offsetBuffer.setInt((index + 1) * OFFSET_WIDTH, startOffset + dataLength);
     valueBuffer.setBytes(startOffset, holder.buffer, holder.start, dataLength);
@@ -211,7 +211,7 @@ public final class VarBinaryVector extends BaseVariableWidthVector {
   public void set(int index, NullableVarBinaryHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     final int startOffset = getStartOffset(index);
     if (holder.isSet != 0) {
       final int dataLength = holder.end - holder.start;
@@ -243,7 +243,7 @@ public final class VarBinaryVector extends BaseVariableWidthVector {
     } else {
       fillEmpties(index + 1);
     }
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     lastSet = index;
   }
 
@@ -179,7 +179,7 @@ public final class VarCharVector extends BaseVariableWidthVector {
   public void set(int index, VarCharHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int dataLength = holder.end - holder.start;
     final int startOffset = getStartOffset(index);
     offsetBuffer.setInt((index + 1) * OFFSET_WIDTH, startOffset + dataLength);
@@ -201,7 +201,7 @@ public final class VarCharVector extends BaseVariableWidthVector {
     handleSafe(index, dataLength);
     fillHoles(index);
 
-    BitVectorHelper.setBit(validityBuffer, index);
+    setValidityBit(index);
     final int startOffset = getStartOffset(index);
     offsetBuffer.setInt((index + 1) * OFFSET_WIDTH, startOffset + dataLength);
     valueBuffer.setBytes(startOffset, holder.buffer, holder.start, dataLength);
@@ -218,7 +218,7 @@ public final class VarCharVector extends BaseVariableWidthVector {
   public void set(int index, NullableVarCharHolder holder) {
     assert index >= 0;
     fillHoles(index);
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     final int startOffset = getStartOffset(index);
     if (holder.isSet != 0) {
       final int dataLength = holder.end - holder.start;
@@ -250,7 +250,7 @@ public final class VarCharVector extends BaseVariableWidthVector {
     } else {
       fillEmpties(index + 1);
     }
-    BitVectorHelper.setValidityBit(validityBuffer, index, holder.isSet);
+    setValidityBit(index, holder.isSet);
     lastSet = index;
   }
 
@@ -241,6 +241,16 @@ public class VectorSchemaRoot implements AutoCloseable {
     }
   }
 
+  /**
+   * Release the memory of all the vectors that is not needed to hold their current values, e.g.
+   * before sending or caching the batch. See {@link ValueVector#trimToSize()}.
+   */
+  public void trimToSize() {
+    for (FieldVector v : getFieldVectors()) {
+      v.trimToSize();
+    }
+  }
+
   @Override
   public void close() {
     try {
@@ -37,6 +37,7 @@ public class VectorUnloader {
   private final boolean includeNullCount;
   private final CompressionCodec codec;
   private final boolean alignBuffers;
+  private final boolean omitValidityWhenNoNulls;
 
   /**
    * Constructs a new instance of the given set of vectors.
@@ -67,10 +68,27 @@ public class VectorUnloader {
    */
   public VectorUnloader(
       VectorSchemaRoot root, boolean includeNullCount, CompressionCodec codec, boolean alignBuffers) {
+    this(root, includeNullCount, codec, alignBuffers, false);
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param root  The set of vectors to serialize to an {@link ArrowRecordBatch}.
+   * @param includeNullCount Controls whether null count is copied to the {@link ArrowRecordBatch}
+   * @param codec the codec for compressing data. If it is null, then no compression is needed.
+   * @param alignBuffers Controls if buffers get aligned to 8-byte boundaries.
+   * @param omitValidityWhenNoNulls Controls if the validity buffers of vectors without nulls are replaced
+   *     by empty buffers, as the format allows. Only effective if the null count is included.
+   */
+  public VectorUnloader(
+      VectorSchemaRoot root, boolean includeNullCount, CompressionCodec codec, boolean alignBuffers,
+      boolean omitValidityWhenNoNulls) {
     this.root = root;
     this.includeNullCount = includeNullCount;
     this.codec = codec == null ? NoCompressionCodec.INSTANCE : codec;
     this.alignBuffers = alignBuffers;
+    this.omitValidityWhenNoNulls = omitValidityWhenNoNulls && includeNullCount;
   }
 
   /**
@@ -80,24 +98,44 @@ public class VectorUnloader {
   public ArrowRecordBatch getRecordBatch() {
     List<ArrowFieldNode> nodes = new ArrayList<>();
     List<ArrowBuf> buffers = new ArrayList<>();
+    List<Long> variadicBufferCounts = new ArrayList<>();
     for (FieldVector vector : root.getFieldVectors()) {
-      appendNodes(vector, nodes, buffers);
+      appendNodes(vector, nodes, buffers, variadicBufferCounts);
     }
     // Do NOT retain buffers in ArrowRecordBatch constructor since we have already retained them.
     return new ArrowRecordBatch(
-        root.getRowCount(), nodes, buffers, CompressionUtil.createBodyCompression(codec), alignBuffers,
-        /*retainBuffers*/ false);
+        root.getRowCount(), nodes, buffers, CompressionUtil.createBodyCompression(codec), variadicBufferCounts,
+        alignBuffers, /*retainBuffers*/ false);
   }
 
-  private void appendNodes(FieldVector vector, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers) {
-    nodes.add(new ArrowFieldNode(vector.getValueCount(), includeNullCount ? vector.getNullCount() : -1));
-    List<ArrowBuf> fieldBuffers = vector.getFieldBuffers();
+  private void appendNodes(FieldVector vector, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers,
+      List<Long> variadicBufferCounts) {
+    final int nullCount = includeNullCount ? vector.getNullCount() : -1;
+    nodes.add(new ArrowFieldNode(vector.getValueCount(), nullCount));
+    // the vectors whose validity buffer is not allocated write it empty, with a null count of zero
+    List<ArrowBuf> fieldBuffers = includeNullCount && vector instanceof BaseValueVector ?
+        ((BaseValueVector) vector).getFieldBuffersToWrite() : vector.getFieldBuffers();
+    TypeLayout typeLayout = TypeLayout.getTypeLayout(vector.getField().getType());
     int expectedBufferCount = TypeLayout.getTypeBufferCount(vector.getField().getType());
-    if (fieldBuffers.size() != expectedBufferCount) {
+    if (!typeLayout.isFixedBufferCount()) {
+      // the buffers after the layout buffers are the variadic data buffers
+      if (fieldBuffers.size() < expectedBufferCount) {
+        throw new IllegalArgumentException(String.format(
+            "wrong number of buffers for field %s in vector %s. found: %s",
+            vector.getField(), vector.getClass().getSimpleName(), fieldBuffers));
+      }
+      variadicBufferCounts.add((long) (fieldBuffers.size() - expectedBufferCount));
+    } else if (fieldBuffers.size() != expectedBufferCount) {
       throw new IllegalArgumentException(String.format(
           "wrong number of buffers for field %s in vector %s. found: %s",
           vector.getField(), vector.getClass().getSimpleName(), fieldBuffers));
     }
+    if (omitValidityWhenNoNulls && nullCount == 0 && expectedBufferCount > 0 &&
+        typeLayout.getBufferTypes().get(0) == BufferLayout.BufferType.VALIDITY) {
+      // readers allocate an all-valid validity buffer when it is empty and there is no null
+      fieldBuffers = new ArrayList<>(fieldBuffers);
+      fieldBuffers.set(0, vector.getAllocator().getEmpty());
+    }
     for (ArrowBuf buf : fieldBuffers) {
       // If the codec is NoCompressionCodec, then it will return the input buffer unchanged. In that case,
       // we need to retain it for ArrowRecordBatch. Otherwise, it will return a new buffer, and also close
@@ -107,7 +145,7 @@ public class VectorUnloader {
       buffers.add(codec.compress(vector.getAllocator(), buf));
     }
     for (FieldVector child : vector.getChildrenFromFields()) {
-      appendNodes(child, nodes, buffers);
+      appendNodes(child, nodes, buffers, variadicBufferCounts);
     }
   }
 
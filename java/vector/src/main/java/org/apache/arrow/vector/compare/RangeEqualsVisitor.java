@@ -27,16 +27,19 @@ import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.BitVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.BaseRepeatedValueVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 
 /**
@@ -162,6 +165,14 @@ public class RangeEqualsVisitor implements VectorVisitor<Boolean, Range> {
     return compareBaseLargeVariableWidthVectors(range);
   }
 
+  @Override
+  public Boolean visit(BaseVariableWidthViewVector left, Range range) {
+    if (!validate(left)) {
+      return false;
+    }
+    return compareBaseVariableWidthViewVectors(range);
+  }
+
   @Override
   public Boolean visit(ListVector left, Range range) {
     if (!validate(left)) {
@@ -186,6 +197,22 @@ public class RangeEqualsVisitor implements VectorVisitor<Boolean, Range> {
     return compareLargeListVectors(range);
   }
 
+  @Override
+  public Boolean visit(BaseListViewVector left, Range range) {
+    if (!validate(left)) {
+      return false;
+    }
+    return compareListViewVectors(range);
+  }
+
+  @Override
+  public Boolean visit(RunEndEncodedVector left, Range range) {
+    if (!validate(left)) {
+      return false;
+    }
+    return compareRunEndEncodedVectors(range);
+  }
+
   @Override
   public Boolean visit(NonNullableStructVector left, Range range) {
     if (!validate(left)) {
@@ -411,6 +438,26 @@ public class RangeEqualsVisitor implements VectorVisitor<Boolean, Range> {
     return true;
   }
 
+  protected boolean compareBaseVariableWidthViewVectors(Range range) {
+    BaseVariableWidthViewVector leftVector = (BaseVariableWidthViewVector) left;
+    BaseVariableWidthViewVector rightVector = (BaseVariableWidthViewVector) right;
+
+    for (int i = 0; i < range.getLength(); i++) {
+      int leftIndex = range.getLeftStart() + i;
+      int rightIndex = range.getRightStart() + i;
+
+      boolean isNull = leftVector.isNull(leftIndex);
+      if (isNull != rightVector.isNull(rightIndex)) {
+        return false;
+      }
+
+      if (!isNull && !leftVector.valueEquals(leftIndex, rightVector, rightIndex)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected boolean compareBaseLargeVariableWidthVectors(Range range) {
     BaseLargeVariableWidthVector leftVector = (BaseLargeVariableWidthVector) left;
     BaseLargeVariableWidthVector rightVector = (BaseLargeVariableWidthVector) right;
@@ -570,4 +617,75 @@ public class RangeEqualsVisitor implements VectorVisitor<Boolean, Range> {
     }
     return true;
   }
+
+  protected boolean compareListViewVectors(Range range) {
+    BaseListViewVector leftVector = (BaseListViewVector) left;
+    BaseListViewVector rightVector = (BaseListViewVector) right;
+
+    RangeEqualsVisitor innerVisitor =
+        createInnerVisitor(leftVector.getDataVector(), rightVector.getDataVector(), /*type comparator*/ null);
+    Range innerRange = new Range();
+
+    for (int i = 0; i < range.getLength(); i++) {
+      int leftIndex = range.getLeftStart() + i;
+      int rightIndex = range.getRightStart() + i;
+
+      boolean isNull = leftVector.isNull(leftIndex);
+      if (isNull != rightVector.isNull(rightIndex)) {
+        return false;
+      }
+
+      if (!isNull) {
+        final long sizeLeft = leftVector.getElementSize(leftIndex);
+        if (sizeLeft != rightVector.getElementSize(rightIndex)) {
+          return false;
+        }
+
+        innerRange = innerRange
+            .setRightStart(checkedCastToInt(rightVector.getElementStartIndex(rightIndex)))
+            .setLeftStart(checkedCastToInt(leftVector.getElementStartIndex(leftIndex)))
+            .setLength(checkedCastToInt(sizeLeft));
+        if (!innerVisitor.rangeEquals(innerRange)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  protected boolean compareRunEndEncodedVectors(Range range) {
+    RunEndEncodedVector leftVector = (RunEndEncodedVector) left;
+    RunEndEncodedVector rightVector = (RunEndEncodedVector) right;
+    if (range.getLength() == 0) {
+      return true;
+    }
+
+    RangeEqualsVisitor innerVisitor =
+        createInnerVisitor(leftVector.getValuesVector(), rightVector.getValuesVector(), /*type comparator*/ null);
+    Range innerRange = new Range(0, 0, 1);
+
+    // walk both vectors one segment at a time, a segment being covered by a single run on each side
+    int leftIndex = range.getLeftStart();
+    int rightIndex = range.getRightStart();
+    final int leftEnd = range.getLeftStart() + range.getLength();
+    int leftRun = leftVector.getPhysicalIndex(leftIndex);
+    int rightRun = rightVector.getPhysicalIndex(rightIndex);
+    while (leftIndex < leftEnd) {
+      if (!innerVisitor.rangeEquals(innerRange.setLeftStart(leftRun).setRightStart(rightRun))) {
+        return false;
+      }
+      final long leftRemaining = leftVector.getRunEnd(leftRun) - leftIndex;
+      final long rightRemaining = rightVector.getRunEnd(rightRun) - rightIndex;
+      final int step = (int) Math.min(Math.min(leftRemaining, rightRemaining), leftEnd - leftIndex);
+      leftIndex += step;
+      rightIndex += step;
+      if (leftRemaining == step) {
+        leftRun++;
+      }
+      if (rightRemaining == step) {
+        rightRun++;
+      }
+    }
+    return true;
+  }
 }
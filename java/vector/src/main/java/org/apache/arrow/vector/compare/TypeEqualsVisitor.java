@@ -23,14 +23,17 @@ import java.util.Objects;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.types.pojo.Field;
 
@@ -85,6 +88,11 @@ public class TypeEqualsVisitor implements VectorVisitor<Boolean, Void> {
     return compareField(left.getField(), right.getField());
   }
 
+  @Override
+  public Boolean visit(BaseVariableWidthViewVector left, Void value) {
+    return compareField(left.getField(), right.getField());
+  }
+
   @Override
   public Boolean visit(ListVector left, Void value) {
     return compareField(left.getField(), right.getField());
@@ -100,6 +108,16 @@ public class TypeEqualsVisitor implements VectorVisitor<Boolean, Void> {
     return compareField(left.getField(), right.getField());
   }
 
+  @Override
+  public Boolean visit(BaseListViewVector left, Void value) {
+    return compareField(left.getField(), right.getField());
+  }
+
+  @Override
+  public Boolean visit(RunEndEncodedVector left, Void value) {
+    return compareField(left.getField(), right.getField());
+  }
+
   @Override
   public Boolean visit(NonNullableStructVector left, Void value) {
     return compareField(left.getField(), right.getField());
@@ -20,17 +20,25 @@ package org.apache.arrow.vector.compare;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.NullVector;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 
 /**
  * Generic visitor to visit a {@link org.apache.arrow.vector.ValueVector}.
+ *
+ * <p>The methods for the vector types added after the visitor was introduced (view, list view and
+ * run-end encoded vectors) have default implementations that throw {@link UnsupportedOperationException},
+ * so that existing visitors keep compiling; visitors that support these types override them.
+ *
  * @param <OUT> the output result type.
  * @param <IN> the input data together with visitor.
  */
@@ -42,12 +50,39 @@ public interface VectorVisitor<OUT, IN> {
 
   OUT visit(BaseLargeVariableWidthVector left, IN value);
 
+  /**
+   * Visits a {@link BaseVariableWidthViewVector}.
+   *
+   * @throws UnsupportedOperationException unless overridden.
+   */
+  default OUT visit(BaseVariableWidthViewVector left, IN value) {
+    throw new UnsupportedOperationException("VectorVisitor for BaseVariableWidthViewVector is not supported.");
+  }
+
   OUT visit(ListVector left, IN value);
 
   OUT visit(FixedSizeListVector left, IN value);
 
   OUT visit(LargeListVector left, IN value);
 
+  /**
+   * Visits a {@link BaseListViewVector}.
+   *
+   * @throws UnsupportedOperationException unless overridden.
+   */
+  default OUT visit(BaseListViewVector left, IN value) {
+    throw new UnsupportedOperationException("VectorVisitor for BaseListViewVector is not supported.");
+  }
+
+  /**
+   * Visits a {@link RunEndEncodedVector}.
+   *
+   * @throws UnsupportedOperationException unless overridden.
+   */
+  default OUT visit(RunEndEncodedVector left, IN value) {
+    throw new UnsupportedOperationException("VectorVisitor for RunEndEncodedVector is not supported.");
+  }
+
   OUT visit(NonNullableStructVector left, IN value);
 
   OUT visit(UnionVector left, IN value);
@@ -145,6 +145,13 @@ public abstract class AbstractStructVector extends AbstractContainerVector {
     }
   }
 
+  @Override
+  public void trimToSize() {
+    for (final ValueVector v : vectors.values()) {
+      v.trimToSize();
+    }
+  }
+
   /**
    * Adds a new field with the given parameters or replaces the existing one and consequently returns the resultant
    * {@link org.apache.arrow.vector.ValueVector}.
@@ -0,0 +1,1024 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex;
+
+import static java.util.Collections.singletonList;
+import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
+import static org.apache.arrow.memory.util.LargeMemoryUtil.checkedCastToInt;
+import static org.apache.arrow.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.AddOrGetResult;
+import org.apache.arrow.vector.BaseValueVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.BufferBacked;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.NullVector;
+import org.apache.arrow.vector.UInt4Vector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.ZeroVector;
+import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.impl.UnionListViewReader;
+import org.apache.arrow.vector.complex.reader.FieldReader;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.util.CallBack;
+import org.apache.arrow.vector.util.JsonStringArrayList;
+import org.apache.arrow.vector.util.OversizedAllocationException;
+import org.apache.arrow.vector.util.SchemaChangeRuntimeException;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * Base class for the list view vectors. A list view vector contains lists of a specific type of
+ * elements. Its structure contains 4 elements.
+ * <ol>
+ * <li>A validity buffer.</li>
+ * <li>An offset buffer, that denotes the start of each list in the child data vector.</li>
+ * <li>A size buffer, that denotes the number of elements of each list.</li>
+ * <li>A child data vector that contains the elements of lists.</li>
+ * </ol>
+ *
+ * <p>Unlike in a {@link ListVector}, the lists do not need to be stored in order in the child vector,
+ * and several lists may share the same child elements. So lists can be reordered, filtered or
+ * repeated by rewriting the offsets and sizes only.
+ *
+ * <p>Lists are written by setting their child elements directly in the data vector, then their
+ * offset and size with {@link #setOffsetAndSize(int, long, long)}, or with
+ * {@link #startNewValue(int)} and {@link #endValue(int, long)} when they are appended to the data
+ * vector.
+ */
+public abstract class BaseListViewVector extends BaseValueVector implements RepeatedValueVector, FieldVector {
+
+  public static final FieldVector DEFAULT_DATA_VECTOR = ZeroVector.INSTANCE;
+  public static final String DATA_VECTOR_NAME = "$data$";
+
+  protected ArrowBuf validityBuffer;
+  protected ArrowBuf offsetBuffer;
+  protected ArrowBuf sizeBuffer;
+  protected FieldVector vector;
+  protected final CallBack callBack;
+  protected int valueCount;
+  protected String defaultDataVectorName = DATA_VECTOR_NAME;
+  protected UnionListViewReader reader;
+  private Field field;
+  private long validityAllocationSizeInBytes;
+  private long offsetAllocationSizeInBytes;
+
+  /**
+   * The end of the child elements referenced so far, the data vector has at least this many values.
+   */
+  private long childEnd;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param field The field materialized by this vector.
+   * @param allocator The allocator to use for creating/reallocating buffers for the vector.
+   * @param callBack A schema change callback.
+   */
+  protected BaseListViewVector(Field field, BufferAllocator allocator, CallBack callBack) {
+    super(allocator);
+    this.field = field;
+    this.callBack = callBack;
+    this.validityBuffer = allocator.getEmpty();
+    this.offsetBuffer = allocator.getEmpty();
+    this.sizeBuffer = allocator.getEmpty();
+    this.vector = DEFAULT_DATA_VECTOR;
+    this.validityAllocationSizeInBytes = getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION);
+    this.offsetAllocationSizeInBytes = (long) INITIAL_VALUE_ALLOCATION * getOffsetWidth();
+  }
+
+  /**
+   * Get the width in bytes of the offsets and sizes.
+   */
+  protected abstract int getOffsetWidth();
+
+  /**
+   * Get the offset of the list at the given index in the data vector.
+   */
+  public abstract long getElementStartIndex(int index);
+
+  /**
+   * Get the number of elements of the list at the given index.
+   */
+  public abstract long getElementSize(int index);
+
+  /**
+   * Set the offset of the list at the given index, without any capacity check.
+   */
+  protected abstract void setOffset(int index, long offset);
+
+  /**
+   * Set the number of elements of the list at the given index, without any capacity check.
+   */
+  protected abstract void setSize(int index, long size);
+
+  /**
+   * Create an empty vector of the same class, for transfer pairs.
+   */
+  protected abstract BaseListViewVector createEmptyVector(Field field, BufferAllocator allocator, CallBack callBack);
+
+  /**
+   * Get the end (exclusive) of the list at the given index in the data vector.
+   */
+  public long getElementEndIndex(int index) {
+    return getElementStartIndex(index) + getElementSize(index);
+  }
+
+  @Override
+  public void initializeChildrenFromFields(List<Field> children) {
+    checkArgument(children.size() == 1,
+        "List views have one child Field. Found: %s", children.isEmpty() ? "none" : children);
+
+    Field field = children.get(0);
+    AddOrGetResult<FieldVector> addOrGetVector = addOrGetVector(field.getFieldType());
+    checkArgument(addOrGetVector.isCreated(), "Child vector already existed: %s", addOrGetVector.getVector());
+
+    addOrGetVector.getVector().initializeChildrenFromFields(field.getChildren());
+    this.field = new Field(this.field.getName(), this.field.getFieldType(), children);
+  }
+
+  @Override
+  public void setInitialCapacity(int numRecords) {
+    validityAllocationSizeInBytes = getValidityBufferSizeFromCount(numRecords);
+    offsetAllocationSizeInBytes = (long) numRecords * getOffsetWidth();
+    vector.setInitialCapacity(numRecords * RepeatedValueVector.DEFAULT_REPEAT_PER_RECORD);
+  }
+
+  /**
+   * Specialized version of setInitialCapacity() for list view vectors.
+   *
+   * @param numRecords value count
+   * @param density density of the list views, i.e. the average number of child elements per list
+   */
+  @Override
+  public void setInitialCapacity(int numRecords, double density) {
+    validityAllocationSizeInBytes = getValidityBufferSizeFromCount(numRecords);
+    offsetAllocationSizeInBytes = (long) numRecords * getOffsetWidth();
+    if ((numRecords * density) >= Integer.MAX_VALUE) {
+      throw new OversizedAllocationException("Requested amount of memory is more than max allowed");
+    }
+    int innerValueCapacity = Math.max((int) (numRecords * density), 1);
+    vector.setInitialCapacity(innerValueCapacity);
+  }
+
+  /**
+   * Get the density of this list view vector, i.e. the average number of child elements per list.
+   *
+   * @return density
+   */
+  public double getDensity() {
+    if (valueCount == 0) {
+      return 0.0D;
+    }
+    long totalListSize = 0;
+    for (int i = 0; i < valueCount; i++) {
+      totalListSize += getElementSize(i);
+    }
+    return ((double) totalListSize) / valueCount;
+  }
+
+  @Override
+  public List<FieldVector> getChildrenFromFields() {
+    return singletonList(getDataVector());
+  }
+
+  /**
+   * Load the buffers of this vector with provided source buffers.
+   * The caller manages the source buffers and populates them before invoking
+   * this method.
+   * @param fieldNode  the fieldNode indicating the value count
+   * @param ownBuffers the buffers for this Field (own buffers only, children not included)
+   */
+  @Override
+  public void loadFieldBuffers(ArrowFieldNode fieldNode, List<ArrowBuf> ownBuffers) {
+    if (ownBuffers.size() != 3) {
+      throw new IllegalArgumentException("Illegal buffer count, expected " + 3 + ", got: " + ownBuffers.size());
+    }
+
+    ArrowBuf bitBuffer = ownBuffers.get(0);
+    ArrowBuf offBuffer = ownBuffers.get(1);
+    ArrowBuf szBuffer = ownBuffers.get(2);
+
+    validityBuffer.getReferenceManager().release();
+    validityBuffer = BitVectorHelper.loadValidityBuffer(fieldNode, bitBuffer, allocator);
+    offsetBuffer.getReferenceManager().release();
+    offsetBuffer = offBuffer.getReferenceManager().retain(offBuffer, allocator);
+    sizeBuffer.getReferenceManager().release();
+    sizeBuffer = szBuffer.getReferenceManager().retain(szBuffer, allocator);
+
+    validityAllocationSizeInBytes = validityBuffer.capacity();
+    offsetAllocationSizeInBytes = offsetBuffer.capacity();
+
+    valueCount = fieldNode.getLength();
+    childEnd = 0;
+    for (int i = 0; i < valueCount; i++) {
+      if (getElementSize(i) > 0) {
+        childEnd = Math.max(childEnd, getElementEndIndex(i));
+      }
+    }
+  }
+
+  /**
+   * Get the buffers belonging to this vector.
+   * @return the inner buffers.
+   */
+  @Override
+  public List<ArrowBuf> getFieldBuffers() {
+    List<ArrowBuf> result = new ArrayList<>(3);
+    setReaderAndWriterIndex();
+    result.add(validityBuffer);
+    result.add(offsetBuffer);
+    result.add(sizeBuffer);
+    return result;
+  }
+
+  /**
+   * Set the reader and writer indexes for the inner buffers.
+   */
+  private void setReaderAndWriterIndex() {
+    validityBuffer.readerIndex(0);
+    offsetBuffer.readerIndex(0);
+    sizeBuffer.readerIndex(0);
+    if (valueCount == 0) {
+      validityBuffer.writerIndex(0);
+      offsetBuffer.writerIndex(0);
+      sizeBuffer.writerIndex(0);
+    } else {
+      validityBuffer.writerIndex(getValidityBufferSizeFromCount(valueCount));
+      offsetBuffer.writerIndex((long) valueCount * getOffsetWidth());
+      sizeBuffer.writerIndex((long) valueCount * getOffsetWidth());
+    }
+  }
+
+  /**
+   * Get the inner vectors.
+   *
+   * @deprecated This API will be removed as the current implementations no longer support inner vectors.
+   *
+   * @return the inner vectors for this field as defined by the TypeLayout
+   */
+  @Deprecated
+  @Override
+  public List<BufferBacked> getFieldInnerVectors() {
+    throw new UnsupportedOperationException("There are no inner vectors. Use getFieldBuffers");
+  }
+
+  /**
+   * Same as {@link #allocateNewSafe()}.
+   */
+  @Override
+  public void allocateNew() throws OutOfMemoryException {
+    if (!allocateNewSafe()) {
+      throw new OutOfMemoryException("Failure while allocating memory");
+    }
+  }
+
+  /**
+   * Allocate memory for the vector. We internally use a default value count
+   * of 4096 to allocate memory for at least these many elements in the
+   * vector.
+   *
+   * @return false if memory allocation fails, true otherwise.
+   */
+  @Override
+  public boolean allocateNewSafe() {
+    boolean success = false;
+    try {
+      /* we are doing a new allocation -- release the current buffers */
+      clear();
+      allocateValidityBuffer(validityAllocationSizeInBytes);
+      offsetBuffer = allocateZeroedBuffer(offsetAllocationSizeInBytes);
+      sizeBuffer = allocateZeroedBuffer(offsetAllocationSizeInBytes);
+      success = vector.allocateNewSafe();
+    } catch (OutOfMemoryException e) {
+      success = false;
+    } finally {
+      if (!success) {
+        clear();
+      }
+    }
+    return success;
+  }
+
+  private void allocateValidityBuffer(final long size) {
+    validityBuffer = allocateZeroedBuffer(size);
+    validityAllocationSizeInBytes = validityBuffer.capacity();
+  }
+
+  private ArrowBuf allocateZeroedBuffer(final long size) {
+    final ArrowBuf buffer = allocator.buffer(size);
+    buffer.readerIndex(0);
+    buffer.setZero(0, buffer.capacity());
+    return buffer;
+  }
+
+  /**
+   * Resize the vector to increase the capacity. The new capacity is computed by the
+   * {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * value capacity; the data vector grows following its own growth policy.
+   */
+  @Override
+  public void reAlloc() {
+    reallocValidityOffsetAndSizeBuffers();
+    vector.reAlloc();
+  }
+
+  /**
+   * Trim the validity, offset and size buffers to the {@link #getValueCount()} lists, then the data
+   * vector to its own value count.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    validityBuffer = trimBuffer(validityBuffer, getValidityBufferSizeFromCount(valueCount));
+    validityAllocationSizeInBytes = validityBuffer.capacity();
+    offsetBuffer = trimBuffer(offsetBuffer, (long) valueCount * getOffsetWidth());
+    sizeBuffer = trimBuffer(sizeBuffer, (long) valueCount * getOffsetWidth());
+    offsetAllocationSizeInBytes = offsetBuffer.capacity();
+    vector.trimToSize();
+  }
+
+  private void reallocValidityOffsetAndSizeBuffers() {
+    long newOffsetAllocationSize;
+    if (offsetBuffer.capacity() > 0) {
+      newOffsetAllocationSize = computeGrowthBufferSize(offsetBuffer.capacity());
+    } else {
+      newOffsetAllocationSize = CommonUtil.nextPowerOfTwo(offsetAllocationSizeInBytes > 0 ?
+          offsetAllocationSizeInBytes : (long) INITIAL_VALUE_ALLOCATION * getOffsetWidth() * 2);
+    }
+    if (newOffsetAllocationSize > MAX_ALLOCATION_SIZE) {
+      throw new OversizedAllocationException("Unable to expand the buffer");
+    }
+    offsetBuffer = reallocBuffer(offsetBuffer, newOffsetAllocationSize);
+    sizeBuffer = reallocBuffer(sizeBuffer, newOffsetAllocationSize);
+    offsetAllocationSizeInBytes = newOffsetAllocationSize;
+
+    // the validity buffer holds at least as many values as the offsets
+    final long newValidityAllocationSize =
+        Math.max(validityBuffer.capacity(), getValidityBufferSizeFromCount(getOffsetBufferValueCapacity()));
+    if (newValidityAllocationSize > validityBuffer.capacity()) {
+      validityBuffer = reallocBuffer(validityBuffer,
+          allocator.getRoundingPolicy().getRoundedSize(newValidityAllocationSize));
+      validityAllocationSizeInBytes = validityBuffer.capacity();
+    }
+  }
+
+  private ArrowBuf reallocBuffer(ArrowBuf buffer, long newAllocationSize) {
+    final long currentBufferCapacity = buffer.capacity();
+    final ArrowBuf newBuf = allocator.buffer(newAllocationSize);
+    newBuf.setBytes(0, buffer, 0, currentBufferCapacity);
+    newBuf.setZero(currentBufferCapacity, newBuf.capacity() - currentBufferCapacity);
+    buffer.getReferenceManager().release(1);
+    return newBuf;
+  }
+
+  /**
+   * Same as {@link #copyFrom(int, int, ValueVector)} except that
+   * it handles the case when the capacity of the vector needs to be expanded
+   * before copy.
+   * @param inIndex position to copy from in source vector
+   * @param outIndex position to copy to in this vector
+   * @param from source vector
+   */
+  @Override
+  public void copyFromSafe(int inIndex, int outIndex, ValueVector from) {
+    copyFrom(inIndex, outIndex, from);
+  }
+
+  /**
+   * Copy a cell value from a particular index in source vector to a particular
+   * position in this vector. The child elements of the list are appended to the data vector.
+   * @param inIndex position to copy from in source vector
+   * @param outIndex position to copy to in this vector
+   * @param from source vector
+   */
+  @Override
+  public void copyFrom(int inIndex, int outIndex, ValueVector from) {
+    Preconditions.checkArgument(this.getMinorType() == from.getMinorType());
+    final BaseListViewVector fromVector = (BaseListViewVector) from;
+    if (fromVector.isNull(inIndex)) {
+      setNull(outIndex);
+      return;
+    }
+    if (vector instanceof NullVector && !(fromVector.getDataVector() instanceof NullVector)) {
+      final Field childField = fromVector.getDataVector().getField();
+      AddOrGetResult<FieldVector> addOrGetVector = addOrGetVector(childField.getFieldType());
+      addOrGetVector.getVector().initializeChildrenFromFields(childField.getChildren());
+    }
+    final int start = checkedCastToInt(fromVector.getElementStartIndex(inIndex));
+    final int size = checkedCastToInt(fromVector.getElementSize(inIndex));
+    final int offset = checkedCastToInt(startNewValue(outIndex));
+    for (int i = 0; i < size; i++) {
+      vector.copyFromSafe(start + i, offset + i, fromVector.getDataVector());
+    }
+    endValue(outIndex, size);
+  }
+
+  /**
+   * Get the offset vector.
+   * @deprecated This API will be removed, as the current implementations no longer hold inner offset vectors.
+   *
+   * @return the underlying offset vector or null if none exists.
+   */
+  @Override
+  @Deprecated
+  public UInt4Vector getOffsetVector() {
+    throw new UnsupportedOperationException("There is no inner offset vector");
+  }
+
+  /**
+   * Get the inner data vector for this list view vector.
+   * @return data vector
+   */
+  @Override
+  public FieldVector getDataVector() {
+    return vector;
+  }
+
+  @Override
+  public TransferPair getTransferPair(String ref, BufferAllocator allocator) {
+    return getTransferPair(ref, allocator, null);
+  }
+
+  @Override
+  public TransferPair getTransferPair(Field field, BufferAllocator allocator) {
+    return getTransferPair(field, allocator, null);
+  }
+
+  @Override
+  public TransferPair getTransferPair(String ref, BufferAllocator allocator, CallBack callBack) {
+    return new TransferImpl(createEmptyVector(new Field(ref, field.getFieldType(), null), allocator, callBack));
+  }
+
+  @Override
+  public TransferPair getTransferPair(Field field, BufferAllocator allocator, CallBack callBack) {
+    return new TransferImpl(createEmptyVector(field, allocator, callBack));
+  }
+
+  @Override
+  public TransferPair makeTransferPair(ValueVector target) {
+    return new TransferImpl((BaseListViewVector) target);
+  }
+
+  @Override
+  public long getValidityBufferAddress() {
+    return validityBuffer.memoryAddress();
+  }
+
+  @Override
+  public long getDataBufferAddress() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long getOffsetBufferAddress() {
+    return offsetBuffer.memoryAddress();
+  }
+
+  @Override
+  public ArrowBuf getValidityBuffer() {
+    return validityBuffer;
+  }
+
+  @Override
+  public ArrowBuf getDataBuffer() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ArrowBuf getOffsetBuffer() {
+    return offsetBuffer;
+  }
+
+  /**
+   * Get the buffer of the list sizes.
+   */
+  public ArrowBuf getSizeBuffer() {
+    return sizeBuffer;
+  }
+
+  @Override
+  public int getValueCount() {
+    return valueCount;
+  }
+
+  @Override
+  public int hashCode(int index) {
+    return hashCode(index, null);
+  }
+
+  @Override
+  public int hashCode(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    int hash = 0;
+    final int start = checkedCastToInt(getElementStartIndex(index));
+    final int end = checkedCastToInt(getElementEndIndex(index));
+    for (int i = start; i < end; i++) {
+      hash = ByteFunctionHelpers.combineHash(hash, vector.hashCode(i, hasher));
+    }
+    return hash;
+  }
+
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    long hash = 0;
+    final int start = checkedCastToInt(getElementStartIndex(index));
+    final int end = checkedCastToInt(getElementEndIndex(index));
+    for (int i = start; i < end; i++) {
+      hash = ByteFunctionHelpers.combineHash64(hash, vector.hashCode64(i, hasher));
+    }
+    return hash;
+  }
+
+  @Override
+  public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
+    return visitor.visit(this, value);
+  }
+
+  /**
+   * Transfer pair of list view vectors. The data vector is transferred as a whole, or split to the
+   * range of child elements referenced by the split lists.
+   */
+  protected class TransferImpl implements TransferPair {
+
+    BaseListViewVector to;
+    TransferPair dataTransferPair;
+
+    public TransferImpl(BaseListViewVector to) {
+      this.to = to;
+      if (to.getDataVector() instanceof ZeroVector) {
+        to.addOrGetVector(vector.getField().getFieldType());
+      }
+      dataTransferPair = getDataVector().makeTransferPair(to.getDataVector());
+    }
+
+    /**
+     * Transfer this vector'data to another vector. The memory associated
+     * with this vector is transferred to the allocator of target vector
+     * for accounting and management purposes.
+     */
+    @Override
+    public void transfer() {
+      to.clear();
+      dataTransferPair.transfer();
+      to.validityBuffer = transferBuffer(validityBuffer, to.allocator);
+      to.offsetBuffer = transferBuffer(offsetBuffer, to.allocator);
+      to.sizeBuffer = transferBuffer(sizeBuffer, to.allocator);
+      to.childEnd = childEnd;
+      if (valueCount > 0) {
+        to.setValueCount(valueCount);
+      }
+      clear();
+    }
+
+    /**
+     * Slice this vector at desired index and length and transfer the
+     * corresponding data to the target vector. Only the range of child elements referenced by
+     * the lists of the slice is transferred.
+     * @param startIndex start position of the split in source vector.
+     * @param length length of the split.
+     */
+    @Override
+    public void splitAndTransfer(int startIndex, int length) {
+      Preconditions.checkArgument(startIndex >= 0 && length >= 0 && startIndex + length <= valueCount,
+          "Invalid parameters startIndex: %s, length: %s for valueCount: %s", startIndex, length, valueCount);
+      long minStart = Long.MAX_VALUE;
+      long maxEnd = 0;
+      for (int i = startIndex; i < startIndex + length; i++) {
+        if (isSet(i) != 0 && getElementSize(i) > 0) {
+          minStart = Math.min(minStart, getElementStartIndex(i));
+          maxEnd = Math.max(maxEnd, getElementEndIndex(i));
+        }
+      }
+      if (minStart > maxEnd) {
+        minStart = maxEnd = 0;
+      }
+      to.clear();
+      to.offsetBuffer = to.allocateZeroedBuffer((long) length * getOffsetWidth());
+      to.sizeBuffer = to.allocateZeroedBuffer((long) length * getOffsetWidth());
+      for (int i = 0; i < length; i++) {
+        final long size = getElementSize(startIndex + i);
+        if (isSet(startIndex + i) != 0 && size > 0) {
+          to.setOffset(i, getElementStartIndex(startIndex + i) - minStart);
+          to.setSize(i, size);
+        }
+      }
+      splitAndTransferValidityBuffer(startIndex, length, to);
+      dataTransferPair.splitAndTransfer(checkedCastToInt(minStart), checkedCastToInt(maxEnd - minStart));
+      to.childEnd = maxEnd - minStart;
+      to.setValueCount(length);
+    }
+
+    /*
+     * transfer the validity.
+     */
+    private void splitAndTransferValidityBuffer(int startIndex, int length, BaseListViewVector target) {
+      int firstByteSource = BitVectorHelper.byteIndex(startIndex);
+      int lastByteSource = BitVectorHelper.byteIndex(valueCount - 1);
+      int byteSizeTarget = getValidityBufferSizeFromCount(length);
+      int offset = startIndex % 8;
+
+      if (length > 0) {
+        if (offset == 0) {
+          // slice
+          if (target.validityBuffer != null) {
+            target.validityBuffer.getReferenceManager().release();
+          }
+          target.validityBuffer = validityBuffer.slice(firstByteSource, byteSizeTarget);
+          target.validityBuffer.getReferenceManager().retain(1);
+        } else {
+          /* Copy data
+           * When the first bit starts from the middle of a byte (offset != 0),
+           * copy data from src BitVector.
+           * Each byte in the target is composed by a part in i-th byte,
+           * another part in (i+1)-th byte.
+           */
+          target.allocateValidityBuffer(byteSizeTarget);
+
+          for (int i = 0; i < byteSizeTarget - 1; i++) {
+            byte b1 = BitVectorHelper.getBitsFromCurrentByte(validityBuffer, firstByteSource + i, offset);
+            byte b2 = BitVectorHelper.getBitsFromNextByte(validityBuffer, firstByteSource + i + 1, offset);
+
+            target.validityBuffer.setByte(i, (b1 + b2));
+          }
+
+          /* Copying the last piece is done in the following manner:
+           * if the source vector has 1 or more bytes remaining, we copy
+           * the last piece as a byte formed by shifting data
+           * from the current byte and the next byte.
+           *
+           * if the source vector has no more bytes remaining
+           * (we are at the last byte), we copy the last piece as a byte
+           * by shifting data from the current byte.
+           */
+          if ((firstByteSource + byteSizeTarget - 1) < lastByteSource) {
+            byte b1 = BitVectorHelper.getBitsFromCurrentByte(validityBuffer,
+                firstByteSource + byteSizeTarget - 1, offset);
+            byte b2 = BitVectorHelper.getBitsFromNextByte(validityBuffer,
+                firstByteSource + byteSizeTarget, offset);
+
+            target.validityBuffer.setByte(byteSizeTarget - 1, b1 + b2);
+          } else {
+            byte b1 = BitVectorHelper.getBitsFromCurrentByte(validityBuffer,
+                firstByteSource + byteSizeTarget - 1, offset);
+            target.validityBuffer.setByte(byteSizeTarget - 1, b1);
+          }
+        }
+      }
+    }
+
+    @Override
+    public ValueVector getTo() {
+      return to;
+    }
+
+    @Override
+    public void copyValueSafe(int from, int to) {
+      this.to.copyFrom(from, to, BaseListViewVector.this);
+    }
+  }
+
+  @Override
+  protected FieldReader getReaderImpl() {
+    return new UnionListViewReader(this);
+  }
+
+  @Override
+  public UnionListViewReader getReader() {
+    reader = (UnionListViewReader) super.getReader();
+    return reader;
+  }
+
+  /**
+   * Initialize the data vector (and execute callback) if it hasn't already been done,
+   * returns the data vector.
+   */
+  public <T extends ValueVector> AddOrGetResult<T> addOrGetVector(FieldType fieldType) {
+    boolean created = false;
+    if (vector instanceof NullVector) {
+      vector = fieldType.createNewSingleVector(defaultDataVectorName, allocator, callBack);
+      // returned vector must have the same field
+      created = true;
+      if (callBack != null &&
+          // not a schema change if changing from ZeroVector to ZeroVector
+          (fieldType.getType().getTypeID() != ArrowType.ArrowTypeID.Null)) {
+        callBack.doWork();
+      }
+    }
+
+    if (vector.getField().getType().getTypeID() != fieldType.getType().getTypeID()) {
+      final String msg = String.format("Inner vector type mismatch. Requested type: [%s], actual type: [%s]",
+          fieldType.getType().getTypeID(), vector.getField().getType().getTypeID());
+      throw new SchemaChangeRuntimeException(msg);
+    }
+
+    invalidateReader();
+    return new AddOrGetResult<>((T) vector, created);
+  }
+
+  /**
+   * Get the size (number of bytes) of underlying buffers used by this
+   * vector.
+   * @return size of underlying buffers.
+   */
+  @Override
+  public int getBufferSize() {
+    if (valueCount == 0) {
+      return 0;
+    }
+    final int offsetAndSizeBufferSize = 2 * valueCount * getOffsetWidth();
+    final int validityBufferSize = getValidityBufferSizeFromCount(valueCount);
+    return offsetAndSizeBufferSize + validityBufferSize + vector.getBufferSize();
+  }
+
+  @Override
+  public int getBufferSizeFor(int valueCount) {
+    if (valueCount == 0) {
+      return 0;
+    }
+    long innerVectorValueCount = 0;
+    for (int i = 0; i < valueCount; i++) {
+      if (getElementSize(i) > 0) {
+        innerVectorValueCount = Math.max(innerVectorValueCount, getElementEndIndex(i));
+      }
+    }
+    return 2 * valueCount * getOffsetWidth() +
+        vector.getBufferSizeFor(checkedCastToInt(innerVectorValueCount)) +
+        getValidityBufferSizeFromCount(valueCount);
+  }
+
+  @Override
+  public Field getField() {
+    if (field.getChildren().contains(getDataVector().getField())) {
+      return field;
+    }
+    field = new Field(field.getName(), field.getFieldType(), Collections.singletonList(getDataVector().getField()));
+    return field;
+  }
+
+  @Override
+  public String getName() {
+    return field.getName();
+  }
+
+  @Override
+  public void clear() {
+    offsetBuffer = releaseBuffer(offsetBuffer);
+    sizeBuffer = releaseBuffer(sizeBuffer);
+    vector.clear();
+    valueCount = 0;
+    childEnd = 0;
+    super.clear();
+    validityBuffer = releaseBuffer(validityBuffer);
+  }
+
+  @Override
+  public void reset() {
+    offsetBuffer.setZero(0, offsetBuffer.capacity());
+    sizeBuffer.setZero(0, sizeBuffer.capacity());
+    vector.reset();
+    valueCount = 0;
+    childEnd = 0;
+    validityBuffer.setZero(0, validityBuffer.capacity());
+  }
+
+  /**
+   * Return the underlying buffers associated with this vector. Note that this doesn't
+   * impact the reference counts for this buffer so it only should be used for in-context
+   * access. Also note that this buffer changes regularly thus
+   * external classes shouldn't hold a reference to it (unless they change it).
+   *
+   * @param clear Whether to clear vector before returning; the buffers will still be refcounted
+   *              but the returned array will be the only reference to them
+   * @return The underlying {@link ArrowBuf buffers} that is used by this
+   *         vector instance.
+   */
+  @Override
+  public ArrowBuf[] getBuffers(boolean clear) {
+    setReaderAndWriterIndex();
+    final ArrowBuf[] buffers;
+    if (getBufferSize() == 0) {
+      buffers = new ArrowBuf[0];
+    } else {
+      List<ArrowBuf> list = new ArrayList<>();
+      list.add(offsetBuffer);
+      list.add(sizeBuffer);
+      list.add(validityBuffer);
+      list.addAll(Arrays.asList(vector.getBuffers(false)));
+      buffers = list.toArray(new ArrowBuf[list.size()]);
+    }
+    if (clear) {
+      for (ArrowBuf buffer : buffers) {
+        buffer.getReferenceManager().retain();
+      }
+      clear();
+    }
+    return buffers;
+  }
+
+  protected void invalidateReader() {
+    reader = null;
+  }
+
+  /**
+   * Get the element in the list view vector at a particular index.
+   * @param index position of the element
+   * @return Object at given position
+   */
+  @Override
+  public List<?> getObject(int index) {
+    if (isSet(index) == 0) {
+      return null;
+    }
+    final List<Object> vals = new JsonStringArrayList<>();
+    final int start = checkedCastToInt(getElementStartIndex(index));
+    final int end = checkedCastToInt(getElementEndIndex(index));
+    final ValueVector vv = getDataVector();
+    for (int i = start; i < end; i++) {
+      vals.add(vv.getObject(i));
+    }
+    return vals;
+  }
+
+  /**
+   * Check if element at given index is null.
+   *
+   * @param index position of element
+   * @return true if element at given index is null, false otherwise
+   */
+  @Override
+  public boolean isNull(int index) {
+    return (isSet(index) == 0);
+  }
+
+  /**
+   * Check if element at given index is empty list.
+   * @param index position of element
+   * @return true if element at given index is empty list or NULL, false otherwise
+   */
+  public boolean isEmpty(int index) {
+    return isNull(index) || getElementSize(index) == 0;
+  }
+
+  /**
+   * Same as {@link #isNull(int)}.
+   *
+   * @param index  position of element
+   * @return 1 if element at given index is not null, 0 otherwise
+   */
+  public int isSet(int index) {
+    final int byteIndex = index >> 3;
+    final byte b = validityBuffer.getByte(byteIndex);
+    final int bitIndex = index & 7;
+    return (b >> bitIndex) & 0x01;
+  }
+
+  /**
+   * Get the number of elements that are null in the vector.
+   *
+   * @return the number of null elements.
+   */
+  @Override
+  public int getNullCount() {
+    return BitVectorHelper.getNullCount(validityBuffer, valueCount);
+  }
+
+  /**
+   * Get the current value capacity for the vector.
+   * @return number of elements that vector can hold.
+   */
+  @Override
+  public int getValueCapacity() {
+    return Math.min(getOffsetBufferValueCapacity(), capAtMaxInt(validityBuffer.capacity() * 8));
+  }
+
+  private int getOffsetBufferValueCapacity() {
+    return capAtMaxInt(Math.min(offsetBuffer.capacity(), sizeBuffer.capacity()) / getOffsetWidth());
+  }
+
+  private void ensureCapacity(int index) {
+    while (index >= getValueCapacity()) {
+      reallocValidityOffsetAndSizeBuffers();
+    }
+  }
+
+  /**
+   * Sets the list at index to be not-null.  Reallocates validity buffer if index
+   * is larger than current capacity.
+   */
+  public void setNotNull(int index) {
+    ensureCapacity(index);
+    BitVectorHelper.setBit(validityBuffer, index);
+  }
+
+  /**
+   * Sets list at index to be null.
+   * @param index position in vector
+   */
+  public void setNull(int index) {
+    ensureCapacity(index);
+    BitVectorHelper.unsetBit(validityBuffer, index);
+    setOffset(index, 0);
+    setSize(index, 0);
+  }
+
+  /**
+   * Set the list at the given index to the given range of elements of the data vector. The range
+   * may overlap with the ranges of other lists.
+   *
+   * @param index index of the list
+   * @param offset position of the first element of the list in the data vector
+   * @param size number of elements of the list
+   */
+  public void setOffsetAndSize(int index, long offset, long size) {
+    Preconditions.checkArgument(offset >= 0 && size >= 0, "Invalid offset %s and size %s", offset, size);
+    ensureCapacity(index);
+    BitVectorHelper.setBit(validityBuffer, index);
+    setOffset(index, offset);
+    setSize(index, size);
+    if (size > 0) {
+      childEnd = Math.max(childEnd, offset + size);
+    }
+  }
+
+  /**
+   * Start a new value in the list view vector, the elements of which are appended after all the
+   * elements of the data vector referenced so far.
+   *
+   * @param index index of the value to start
+   * @return the position in the data vector of the first element of the list
+   */
+  public long startNewValue(int index) {
+    ensureCapacity(index);
+    BitVectorHelper.setBit(validityBuffer, index);
+    setOffset(index, childEnd);
+    setSize(index, 0);
+    return childEnd;
+  }
+
+  /**
+   * End the current value.
+   *
+   * @param index index of the value to end
+   * @param size  number of elements in the list that was written
+   */
+  public void endValue(int index, long size) {
+    setSize(index, size);
+    if (size > 0) {
+      childEnd = Math.max(childEnd, getElementStartIndex(index) + size);
+    }
+  }
+
+  /**
+   * Sets the value count for the vector. The value count of the data vector is set to cover all
+   * the elements referenced so far, and never reduced.
+   *
+   * @param valueCount   value count
+   */
+  @Override
+  public void setValueCount(int valueCount) {
+    this.valueCount = valueCount;
+    if (valueCount > 0) {
+      ensureCapacity(valueCount - 1);
+    }
+    vector.setValueCount(Math.max(checkedCastToInt(childEnd), vector.getValueCount()));
+  }
+}
@@ -111,18 +111,31 @@ public abstract class BaseRepeatedValueVector extends BaseValueVector implements
     vector.reAlloc();
   }
 
+  /**
+   * Trim the offset buffer to the offsets of the {@link #getValueCount()} lists, then the data
+   * vector to its own value count.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    offsetBuffer = trimBuffer(offsetBuffer, (long) (valueCount + 1) * OFFSET_WIDTH);
+    offsetAllocationSizeInBytes = offsetBuffer.capacity();
+    vector.trimToSize();
+  }
+
   protected void reallocOffsetBuffer() {
     final long currentBufferCapacity = offsetBuffer.capacity();
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (offsetAllocationSizeInBytes > 0) {
-        newAllocationSize = offsetAllocationSizeInBytes;
-      } else {
-        newAllocationSize = INITIAL_VALUE_ALLOCATION * OFFSET_WIDTH * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      newAllocationSize = computeGrowthBufferSize(currentBufferCapacity);
+    } else if (offsetAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(offsetAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(INITIAL_VALUE_ALLOCATION * OFFSET_WIDTH * 2);
     }
-
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     newAllocationSize = Math.min(newAllocationSize, (long) (OFFSET_WIDTH) * Integer.MAX_VALUE);
     assert newAllocationSize >= 1;
 
@@ -59,6 +59,7 @@ import org.apache.arrow.vector.util.JsonStringArrayList;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.SchemaChangeRuntimeException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /** A ListVector where every list value is of the same size. */
 public class FixedSizeListVector extends BaseValueVector implements BaseListVector, PromotableVector {
@@ -255,18 +256,31 @@ public class FixedSizeListVector extends BaseValueVector implements BaseListVect
     vector.reAlloc();
   }
 
+  /**
+   * Trim the validity buffer to the {@link #getValueCount()} lists, then the data vector to its own
+   * value count.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    validityBuffer = trimBuffer(validityBuffer, getValidityBufferSizeFromCount(valueCount));
+    validityAllocationSizeInBytes = checkedCastToInt(validityBuffer.capacity());
+    vector.trimToSize();
+  }
+
   private void reallocValidityBuffer() {
     final int currentBufferCapacity = checkedCastToInt(validityBuffer.capacity());
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (validityAllocationSizeInBytes > 0) {
-        newAllocationSize = validityAllocationSizeInBytes;
-      } else {
-        newAllocationSize = getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      newAllocationSize = computeGrowthBufferSize(currentBufferCapacity);
+    } else if (validityAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(validityAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2);
     }
-
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     assert newAllocationSize >= 1;
 
     if (newAllocationSize > MAX_ALLOCATION_SIZE) {
@@ -569,6 +583,38 @@ public class FixedSizeListVector extends BaseValueVector implements BaseListVect
     return hash;
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    long hash = 0;
+    for (int i = 0; i < listSize; i++) {
+      hash = ByteFunctionHelpers.combineHash64(hash, vector.hashCode64(index * listSize + i, hasher));
+    }
+    return hash;
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    // hash all the child elements of the range at once
+    final long[] childHashes = new long[count * listSize];
+    vector.hashAll(start * listSize, count * listSize, childHashes, hasher);
+
+    for (int i = 0; i < count; i++) {
+      if (isSet(start + i) == 0) {
+        out[i] = ArrowBufPointer.NULL_HASH_CODE;
+        continue;
+      }
+      long hash = 0;
+      for (int j = 0; j < listSize; j++) {
+        hash = ByteFunctionHelpers.combineHash64(hash, childHashes[i * listSize + j]);
+      }
+      out[i] = hash;
+    }
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
@@ -62,6 +62,7 @@ import org.apache.arrow.vector.util.JsonStringArrayList;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.SchemaChangeRuntimeException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * A list vector contains lists of a specific type of elements.  Its structure contains 3 elements.
@@ -379,8 +380,9 @@ public class LargeListVector extends BaseValueVector implements RepeatedValueVec
   }
 
   /**
-   * Resize the vector to increase the capacity. The internal behavior is to
-   * double the current value capacity.
+   * Resize the vector to increase the capacity. The new capacity is computed by the
+   * {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * value capacity; the data vector grows following its own growth policy.
    */
   @Override
   public void reAlloc() {
@@ -391,6 +393,23 @@ public class LargeListVector extends BaseValueVector implements RepeatedValueVec
     vector.reAlloc();
   }
 
+  /**
+   * Trim the validity and offset buffers to the {@link #getValueCount()} lists, then the data
+   * vector to its own value count.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount == 0) {
+      clear();
+      return;
+    }
+    validityBuffer = trimBuffer(validityBuffer, getValidityBufferSizeFromCount(valueCount));
+    validityAllocationSizeInBytes = checkedCastToInt(validityBuffer.capacity());
+    offsetBuffer = trimBuffer(offsetBuffer, (long) (valueCount + 1) * OFFSET_WIDTH);
+    offsetAllocationSizeInBytes = offsetBuffer.capacity();
+    vector.trimToSize();
+  }
+
   private void reallocValidityAndOffsetBuffers() {
     reallocOffsetBuffer();
     reallocValidityBuffer();
@@ -398,16 +417,14 @@ public class LargeListVector extends BaseValueVector implements RepeatedValueVec
 
   protected void reallocOffsetBuffer() {
     final long currentBufferCapacity = offsetBuffer.capacity();
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (offsetAllocationSizeInBytes > 0) {
-        newAllocationSize = offsetAllocationSizeInBytes;
-      } else {
-        newAllocationSize = INITIAL_VALUE_ALLOCATION * OFFSET_WIDTH * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      newAllocationSize = computeGrowthBufferSize(currentBufferCapacity);
+    } else if (offsetAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(offsetAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(INITIAL_VALUE_ALLOCATION * OFFSET_WIDTH * 2);
     }
-
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     newAllocationSize = Math.min(newAllocationSize, (long) (OFFSET_WIDTH) * Integer.MAX_VALUE);
     assert newAllocationSize >= 1;
 
@@ -425,15 +442,14 @@ public class LargeListVector extends BaseValueVector implements RepeatedValueVec
 
   private void reallocValidityBuffer() {
     final int currentBufferCapacity = checkedCastToInt(validityBuffer.capacity());
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (validityAllocationSizeInBytes > 0) {
-        newAllocationSize = validityAllocationSizeInBytes;
-      } else {
-        newAllocationSize = getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      newAllocationSize = computeGrowthBufferSize(currentBufferCapacity);
+    } else if (validityAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(validityAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2);
     }
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     assert newAllocationSize >= 1;
 
     if (newAllocationSize > MAX_ALLOCATION_SIZE) {
@@ -578,6 +594,47 @@ public class LargeListVector extends BaseValueVector implements RepeatedValueVec
     return hash;
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    long hash = 0;
+    final long start = offsetBuffer.getLong((long) index * OFFSET_WIDTH);
+    final long end = offsetBuffer.getLong(((long) index + 1L) * OFFSET_WIDTH);
+    for (long i = start; i < end; i++) {
+      hash = ByteFunctionHelpers.combineHash64(hash, vector.hashCode64(checkedCastToInt(i), hasher));
+    }
+    return hash;
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    if (count == 0) {
+      return;
+    }
+    // hash all the child elements of the range at once
+    final int childStart = checkedCastToInt(offsetBuffer.getLong((long) start * OFFSET_WIDTH));
+    final int childEnd = checkedCastToInt(offsetBuffer.getLong((long) (start + count) * OFFSET_WIDTH));
+    final long[] childHashes = new long[childEnd - childStart];
+    vector.hashAll(childStart, childEnd - childStart, childHashes, hasher);
+
+    for (int i = 0; i < count; i++) {
+      final int index = start + i;
+      if (isSet(index) == 0) {
+        out[i] = ArrowBufPointer.NULL_HASH_CODE;
+        continue;
+      }
+      long hash = 0;
+      final long end = offsetBuffer.getLong((long) (index + 1) * OFFSET_WIDTH);
+      for (long j = offsetBuffer.getLong((long) index * OFFSET_WIDTH); j < end; j++) {
+        hash = ByteFunctionHelpers.combineHash64(hash, childHashes[(int) (j - childStart)]);
+      }
+      out[i] = hash;
+    }
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
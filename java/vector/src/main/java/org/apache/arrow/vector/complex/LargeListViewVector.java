@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.util.CallBack;
+
+/**
+ * A list view vector with 64-bit offsets and sizes. See {@link BaseListViewVector} for the layout.
+ */
+public class LargeListViewVector extends BaseListViewVector {
+
+  public static final byte OFFSET_WIDTH = 8;
+  public static final byte SIZE_WIDTH = 8;
+
+  public static LargeListViewVector empty(String name, BufferAllocator allocator) {
+    return new LargeListViewVector(name, allocator, FieldType.nullable(ArrowType.LargeListView.INSTANCE), null);
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param name The name of the instance.
+   * @param allocator The allocator to use for allocating/reallocating buffers.
+   * @param fieldType The type of this list view.
+   * @param callBack A schema change callback.
+   */
+  public LargeListViewVector(String name, BufferAllocator allocator, FieldType fieldType, CallBack callBack) {
+    this(new Field(name, fieldType, null), allocator, callBack);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param field The field materialized by this vector.
+   * @param allocator The allocator to use for creating/reallocating buffers for the vector.
+   * @param callBack A schema change callback.
+   */
+  public LargeListViewVector(Field field, BufferAllocator allocator, CallBack callBack) {
+    super(field, allocator, callBack);
+  }
+
+  @Override
+  protected int getOffsetWidth() {
+    return OFFSET_WIDTH;
+  }
+
+  @Override
+  public long getElementStartIndex(int index) {
+    return offsetBuffer.getLong((long) index * OFFSET_WIDTH);
+  }
+
+  @Override
+  public long getElementSize(int index) {
+    return sizeBuffer.getLong((long) index * SIZE_WIDTH);
+  }
+
+  @Override
+  protected void setOffset(int index, long offset) {
+    offsetBuffer.setLong((long) index * OFFSET_WIDTH, offset);
+  }
+
+  @Override
+  protected void setSize(int index, long size) {
+    sizeBuffer.setLong((long) index * SIZE_WIDTH, size);
+  }
+
+  @Override
+  protected BaseListViewVector createEmptyVector(Field field, BufferAllocator allocator, CallBack callBack) {
+    return new LargeListViewVector(field, allocator, callBack);
+  }
+
+  @Override
+  public MinorType getMinorType() {
+    return MinorType.LARGELISTVIEW;
+  }
+}
@@ -56,6 +56,7 @@ import org.apache.arrow.vector.util.CallBack;
 import org.apache.arrow.vector.util.JsonStringArrayList;
 import org.apache.arrow.vector.util.OversizedAllocationException;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * A list vector contains lists of a specific type of elements.  Its structure contains 3 elements.
@@ -318,8 +319,9 @@ public class ListVector extends BaseRepeatedValueVector implements PromotableVec
   }
 
   /**
-   * Resize the vector to increase the capacity. The internal behavior is to
-   * double the current value capacity.
+   * Resize the vector to increase the capacity. The new capacity is computed by the
+   * {@link #getGrowthPolicy() growth policy} of the vector, which by default doubles the current
+   * value capacity; the data vector grows following its own growth policy.
    */
   @Override
   public void reAlloc() {
@@ -329,6 +331,19 @@ public class ListVector extends BaseRepeatedValueVector implements PromotableVec
     super.reAlloc();
   }
 
+  /**
+   * Trim the validity buffer to the {@link #getValueCount()} lists, then the offset buffer and the
+   * data vector.
+   */
+  @Override
+  public void trimToSize() {
+    if (valueCount > 0) {
+      validityBuffer = trimBuffer(validityBuffer, getValidityBufferSizeFromCount(valueCount));
+      validityAllocationSizeInBytes = checkedCastToInt(validityBuffer.capacity());
+    }
+    super.trimToSize();
+  }
+
   protected void reallocValidityAndOffsetBuffers() {
     reallocOffsetBuffer();
     reallocValidityBuffer();
@@ -336,15 +351,14 @@ public class ListVector extends BaseRepeatedValueVector implements PromotableVec
 
   private void reallocValidityBuffer() {
     final int currentBufferCapacity = checkedCastToInt(validityBuffer.capacity());
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (validityAllocationSizeInBytes > 0) {
-        newAllocationSize = validityAllocationSizeInBytes;
-      } else {
-        newAllocationSize = getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      newAllocationSize = computeGrowthBufferSize(currentBufferCapacity);
+    } else if (validityAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(validityAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(getValidityBufferSizeFromCount(INITIAL_VALUE_ALLOCATION) * 2);
     }
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     assert newAllocationSize >= 1;
 
     if (newAllocationSize > MAX_ALLOCATION_SIZE) {
@@ -472,6 +486,47 @@ public class ListVector extends BaseRepeatedValueVector implements PromotableVec
     return hash;
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    }
+    long hash = 0;
+    final int start = offsetBuffer.getInt(index * OFFSET_WIDTH);
+    final int end = offsetBuffer.getInt((index + 1) * OFFSET_WIDTH);
+    for (int i = start; i < end; i++) {
+      hash = ByteFunctionHelpers.combineHash64(hash, vector.hashCode64(i, hasher));
+    }
+    return hash;
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    if (count == 0) {
+      return;
+    }
+    // hash all the child elements of the range at once
+    final int childStart = offsetBuffer.getInt((long) start * OFFSET_WIDTH);
+    final int childEnd = offsetBuffer.getInt((long) (start + count) * OFFSET_WIDTH);
+    final long[] childHashes = new long[childEnd - childStart];
+    vector.hashAll(childStart, childEnd - childStart, childHashes, hasher);
+
+    for (int i = 0; i < count; i++) {
+      final int index = start + i;
+      if (isSet(index) == 0) {
+        out[i] = ArrowBufPointer.NULL_HASH_CODE;
+        continue;
+      }
+      long hash = 0;
+      final int end = offsetBuffer.getInt((long) (index + 1) * OFFSET_WIDTH);
+      for (int j = offsetBuffer.getInt((long) index * OFFSET_WIDTH); j < end; j++) {
+        hash = ByteFunctionHelpers.combineHash64(hash, childHashes[j - childStart]);
+      }
+      out[i] = hash;
+    }
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
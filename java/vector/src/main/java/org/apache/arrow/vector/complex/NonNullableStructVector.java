@@ -18,6 +18,7 @@
 package org.apache.arrow.vector.complex;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -42,6 +43,7 @@ import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.util.CallBack;
 import org.apache.arrow.vector.util.JsonStringHashMap;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.VectorBatchHasher;
 
 /**
  * A struct vector that has no null values (and no validity buffer).
@@ -384,6 +386,38 @@ public class NonNullableStructVector extends AbstractStructVector {
     return hash;
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    long hash = 0;
+    for (FieldVector v : getChildren()) {
+      if (index < v.getValueCount()) {
+        hash = ByteFunctionHelpers.combineHash64(hash, v.hashCode64(index, hasher));
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    VectorBatchHasher.checkHashRange(this, start, count, out);
+    Arrays.fill(out, 0, count, 0L);
+    long[] childHashes = null;
+    for (FieldVector v : getChildren()) {
+      // children may have fewer values than the struct
+      final int childCount = Math.min(count, Math.max(0, v.getValueCount() - start));
+      if (childCount == 0) {
+        continue;
+      }
+      if (childHashes == null) {
+        childHashes = new long[count];
+      }
+      v.hashAll(start, childCount, childHashes, hasher);
+      for (int i = 0; i < childCount; i++) {
+        out[i] = ByteFunctionHelpers.combineHash64(out[i], childHashes[i]);
+      }
+    }
+  }
+
   @Override
   public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
     return visitor.visit(this, value);
@@ -0,0 +1,520 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex;
+
+import static org.apache.arrow.memory.util.LargeMemoryUtil.capAtMaxInt;
+import static org.apache.arrow.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BaseValueVector;
+import org.apache.arrow.vector.BufferBacked;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.ZeroVector;
+import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.reader.FieldReader;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.util.CallBack;
+import org.apache.arrow.vector.util.TransferPair;
+
+/**
+ * A run-end encoded vector. It has no buffers of its own, only two children.
+ * <ol>
+ * <li>A run ends vector (16, 32 or 64 bit signed integers, no nulls) holding the strictly increasing
+ * logical end index (exclusive) of each run.</li>
+ * <li>A values vector holding the value of each run.</li>
+ * </ol>
+ *
+ * <p>The logical value at an index is found by a binary search on the run ends, so random access
+ * costs O(log(runs)). Nulls are stored as null runs in the values vector; as there is no validity
+ * buffer, {@link #getNullCount()} is always 0, while {@link #isNull(int)} reports the null runs.
+ *
+ * <p>Use {@link org.apache.arrow.vector.util.RunEndEncoder} to encode a plain vector or decode a
+ * run-end encoded one.
+ */
+public class RunEndEncodedVector extends BaseValueVector implements FieldVector {
+
+  public static final String RUN_ENDS_VECTOR_NAME = "run_ends";
+  public static final String VALUES_VECTOR_NAME = "values";
+
+  private Field field;
+  private final CallBack callBack;
+  private FieldVector runEndsVector;
+  private FieldVector valuesVector;
+  private int valueCount;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param name The name of the instance.
+   * @param allocator The allocator to use for allocating/reallocating buffers.
+   * @param fieldType The type of this vector.
+   * @param callBack A schema change callback.
+   */
+  public RunEndEncodedVector(String name, BufferAllocator allocator, FieldType fieldType, CallBack callBack) {
+    this(new Field(name, fieldType, null), allocator, callBack);
+  }
+
+  /**
+   * Creates a new instance. The children are created by {@link #initializeChildrenFromFields(List)}.
+   *
+   * @param field The field materialized by this vector.
+   * @param allocator The allocator to use for creating/reallocating buffers for the vector.
+   * @param callBack A schema change callback.
+   */
+  public RunEndEncodedVector(Field field, BufferAllocator allocator, CallBack callBack) {
+    super(allocator);
+    this.field = field;
+    this.callBack = callBack;
+    this.runEndsVector = ZeroVector.INSTANCE;
+    this.valuesVector = ZeroVector.INSTANCE;
+  }
+
+  /**
+   * Create the run ends and values children. The run ends field must be a non-nullable 16, 32 or
+   * 64 bit signed integer.
+   */
+  @Override
+  public void initializeChildrenFromFields(List<Field> children) {
+    checkArgument(children.size() == 2,
+        "Run-end encoded vectors have two child Fields. Found: %s", children.isEmpty() ? "none" : children);
+    checkArgument(runEndsVector instanceof ZeroVector && valuesVector instanceof ZeroVector,
+        "Children of %s were already initialized", field.getName());
+    Field runEndsField = children.get(0);
+    checkArgument(isValidRunEndType(runEndsField.getType()),
+        "Run ends must be 16, 32 or 64 bit signed integers, got %s", runEndsField.getType());
+
+    runEndsVector = runEndsField.createVector(allocator);
+    valuesVector = children.get(1).createVector(allocator);
+    if (callBack != null) {
+      callBack.doWork();
+    }
+    this.field = new Field(this.field.getName(), this.field.getFieldType(), children);
+  }
+
+  private static boolean isValidRunEndType(ArrowType type) {
+    if (!(type instanceof ArrowType.Int)) {
+      return false;
+    }
+    ArrowType.Int intType = (ArrowType.Int) type;
+    return intType.getIsSigned() && intType.getBitWidth() >= 16;
+  }
+
+  @Override
+  public List<FieldVector> getChildrenFromFields() {
+    return Arrays.asList(runEndsVector, valuesVector);
+  }
+
+  /**
+   * Get the vector of the run ends.
+   */
+  public FieldVector getRunEndsVector() {
+    return runEndsVector;
+  }
+
+  /**
+   * Get the vector of the run values.
+   */
+  public FieldVector getValuesVector() {
+    return valuesVector;
+  }
+
+  /**
+   * Get the number of runs.
+   */
+  public int getRunCount() {
+    return runEndsVector.getValueCount();
+  }
+
+  /**
+   * Get the logical end index (exclusive) of the given run.
+   *
+   * @param runIndex index of the run, i.e. physical index in the values vector
+   */
+  public long getRunEnd(int runIndex) {
+    return ((BaseIntVector) runEndsVector).getValueAsLong(runIndex);
+  }
+
+  /**
+   * Get the index in the values vector of the run containing the given logical index, by a binary
+   * search on the run ends.
+   *
+   * @param index logical index in this vector
+   * @return physical index in the values vector
+   */
+  public int getPhysicalIndex(int index) {
+    if (index < 0 || index >= valueCount) {
+      throw new IndexOutOfBoundsException(
+          String.format("index %s out of bounds for run-end encoded vector of length %s", index, valueCount));
+    }
+    int low = 0;
+    int high = getRunCount() - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (getRunEnd(mid) <= index) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Check that a logical length can be represented by the run ends, as writing larger run ends with
+   * {@link BaseIntVector#setWithPossibleTruncate(int, long)} would silently wrap them.
+   *
+   * @param length logical length of the vector
+   * @throws IllegalArgumentException if the length exceeds the largest value of the run ends type
+   */
+  public void checkLogicalLength(long length) {
+    if (!(runEndsVector.getField().getType() instanceof ArrowType.Int)) {
+      return;
+    }
+    final int bitWidth = ((ArrowType.Int) runEndsVector.getField().getType()).getBitWidth();
+    final long maxRunEnd = bitWidth == 16 ? Short.MAX_VALUE : bitWidth == 32 ? Integer.MAX_VALUE : Long.MAX_VALUE;
+    checkArgument(length <= maxRunEnd,
+        "Logical length %s exceeds the maximum run end %s of %s bit run ends", length, maxRunEnd, bitWidth);
+  }
+
+  @Override
+  public void loadFieldBuffers(ArrowFieldNode fieldNode, List<ArrowBuf> ownBuffers) {
+    if (!ownBuffers.isEmpty()) {
+      throw new IllegalArgumentException("Illegal buffer count, expected 0, got: " + ownBuffers.size());
+    }
+    valueCount = fieldNode.getLength();
+  }
+
+  @Override
+  public List<ArrowBuf> getFieldBuffers() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Get the inner vectors.
+   *
+   * @deprecated This API will be removed as the current implementations no longer support inner vectors.
+   *
+   * @return the inner vectors for this field as defined by the TypeLayout
+   */
+  @Deprecated
+  @Override
+  public List<BufferBacked> getFieldInnerVectors() {
+    throw new UnsupportedOperationException("There are no inner vectors. Use getFieldBuffers");
+  }
+
+  @Override
+  public void allocateNew() throws OutOfMemoryException {
+    if (!allocateNewSafe()) {
+      throw new OutOfMemoryException("Failure while allocating memory");
+    }
+  }
+
+  @Override
+  public boolean allocateNewSafe() {
+    boolean success = false;
+    try {
+      clear();
+      success = runEndsVector.allocateNewSafe() && valuesVector.allocateNewSafe();
+    } finally {
+      if (!success) {
+        clear();
+      }
+    }
+    return success;
+  }
+
+  @Override
+  public void reAlloc() {
+    runEndsVector.reAlloc();
+    valuesVector.reAlloc();
+  }
+
+  @Override
+  public void setInitialCapacity(int numRuns) {
+    runEndsVector.setInitialCapacity(numRuns);
+    valuesVector.setInitialCapacity(numRuns);
+  }
+
+  /**
+   * Get the logical number of values the runs allocated so far can hold.
+   */
+  @Override
+  public int getValueCapacity() {
+    int runs = getRunCount();
+    return runs == 0 ? 0 : capAtMaxInt(getRunEnd(runs - 1));
+  }
+
+  @Override
+  public void clear() {
+    runEndsVector.clear();
+    valuesVector.clear();
+    valueCount = 0;
+    super.clear();
+  }
+
+  @Override
+  public void reset() {
+    runEndsVector.reset();
+    valuesVector.reset();
+    valueCount = 0;
+  }
+
+  @Override
+  public Field getField() {
+    List<Field> children = Arrays.asList(runEndsVector.getField(), valuesVector.getField());
+    if (runEndsVector instanceof ZeroVector || field.getChildren().equals(children)) {
+      return field;
+    }
+    field = new Field(field.getName(), field.getFieldType(), children);
+    return field;
+  }
+
+  @Override
+  public MinorType getMinorType() {
+    return MinorType.RUNENDENCODED;
+  }
+
+  @Override
+  public String getName() {
+    return field.getName();
+  }
+
+  @Override
+  public TransferPair getTransferPair(String ref, BufferAllocator allocator) {
+    return getTransferPair(ref, allocator, null);
+  }
+
+  @Override
+  public TransferPair getTransferPair(Field field, BufferAllocator allocator) {
+    return getTransferPair(field, allocator, null);
+  }
+
+  @Override
+  public TransferPair getTransferPair(String ref, BufferAllocator allocator, CallBack callBack) {
+    return getTransferPair(new Field(ref, field.getFieldType(), null), allocator, callBack);
+  }
+
+  @Override
+  public TransferPair getTransferPair(Field field, BufferAllocator allocator, CallBack callBack) {
+    return new TransferImpl(new RunEndEncodedVector(field, allocator, callBack));
+  }
+
+  @Override
+  public TransferPair makeTransferPair(ValueVector target) {
+    return new TransferImpl((RunEndEncodedVector) target);
+  }
+
+  private class TransferImpl implements TransferPair {
+
+    private final RunEndEncodedVector to;
+    private final TransferPair runEndsTransferPair;
+    private final TransferPair valuesTransferPair;
+
+    TransferImpl(RunEndEncodedVector to) {
+      this.to = to;
+      if (to.runEndsVector instanceof ZeroVector && !(runEndsVector instanceof ZeroVector)) {
+        to.initializeChildrenFromFields(getField().getChildren());
+      }
+      runEndsTransferPair = runEndsVector.makeTransferPair(to.runEndsVector);
+      valuesTransferPair = valuesVector.makeTransferPair(to.valuesVector);
+    }
+
+    @Override
+    public void transfer() {
+      to.clear();
+      runEndsTransferPair.transfer();
+      valuesTransferPair.transfer();
+      to.valueCount = valueCount;
+      clear();
+    }
+
+    /**
+     * Transfer the runs covering the given logical range; the run ends are rewritten relative to
+     * the start of the range.
+     */
+    @Override
+    public void splitAndTransfer(int startIndex, int length) {
+      Preconditions.checkArgument(startIndex >= 0 && length >= 0 && startIndex + length <= valueCount,
+          "Invalid parameters startIndex: %s, length: %s for valueCount: %s", startIndex, length, valueCount);
+      to.clear();
+      if (length == 0) {
+        return;
+      }
+      to.checkLogicalLength(length);
+      final int firstRun = getPhysicalIndex(startIndex);
+      final int lastRun = getPhysicalIndex(startIndex + length - 1);
+      final int runCount = lastRun - firstRun + 1;
+      valuesTransferPair.splitAndTransfer(firstRun, runCount);
+
+      BaseIntVector toRunEnds = (BaseIntVector) to.runEndsVector;
+      to.runEndsVector.setInitialCapacity(runCount);
+      to.runEndsVector.allocateNew();
+      for (int i = 0; i < runCount; i++) {
+        toRunEnds.setWithPossibleTruncate(i, Math.min(getRunEnd(firstRun + i) - startIndex, length));
+      }
+      to.runEndsVector.setValueCount(runCount);
+      to.valueCount = length;
+    }
+
+    @Override
+    public ValueVector getTo() {
+      return to;
+    }
+
+    @Override
+    public void copyValueSafe(int from, int to) {
+      throw new UnsupportedOperationException("Run-end encoded vectors do not support copying single values");
+    }
+  }
+
+  @Override
+  protected FieldReader getReaderImpl() {
+    throw new UnsupportedOperationException("There is no reader for run-end encoded vectors");
+  }
+
+  @Override
+  public int getBufferSize() {
+    return runEndsVector.getBufferSize() + valuesVector.getBufferSize();
+  }
+
+  @Override
+  public int getBufferSizeFor(int valueCount) {
+    if (valueCount == 0) {
+      return 0;
+    }
+    int runCount = getPhysicalIndex(valueCount - 1) + 1;
+    return runEndsVector.getBufferSizeFor(runCount) + valuesVector.getBufferSizeFor(runCount);
+  }
+
+  @Override
+  public ArrowBuf[] getBuffers(boolean clear) {
+    List<ArrowBuf> list = new ArrayList<>();
+    list.addAll(Arrays.asList(runEndsVector.getBuffers(false)));
+    list.addAll(Arrays.asList(valuesVector.getBuffers(false)));
+    final ArrowBuf[] buffers = list.toArray(new ArrowBuf[list.size()]);
+    if (clear) {
+      for (ArrowBuf buffer : buffers) {
+        buffer.getReferenceManager().retain();
+      }
+      clear();
+    }
+    return buffers;
+  }
+
+  @Override
+  public ArrowBuf getValidityBuffer() {
+    throw new UnsupportedOperationException("Run-end encoded vectors have no validity buffer");
+  }
+
+  @Override
+  public ArrowBuf getDataBuffer() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ArrowBuf getOffsetBuffer() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long getValidityBufferAddress() {
+    throw new UnsupportedOperationException("Run-end encoded vectors have no validity buffer");
+  }
+
+  @Override
+  public long getDataBufferAddress() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long getOffsetBufferAddress() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getValueCount() {
+    return valueCount;
+  }
+
+  /**
+   * Set the logical length of this vector. The value counts of the children are the number of runs
+   * and must be set separately.
+   */
+  @Override
+  public void setValueCount(int valueCount) {
+    this.valueCount = valueCount;
+  }
+
+  @Override
+  public Object getObject(int index) {
+    return valuesVector.getObject(getPhysicalIndex(index));
+  }
+
+  /**
+   * Always 0, as run-end encoded vectors have no validity buffer. The nulls are in the values vector.
+   */
+  @Override
+  public int getNullCount() {
+    return 0;
+  }
+
+  @Override
+  public boolean isNull(int index) {
+    return valuesVector.isNull(getPhysicalIndex(index));
+  }
+
+  @Override
+  public void setNull(int index) {
+    throw new UnsupportedOperationException("Run-end encoded vectors cannot set single values, re-encode instead");
+  }
+
+  @Override
+  public int hashCode(int index) {
+    return hashCode(index, null);
+  }
+
+  @Override
+  public int hashCode(int index, ArrowBufHasher hasher) {
+    return valuesVector.hashCode(getPhysicalIndex(index), hasher);
+  }
+
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    return valuesVector.hashCode64(getPhysicalIndex(index), hasher);
+  }
+
+  @Override
+  public <OUT, IN> OUT accept(VectorVisitor<OUT, IN> visitor, IN value) {
+    return visitor.visit(this, value);
+  }
+}
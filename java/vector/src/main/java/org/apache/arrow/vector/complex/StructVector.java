@@ -516,17 +516,37 @@ public class StructVector extends NonNullableStructVector implements FieldVector
     super.reAlloc();
   }
 
+  /**
+   * Trim the validity buffer to the {@link #getValueCount()} values, then the child vectors to their
+   * own value counts.
+   */
+  @Override
+  public void trimToSize() {
+    final int size = BitVectorHelper.getValidityBufferSize(valueCount);
+    if (allocator.getRoundingPolicy().getRoundedSize(size) < validityBuffer.capacity()) {
+      final ArrowBuf newBuffer = allocator.buffer(size);
+      newBuffer.setBytes(0, validityBuffer, 0, size);
+      newBuffer.setZero(size, newBuffer.capacity() - size);
+      validityBuffer.getReferenceManager().release();
+      validityBuffer = newBuffer;
+      validityAllocationSizeInBytes = checkedCastToInt(newBuffer.capacity());
+    }
+    super.trimToSize();
+  }
+
   private void reallocValidityBuffer() {
     final int currentBufferCapacity = checkedCastToInt(validityBuffer.capacity());
-    long newAllocationSize = currentBufferCapacity * 2;
-    if (newAllocationSize == 0) {
-      if (validityAllocationSizeInBytes > 0) {
-        newAllocationSize = validityAllocationSizeInBytes;
-      } else {
-        newAllocationSize = BitVectorHelper.getValidityBufferSize(BaseValueVector.INITIAL_VALUE_ALLOCATION) * 2;
-      }
+    long newAllocationSize;
+    if (currentBufferCapacity > 0) {
+      // a struct vector has no growth policy of its own, the one of the allocator applies
+      newAllocationSize = allocator.getRoundingPolicy().getRoundedSize(
+          allocator.getGrowthPolicy().getGrowthSize(currentBufferCapacity, currentBufferCapacity + 1L));
+    } else if (validityAllocationSizeInBytes > 0) {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(validityAllocationSizeInBytes);
+    } else {
+      newAllocationSize = CommonUtil.nextPowerOfTwo(
+          BitVectorHelper.getValidityBufferSize(BaseValueVector.INITIAL_VALUE_ALLOCATION) * 2);
     }
-    newAllocationSize = CommonUtil.nextPowerOfTwo(newAllocationSize);
     assert newAllocationSize >= 1;
 
     if (newAllocationSize > BaseValueVector.MAX_ALLOCATION_SIZE) {
@@ -594,6 +614,25 @@ public class StructVector extends NonNullableStructVector implements FieldVector
     }
   }
 
+  @Override
+  public long hashCode64(int index, ArrowBufHasher hasher) {
+    if (isSet(index) == 0) {
+      return ArrowBufPointer.NULL_HASH_CODE;
+    } else {
+      return super.hashCode64(index, hasher);
+    }
+  }
+
+  @Override
+  public void hashAll(int start, int count, long[] out, ArrowBufHasher hasher) {
+    super.hashAll(start, count, out, hasher);
+    for (int i = 0; i < count; i++) {
+      if (isSet(start + i) == 0) {
+        out[i] = ArrowBufPointer.NULL_HASH_CODE;
+      }
+    }
+  }
+
   @Override
   public void get(int index, ComplexHolder holder) {
     holder.isSet = isSet(index);
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex.impl;
+
+import org.apache.arrow.vector.ViewVarBinaryVector;
+import org.apache.arrow.vector.complex.writer.VarBinaryWriter;
+import org.apache.arrow.vector.holders.NullableVarBinaryHolder;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.Field;
+
+/**
+ * Reader for a {@link ViewVarBinaryVector}. Values are read as VarBinary values.
+ */
+public class ViewVarBinaryReaderImpl extends AbstractFieldReader {
+
+  private final ViewVarBinaryVector vector;
+
+  public ViewVarBinaryReaderImpl(ViewVarBinaryVector vector) {
+    super();
+    this.vector = vector;
+  }
+
+  @Override
+  public MinorType getMinorType() {
+    return vector.getMinorType();
+  }
+
+  @Override
+  public Field getField() {
+    return vector.getField();
+  }
+
+  @Override
+  public boolean isSet() {
+    return !vector.isNull(idx());
+  }
+
+  @Override
+  public void copyAsValue(VarBinaryWriter writer) {
+    if (writer instanceof ViewVarBinaryWriterImpl) {
+      ViewVarBinaryWriterImpl impl = (ViewVarBinaryWriterImpl) writer;
+      impl.vector.copyFromSafe(idx(), impl.idx(), vector);
+    } else if (isSet()) {
+      NullableVarBinaryHolder holder = new NullableVarBinaryHolder();
+      read(holder);
+      writer.writeVarBinary(holder.start, holder.end, holder.buffer);
+    } else {
+      writer.writeNull();
+    }
+  }
+
+  @Override
+  public void read(NullableVarBinaryHolder h) {
+    vector.get(idx(), h);
+  }
+
+  @Override
+  public byte[] readByteArray() {
+    return vector.getObject(idx());
+  }
+
+  @Override
+  public Object readObject() {
+    return vector.getObject(idx());
+  }
+}
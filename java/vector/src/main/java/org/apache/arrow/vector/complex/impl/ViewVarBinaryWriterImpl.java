@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex.impl;
+
+import java.nio.ByteBuffer;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.ViewVarBinaryVector;
+import org.apache.arrow.vector.holders.NullableVarBinaryHolder;
+import org.apache.arrow.vector.holders.VarBinaryHolder;
+import org.apache.arrow.vector.types.pojo.Field;
+
+/**
+ * Writer for a {@link ViewVarBinaryVector}. Values are written as VarBinary values.
+ */
+public class ViewVarBinaryWriterImpl extends AbstractFieldWriter {
+
+  final ViewVarBinaryVector vector;
+
+  public ViewVarBinaryWriterImpl(ViewVarBinaryVector vector) {
+    this.vector = vector;
+  }
+
+  @Override
+  public Field getField() {
+    return vector.getField();
+  }
+
+  @Override
+  public int getValueCapacity() {
+    return vector.getValueCapacity();
+  }
+
+  @Override
+  public void allocate() {
+    vector.allocateNew();
+  }
+
+  @Override
+  public void close() {
+    vector.close();
+  }
+
+  @Override
+  public void clear() {
+    vector.clear();
+  }
+
+  @Override
+  protected int idx() {
+    return super.idx();
+  }
+
+  @Override
+  public void write(VarBinaryHolder h) {
+    vector.setSafe(idx(), h);
+    vector.setValueCount(idx() + 1);
+  }
+
+  public void write(NullableVarBinaryHolder h) {
+    vector.setSafe(idx(), h);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarBinary(int start, int end, ArrowBuf buffer) {
+    vector.setSafe(idx(), 1, start, end, buffer);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarBinary(byte[] value) {
+    vector.setSafe(idx(), value);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarBinary(byte[] value, int offset, int length) {
+    vector.setSafe(idx(), value, offset, length);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarBinary(ByteBuffer value) {
+    vector.setSafe(idx(), value, 0, value.remaining());
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarBinary(ByteBuffer value, int offset, int length) {
+    vector.setSafe(idx(), value, offset, length);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeNull() {
+    vector.setNull(idx());
+    vector.setValueCount(idx() + 1);
+  }
+}
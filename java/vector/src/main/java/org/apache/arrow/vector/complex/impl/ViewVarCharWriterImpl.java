@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.complex.impl;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.ViewVarCharVector;
+import org.apache.arrow.vector.holders.NullableVarCharHolder;
+import org.apache.arrow.vector.holders.VarCharHolder;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.Text;
+
+/**
+ * Writer for a {@link ViewVarCharVector}. Values are written as VarChar values.
+ */
+public class ViewVarCharWriterImpl extends AbstractFieldWriter {
+
+  final ViewVarCharVector vector;
+
+  private final Text textBuffer = new Text();
+
+  public ViewVarCharWriterImpl(ViewVarCharVector vector) {
+    this.vector = vector;
+  }
+
+  @Override
+  public Field getField() {
+    return vector.getField();
+  }
+
+  @Override
+  public int getValueCapacity() {
+    return vector.getValueCapacity();
+  }
+
+  @Override
+  public void allocate() {
+    vector.allocateNew();
+  }
+
+  @Override
+  public void close() {
+    vector.close();
+  }
+
+  @Override
+  public void clear() {
+    vector.clear();
+  }
+
+  @Override
+  protected int idx() {
+    return super.idx();
+  }
+
+  @Override
+  public void write(VarCharHolder h) {
+    vector.setSafe(idx(), h);
+    vector.setValueCount(idx() + 1);
+  }
+
+  public void write(NullableVarCharHolder h) {
+    vector.setSafe(idx(), h);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarChar(int start, int end, ArrowBuf buffer) {
+    vector.setSafe(idx(), 1, start, end, buffer);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarChar(Text value) {
+    vector.setSafe(idx(), value);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeVarChar(String value) {
+    textBuffer.set(value);
+    vector.setSafe(idx(), textBuffer);
+    vector.setValueCount(idx() + 1);
+  }
+
+  @Override
+  public void writeNull() {
+    vector.setNull(idx());
+    vector.setValueCount(idx() + 1);
+  }
+}
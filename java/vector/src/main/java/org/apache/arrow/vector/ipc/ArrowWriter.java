@@ -94,7 +94,7 @@ public abstract class ArrowWriter implements AutoCloseable {
         compressionLevel.isPresent() ?
             compressionFactory.createCodec(codecType, compressionLevel.get()) :
             compressionFactory.createCodec(codecType),
-        /*alignBuffers*/ true);
+        /*alignBuffers*/ true, option.omitValidityWhenNoNulls);
     this.out = new WriteChannel(out);
     this.option = option;
     this.dictionaryProvider = provider;
@@ -56,6 +56,12 @@ public class ArrowRecordBatch implements ArrowMessage {
 
   private final List<ArrowBuffer> buffersLayout;
 
+  /**
+   * For each variable width view field, in the same pre-order as the nodes, the number of its variadic
+   * data buffers.
+   */
+  private final List<Long> variadicBufferCounts;
+
   private boolean closed = false;
 
   public ArrowRecordBatch(
@@ -98,12 +104,33 @@ public class ArrowRecordBatch implements ArrowMessage {
   public ArrowRecordBatch(
       int length, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers,
       ArrowBodyCompression bodyCompression, boolean alignBuffers, boolean retainBuffers) {
+    this(length, nodes, buffers, bodyCompression, Collections.emptyList(), alignBuffers, retainBuffers);
+  }
+
+  /**
+   * Construct a record batch from nodes.
+   *
+   * @param length  how many rows in this batch
+   * @param nodes   field level info
+   * @param buffers will be retained until this recordBatch is closed
+   * @param bodyCompression compression info.
+   * @param variadicBufferCounts the number of variadic data buffers of each variable width view field,
+   *                             in the order of the nodes.
+   * @param alignBuffers Whether to align buffers to an 8 byte boundary.
+   * @param retainBuffers Whether to retain() each source buffer in the constructor. If false, the caller is
+   *                      responsible for retaining the buffers beforehand.
+   */
+  public ArrowRecordBatch(
+      int length, List<ArrowFieldNode> nodes, List<ArrowBuf> buffers,
+      ArrowBodyCompression bodyCompression, List<Long> variadicBufferCounts, boolean alignBuffers,
+      boolean retainBuffers) {
     super();
     this.length = length;
     this.nodes = nodes;
     this.buffers = buffers;
     Preconditions.checkArgument(bodyCompression != null, "body compression cannot be null");
     this.bodyCompression = bodyCompression;
+    this.variadicBufferCounts = Preconditions.checkNotNull(variadicBufferCounts, "variadic buffer counts");
     List<ArrowBuffer> arrowBuffers = new ArrayList<>(buffers.size());
     long offset = 0;
     for (ArrowBuf arrowBuf : buffers) {
@@ -129,12 +156,13 @@ public class ArrowRecordBatch implements ArrowMessage {
   // to distinguish this from the public constructor.
   private ArrowRecordBatch(
       boolean dummy, int length, List<ArrowFieldNode> nodes,
-      List<ArrowBuf> buffers, ArrowBodyCompression bodyCompression) {
+      List<ArrowBuf> buffers, ArrowBodyCompression bodyCompression, List<Long> variadicBufferCounts) {
     this.length = length;
     this.nodes = nodes;
     this.buffers = buffers;
     Preconditions.checkArgument(bodyCompression != null, "body compression cannot be null");
     this.bodyCompression = bodyCompression;
+    this.variadicBufferCounts = variadicBufferCounts;
     this.closed = false;
     List<ArrowBuffer> arrowBuffers = new ArrayList<>();
     long offset = 0;
@@ -167,6 +195,15 @@ public class ArrowRecordBatch implements ArrowMessage {
     return nodes;
   }
 
+  /**
+   * Get the number of variadic data buffers of each variable width view field.
+   *
+   * @return the counts, in the pre-order of the flattened schema, empty if there is no such field
+   */
+  public List<Long> getVariadicBufferCounts() {
+    return variadicBufferCounts;
+  }
+
   /**
    * Get the record batch buffers.
    *
@@ -195,7 +232,7 @@ public class ArrowRecordBatch implements ArrowMessage {
             .writerIndex(buf.writerIndex()))
         .collect(Collectors.toList());
     close();
-    return new ArrowRecordBatch(false, length, nodes, newBufs, bodyCompression);
+    return new ArrowRecordBatch(false, length, nodes, newBufs, bodyCompression, variadicBufferCounts);
   }
 
   /**
@@ -217,6 +254,14 @@ public class ArrowRecordBatch implements ArrowMessage {
     if (bodyCompression.getCodec() != NoCompressionCodec.COMPRESSION_TYPE) {
       compressOffset = bodyCompression.writeTo(builder);
     }
+    int variadicBufferCountsOffset = 0;
+    if (!variadicBufferCounts.isEmpty()) {
+      long[] counts = new long[variadicBufferCounts.size()];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = variadicBufferCounts.get(i);
+      }
+      variadicBufferCountsOffset = RecordBatch.createVariadicBufferCountsVector(builder, counts);
+    }
     RecordBatch.startRecordBatch(builder);
     RecordBatch.addLength(builder, length);
     RecordBatch.addNodes(builder, nodesOffset);
@@ -224,6 +269,9 @@ public class ArrowRecordBatch implements ArrowMessage {
     if (bodyCompression.getCodec() != NoCompressionCodec.COMPRESSION_TYPE) {
       RecordBatch.addCompression(builder, compressOffset);
     }
+    if (variadicBufferCountsOffset != 0) {
+      RecordBatch.addVariadicBufferCounts(builder, variadicBufferCountsOffset);
+    }
     return RecordBatch.endRecordBatch(builder);
   }
 
@@ -248,7 +296,8 @@ public class ArrowRecordBatch implements ArrowMessage {
   @Override
   public String toString() {
     return "ArrowRecordBatch [length=" + length + ", nodes=" + nodes + ", #buffers=" + buffers.size() +
-      ", buffersLayout=" + buffersLayout + ", closed=" + closed + "]";
+      ", variadicBufferCounts=" + variadicBufferCounts + ", buffersLayout=" + buffersLayout +
+      ", closed=" + closed + "]";
   }
 
   /**
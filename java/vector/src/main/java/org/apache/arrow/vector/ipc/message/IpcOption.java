@@ -31,13 +31,28 @@ public class IpcOption {
   // The metadata version. Defaults to V5.
   public final MetadataVersion metadataVersion;
 
+  // Write empty validity buffers for the vectors without nulls, as the format allows. Defaults to false.
+  public final boolean omitValidityWhenNoNulls;
+
   public IpcOption() {
     this(false, MetadataVersion.DEFAULT);
   }
 
   public IpcOption(boolean writeLegacyIpcFormat, MetadataVersion metadataVersion) {
+    this(writeLegacyIpcFormat, metadataVersion, false);
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param writeLegacyIpcFormat whether to write the pre-0.15.0 encapsulated IPC message format
+   * @param metadataVersion the metadata version
+   * @param omitValidityWhenNoNulls whether to write empty validity buffers for the vectors without nulls
+   */
+  public IpcOption(boolean writeLegacyIpcFormat, MetadataVersion metadataVersion, boolean omitValidityWhenNoNulls) {
     this.write_legacy_ipc_format = writeLegacyIpcFormat;
     this.metadataVersion = metadataVersion;
+    this.omitValidityWhenNoNulls = omitValidityWhenNoNulls;
   }
 
   public static final IpcOption DEFAULT = new IpcOption();
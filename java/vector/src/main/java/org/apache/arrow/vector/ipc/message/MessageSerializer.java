@@ -431,11 +431,17 @@ public class MessageSerializer {
         NoCompressionCodec.DEFAULT_BODY_COMPRESSION
         : new ArrowBodyCompression(recordBatchFB.compression().codec(), recordBatchFB.compression().method());
 
+    List<Long> variadicBufferCounts = new ArrayList<>(recordBatchFB.variadicBufferCountsLength());
+    for (int i = 0; i < recordBatchFB.variadicBufferCountsLength(); ++i) {
+      variadicBufferCounts.add(recordBatchFB.variadicBufferCounts(i));
+    }
+
     if ((int) recordBatchFB.length() != recordBatchFB.length()) {
       throw new IOException("Cannot currently deserialize record batches with more than INT_MAX records.");
     }
     ArrowRecordBatch arrowRecordBatch =
-        new ArrowRecordBatch(checkedCastToInt(recordBatchFB.length()), nodes, buffers, bodyCompression);
+        new ArrowRecordBatch(checkedCastToInt(recordBatchFB.length()), nodes, buffers, bodyCompression,
+            variadicBufferCounts, /*alignBuffers*/ true, /*retainBuffers*/ true);
     body.getReferenceManager().release();
     return arrowRecordBatch;
   }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.ForeignAllocation;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+
+/**
+ * Utility methods to build vectors over memory that is not allocated by Arrow, without copying it.
+ *
+ * <p>The memory is wrapped with {@link BufferAllocator#wrapForeignAllocation(ForeignAllocation)} on the
+ * allocator of the vector, so it is accounted like any other buffer of the vector. The release callback
+ * is invoked once the vector (and any vector the buffers were transferred to) is closed, or right away
+ * if the memory cannot be wrapped.
+ *
+ * <p>The memory must be laid out as the Arrow format specifies for the type of the vector, in the
+ * native byte order. When the validity buffer is omitted, all the values are non-null and a validity
+ * buffer is allocated.
+ */
+public class ForeignMemoryUtility {
+
+  private ForeignMemoryUtility() {
+  }
+
+  /**
+   * Load buffers into a fixed width vector, e.g. buffers wrapping foreign allocations.
+   *
+   * <p>The vector takes its own references on the buffers, so the caller must still close its own.
+   *
+   * @param vector the vector to load, whose previous content is released.
+   * @param valueCount the number of values.
+   * @param validityBuffer the validity buffer, or null if all the values are non-null.
+   * @param dataBuffer the data buffer.
+   * @return the vector.
+   */
+  public static <V extends BaseFixedWidthVector> V wrap(
+      V vector, int valueCount, ArrowBuf validityBuffer, ArrowBuf dataBuffer) {
+    final long dataSize = vector instanceof BitVector ?
+        BitVectorHelper.getValidityBufferSize(valueCount) : (long) valueCount * vector.getTypeWidth();
+    Preconditions.checkArgument(dataBuffer.capacity() >= dataSize,
+        "The data buffer has %s bytes, expected at least %s", dataBuffer.capacity(), dataSize);
+    vector.loadFieldBuffers(newFieldNode(valueCount, validityBuffer), Arrays.asList(validityBuffer, dataBuffer));
+    return vector;
+  }
+
+  /**
+   * Build a fixed width vector over the remaining bytes of a direct byte buffer, without copying them.
+   *
+   * @param vector the vector to load, whose previous content is released.
+   * @param valueCount the number of values, all non-null.
+   * @param data the direct byte buffer with the values.
+   * @param release called once when the memory is no longer used by Arrow. May be null.
+   * @return the vector.
+   */
+  public static <V extends BaseFixedWidthVector> V wrap(V vector, int valueCount, ByteBuffer data, Runnable release) {
+    try (ArrowBuf dataBuffer = wrapForeign(vector.getAllocator(), r -> ForeignAllocation.of(data, r), release)) {
+      return wrap(vector, valueCount, null, dataBuffer);
+    }
+  }
+
+  /**
+   * Build a fixed width vector over a region of memory, without copying it.
+   *
+   * @param vector the vector to load, whose previous content is released.
+   * @param valueCount the number of values, all non-null.
+   * @param address the address of the values.
+   * @param size the size of the region.
+   * @param release called once when the memory is no longer used by Arrow. May be null.
+   * @return the vector.
+   */
+  public static <V extends BaseFixedWidthVector> V wrap(
+      V vector, int valueCount, long address, long size, Runnable release) {
+    try (ArrowBuf dataBuffer =
+             wrapForeign(vector.getAllocator(), r -> ForeignAllocation.of(address, size, r), release)) {
+      return wrap(vector, valueCount, null, dataBuffer);
+    }
+  }
+
+  /**
+   * Load buffers into a variable width vector, e.g. buffers wrapping foreign allocations.
+   *
+   * <p>The vector takes its own references on the buffers, so the caller must still close its own.
+   *
+   * @param vector the vector to load, whose previous content is released.
+   * @param valueCount the number of values.
+   * @param validityBuffer the validity buffer, or null if all the values are non-null.
+   * @param offsetBuffer the offset buffer, with valueCount + 1 offsets.
+   * @param dataBuffer the data buffer.
+   * @return the vector.
+   */
+  public static <V extends BaseVariableWidthVector> V wrap(
+      V vector, int valueCount, ArrowBuf validityBuffer, ArrowBuf offsetBuffer, ArrowBuf dataBuffer) {
+    final long offsetSize = (long) (valueCount + 1) * BaseVariableWidthVector.OFFSET_WIDTH;
+    Preconditions.checkArgument(offsetBuffer.capacity() >= offsetSize,
+        "The offset buffer has %s bytes, expected at least %s", offsetBuffer.capacity(), offsetSize);
+    final int dataSize = offsetBuffer.getInt((long) valueCount * BaseVariableWidthVector.OFFSET_WIDTH);
+    Preconditions.checkArgument(dataBuffer.capacity() >= dataSize,
+        "The data buffer has %s bytes, expected at least %s", dataBuffer.capacity(), dataSize);
+    vector.loadFieldBuffers(newFieldNode(valueCount, validityBuffer),
+        Arrays.asList(validityBuffer, offsetBuffer, dataBuffer));
+    return vector;
+  }
+
+  /**
+   * Build a variable width vector over the remaining bytes of two direct byte buffers, without
+   * copying them.
+   *
+   * @param vector the vector to load, whose previous content is released.
+   * @param valueCount the number of values, all non-null.
+   * @param offsets the direct byte buffer with the valueCount + 1 offsets.
+   * @param data the direct byte buffer with the values.
+   * @param release called once when both byte buffers are no longer used by Arrow. May be null.
+   * @return the vector.
+   */
+  public static <V extends BaseVariableWidthVector> V wrap(
+      V vector, int valueCount, ByteBuffer offsets, ByteBuffer data, Runnable release) {
+    final Runnable releaseBoth = release == null ? null : releaseAfter(2, release);
+    final BufferAllocator allocator = vector.getAllocator();
+    ArrowBuf offsetBuffer = null;
+    ArrowBuf dataBuffer = null;
+    try {
+      offsetBuffer = wrapForeign(allocator, r -> ForeignAllocation.of(offsets, r), releaseBoth);
+    } catch (RuntimeException e) {
+      // the data byte buffer is not wrapped either
+      if (releaseBoth != null) {
+        releaseBoth.run();
+      }
+      throw e;
+    }
+    try {
+      dataBuffer = wrapForeign(allocator, r -> ForeignAllocation.of(data, r), releaseBoth);
+      return wrap(vector, valueCount, null, offsetBuffer, dataBuffer);
+    } finally {
+      AutoCloseables.closeNoChecked(dataBuffer);
+      AutoCloseables.closeNoChecked(offsetBuffer);
+    }
+  }
+
+  /**
+   * Wrap a foreign allocation, running the release callback exactly once if it cannot be wrapped.
+   * Depending on where the allocator fails, it may already have released the allocation itself, so
+   * the callback is guarded to only run on the first call.
+   */
+  private static ArrowBuf wrapForeign(
+      BufferAllocator allocator, Function<Runnable, ForeignAllocation> allocation, Runnable release) {
+    final Runnable releaseOnce = release == null ? null : releaseOnce(release);
+    try {
+      return allocator.wrapForeignAllocation(allocation.apply(releaseOnce));
+    } catch (RuntimeException e) {
+      if (releaseOnce != null) {
+        releaseOnce.run();
+      }
+      throw e;
+    }
+  }
+
+  private static Runnable releaseOnce(Runnable release) {
+    final AtomicBoolean released = new AtomicBoolean();
+    return () -> {
+      if (released.compareAndSet(false, true)) {
+        release.run();
+      }
+    };
+  }
+
+  private static ArrowFieldNode newFieldNode(int valueCount, ArrowBuf validityBuffer) {
+    Preconditions.checkArgument(valueCount >= 0, "valueCount must not be negative");
+    final int nullCount = validityBuffer == null ? 0 : BitVectorHelper.getNullCount(validityBuffer, valueCount);
+    return new ArrowFieldNode(valueCount, nullCount);
+  }
+
+  private static Runnable releaseAfter(int count, Runnable release) {
+    final AtomicInteger remaining = new AtomicInteger(count);
+    return () -> {
+      if (remaining.decrementAndGet() == 0) {
+        release.run();
+      }
+    };
+  }
+}
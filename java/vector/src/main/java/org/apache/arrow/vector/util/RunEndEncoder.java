@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.util.Arrays;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.compare.Range;
+import org.apache.arrow.vector.compare.RangeEqualsVisitor;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+
+/**
+ * Encoder/decoder for {@link RunEndEncodedVector}. Encoding collapses each run of consecutive equal
+ * values (including runs of nulls) into a single value and the logical index where the run ends.
+ */
+public class RunEndEncoder {
+
+  private RunEndEncoder() {
+  }
+
+  /**
+   * Run-end encodes a vector with 32-bit run ends.
+   *
+   * @param vector vector to encode
+   * @param allocator allocator for the encoded vector
+   * @return run-end encoded vector, with the same name as the source vector
+   */
+  public static RunEndEncodedVector encode(ValueVector vector, BufferAllocator allocator) {
+    return encode(vector, new ArrowType.Int(32, true), allocator);
+  }
+
+  /**
+   * Run-end encodes a vector.
+   *
+   * @param vector vector to encode
+   * @param runEndType type of the run ends, a 16, 32 or 64 bit signed integer
+   * @param allocator allocator for the encoded vector
+   * @return run-end encoded vector, with the same name as the source vector
+   */
+  public static RunEndEncodedVector encode(ValueVector vector, ArrowType.Int runEndType, BufferAllocator allocator) {
+    final Field sourceField = vector.getField();
+    final Field runEndsField = new Field(RunEndEncodedVector.RUN_ENDS_VECTOR_NAME,
+        FieldType.notNullable(runEndType), null);
+    final Field valuesField = new Field(RunEndEncodedVector.VALUES_VECTOR_NAME,
+        sourceField.getFieldType(), sourceField.getChildren());
+    final Field field = new Field(sourceField.getName(),
+        new FieldType(sourceField.isNullable(), ArrowType.RunEndEncoded.INSTANCE, null),
+        Arrays.asList(runEndsField, valuesField));
+
+    final RunEndEncodedVector encoded = (RunEndEncodedVector) field.createVector(allocator);
+    try {
+      final BaseIntVector runEnds = (BaseIntVector) encoded.getRunEndsVector();
+      final FieldVector values = encoded.getValuesVector();
+      encoded.allocateNew();
+      final int valueCount = vector.getValueCount();
+      encoded.checkLogicalLength(valueCount);
+      if (valueCount > 0) {
+        final TransferPair copier = vector.makeTransferPair(values);
+        final RangeEqualsVisitor visitor = new RangeEqualsVisitor(vector, vector, (v1, v2) -> true);
+        final Range range = new Range(0, 0, 1);
+        int runCount = 0;
+        for (int i = 1; i <= valueCount; i++) {
+          if (i == valueCount || !visitor.rangeEquals(range.setLeftStart(i - 1).setRightStart(i))) {
+            copier.copyValueSafe(i - 1, runCount);
+            runEnds.setWithPossibleTruncate(runCount, i);
+            runCount++;
+          }
+        }
+        runEnds.setValueCount(runCount);
+        values.setValueCount(runCount);
+      } else {
+        runEnds.setValueCount(0);
+        values.setValueCount(0);
+      }
+      encoded.setValueCount(valueCount);
+      return encoded;
+    } catch (RuntimeException e) {
+      encoded.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Decodes a run-end encoded vector, expanding every run.
+   *
+   * @param vector run-end encoded vector
+   * @param allocator allocator for the decoded vector
+   * @return decoded vector, with the same name and the type of the values of the encoded vector
+   */
+  public static FieldVector decode(RunEndEncodedVector vector, BufferAllocator allocator) {
+    final FieldVector values = vector.getValuesVector();
+    final TransferPair copier = values.getTransferPair(vector.getName(), allocator);
+    final FieldVector decoded = (FieldVector) copier.getTo();
+    try {
+      decoded.setInitialCapacity(vector.getValueCount());
+      decoded.allocateNew();
+      int start = 0;
+      for (int run = 0; run < vector.getRunCount() && start < vector.getValueCount(); run++) {
+        final int end = (int) Math.min(vector.getRunEnd(run), vector.getValueCount());
+        for (int i = start; i < end; i++) {
+          copier.copyValueSafe(run, i);
+        }
+        start = end;
+      }
+      decoded.setValueCount(vector.getValueCount());
+      return decoded;
+    } catch (RuntimeException e) {
+      decoded.close();
+      throw e;
+    }
+  }
+}
@@ -24,20 +24,25 @@ import java.util.HashSet;
 import org.apache.arrow.memory.util.MemoryUtil;
 import org.apache.arrow.util.Preconditions;
 import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseIntVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.BitVector;
 import org.apache.arrow.vector.BitVectorHelper;
 import org.apache.arrow.vector.ExtensionTypeVector;
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.compare.TypeEqualsVisitor;
 import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 
 /**
@@ -151,6 +156,26 @@ public class VectorAppender implements VectorVisitor<ValueVector, Void> {
     return targetVector;
   }
 
+  @Override
+  public ValueVector visit(BaseVariableWidthViewVector deltaVector, Void value) {
+    Preconditions.checkArgument(targetVector.getField().getType().equals(deltaVector.getField().getType()),
+            "The targetVector to append must have the same type as the targetVector being appended");
+
+    if (deltaVector.getValueCount() == 0) {
+      return targetVector; // nothing to append, return
+    }
+
+    int targetValueCount = targetVector.getValueCount();
+    int newValueCount = targetValueCount + deltaVector.getValueCount();
+
+    // views are copied one by one, as the buffer indices of the data of the delta vector change
+    for (int i = 0; i < deltaVector.getValueCount(); i++) {
+      targetVector.copyFromSafe(i, targetValueCount + i, deltaVector);
+    }
+    targetVector.setValueCount(newValueCount);
+    return targetVector;
+  }
+
   @Override
   public ValueVector visit(BaseLargeVariableWidthVector deltaVector, Void value) {
     Preconditions.checkArgument(targetVector.getField().getType().equals(deltaVector.getField().getType()),
@@ -316,6 +341,69 @@ public class VectorAppender implements VectorVisitor<ValueVector, Void> {
     return targetVector;
   }
 
+  @Override
+  public ValueVector visit(BaseListViewVector deltaVector, Void value) {
+    Preconditions.checkArgument(typeVisitor.equals(deltaVector),
+            "The targetVector to append must have the same type as the targetVector being appended");
+
+    if (deltaVector.getValueCount() == 0) {
+      return targetVector; // nothing to append, return
+    }
+
+    int newValueCount = targetVector.getValueCount() + deltaVector.getValueCount();
+    BaseListViewVector targetListViewVector = (BaseListViewVector) targetVector;
+    int targetChildCount = targetListViewVector.getDataVector().getValueCount();
+
+    // append underlying vectors, the delta lists then start after the target child elements
+    VectorAppender innerAppender = new VectorAppender(targetListViewVector.getDataVector());
+    deltaVector.getDataVector().accept(innerAppender, null);
+
+    // append validity, offsets and sizes
+    for (int i = 0; i < deltaVector.getValueCount(); i++) {
+      int index = targetVector.getValueCount() + i;
+      if (deltaVector.isNull(i)) {
+        targetListViewVector.setNull(index);
+      } else {
+        targetListViewVector.setOffsetAndSize(index,
+            targetChildCount + deltaVector.getElementStartIndex(i), deltaVector.getElementSize(i));
+      }
+    }
+
+    targetVector.setValueCount(newValueCount);
+    return targetVector;
+  }
+
+  @Override
+  public ValueVector visit(RunEndEncodedVector deltaVector, Void value) {
+    Preconditions.checkArgument(typeVisitor.equals(deltaVector),
+            "The targetVector to append must have the same type as the targetVector being appended");
+
+    if (deltaVector.getValueCount() == 0) {
+      return targetVector; // nothing to append, return
+    }
+
+    RunEndEncodedVector targetRunEndVector = (RunEndEncodedVector) targetVector;
+    int targetLength = targetRunEndVector.getValueCount();
+    int targetRunCount = targetRunEndVector.getRunCount();
+    int deltaLength = deltaVector.getValueCount();
+    int deltaRunCount = deltaVector.getPhysicalIndex(deltaLength - 1) + 1;
+    targetRunEndVector.checkLogicalLength((long) targetLength + deltaLength);
+
+    // append the runs covering the delta vector, shifting their ends by the target length
+    FieldVector targetValues = targetRunEndVector.getValuesVector();
+    BaseIntVector targetRunEnds = (BaseIntVector) targetRunEndVector.getRunEndsVector();
+    for (int i = 0; i < deltaRunCount; i++) {
+      targetValues.copyFromSafe(i, targetRunCount + i, deltaVector.getValuesVector());
+      targetRunEnds.setWithPossibleTruncate(targetRunCount + i,
+          targetLength + Math.min(deltaVector.getRunEnd(i), deltaLength));
+    }
+    targetValues.setValueCount(targetRunCount + deltaRunCount);
+    targetRunEnds.setValueCount(targetRunCount + deltaRunCount);
+
+    targetVector.setValueCount(targetLength + deltaLength);
+    return targetVector;
+  }
+
   @Override
   public ValueVector visit(FixedSizeListVector deltaVector, Void value) {
     Preconditions.checkArgument(typeVisitor.equals(deltaVector),
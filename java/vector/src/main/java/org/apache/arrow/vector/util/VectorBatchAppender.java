@@ -17,6 +17,11 @@
 
 package org.apache.arrow.vector.util;
 
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.ValueVector;
 
 /**
@@ -36,4 +41,28 @@ public class VectorBatchAppender {
       delta.accept(appender, null);
     }
   }
+
+  /**
+   * Concatenates vectors of the same type into a new vector.
+   * The output buffers are allocated once, with their exact sizes.
+   * @param vectors the vectors to concatenate, at least one.
+   * @param allocator the allocator for the new vector.
+   * @param <V> the vector type.
+   * @return a new vector with the values of all the vectors.
+   * @throws IllegalArgumentException if the vectors have different types.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends FieldVector> V concat(List<V> vectors, BufferAllocator allocator) {
+    Preconditions.checkArgument(!vectors.isEmpty(), "There must be at least one vector to concatenate");
+    VectorConcatenator.checkTypes(vectors, "The vectors to concatenate have different types.");
+    final VectorConcatenator concatenator = new VectorConcatenator(allocator);
+    final FieldVector result = concatenator.prepare(vectors);
+    try {
+      concatenator.copy();
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+    return (V) result;
+  }
 }
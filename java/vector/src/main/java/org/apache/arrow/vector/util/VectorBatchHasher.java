@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.util.List;
+
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * Utility to compute the hash codes of vector values in batch, for single columns
+ * (see {@link ValueVector#hashAll(int, int, long[], ArrowBufHasher)}) and for rows
+ * spanning multiple columns.
+ */
+public class VectorBatchHasher {
+
+  private VectorBatchHasher() {
+  }
+
+  /**
+   * Computes the 64-bit hash codes of a range of rows of the given columns. The hash code of
+   * a row combines the hash codes of its values, in column order, with
+   * {@link ByteFunctionHelpers#combineHash64(long, long)}; the hash code of a row of a single
+   * column is the hash code of its value.
+   *
+   * @param columns the columns, all with at least {@code start + count} values.
+   * @param start the index of the first row.
+   * @param count the number of rows.
+   * @param out the array to store the hash code of row {@code start + i} at index {@code i}.
+   * @param hasher the hasher, or null to use the default one.
+   */
+  public static void hashRows(List<? extends ValueVector> columns, int start, int count, long[] out,
+      ArrowBufHasher hasher) {
+    Preconditions.checkArgument(!columns.isEmpty(), "At least one column is required");
+    columns.get(0).hashAll(start, count, out, hasher);
+    if (columns.size() == 1) {
+      return;
+    }
+
+    final long[] columnHashes = new long[count];
+    for (int c = 1; c < columns.size(); c++) {
+      columns.get(c).hashAll(start, count, columnHashes, hasher);
+      for (int i = 0; i < count; i++) {
+        out[i] = ByteFunctionHelpers.combineHash64(out[i], columnHashes[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the 64-bit hash codes of all the rows of a {@link VectorSchemaRoot}.
+   *
+   * @param root the vector schema root.
+   * @param hasher the hasher, or null to use the default one.
+   * @return the hash codes of the rows.
+   */
+  public static long[] hashRows(VectorSchemaRoot root, ArrowBufHasher hasher) {
+    final List<FieldVector> columns = root.getFieldVectors();
+    final long[] out = new long[root.getRowCount()];
+    hashRows(columns, 0, root.getRowCount(), out, hasher);
+    return out;
+  }
+
+  /**
+   * Validates the arguments of {@link ValueVector#hashAll(int, int, long[], ArrowBufHasher)}.
+   */
+  public static void checkHashRange(ValueVector vector, int start, int count, long[] out) {
+    Preconditions.checkArgument(start >= 0 && count >= 0 && start <= vector.getValueCount() - count,
+        "Invalid range: start %s, count %s, value count %s", start, count, vector.getValueCount());
+    Preconditions.checkArgument(out.length >= count,
+        "The output array length %s is less than the count %s", out.length, count);
+  }
+}
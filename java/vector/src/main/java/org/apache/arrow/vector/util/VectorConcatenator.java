@@ -0,0 +1,454 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.util.LargeMemoryUtil;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.util.ParallelTasks;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseLargeVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.compare.TypeEqualsVisitor;
+import org.apache.arrow.vector.complex.FixedSizeListVector;
+import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+
+/**
+ * Concatenates vectors of the same type into a new vector.
+ *
+ * <p>Unlike {@link VectorAppender}, which reallocates the target buffers as they grow, the sizes of the
+ * output buffers are computed first and the buffers are allocated once. The copies are then planned as
+ * independent tasks writing disjoint ranges of the output buffers: the data and offsets of each input
+ * vector (with the offsets rebased in a single pass), and the bitmaps of each input vector (shifted
+ * bit-wise into the output bytes holding only its bits, the bytes shared by consecutive vectors being
+ * written by one more task). The tasks can run in parallel.
+ *
+ * <p>Fixed-width, variable-width, list, fixed size list and struct vectors are concatenated this way,
+ * the other types are appended by a {@link VectorAppender} in a single task.
+ */
+final class VectorConcatenator {
+
+  /**
+   * The default minimum number of bytes copied by a task, so that the copies of small vectors are grouped.
+   */
+  static final long MIN_TASK_BYTES = 1L << 20;
+
+  private final BufferAllocator allocator;
+
+  private final long minTaskBytes;
+
+  private final List<Runnable> copies = new ArrayList<>();
+
+  private final List<Long> copySizes = new ArrayList<>();
+
+  VectorConcatenator(BufferAllocator allocator) {
+    this(allocator, MIN_TASK_BYTES);
+  }
+
+  VectorConcatenator(BufferAllocator allocator, long minTaskBytes) {
+    this.allocator = allocator;
+    this.minTaskBytes = minTaskBytes;
+  }
+
+  /**
+   * Checks that the vectors to concatenate have the same type.
+   */
+  static void checkTypes(List<? extends FieldVector> vectors, String message) {
+    final TypeEqualsVisitor typeChecker = new TypeEqualsVisitor(vectors.get(0), false, false);
+    for (FieldVector vector : vectors) {
+      Preconditions.checkArgument(typeChecker.equals(vector), message);
+    }
+  }
+
+  /**
+   * Allocates a vector for the concatenation of vectors, and plans the copies into it.
+   * @param vectors the vectors to concatenate, of the same type.
+   * @return the new vector, filled when the copies are run.
+   */
+  FieldVector prepare(List<? extends FieldVector> vectors) {
+    final int[] counts = new int[vectors.size()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = vectors.get(i).getValueCount();
+    }
+    final FieldVector target = vectors.get(0).getField().createVector(allocator);
+    try {
+      prepare(target, vectors, counts);
+    } catch (RuntimeException e) {
+      target.close();
+      throw e;
+    }
+    return target;
+  }
+
+  private void prepare(FieldVector target, List<? extends FieldVector> vectors, int[] counts) {
+    // skip the empty vectors, e.g. the empty lists whose child vectors have no type
+    final List<FieldVector> sources = new ArrayList<>(vectors.size());
+    final List<Integer> sourceCounts = new ArrayList<>(vectors.size());
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        sources.add(vectors.get(i));
+        sourceCounts.add(counts[i]);
+        total += counts[i];
+      }
+    }
+    if (total > Integer.MAX_VALUE) {
+      throw new OversizedAllocationException("The concatenation has more than " + Integer.MAX_VALUE + " values");
+    }
+    final int[] nonEmptyCounts = sourceCounts.stream().mapToInt(Integer::intValue).toArray();
+
+    if (target instanceof BaseFixedWidthVector) {
+      prepareFixedWidth((BaseFixedWidthVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof BaseVariableWidthVector) {
+      prepareVariableWidth((BaseVariableWidthVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof BaseLargeVariableWidthVector) {
+      prepareLargeVariableWidth((BaseLargeVariableWidthVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof ListVector) {
+      prepareList((ListVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof LargeListVector) {
+      prepareLargeList((LargeListVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof FixedSizeListVector) {
+      prepareFixedSizeList((FixedSizeListVector) target, sources, nonEmptyCounts, (int) total);
+    } else if (target instanceof StructVector) {
+      prepareStruct((StructVector) target, sources, nonEmptyCounts, (int) total);
+    } else {
+      prepareAppend(target, sources, nonEmptyCounts, total);
+    }
+  }
+
+  /**
+   * Loads newly allocated buffers into a vector. The validity buffer is only allocated if some values are
+   * null and some are not, otherwise the vector creates it.
+   */
+  private void load(FieldVector target, List<FieldVector> sources, int[] counts, int total,
+      long... bufferSizes) {
+    long nullCount = 0;
+    for (int i = 0; i < counts.length; i++) {
+      nullCount += BitVectorHelper.getNullCount(sources.get(i).getValidityBuffer(), counts[i]);
+    }
+    final boolean hasValidity = nullCount != 0 && nullCount != total;
+    final List<ArrowBuf> buffers = new ArrayList<>(bufferSizes.length + 1);
+    try {
+      buffers.add(hasValidity ? allocator.buffer(BitVectorHelper.getValidityBufferSize(total)) : allocator.getEmpty());
+      for (long bufferSize : bufferSizes) {
+        buffers.add(allocator.buffer(bufferSize));
+      }
+      target.loadFieldBuffers(new ArrowFieldNode(total, nullCount), buffers);
+    } finally {
+      // the vector holds its own references
+      buffers.forEach(ArrowBuf::close);
+    }
+    if (hasValidity) {
+      planBitmap(target.getValidityBuffer(), sources, counts, false);
+    }
+  }
+
+  private void plan(long bytes, Runnable copy) {
+    copies.add(copy);
+    copySizes.add(bytes);
+  }
+
+  /**
+   * Plans the concatenation of the validity or data bitmaps of vectors. The output is split on byte
+   * boundaries: the bytes holding only bits of one vector are shifted by a copy per vector, and the bytes
+   * shared by consecutive vectors, at most two per vector, are written bit by bit in a single copy.
+   */
+  private void planBitmap(ArrowBuf target, List<FieldVector> sources, int[] counts, boolean data) {
+    // get the buffers while planning, as getting a validity buffer may allocate it
+    final ArrowBuf[] bitmaps = new ArrowBuf[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      bitmaps[i] = data ? sources.get(i).getDataBuffer() : sources.get(i).getValidityBuffer();
+    }
+    final long address = target.memoryAddress();
+    long start = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final long sourceAddress = bitmaps[i].memoryAddress();
+      // the first and the end bytes of the output holding only bits of this vector, the first one
+      // starting at the bit "shift" of the source
+      final long firstByte = (start + 7) >> 3;
+      final long endByte = (start + counts[i]) >> 3;
+      final int shift = (int) ((firstByte << 3) - start);
+      if (endByte > firstByte) {
+        final long length = endByte - firstByte;
+        if (shift == 0) {
+          plan(length, () -> MemoryUtil.UNSAFE.copyMemory(sourceAddress, address + firstByte, length));
+        } else {
+          // each output byte takes the high bits of a source byte and the low bits of the next one
+          plan(length, () -> {
+            for (long j = 0; j < length; j++) {
+              final int current = MemoryUtil.UNSAFE.getByte(sourceAddress + j) & 0xFF;
+              final int next = MemoryUtil.UNSAFE.getByte(sourceAddress + j + 1) & 0xFF;
+              MemoryUtil.UNSAFE.putByte(address + firstByte + j, (byte) ((current >>> shift) | (next << (8 - shift))));
+            }
+          });
+        }
+      }
+      start += counts[i];
+    }
+
+    plan(2L * counts.length, () -> {
+      long bit = 0;
+      for (int i = 0; i < counts.length; i++) {
+        final long end = bit + counts[i];
+        final long firstFull = Math.min((bit + 7) & ~7L, end);
+        final long endFull = Math.max(end & ~7L, firstFull);
+        for (long j = bit; j < firstFull; j++) {
+          BitVectorHelper.setValidityBit(target, (int) j, BitVectorHelper.get(bitmaps[i], (int) (j - bit)));
+        }
+        for (long j = endFull; j < end; j++) {
+          BitVectorHelper.setValidityBit(target, (int) j, BitVectorHelper.get(bitmaps[i], (int) (j - bit)));
+        }
+        bit = end;
+      }
+    });
+  }
+
+  private void prepareFixedWidth(BaseFixedWidthVector target, List<FieldVector> sources, int[] counts, int total) {
+    if (target instanceof BitVector) {
+      load(target, sources, counts, total, BitVectorHelper.getValidityBufferSize(total));
+      planBitmap(target.getDataBuffer(), sources, counts, true);
+      return;
+    }
+    final int width = target.getTypeWidth();
+    load(target, sources, counts, total, (long) total * width);
+    final long address = target.getDataBuffer().memoryAddress();
+    long offset = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final FieldVector source = sources.get(i);
+      final long targetAddress = address + offset;
+      final long length = (long) counts[i] * width;
+      plan(length, () -> MemoryUtil.UNSAFE.copyMemory(source.getDataBuffer().memoryAddress(), targetAddress, length));
+      offset += length;
+    }
+  }
+
+  private void prepareVariableWidth(BaseVariableWidthVector target, List<FieldVector> sources, int[] counts,
+      int total) {
+    final int[] dataSizes = new int[counts.length];
+    long dataSize = 0;
+    for (int i = 0; i < counts.length; i++) {
+      dataSizes[i] = sources.get(i).getOffsetBuffer().getInt((long) counts[i] * BaseVariableWidthVector.OFFSET_WIDTH);
+      dataSize += dataSizes[i];
+    }
+    if (dataSize > Integer.MAX_VALUE) {
+      throw new OversizedAllocationException("The concatenation has more than " + Integer.MAX_VALUE + " bytes");
+    }
+    load(target, sources, counts, total, (long) (total + 1) * BaseVariableWidthVector.OFFSET_WIDTH, dataSize);
+    target.getOffsetBuffer().setInt(0, 0);
+    planOffsets(target.getOffsetBuffer(), sources, counts, dataSizes);
+
+    final long address = target.getDataBuffer().memoryAddress();
+    long offset = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final FieldVector source = sources.get(i);
+      final long targetAddress = address + offset;
+      final long length = dataSizes[i];
+      plan(length, () -> MemoryUtil.UNSAFE.copyMemory(source.getDataBuffer().memoryAddress(), targetAddress, length));
+      offset += length;
+    }
+  }
+
+  /**
+   * Plans the copies of the 32-bit offsets of vectors, each rebased by the sizes of the previous vectors.
+   */
+  private void planOffsets(ArrowBuf target, List<FieldVector> sources, int[] counts, int[] sizes) {
+    final long address = target.memoryAddress();
+    int base = 0;
+    int row = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final long sourceAddress = sources.get(i).getOffsetBuffer().memoryAddress();
+      final long targetAddress = address + (long) row * BaseVariableWidthVector.OFFSET_WIDTH;
+      final int count = counts[i];
+      final int delta = base;
+      plan((long) count * BaseVariableWidthVector.OFFSET_WIDTH, () -> {
+        for (long j = 1; j <= count; j++) {
+          final long index = j * BaseVariableWidthVector.OFFSET_WIDTH;
+          MemoryUtil.UNSAFE.putInt(targetAddress + index, MemoryUtil.UNSAFE.getInt(sourceAddress + index) + delta);
+        }
+      });
+      base += sizes[i];
+      row += count;
+    }
+  }
+
+  private void prepareLargeVariableWidth(BaseLargeVariableWidthVector target, List<FieldVector> sources,
+      int[] counts, int total) {
+    final long[] dataSizes = new long[counts.length];
+    long dataSize = 0;
+    for (int i = 0; i < counts.length; i++) {
+      dataSizes[i] = sources.get(i).getOffsetBuffer().getLong(
+          (long) counts[i] * BaseLargeVariableWidthVector.OFFSET_WIDTH);
+      dataSize += dataSizes[i];
+    }
+    load(target, sources, counts, total, (long) (total + 1) * BaseLargeVariableWidthVector.OFFSET_WIDTH, dataSize);
+    target.getOffsetBuffer().setLong(0, 0);
+    planLargeOffsets(target.getOffsetBuffer(), sources, counts, dataSizes);
+
+    final long address = target.getDataBuffer().memoryAddress();
+    long offset = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final FieldVector source = sources.get(i);
+      final long targetAddress = address + offset;
+      final long length = dataSizes[i];
+      plan(length, () -> MemoryUtil.UNSAFE.copyMemory(source.getDataBuffer().memoryAddress(), targetAddress, length));
+      offset += length;
+    }
+  }
+
+  /**
+   * Plans the copies of the 64-bit offsets of vectors, each rebased by the sizes of the previous vectors.
+   */
+  private void planLargeOffsets(ArrowBuf target, List<FieldVector> sources, int[] counts, long[] sizes) {
+    final long address = target.memoryAddress();
+    long base = 0;
+    int row = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final long sourceAddress = sources.get(i).getOffsetBuffer().memoryAddress();
+      final long targetAddress = address + (long) row * BaseLargeVariableWidthVector.OFFSET_WIDTH;
+      final int count = counts[i];
+      final long delta = base;
+      plan((long) count * BaseLargeVariableWidthVector.OFFSET_WIDTH, () -> {
+        for (long j = 1; j <= count; j++) {
+          final long index = j * BaseLargeVariableWidthVector.OFFSET_WIDTH;
+          MemoryUtil.UNSAFE.putLong(targetAddress + index, MemoryUtil.UNSAFE.getLong(sourceAddress + index) + delta);
+        }
+      });
+      base += sizes[i];
+      row += count;
+    }
+  }
+
+  private void prepareList(ListVector target, List<FieldVector> sources, int[] counts, int total) {
+    final int[] childCounts = new int[counts.length];
+    final List<FieldVector> children = new ArrayList<>(counts.length);
+    long childTotal = 0;
+    for (int i = 0; i < counts.length; i++) {
+      childCounts[i] = sources.get(i).getOffsetBuffer().getInt((long) counts[i] * ListVector.OFFSET_WIDTH);
+      children.add(((ListVector) sources.get(i)).getDataVector());
+      childTotal += childCounts[i];
+    }
+    if (childTotal > Integer.MAX_VALUE) {
+      throw new OversizedAllocationException("The concatenation has more than " + Integer.MAX_VALUE + " values");
+    }
+    load(target, sources, counts, total, (long) (total + 1) * ListVector.OFFSET_WIDTH);
+    target.getOffsetBuffer().setInt(0, 0);
+    planOffsets(target.getOffsetBuffer(), sources, counts, childCounts);
+    prepare(target.getDataVector(), children, childCounts);
+  }
+
+  private void prepareLargeList(LargeListVector target, List<FieldVector> sources, int[] counts, int total) {
+    final int[] childCounts = new int[counts.length];
+    final long[] childSizes = new long[counts.length];
+    final List<FieldVector> children = new ArrayList<>(counts.length);
+    for (int i = 0; i < counts.length; i++) {
+      childSizes[i] = sources.get(i).getOffsetBuffer().getLong((long) counts[i] * LargeListVector.OFFSET_WIDTH);
+      childCounts[i] = LargeMemoryUtil.checkedCastToInt(childSizes[i]);
+      children.add(((LargeListVector) sources.get(i)).getDataVector());
+    }
+    load(target, sources, counts, total, (long) (total + 1) * LargeListVector.OFFSET_WIDTH);
+    target.getOffsetBuffer().setLong(0, 0);
+    planLargeOffsets(target.getOffsetBuffer(), sources, counts, childSizes);
+    prepare(target.getDataVector(), children, childCounts);
+  }
+
+  private void prepareFixedSizeList(FixedSizeListVector target, List<FieldVector> sources, int[] counts,
+      int total) {
+    final int listSize = target.getListSize();
+    final int[] childCounts = new int[counts.length];
+    final List<FieldVector> children = new ArrayList<>(counts.length);
+    for (int i = 0; i < counts.length; i++) {
+      childCounts[i] = counts[i] * listSize;
+      children.add(((FixedSizeListVector) sources.get(i)).getDataVector());
+    }
+    load(target, sources, counts, total);
+    prepare(target.getDataVector(), children, childCounts);
+  }
+
+  private void prepareStruct(StructVector target, List<FieldVector> sources, int[] counts, int total) {
+    load(target, sources, counts, total);
+    final List<FieldVector> targetChildren = target.getChildrenFromFields();
+    for (int c = 0; c < targetChildren.size(); c++) {
+      final List<FieldVector> children = new ArrayList<>(sources.size());
+      for (FieldVector source : sources) {
+        children.add(source.getChildrenFromFields().get(c));
+      }
+      prepare(targetChildren.get(c), children, counts);
+    }
+  }
+
+  /**
+   * Plans the appends of vectors of other types, in a single copy as the target grows.
+   */
+  private void prepareAppend(FieldVector target, List<FieldVector> sources, int[] counts, long total) {
+    plan(total, () -> {
+      final VectorAppender appender = new VectorAppender(target);
+      for (int i = 0; i < counts.length; i++) {
+        final FieldVector source = sources.get(i);
+        if (source.getValueCount() == counts[i]) {
+          source.accept(appender, null);
+        } else {
+          // the child vector of a list may hold more values than the list references
+          final int start = target.getValueCount();
+          for (int j = 0; j < counts[i]; j++) {
+            target.copyFromSafe(j, start + j, source);
+          }
+          target.setValueCount(start + counts[i]);
+        }
+      }
+    });
+  }
+
+  /**
+   * Runs the planned copies in the calling thread.
+   */
+  void copy() {
+    copies.forEach(Runnable::run);
+  }
+
+  /**
+   * Runs the planned copies on an executor, grouping the small copies into tasks, and waits for all of them.
+   * @throws InterruptedException if interrupted while waiting for the copies.
+   */
+  void copy(ExecutorService executor) throws InterruptedException {
+    final List<Runnable> tasks = new ArrayList<>();
+    int start = 0;
+    long bytes = 0;
+    for (int i = 0; i < copies.size(); i++) {
+      bytes += copySizes.get(i);
+      if (bytes >= minTaskBytes || i == copies.size() - 1) {
+        final List<Runnable> group = copies.subList(start, i + 1);
+        tasks.add(() -> group.forEach(Runnable::run));
+        start = i + 1;
+        bytes = 0;
+      }
+    }
+    ParallelTasks.runAll(tasks, executor);
+  }
+}
@@ -17,6 +17,14 @@
 
 package org.apache.arrow.vector.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.util.AutoCloseables;
+import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.compare.TypeEqualsVisitor;
 
@@ -80,4 +88,78 @@ public class VectorSchemaRootAppender {
   public static void append(VectorSchemaRoot targetRoot, VectorSchemaRoot... rootsToAppend) {
     append(true, targetRoot, rootsToAppend);
   }
+
+  /**
+   * Concatenates {@link VectorSchemaRoot}s with the same schema into a new root.
+   * The output buffers are allocated once, with their exact sizes.
+   * @param roots the roots to concatenate, at least one.
+   * @param allocator the allocator for the new root.
+   * @return a new root with the rows of all the roots.
+   * @throws IllegalArgumentException if the roots have different schemas.
+   */
+  public static VectorSchemaRoot concat(List<VectorSchemaRoot> roots, BufferAllocator allocator) {
+    final VectorConcatenator concatenator = new VectorConcatenator(allocator);
+    final VectorSchemaRoot result = prepareConcat(roots, concatenator);
+    try {
+      concatenator.copy();
+    } catch (RuntimeException e) {
+      result.close();
+      throw e;
+    }
+    return result;
+  }
+
+  /**
+   * Concatenates {@link VectorSchemaRoot}s with the same schema into a new root, copying the columns, and
+   * the parts of a column from different roots, in parallel.
+   * @param roots the roots to concatenate, at least one.
+   * @param allocator the allocator for the new root.
+   * @param executor the executor running the copies.
+   * @return a new root with the rows of all the roots.
+   * @throws IllegalArgumentException if the roots have different schemas.
+   * @throws InterruptedException if interrupted while waiting for the copies.
+   */
+  public static VectorSchemaRoot concat(List<VectorSchemaRoot> roots, BufferAllocator allocator,
+      ExecutorService executor) throws InterruptedException {
+    final VectorConcatenator concatenator = new VectorConcatenator(allocator);
+    final VectorSchemaRoot result = prepareConcat(roots, concatenator);
+    try {
+      concatenator.copy(executor);
+    } catch (InterruptedException | RuntimeException e) {
+      result.close();
+      throw e;
+    }
+    return result;
+  }
+
+  private static VectorSchemaRoot prepareConcat(List<VectorSchemaRoot> roots, VectorConcatenator concatenator) {
+    Preconditions.checkArgument(!roots.isEmpty(), "There must be at least one root to concatenate");
+    final VectorSchemaRoot first = roots.get(0);
+    final int columnCount = first.getFieldVectors().size();
+    long rowCount = 0;
+    for (VectorSchemaRoot root : roots) {
+      Preconditions.checkArgument(root.getFieldVectors().size() == columnCount,
+          "Vector schema roots have different numbers of child vectors.");
+      rowCount += root.getRowCount();
+    }
+    if (rowCount > Integer.MAX_VALUE) {
+      throw new OversizedAllocationException("The concatenation has more than " + Integer.MAX_VALUE + " rows");
+    }
+
+    final List<FieldVector> vectors = new ArrayList<>(columnCount);
+    try {
+      for (int i = 0; i < columnCount; i++) {
+        final List<FieldVector> column = new ArrayList<>(roots.size());
+        for (VectorSchemaRoot root : roots) {
+          column.add(root.getVector(i));
+        }
+        VectorConcatenator.checkTypes(column, "Vector schema roots have different schemas.");
+        vectors.add(concatenator.prepare(column));
+      }
+    } catch (RuntimeException e) {
+      AutoCloseables.close(e, vectors);
+      throw e;
+    }
+    return new VectorSchemaRoot(first.getSchema(), vectors, (int) rowCount);
+  }
 }
@@ -23,6 +23,7 @@ import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.BitVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.FieldVector;
@@ -30,11 +31,15 @@ import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.TypeLayout;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.LargeListViewVector;
 import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.ListViewVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 
@@ -51,9 +56,15 @@ public class ValidateVectorBufferVisitor implements VectorVisitor<Void, Void> {
     if (vector instanceof FieldVector) {
       FieldVector fieldVector = (FieldVector) vector;
       int typeBufferCount = TypeLayout.getTypeBufferCount(arrowType);
-      validateOrThrow(fieldVector.getFieldBuffers().size() == typeBufferCount,
-          "Expected %s buffers in vector of type %s, got %s.",
-              typeBufferCount, vector.getField().getType().toString(), fieldVector.getFieldBuffers().size());
+      if (TypeLayout.getTypeLayout(arrowType).isFixedBufferCount()) {
+        validateOrThrow(fieldVector.getFieldBuffers().size() == typeBufferCount,
+            "Expected %s buffers in vector of type %s, got %s.",
+                typeBufferCount, vector.getField().getType().toString(), fieldVector.getFieldBuffers().size());
+      } else {
+        validateOrThrow(fieldVector.getFieldBuffers().size() >= typeBufferCount,
+            "Expected at least %s buffers in vector of type %s, got %s.",
+                typeBufferCount, vector.getField().getType().toString(), fieldVector.getFieldBuffers().size());
+      }
     }
   }
 
@@ -119,6 +130,15 @@ public class ValidateVectorBufferVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseVariableWidthViewVector vector, Void value) {
+    int valueCount = vector.getValueCount();
+    validateVectorCommon(vector);
+    validateValidityBuffer(vector, valueCount);
+    validateFixedWidthDataBuffer(vector, valueCount, BaseVariableWidthViewVector.ELEMENT_SIZE * 8);
+    return null;
+  }
+
   @Override
   public Void visit(BaseLargeVariableWidthVector vector, Void value) {
     int valueCount = vector.getValueCount();
@@ -193,6 +213,39 @@ public class ValidateVectorBufferVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseListViewVector vector, Void value) {
+    int valueCount = vector.getValueCount();
+    validateVectorCommon(vector);
+    validateValidityBuffer(vector, valueCount);
+    long minCapacity = (long) valueCount *
+        (vector instanceof LargeListViewVector ? LargeListViewVector.OFFSET_WIDTH : ListViewVector.OFFSET_WIDTH);
+    validateOffsetBuffer(vector, minCapacity);
+    ArrowBuf sizeBuffer = vector.getSizeBuffer();
+    validateOrThrow(sizeBuffer != null, "The size buffer is null.");
+    validateOrThrow(sizeBuffer.capacity() >= minCapacity,
+        "Not enough capacity for the size buffer. Minimum capacity %s, actual capacity %s.",
+        minCapacity, sizeBuffer.capacity());
+
+    FieldVector dataVector = vector.getDataVector();
+    if (dataVector != null) {
+      dataVector.accept(this, null);
+    }
+    return null;
+  }
+
+  @Override
+  public Void visit(RunEndEncodedVector vector, Void value) {
+    validateVectorCommon(vector);
+    validateOrThrow(vector.getRunEndsVector().getValueCount() == vector.getValuesVector().getValueCount(),
+        "Run ends and values vectors have different lengths. Run ends length %s, values length %s.",
+        vector.getRunEndsVector().getValueCount(), vector.getValuesVector().getValueCount());
+    for (ValueVector subVector : vector.getChildrenFromFields()) {
+      subVector.accept(this, null);
+    }
+    return null;
+  }
+
   @Override
   public Void visit(NonNullableStructVector vector, Void value) {
     int valueCount = vector.getValueCount();
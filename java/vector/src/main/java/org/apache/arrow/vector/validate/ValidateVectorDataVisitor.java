@@ -19,19 +19,24 @@ package org.apache.arrow.vector.validate;
 
 import static org.apache.arrow.vector.validate.ValidateUtil.validateOrThrow;
 
+import java.util.List;
+
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 
 /**
@@ -76,6 +81,31 @@ public class ValidateVectorDataVisitor implements VectorVisitor<Void, Void> {
     }
   }
 
+  private void validateViewBuffer(BaseVariableWidthViewVector vector, int valueCount) {
+    ArrowBuf viewBuffer = vector.getViewBuffer();
+    List<ArrowBuf> dataBuffers = vector.getDataBuffers();
+
+    // verify that the views of the non-null values reference existing bytes of the data buffers
+    for (int i = 0; i < valueCount; i++) {
+      if (vector.isNull(i)) {
+        continue;
+      }
+      long viewOffset = (long) i * BaseVariableWidthViewVector.ELEMENT_SIZE;
+      int length = viewBuffer.getInt(viewOffset);
+      validateOrThrow(length >= 0, "The length of the view at position %s is negative: %s.", i, length);
+      if (length > BaseVariableWidthViewVector.INLINE_SIZE) {
+        int bufferIndex = viewBuffer.getInt(viewOffset + 8);
+        int offset = viewBuffer.getInt(viewOffset + 12);
+        validateOrThrow(bufferIndex >= 0 && bufferIndex < dataBuffers.size(),
+            "The view at position %s references data buffer %s, but there are %s data buffers.",
+            i, bufferIndex, dataBuffers.size());
+        validateOrThrow(offset >= 0 && (long) offset + length <= dataBuffers.get(bufferIndex).capacity(),
+            "The view at position %s references bytes %s to %s of data buffer %s of capacity %s.",
+            i, offset, (long) offset + length, bufferIndex, dataBuffers.get(bufferIndex).capacity());
+      }
+    }
+  }
+
   private void validateTypeBuffer(ArrowBuf typeBuf, int valueCount) {
     for (int i = 0; i < valueCount; i++) {
       validateOrThrow(typeBuf.getByte(i) >= 0, "The type id at position %s is negative: %s.",
@@ -96,6 +126,13 @@ public class ValidateVectorDataVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseVariableWidthViewVector vector, Void value) {
+    validateViewBuffer(vector, vector.getValueCount());
+    vector.validateScalars();
+    return null;
+  }
+
   @Override
   public Void visit(BaseLargeVariableWidthVector vector, Void value) {
     validateLargeOffsetBuffer(vector, vector.getValueCount());
@@ -133,6 +170,51 @@ public class ValidateVectorDataVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseListViewVector vector, Void value) {
+    ValueVector innerVector = vector.getDataVector();
+    int innerValueCount = innerVector == null ? 0 : innerVector.getValueCount();
+
+    // verify that the non-null, non-empty lists reference existing elements of the data vector
+    for (int i = 0; i < vector.getValueCount(); i++) {
+      if (vector.isNull(i)) {
+        continue;
+      }
+      long offset = vector.getElementStartIndex(i);
+      long size = vector.getElementSize(i);
+      validateOrThrow(offset >= 0, "The value at position %s of the offset buffer is negative: %s.", i, offset);
+      validateOrThrow(size >= 0, "The value at position %s of the size buffer is negative: %s.", i, size);
+      validateOrThrow(size == 0 || offset + size <= innerValueCount,
+          "The list view at position %s references elements %s to %s, but the data vector has %s elements.",
+          i, offset, offset + size, innerValueCount);
+    }
+    if (innerVector != null) {
+      innerVector.accept(this, null);
+    }
+    return null;
+  }
+
+  @Override
+  public Void visit(RunEndEncodedVector vector, Void value) {
+    ValueVector runEnds = vector.getRunEndsVector();
+
+    // verify that the run ends are non-null, positive, strictly increasing and cover the vector
+    long prevValue = 0;
+    for (int i = 0; i < runEnds.getValueCount(); i++) {
+      validateOrThrow(!runEnds.isNull(i), "The run end at position %s is null.", i);
+      long curValue = vector.getRunEnd(i);
+      validateOrThrow(curValue > prevValue,
+          "The run ends in positions %s and %s are not strictly increasing: %s, %s.", i - 1, i, prevValue, curValue);
+      prevValue = curValue;
+    }
+    validateOrThrow(prevValue >= vector.getValueCount(),
+        "The last run end %s is less than the vector length %s.", prevValue, vector.getValueCount());
+    for (ValueVector subVector : vector.getChildrenFromFields()) {
+      subVector.accept(this, null);
+    }
+    return null;
+  }
+
   @Override
   public Void visit(NonNullableStructVector vector, Void value) {
     for (ValueVector subVector : vector.getChildrenFromFields()) {
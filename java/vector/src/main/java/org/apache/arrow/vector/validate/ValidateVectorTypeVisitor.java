@@ -22,6 +22,7 @@ import static org.apache.arrow.vector.validate.ValidateUtil.validateOrThrow;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.BigIntVector;
 import org.apache.arrow.vector.BitVector;
 import org.apache.arrow.vector.DateDayVector;
@@ -61,12 +62,17 @@ import org.apache.arrow.vector.UInt8Vector;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.ViewVarBinaryVector;
+import org.apache.arrow.vector.ViewVarCharVector;
 import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.LargeListViewVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.types.DateUnit;
 import org.apache.arrow.vector.types.FloatingPointPrecision;
@@ -298,6 +304,16 @@ public class ValidateVectorTypeVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseVariableWidthViewVector vector, Void value) {
+    if (vector instanceof ViewVarCharVector) {
+      validateVectorCommon(vector, ArrowType.Utf8View.class);
+    } else if (vector instanceof ViewVarBinaryVector) {
+      validateVectorCommon(vector, ArrowType.BinaryView.class);
+    }
+    return null;
+  }
+
   @Override
   public Void visit(BaseLargeVariableWidthVector vector, Void value) {
     if (vector instanceof LargeVarCharVector) {
@@ -343,6 +359,32 @@ public class ValidateVectorTypeVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseListViewVector vector, Void value) {
+    validateVectorCommon(vector,
+        vector instanceof LargeListViewVector ? ArrowType.LargeListView.class : ArrowType.ListView.class);
+    ValueVector innerVector = vector.getDataVector();
+    if (innerVector != null) {
+      innerVector.accept(this, null);
+    }
+    return null;
+  }
+
+  @Override
+  public Void visit(RunEndEncodedVector vector, Void value) {
+    validateVectorCommon(vector, ArrowType.RunEndEncoded.class);
+    validateOrThrow(vector.getField().getChildren().size() == 2,
+        "Run-end encoded vectors must have two child fields, got %s.", vector.getField().getChildren().size());
+    ArrowType runEndType = vector.getRunEndsVector().getField().getType();
+    validateOrThrow(runEndType instanceof ArrowType.Int && ((ArrowType.Int) runEndType).getIsSigned() &&
+        ((ArrowType.Int) runEndType).getBitWidth() >= 16,
+        "Run ends must be 16, 32 or 64 bit signed integers, got %s.", runEndType);
+    for (ValueVector subVector : vector.getChildrenFromFields()) {
+      subVector.accept(this, null);
+    }
+    return null;
+  }
+
   @Override
   public Void visit(NonNullableStructVector vector, Void value) {
     validateVectorCommon(vector, ArrowType.Struct.class);
@@ -23,16 +23,19 @@ import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BaseLargeVariableWidthVector;
 import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthViewVector;
 import org.apache.arrow.vector.ExtensionTypeVector;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.NullVector;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.compare.VectorVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
 import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.NonNullableStructVector;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.util.ValueVectorUtility;
@@ -98,6 +101,11 @@ public class ValidateVectorVisitor implements VectorVisitor<Void, Void> {
     return null;
   }
 
+  @Override
+  public Void visit(BaseVariableWidthViewVector left, Void value) {
+    return null;
+  }
+
   @Override
   public Void visit(ListVector vector, Void value) {
 
@@ -176,6 +184,45 @@ public class ValidateVectorVisitor implements VectorVisitor<Void, Void> {
     return dataVector.accept(this, null);
   }
 
+  @Override
+  public Void visit(BaseListViewVector vector, Void value) {
+    FieldVector dataVector = vector.getDataVector();
+
+    for (int i = 0; i < vector.getValueCount(); i++) {
+      if (vector.isNull(i) || vector.getElementSize(i) == 0) {
+        continue;
+      }
+      if (vector.getElementStartIndex(i) < 0 || vector.getElementSize(i) < 0) {
+        throw new IllegalArgumentException("Negative offsets or sizes in list view vector");
+      }
+      if (vector.getElementEndIndex(i) > dataVector.getValueCount()) {
+        throw new IllegalArgumentException(String.format("Length spanned by list view %s (%s) larger than" +
+            " data vector valueCount (length %s)", i, vector.getElementEndIndex(i), dataVector.getValueCount()));
+      }
+    }
+
+    return dataVector.accept(this, null);
+  }
+
+  @Override
+  public Void visit(RunEndEncodedVector vector, Void value) {
+    FieldVector runEnds = vector.getRunEndsVector();
+    FieldVector values = vector.getValuesVector();
+
+    if (runEnds.getValueCount() != values.getValueCount()) {
+      throw new IllegalArgumentException(String.format("run ends vector valueCount %s is not equal to values " +
+          "vector valueCount %s", runEnds.getValueCount(), values.getValueCount()));
+    }
+    if (vector.getValueCount() > 0 &&
+        (runEnds.getValueCount() == 0 || vector.getRunEnd(runEnds.getValueCount() - 1) < vector.getValueCount())) {
+      throw new IllegalArgumentException(String.format("run ends do not cover the valueCount %s",
+          vector.getValueCount()));
+    }
+
+    runEnds.accept(this, null);
+    return values.accept(this, null);
+  }
+
   @Override
   public Void visit(FixedSizeListVector vector, Void value) {
 
@@ -539,6 +539,9 @@ public class TestBitVector {
       assertFalse(hashCodes[0] == hashCodes[1]);
       assertFalse(hashCodes[0] == hashCodes[2]);
       assertFalse(hashCodes[1] == hashCodes[2]);
+
+      assertTrue(vector.hashCode64(0, hasher) == vector.hashCode64(3, hasher));
+      assertFalse(vector.hashCode64(0, hasher) == vector.hashCode64(1, hasher));
     }
   }
 
@@ -287,4 +287,20 @@ public class TestBitVectorHelper {
       assertEquals(BitVectorHelper.get(output, outputIdx), BitVectorHelper.get(buf2, i));
     }
   }
+
+  @Test
+  public void testSetRangeToOne() {
+    try (BufferAllocator allocator = new RootAllocator(1024);
+         ArrowBuf buffer = allocator.buffer(8)) {
+      final int[][] ranges = {{0, 0}, {3, 2}, {0, 8}, {5, 11}, {8, 16}, {1, 62}, {0, 64}};
+      for (int[] range : ranges) {
+        buffer.setZero(0, buffer.capacity());
+        BitVectorHelper.setRangeToOne(buffer, range[0], range[1]);
+        for (int i = 0; i < 64; i++) {
+          final int expected = i >= range[0] && i < range[0] + range[1] ? 1 : 0;
+          assertEquals(expected, BitVectorHelper.get(buffer, i));
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+import org.apache.arrow.vector.util.TransferPair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the vectors that defer the allocation of their validity buffer until the first null.
+ */
+public class TestDeferredValidity {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void init() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void terminate() {
+    allocator.close();
+  }
+
+  @Test
+  public void testNoValidityBufferUntilFirstNull() {
+    try (IntVector vector = new IntVector("vector", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(100);
+      // only the data buffer is allocated
+      assertEquals(vector.getDataBuffer().capacity(), allocator.getAllocatedMemory());
+      for (int i = 0; i < 10; i++) {
+        vector.set(i, i);
+      }
+      vector.setValueCount(20);
+      assertTrue(vector.isAllValid());
+      assertEquals(0, vector.getNullCount());
+      // the values that are not set are valid
+      assertFalse(vector.isNull(15));
+      assertEquals(0, vector.get(15));
+
+      vector.setNull(3);
+      assertFalse(vector.isAllValid());
+      assertEquals(1, vector.getNullCount());
+      for (int i = 0; i < 20; i++) {
+        assertEquals(i == 3, vector.isNull(i));
+      }
+      assertEquals(vector.getDataBuffer().capacity() + vector.getValidityBuffer().capacity(),
+          allocator.getAllocatedMemory());
+      assertTrue(vector.getValueCapacity() >= 100);
+    }
+  }
+
+  @Test
+  public void testReAllocAndResetWithoutValidityBuffer() {
+    try (BigIntVector vector = new BigIntVector("vector", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(16);
+      for (int i = 0; i < 1000; i++) {
+        vector.setSafe(i, i * 3L);
+      }
+      vector.setValueCount(1000);
+      assertTrue(vector.isAllValid());
+      assertEquals(vector.getDataBuffer().capacity(), allocator.getAllocatedMemory());
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(i * 3L, vector.get(i));
+      }
+
+      vector.setNull(999);
+      assertEquals(1, vector.getNullCount());
+      // resetting releases the validity buffer
+      vector.reset();
+      assertTrue(vector.isAllValid());
+      assertEquals(vector.getDataBuffer().capacity(), allocator.getAllocatedMemory());
+
+      vector.setValueCount(10);
+      vector.trimToSize();
+      assertTrue(vector.isAllValid());
+      assertEquals(vector.getDataBuffer().capacity(), allocator.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testValidityBufferMaterialized() {
+    try (Float8Vector vector = new Float8Vector("vector", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(10);
+      vector.setSafe(0, 1.5);
+      vector.setSafe(1, 2.5);
+      vector.setValueCount(2);
+      final ArrowBuf validityBuffer = vector.getValidityBuffer();
+      assertFalse(vector.isAllValid());
+      assertEquals(0x03, validityBuffer.getByte(0) & 0x03);
+      assertEquals(2, vector.getFieldBuffers().size());
+      assertEquals(0, vector.getNullCount());
+    }
+  }
+
+  @Test
+  public void testVarCharDeferredValidity() {
+    try (VarCharVector vector = new VarCharVector("vector", allocator);
+         VarCharVector copy = new VarCharVector("copy", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(100, 10);
+      for (int i = 0; i < 50; i++) {
+        vector.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+      }
+      vector.setValueCount(50);
+      assertTrue(vector.isAllValid());
+      assertEquals(vector.getDataBuffer().capacity() + vector.getOffsetBuffer().capacity(),
+          allocator.getAllocatedMemory());
+
+      copy.setDeferValidityAllocation(true);
+      copy.allocateNew();
+      for (int i = 0; i < 50; i++) {
+        copy.copyFromSafe(i, i, vector);
+      }
+      copy.setNull(7);
+      copy.setValueCount(50);
+      assertEquals(1, copy.getNullCount());
+      for (int i = 0; i < 50; i++) {
+        if (i == 7) {
+          assertTrue(copy.isNull(i));
+        } else {
+          assertEquals("value" + i, copy.getObject(i).toString());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTransferAndSplit() {
+    try (IntVector vector = new IntVector("vector", allocator);
+         LargeVarCharVector strings = new LargeVarCharVector("strings", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(64);
+      strings.setDeferValidityAllocation(true);
+      strings.allocateNew(64);
+      for (int i = 0; i < 64; i++) {
+        vector.set(i, i);
+        strings.setSafe(i, Integer.toString(i).getBytes(StandardCharsets.UTF_8));
+      }
+      vector.setValueCount(64);
+      strings.setValueCount(64);
+
+      final TransferPair split = vector.getTransferPair(allocator);
+      split.splitAndTransfer(3, 20);
+      final IntVector splitVector = (IntVector) split.getTo();
+      assertTrue(splitVector.isAllValid());
+      assertEquals(20, splitVector.getValueCount());
+      assertEquals(3, splitVector.get(0));
+      splitVector.clear();
+
+      final TransferPair splitStrings = strings.getTransferPair(allocator);
+      splitStrings.splitAndTransfer(5, 10);
+      final LargeVarCharVector splitStringVector = (LargeVarCharVector) splitStrings.getTo();
+      assertTrue(splitStringVector.isAllValid());
+      assertEquals("5", splitStringVector.getObject(0).toString());
+      splitStringVector.clear();
+
+      final TransferPair transfer = vector.getTransferPair(allocator);
+      transfer.transfer();
+      final IntVector transferred = (IntVector) transfer.getTo();
+      assertTrue(transferred.isAllValid());
+      assertEquals(63, transferred.get(63));
+      transferred.clear();
+    }
+  }
+
+  @Test
+  public void testBitVectorDeferredValidity() {
+    try (BitVector vector = new BitVector("vector", allocator)) {
+      vector.setDeferValidityAllocation(true);
+      vector.allocateNew(100);
+      vector.setRangeToOne(10, 20);
+      vector.setValueCount(40);
+      assertTrue(vector.isAllValid());
+      assertEquals(1, vector.get(10));
+      assertEquals(0, vector.get(30));
+
+      final TransferPair split = vector.getTransferPair(allocator);
+      split.splitAndTransfer(5, 30);
+      final BitVector splitVector = (BitVector) split.getTo();
+      assertTrue(splitVector.isAllValid());
+      assertEquals(0, splitVector.get(4));
+      assertEquals(1, splitVector.get(5));
+      splitVector.clear();
+    }
+  }
+
+  @Test
+  public void testLoadEmptyValidityBuffer() {
+    try (IntVector source = new IntVector("source", allocator);
+         IntVector vector = new IntVector("vector", allocator)) {
+      source.allocateNew(10);
+      for (int i = 0; i < 10; i++) {
+        source.set(i, i);
+      }
+      source.setValueCount(10);
+      final ArrowFieldNode fieldNode = new ArrowFieldNode(10, 0);
+      vector.loadFieldBuffers(fieldNode, Arrays.asList(allocator.getEmpty(), source.getDataBuffer()));
+      assertTrue(vector.isAllValid());
+      assertEquals(0, vector.getNullCount());
+      assertFalse(vector.isNull(9));
+      // the values after the loaded ones are null, as with a loaded validity buffer
+      assertTrue(vector.isNull(10));
+
+      vector.setSafe(10, 10);
+      assertTrue(vector.isAllValid());
+      vector.setNull(2);
+      vector.setValueCount(11);
+      assertEquals(1, vector.getNullCount());
+      for (int i = 0; i < 11; i++) {
+        assertEquals(i == 2, vector.isNull(i));
+      }
+    }
+  }
+}
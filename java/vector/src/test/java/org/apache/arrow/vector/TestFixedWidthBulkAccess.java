@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the bulk setAll/getAll methods of the fixed width vectors.
+ */
+public class TestFixedWidthBulkAccess {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void init() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void terminate() {
+    allocator.close();
+  }
+
+  @Test
+  public void testBigIntSetAllGetAll() {
+    final long[] values = new long[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 1000L - 7;
+    }
+    try (BigIntVector vector = new BigIntVector("vector", allocator)) {
+      vector.allocateNew(10);
+      vector.setSafe(0, -1L);
+      // grows the vector
+      vector.setAllSafe(3, values, 10, 80);
+      vector.setValueCount(83);
+
+      assertEquals(-1L, vector.get(0));
+      assertTrue(vector.isNull(1));
+      assertTrue(vector.isNull(2));
+      for (int i = 0; i < 80; i++) {
+        assertEquals(values[10 + i], vector.get(3 + i));
+      }
+
+      final long[] out = new long[82];
+      vector.getAll(3, out, 2, 80);
+      for (int i = 0; i < 80; i++) {
+        assertEquals(values[10 + i], out[2 + i]);
+      }
+    }
+  }
+
+  @Test
+  public void testIntNullMasks() {
+    final int[] values = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    final boolean[] nulls = new boolean[values.length];
+    nulls[1] = true;
+    nulls[8] = true;
+    try (IntVector vector = new IntVector("vector", allocator)) {
+      vector.allocateNew(32);
+      vector.setAll(5, values, 0, values.length, nulls);
+      vector.setValueCount(5 + values.length);
+      assertEquals(2 + 5, vector.getNullCount());
+      for (int i = 0; i < values.length; i++) {
+        assertEquals(nulls[i], vector.isNull(5 + i));
+        if (!nulls[i]) {
+          assertEquals(values[i], vector.get(5 + i));
+        }
+      }
+
+      final int[] out = new int[values.length];
+      final boolean[] outNulls = new boolean[values.length];
+      vector.getAll(5, out, 0, values.length, outNulls);
+      assertArrayEquals(nulls, outNulls);
+      assertEquals(values[10], out[10]);
+
+      // the null mask is indexed like the source array
+      final BitSet nullSet = new BitSet();
+      nullSet.set(3);
+      nullSet.set(9);
+      vector.setAll(0, values, 2, 8, nullSet);
+      final BitSet outNullSet = new BitSet();
+      vector.getAll(0, out, 2, 8, outNullSet);
+      assertEquals(nullSet, outNullSet);
+      assertEquals(values[4], vector.get(2));
+      assertTrue(vector.isNull(1));
+      assertTrue(vector.isNull(7));
+    }
+  }
+
+  @Test
+  public void testFloat8SetAllGetAll() {
+    final double[] values = {0.5, -1.25, Double.NaN, Double.MAX_VALUE};
+    try (Float8Vector vector = new Float8Vector("vector", allocator)) {
+      vector.allocateNew(4);
+      vector.setNull(1);
+      vector.setAll(0, values, 0, values.length);
+      vector.setValueCount(values.length);
+      assertEquals(0, vector.getNullCount());
+
+      final double[] out = new double[values.length];
+      vector.getAll(0, out, 0, values.length);
+      assertArrayEquals(values, out, 0);
+    }
+  }
+
+  @Test
+  public void testArrayBounds() {
+    try (BigIntVector vector = new BigIntVector("vector", allocator)) {
+      vector.allocateNew(16);
+      final long[] values = new long[8];
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.setAll(0, values, 4, 5));
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.setAll(0, values, -1, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.getAll(0, values, 0, 9));
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.setAll(0, values, 0, 8, new boolean[4]));
+    }
+  }
+
+  @Test
+  public void testFailedSetAllLeavesVectorUnchanged() {
+    try (IntVector vector = new IntVector("vector", allocator)) {
+      vector.allocateNew(16);
+      vector.setValueCount(16);
+      final int[] values = {1, 2, 3, 4, 5, 6, 7, 8};
+      // the null mask is too short
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.setAll(0, values, 0, 8, new boolean[4]));
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.setAll(0, values, 2, 8, new boolean[8]));
+      final int[] out = new int[8];
+      final boolean[] outNulls = new boolean[8];
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.getAll(0, out, 0, 8, new boolean[4]));
+      assertEquals(16, vector.getNullCount());
+      vector.getAll(0, out, 0, 8, outNulls);
+      assertArrayEquals(new int[8], out);
+      for (boolean isNull : outNulls) {
+        assertTrue(isNull);
+      }
+    }
+  }
+}
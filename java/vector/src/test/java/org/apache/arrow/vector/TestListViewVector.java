@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.compare.Range;
+import org.apache.arrow.vector.compare.RangeEqualsVisitor;
+import org.apache.arrow.vector.complex.BaseListViewVector;
+import org.apache.arrow.vector.complex.LargeListViewVector;
+import org.apache.arrow.vector.complex.ListViewVector;
+import org.apache.arrow.vector.complex.reader.FieldReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.apache.arrow.vector.util.VectorAppender;
+import org.apache.arrow.vector.validate.ValidateUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestListViewVector {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Integer.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  /**
+   * Populates [[3, 4, 5], null, [1, 2], [2, 3], []] over the child elements [1, 2, 3, 4, 5], with
+   * lists stored out of order and overlapping.
+   */
+  private static void populate(BaseListViewVector vector) {
+    vector.allocateNew();
+    IntVector child = (IntVector) vector.addOrGetVector(FieldType.nullable(MinorType.INT.getType())).getVector();
+    child.allocateNew();
+    for (int i = 0; i < 5; i++) {
+      child.setSafe(i, i + 1);
+    }
+    child.setValueCount(5);
+    vector.setOffsetAndSize(0, 2, 3);
+    vector.setNull(1);
+    vector.setOffsetAndSize(2, 0, 2);
+    vector.setOffsetAndSize(3, 1, 2);
+    vector.setOffsetAndSize(4, 0, 0);
+    vector.setValueCount(5);
+  }
+
+  private static void checkPopulated(BaseListViewVector vector, int offset) {
+    assertEquals(Arrays.asList(3, 4, 5), vector.getObject(offset));
+    assertTrue(vector.isNull(offset + 1));
+    assertNull(vector.getObject(offset + 1));
+    assertEquals(Arrays.asList(1, 2), vector.getObject(offset + 2));
+    assertEquals(Arrays.asList(2, 3), vector.getObject(offset + 3));
+    assertEquals(Collections.emptyList(), vector.getObject(offset + 4));
+  }
+
+  @Test
+  public void testSetAndGet() {
+    try (ListViewVector vector = ListViewVector.empty("v", allocator)) {
+      populate(vector);
+      assertEquals(MinorType.LISTVIEW, vector.getMinorType());
+      assertEquals(5, vector.getValueCount());
+      assertEquals(1, vector.getNullCount());
+      assertEquals(5, vector.getDataVector().getValueCount());
+      checkPopulated(vector, 0);
+
+      assertEquals(2, vector.getElementStartIndex(0));
+      assertEquals(3, vector.getElementSize(0));
+      assertEquals(5, vector.getElementEndIndex(0));
+      assertTrue(vector.isEmpty(1));
+      assertTrue(vector.isEmpty(4));
+      assertFalse(vector.isEmpty(3));
+
+      FieldReader reader = vector.getReader();
+      reader.setPosition(3);
+      assertTrue(reader.isSet());
+      assertEquals(2, reader.size());
+      assertTrue(reader.next());
+      assertEquals(Integer.valueOf(2), reader.reader().readInteger());
+      assertTrue(reader.next());
+      assertEquals(Integer.valueOf(3), reader.reader().readInteger());
+      assertFalse(reader.next());
+
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+
+  @Test
+  public void testStartNewValue() {
+    try (LargeListViewVector vector = LargeListViewVector.empty("v", allocator)) {
+      vector.allocateNew();
+      IntVector child = (IntVector) vector.addOrGetVector(FieldType.nullable(MinorType.INT.getType())).getVector();
+      for (int i = 0; i < 1000; i++) {
+        long offset = vector.startNewValue(i);
+        for (int j = 0; j < i % 3; j++) {
+          child.setSafe((int) offset + j, i + j);
+        }
+        vector.endValue(i, i % 3);
+      }
+      vector.setValueCount(1000);
+      assertEquals(MinorType.LARGELISTVIEW, vector.getMinorType());
+      assertEquals(999, vector.getDataVector().getValueCount());
+      assertEquals(Arrays.asList(997), vector.getObject(997));
+      assertEquals(Arrays.asList(998, 999), vector.getObject(998));
+      assertEquals(Collections.emptyList(), vector.getObject(999));
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+
+  @Test
+  public void testTransferAndSplit() {
+    try (ListViewVector source = ListViewVector.empty("v", allocator);
+         ListViewVector target = ListViewVector.empty("v", allocator);
+         ListViewVector split = ListViewVector.empty("v", allocator)) {
+      populate(source);
+
+      TransferPair splitPair = source.makeTransferPair(split);
+      splitPair.splitAndTransfer(1, 3);
+      assertEquals(3, split.getValueCount());
+      assertTrue(split.isNull(0));
+      assertEquals(Arrays.asList(1, 2), split.getObject(1));
+      assertEquals(Arrays.asList(2, 3), split.getObject(2));
+      // only the child elements referenced by the split lists are transferred
+      assertEquals(3, split.getDataVector().getValueCount());
+      ValueVectorUtility.validateFull(split);
+
+      TransferPair transferPair = source.makeTransferPair(target);
+      transferPair.transfer();
+      assertEquals(0, source.getValueCount());
+      checkPopulated(target, 0);
+      ValueVectorUtility.validateFull(target);
+    }
+  }
+
+  @Test
+  public void testCopyFromAndAppend() {
+    try (ListViewVector source = ListViewVector.empty("v", allocator);
+         ListViewVector target = ListViewVector.empty("v", allocator)) {
+      populate(source);
+      target.allocateNew();
+      for (int i = 0; i < source.getValueCount(); i++) {
+        target.copyFromSafe(i, i, source);
+      }
+      target.setValueCount(source.getValueCount());
+      checkPopulated(target, 0);
+      // the copied lists do not share child elements anymore
+      assertEquals(7, target.getDataVector().getValueCount());
+      assertTrue(new RangeEqualsVisitor(source, target).rangeEquals(new Range(0, 0, 5)));
+      assertFalse(new RangeEqualsVisitor(source, target).rangeEquals(new Range(2, 3, 1)));
+
+      VectorAppender appender = new VectorAppender(target);
+      source.accept(appender, null);
+      assertEquals(10, target.getValueCount());
+      checkPopulated(target, 0);
+      checkPopulated(target, 5);
+      ValueVectorUtility.validateFull(target);
+    }
+  }
+
+  @Test
+  public void testIpcRoundTrip() throws Exception {
+    try (ListViewVector vector = ListViewVector.empty("lists", allocator);
+         LargeListViewVector large = LargeListViewVector.empty("large", allocator)) {
+      populate(vector);
+      populate(large);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      VectorSchemaRoot root = new VectorSchemaRoot(
+          Arrays.asList(vector.getField(), large.getField()), Arrays.asList(vector, large), 5);
+      try (ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(out))) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+
+      try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+        assertTrue(reader.loadNextBatch());
+        VectorSchemaRoot readRoot = reader.getVectorSchemaRoot();
+        ListViewVector readVector = (ListViewVector) readRoot.getVector("lists");
+        checkPopulated(readVector, 0);
+        LargeListViewVector readLarge = (LargeListViewVector) readRoot.getVector("large");
+        checkPopulated(readLarge, 0);
+        ValueVectorUtility.validateFull(readVector);
+        ValueVectorUtility.validateFull(readLarge);
+        assertFalse(reader.loadNextBatch());
+      }
+    }
+  }
+
+  @Test
+  public void testValidateOutOfBounds() {
+    try (ListViewVector vector = ListViewVector.empty("v", allocator)) {
+      populate(vector);
+      vector.getOffsetBuffer().setInt(3 * ListViewVector.OFFSET_WIDTH, 4);
+      assertThrows(ValidateUtil.ValidateException.class, () -> ValueVectorUtility.validateFull(vector));
+    }
+  }
+}
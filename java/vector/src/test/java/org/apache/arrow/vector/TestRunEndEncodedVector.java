@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.compare.Range;
+import org.apache.arrow.vector.compare.RangeEqualsVisitor;
+import org.apache.arrow.vector.complex.RunEndEncodedVector;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.testing.ValueVectorDataPopulator;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.util.RunEndEncoder;
+import org.apache.arrow.vector.util.Text;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.apache.arrow.vector.util.VectorAppender;
+import org.apache.arrow.vector.validate.ValidateUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestRunEndEncodedVector {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Integer.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private IntVector newIntVector(String name, Integer... values) {
+    IntVector vector = new IntVector(name, allocator);
+    ValueVectorDataPopulator.setVector(vector, values);
+    return vector;
+  }
+
+  private static boolean equals(ValueVector left, ValueVector right) {
+    return left.getValueCount() == right.getValueCount() &&
+        new RangeEqualsVisitor(left, right).rangeEquals(new Range(0, 0, left.getValueCount()));
+  }
+
+  @Test
+  public void testEncodeAndDecode() {
+    try (IntVector source = newIntVector("v", 1, 1, 1, 2, 2, null, null, 3);
+         RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator);
+         FieldVector decoded = RunEndEncoder.decode(encoded, allocator)) {
+      assertEquals(MinorType.RUNENDENCODED, encoded.getMinorType());
+      assertEquals("v", encoded.getName());
+      assertEquals(8, encoded.getValueCount());
+      assertEquals(4, encoded.getRunCount());
+      assertEquals(Arrays.asList(3, 5, 7, 8), Arrays.asList(
+          encoded.getRunEndsVector().getObject(0), encoded.getRunEndsVector().getObject(1),
+          encoded.getRunEndsVector().getObject(2), encoded.getRunEndsVector().getObject(3)));
+      assertEquals(0, encoded.getNullCount());
+
+      assertEquals(0, encoded.getPhysicalIndex(0));
+      assertEquals(0, encoded.getPhysicalIndex(2));
+      assertEquals(1, encoded.getPhysicalIndex(3));
+      assertEquals(3, encoded.getPhysicalIndex(7));
+      assertEquals(1, encoded.getObject(1));
+      assertEquals(2, encoded.getObject(4));
+      assertTrue(encoded.isNull(5));
+      assertNull(encoded.getObject(6));
+      assertEquals(3, encoded.getObject(7));
+      assertThrows(IndexOutOfBoundsException.class, () -> encoded.getObject(8));
+      assertEquals(source.hashCode(4), encoded.hashCode(4));
+      ValueVectorUtility.validateFull(encoded);
+
+      assertEquals(MinorType.INT, decoded.getMinorType());
+      assertTrue(equals(source, decoded));
+    }
+  }
+
+  @Test
+  public void testEncodeVarCharWithSmallRunEnds() {
+    try (VarCharVector source = new VarCharVector("s", allocator)) {
+      ValueVectorDataPopulator.setVector(source, "ok", "ok", "error", "ok", "ok", "ok");
+      try (RunEndEncodedVector encoded = RunEndEncoder.encode(source, new ArrowType.Int(16, true), allocator);
+           FieldVector decoded = RunEndEncoder.decode(encoded, allocator)) {
+        assertEquals(MinorType.SMALLINT, encoded.getRunEndsVector().getMinorType());
+        assertEquals(3, encoded.getRunCount());
+        assertEquals(new Text("error"), encoded.getObject(2));
+        assertEquals(new Text("ok"), encoded.getObject(5));
+        ValueVectorUtility.validateFull(encoded);
+        assertTrue(equals(source, decoded));
+      }
+    }
+  }
+
+  @Test
+  public void testLengthExceedingRunEndType() {
+    try (IntVector source = new IntVector("v", allocator)) {
+      final int valueCount = Short.MAX_VALUE + 1;
+      source.allocateNew(valueCount);
+      for (int i = 0; i < valueCount; i++) {
+        source.set(i, i / 1000);
+      }
+      source.setValueCount(valueCount);
+
+      // the last run ends at 32768, which would wrap to a negative 16 bit run end
+      assertThrows(IllegalArgumentException.class,
+          () -> RunEndEncoder.encode(source, new ArrowType.Int(16, true), allocator));
+
+      source.setValueCount(Short.MAX_VALUE);
+      try (RunEndEncodedVector small = RunEndEncoder.encode(source, new ArrowType.Int(16, true), allocator)) {
+        source.setValueCount(valueCount);
+        try (RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator)) {
+          assertEquals(valueCount, encoded.getRunEnd(encoded.getRunCount() - 1));
+          assertEquals(Short.MAX_VALUE, small.getRunEnd(small.getRunCount() - 1));
+          ValueVectorUtility.validateFull(small);
+
+          // appending the vector to itself overflows the 16 bit run ends
+          assertThrows(IllegalArgumentException.class,
+              () -> new VectorAppender(small).visit(small, null));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    try (IntVector source = newIntVector("v");
+         RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator);
+         FieldVector decoded = RunEndEncoder.decode(encoded, allocator)) {
+      assertEquals(0, encoded.getValueCount());
+      assertEquals(0, encoded.getRunCount());
+      assertEquals(0, decoded.getValueCount());
+      ValueVectorUtility.validateFull(encoded);
+    }
+  }
+
+  @Test
+  public void testTransferAndSplit() {
+    try (IntVector source = newIntVector("v", 1, 1, 1, 2, 2, null, null, 3);
+         RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator);
+         IntVector expected = newIntVector("v", 1, 2, 2, null)) {
+      TransferPair splitPair = encoded.getTransferPair(allocator);
+      splitPair.splitAndTransfer(2, 4);
+      try (RunEndEncodedVector split = (RunEndEncodedVector) splitPair.getTo();
+           FieldVector decoded = RunEndEncoder.decode(split, allocator)) {
+        assertEquals(4, split.getValueCount());
+        assertEquals(3, split.getRunCount());
+        assertEquals(4L, split.getRunEnd(2));
+        ValueVectorUtility.validateFull(split);
+        assertTrue(equals(expected, decoded));
+      }
+
+      TransferPair transferPair = encoded.getTransferPair(allocator);
+      transferPair.transfer();
+      try (RunEndEncodedVector target = (RunEndEncodedVector) transferPair.getTo()) {
+        assertEquals(0, encoded.getValueCount());
+        assertEquals(8, target.getValueCount());
+        assertEquals(3, target.getObject(7));
+      }
+    }
+  }
+
+  @Test
+  public void testRangeEqualsAndAppend() {
+    try (IntVector first = newIntVector("v", 1, 1, 2);
+         IntVector second = newIntVector("v", 2, 2, null);
+         IntVector all = newIntVector("v", 1, 1, 2, 2, 2, null);
+         RunEndEncodedVector target = RunEndEncoder.encode(first, allocator);
+         RunEndEncodedVector delta = RunEndEncoder.encode(second, allocator);
+         RunEndEncodedVector expected = RunEndEncoder.encode(all, allocator)) {
+      VectorAppender appender = new VectorAppender(target);
+      delta.accept(appender, null);
+      assertEquals(6, target.getValueCount());
+      // the appended vector keeps two runs of 2, but is logically equal to the encoded whole
+      assertEquals(4, target.getRunCount());
+      assertEquals(3, expected.getRunCount());
+      ValueVectorUtility.validateFull(target);
+      assertTrue(equals(expected, target));
+      assertTrue(new RangeEqualsVisitor(expected, target).rangeEquals(new Range(2, 2, 3)));
+      assertFalse(new RangeEqualsVisitor(expected, target).rangeEquals(new Range(1, 2, 2)));
+    }
+  }
+
+  @Test
+  public void testIpcRoundTrip() throws Exception {
+    try (IntVector source = newIntVector("v", 7, 7, 7, 7, null, 8, 8);
+         RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator)) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      VectorSchemaRoot root = new VectorSchemaRoot(
+          Collections.singletonList(encoded.getField()), Collections.singletonList(encoded), encoded.getValueCount());
+      try (ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(out))) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+
+      try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+        assertTrue(reader.loadNextBatch());
+        RunEndEncodedVector read = (RunEndEncodedVector) reader.getVectorSchemaRoot().getVector("v");
+        assertEquals(encoded.getField(), read.getField());
+        assertEquals(3, read.getRunCount());
+        ValueVectorUtility.validateFull(read);
+        assertTrue(equals(encoded, read));
+        assertFalse(reader.loadNextBatch());
+      }
+    }
+  }
+
+  @Test
+  public void testValidateRunEnds() {
+    try (IntVector source = newIntVector("v", 1, 2, 3);
+         RunEndEncodedVector encoded = RunEndEncoder.encode(source, allocator)) {
+      ((IntVector) encoded.getRunEndsVector()).set(1, 1);
+      assertThrows(ValidateUtil.ValidateException.class, () -> ValueVectorUtility.validateFull(encoded));
+    }
+  }
+}
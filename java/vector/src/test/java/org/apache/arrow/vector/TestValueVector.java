@@ -42,6 +42,8 @@ import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.memory.rounding.DefaultRoundingPolicy;
 import org.apache.arrow.memory.util.ArrowBufPointer;
 import org.apache.arrow.memory.util.CommonUtil;
+import org.apache.arrow.memory.util.hash.SimpleHasher;
+import org.apache.arrow.memory.util.hash.Xxh3Hasher;
 import org.apache.arrow.vector.compare.Range;
 import org.apache.arrow.vector.compare.RangeEqualsVisitor;
 import org.apache.arrow.vector.compare.VectorEqualsVisitor;
@@ -2851,6 +2853,32 @@ public class TestValueVector {
     }
   }
 
+  @Test
+  public void testHashCode64() {
+    final Xxh3Hasher hasher = new Xxh3Hasher();
+    try (VarCharVector varChVec = new VarCharVector("var char vector", allocator);
+         BigIntVector bigIntVec = new BigIntVector("bigint vector", allocator);
+         ListVector listVec = ListVector.empty("list vector", allocator)) {
+      setVector(varChVec, "a long string value", "abc", null, "a long string value");
+      setVector(bigIntVec, 1L, 2L, null, 1L);
+      setVector(listVec, Arrays.asList(1, 2), Arrays.asList(3), null, Arrays.asList(1, 2));
+
+      for (ValueVector vector : Arrays.<ValueVector>asList(varChVec, bigIntVec, listVec)) {
+        assertEquals(vector.hashCode64(0, hasher), vector.hashCode64(3, hasher));
+        assertTrue(vector.hashCode64(0, hasher) != vector.hashCode64(1, hasher));
+        assertEquals(0, vector.hashCode64(2, hasher));
+      }
+
+      final byte[] bytes = "abc".getBytes(StandardCharsets.UTF_8);
+      try (ArrowBuf buf = allocator.buffer(bytes.length)) {
+        buf.setBytes(0, bytes);
+        assertEquals(hasher.hashCode64(buf, 0, bytes.length), varChVec.hashCode64(1, hasher));
+      }
+      // hashers without a 64-bit output are widened
+      assertEquals(varChVec.hashCode(1, SimpleHasher.INSTANCE), varChVec.hashCode64(1, SimpleHasher.INSTANCE));
+    }
+  }
+
   @Test
   public void testToString() {
     try (final IntVector intVector = new IntVector("intVector", allocator);
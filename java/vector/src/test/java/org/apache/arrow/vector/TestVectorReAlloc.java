@@ -20,16 +20,26 @@ package org.apache.arrow.vector;
 import static org.junit.Assert.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
+import org.apache.arrow.memory.AllocationListener;
+import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.rounding.ChunkedGrowthPolicy;
+import org.apache.arrow.memory.rounding.FactorGrowthPolicy;
+import org.apache.arrow.memory.rounding.SegmentRoundingPolicy;
 import org.apache.arrow.vector.complex.DenseUnionVector;
 import org.apache.arrow.vector.complex.FixedSizeListVector;
+import org.apache.arrow.vector.complex.LargeListVector;
 import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.ListViewVector;
 import org.apache.arrow.vector.complex.StructVector;
 import org.apache.arrow.vector.complex.UnionVector;
 import org.apache.arrow.vector.complex.impl.NullableStructWriter;
 import org.apache.arrow.vector.complex.impl.UnionFixedSizeListWriter;
+import org.apache.arrow.vector.complex.impl.UnionLargeListWriter;
 import org.apache.arrow.vector.complex.impl.UnionListWriter;
 import org.apache.arrow.vector.holders.NullableIntHolder;
 import org.apache.arrow.vector.types.Types.MinorType;
@@ -471,4 +481,282 @@ public class TestVectorReAlloc {
       Assert.assertEquals(vector.getValueCapacity(), savedValueCapacity);
     }
   }
+
+  @Test
+  public void testGrowthPolicies() {
+    final FactorGrowthPolicy factor = new FactorGrowthPolicy(1.5);
+    assertEquals(1500, factor.getGrowthSize(1000, 1001));
+    assertEquals(4000, factor.getGrowthSize(1000, 4000));
+    assertThrows(IllegalArgumentException.class, () -> new FactorGrowthPolicy(1.0));
+
+    final ChunkedGrowthPolicy chunked = new ChunkedGrowthPolicy(1024);
+    assertEquals(2024, chunked.getGrowthSize(1000, 1001));
+    assertEquals(5096, chunked.getGrowthSize(1000, 5000));
+    assertThrows(IllegalArgumentException.class, () -> new ChunkedGrowthPolicy(0));
+  }
+
+  @Test
+  public void testFixedWidthGrowthPolicy() {
+    try (BufferAllocator root = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE,
+            new SegmentRoundingPolicy(1024), new ChunkedGrowthPolicy(4096));
+         BufferAllocator child = root.newChildAllocator("child", 0, Long.MAX_VALUE);
+         IntVector vector = new IntVector("int", child)) {
+      assertTrue(child.getGrowthPolicy() instanceof ChunkedGrowthPolicy);
+      vector.allocateNew(1000);
+      final long initialSize = child.getAllocatedMemory();
+      for (int i = 0; i < 3000; i++) {
+        vector.setSafe(i, i);
+      }
+      // grown by whole chunks, rather than doubled
+      assertEquals(0, (child.getAllocatedMemory() - initialSize) % 4096);
+      assertTrue(child.getAllocatedMemory() < 3000 * 4 * 2);
+
+      vector.setGrowthPolicy(FactorGrowthPolicy.DOUBLING);
+      final int capacity = vector.getValueCapacity();
+      vector.reAlloc();
+      assertTrue(vector.getValueCapacity() > capacity * 3 / 2);
+      for (int i = 0; i < 3000; i++) {
+        assertEquals(i, vector.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testVariableWidthGrowthPolicy() {
+    try (BufferAllocator segmentAllocator = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE,
+            new SegmentRoundingPolicy(1024));
+         VarCharVector vector = new VarCharVector("varchar", segmentAllocator)) {
+      vector.setGrowthPolicy(new FactorGrowthPolicy(1.25));
+      vector.allocateNew(64 * 1024, 10);
+      final byte[] value = new byte[64 * 1024];
+      vector.setSafe(0, value);
+      vector.setSafe(1, value, 0, 1024);
+      // the data buffer grows by 25% instead of doubling
+      assertEquals(80 * 1024, vector.getByteCapacity());
+    }
+  }
+
+  @Test
+  public void testContainerGrowthPolicy() {
+    try (BufferAllocator root = new RootAllocator(AllocationListener.NOOP, Long.MAX_VALUE,
+            new SegmentRoundingPolicy(1024), new FactorGrowthPolicy(1.5));
+         ListVector list = ListVector.empty("list", root);
+         LargeListVector largeList = LargeListVector.empty("largeList", root);
+         FixedSizeListVector fixedSizeList = FixedSizeListVector.empty("fixedSizeList", 2, root);
+         ListViewVector listView = ListViewVector.empty("listView", root);
+         StructVector struct = StructVector.empty("struct", root)) {
+      struct.addOrGet("int", FieldType.nullable(MinorType.INT.getType()), IntVector.class);
+      final List<FieldVector> vectors = Arrays.asList(list, largeList, fixedSizeList, listView, struct);
+      for (FieldVector vector : vectors) {
+        vector.setInitialCapacity(50000);
+        vector.allocateNew();
+      }
+      for (FieldVector vector : vectors) {
+        final int valueCapacity = vector.getValueCapacity();
+        final List<ArrowBuf> before = vector.getFieldBuffers();
+        final long[] capacities = new long[before.size()];
+        for (int i = 0; i < capacities.length; i++) {
+          capacities[i] = before.get(i).capacity();
+        }
+        vector.reAlloc();
+        // the validity, offset and size buffers grow by about half, rather than doubling
+        assertTrue(vector.getName(), vector.getValueCapacity() >= valueCapacity * 3 / 2 - 1024);
+        final List<ArrowBuf> after = vector.getFieldBuffers();
+        for (int i = 0; i < capacities.length; i++) {
+          assertTrue(vector.getName(), after.get(i).capacity() < capacities[i] * 2);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEnsureCapacity() {
+    try (VarCharVector vector = new VarCharVector("varchar", allocator)) {
+      vector.allocateNew(64, 4);
+      final byte[] value = "0123456789".getBytes(StandardCharsets.UTF_8);
+      vector.setSafe(0, value);
+      vector.setSafe(1, value);
+
+      // size the buffers from the density of the first values
+      vector.ensureCapacity(10000);
+      assertTrue(vector.getValueCapacity() >= 10000);
+      assertTrue(vector.getByteCapacity() >= 10000 * value.length);
+      final int byteCapacity = vector.getByteCapacity();
+      for (int i = 2; i < 10000; i++) {
+        vector.set(i, value);
+      }
+      vector.setValueCount(10000);
+      assertEquals(byteCapacity, vector.getByteCapacity());
+      assertEquals("0123456789", vector.getObject(9999).toString());
+    }
+  }
+
+  @Test
+  public void testTrimToSize() {
+    try (IntVector ints = new IntVector("int", allocator);
+         VarCharVector strings = new VarCharVector("varchar", allocator);
+         LargeVarCharVector largeStrings = new LargeVarCharVector("large", allocator)) {
+      ints.allocateNew(100000);
+      strings.allocateNew(512 * 1024, 100000);
+      largeStrings.allocateNew(512 * 1024, 100000);
+      for (int i = 0; i < 100; i++) {
+        ints.set(i, i);
+        strings.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+        largeStrings.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+      }
+      ints.setNull(50);
+      strings.setNull(50);
+
+      final VectorSchemaRoot root = new VectorSchemaRoot(Arrays.<FieldVector>asList(ints, strings, largeStrings));
+      root.setRowCount(100);
+      final long before = allocator.getAllocatedMemory();
+      root.trimToSize();
+      assertTrue(allocator.getAllocatedMemory() < before / 100);
+
+      assertTrue(ints.getValueCapacity() >= 100 && ints.getValueCapacity() < 1000);
+      assertTrue(strings.getByteCapacity() <= 1024);
+      for (int i = 0; i < 100; i++) {
+        if (i == 50) {
+          assertTrue(ints.isNull(i));
+          assertTrue(strings.isNull(i));
+        } else {
+          assertEquals(i, ints.get(i));
+          assertEquals("value" + i, strings.getObject(i).toString());
+        }
+        assertEquals("value" + i, largeStrings.getObject(i).toString());
+      }
+
+      // trimming again does nothing
+      final long trimmed = allocator.getAllocatedMemory();
+      root.trimToSize();
+      assertEquals(trimmed, allocator.getAllocatedMemory());
+
+      // the vectors can still grow
+      ints.setSafe(5000, 1);
+      strings.setSafe(5000, "foo".getBytes(StandardCharsets.UTF_8));
+      assertEquals(1, ints.get(5000));
+      assertEquals("foo", strings.getObject(5000).toString());
+    }
+  }
+
+  @Test
+  public void testTrimListsToSize() {
+    try (ListVector list = ListVector.empty("list", allocator);
+         LargeListVector largeList = LargeListVector.empty("largeList", allocator);
+         FixedSizeListVector fixedSizeList = FixedSizeListVector.empty("fixedSizeList", 2, allocator);
+         ListViewVector listView = ListViewVector.empty("listView", allocator)) {
+      final int capacity = 100000;
+      list.setInitialCapacity(capacity);
+      largeList.setInitialCapacity(capacity);
+      fixedSizeList.setInitialCapacity(capacity);
+      listView.setInitialCapacity(capacity);
+
+      final UnionListWriter listWriter = list.getWriter();
+      final UnionLargeListWriter largeListWriter = largeList.getWriter();
+      final UnionFixedSizeListWriter fixedSizeListWriter = fixedSizeList.getWriter();
+      listWriter.allocate();
+      largeListWriter.allocate();
+      fixedSizeListWriter.allocate();
+      listView.allocateNew();
+      final IntVector listViewData =
+          (IntVector) listView.addOrGetVector(FieldType.nullable(MinorType.INT.getType())).getVector();
+      listViewData.setInitialCapacity(capacity);
+      listViewData.allocateNew();
+      for (int i = 0; i < 10; i++) {
+        listWriter.setPosition(i);
+        largeListWriter.setPosition(i);
+        fixedSizeListWriter.setPosition(i);
+        listWriter.startList();
+        largeListWriter.startList();
+        fixedSizeListWriter.startList();
+        for (int j = i; j < i + 2; j++) {
+          listWriter.writeInt(j);
+          largeListWriter.writeInt(j);
+          fixedSizeListWriter.writeInt(j);
+          listViewData.setSafe(2 * i + j - i, j);
+        }
+        listWriter.endList();
+        largeListWriter.endList();
+        fixedSizeListWriter.endList();
+        listView.setOffsetAndSize(i, 2 * i, 2);
+      }
+      listViewData.setValueCount(20);
+      list.setValueCount(10);
+      largeList.setValueCount(10);
+      fixedSizeList.setValueCount(10);
+      listView.setValueCount(10);
+
+      final long before = allocator.getAllocatedMemory();
+      list.trimToSize();
+      largeList.trimToSize();
+      fixedSizeList.trimToSize();
+      listView.trimToSize();
+      assertTrue(allocator.getAllocatedMemory() < before / 100);
+
+      // the validity, offset and size buffers are trimmed along with the data vectors
+      for (FieldVector vector : Arrays.<FieldVector>asList(list, largeList, fixedSizeList, listView)) {
+        for (ArrowBuf buffer : vector.getFieldBuffers()) {
+          assertTrue(vector.getName(), buffer.capacity() <= 128);
+        }
+        for (int i = 0; i < 10; i++) {
+          assertEquals(Arrays.asList(i, i + 1), vector.getObject(i));
+        }
+      }
+
+      // trimming again does nothing
+      final long trimmed = allocator.getAllocatedMemory();
+      list.trimToSize();
+      largeList.trimToSize();
+      fixedSizeList.trimToSize();
+      listView.trimToSize();
+      assertEquals(trimmed, allocator.getAllocatedMemory());
+
+      // the vectors can still grow
+      listWriter.setPosition(5000);
+      listWriter.startList();
+      listWriter.writeInt(42);
+      listWriter.endList();
+      list.setValueCount(5001);
+      assertEquals(Arrays.asList(42), list.getObject(5000));
+    }
+  }
+
+  @Test
+  public void testTrimStructToSize() {
+    try (StructVector struct = StructVector.empty("struct", allocator)) {
+      final IntVector child = struct.addOrGet("int", FieldType.nullable(MinorType.INT.getType()), IntVector.class);
+      struct.setInitialCapacity(100000);
+      struct.allocateNew();
+      for (int i = 0; i < 10; i++) {
+        struct.setIndexDefined(i);
+        child.set(i, i);
+      }
+      struct.setNull(5);
+      struct.setValueCount(10);
+
+      final long before = allocator.getAllocatedMemory();
+      struct.trimToSize();
+      assertTrue(allocator.getAllocatedMemory() < before / 100);
+      // the validity buffer of the struct is trimmed along with the children
+      assertTrue(struct.getValidityBuffer().capacity() <= 128);
+      for (int i = 0; i < 10; i++) {
+        assertEquals(i == 5, struct.isNull(i));
+        if (i != 5) {
+          assertEquals(i, child.get(i));
+        }
+      }
+
+      // trimming again does nothing
+      final long trimmed = allocator.getAllocatedMemory();
+      struct.trimToSize();
+      assertEquals(trimmed, allocator.getAllocatedMemory());
+
+      // the vector can still grow
+      struct.setIndexDefined(5000);
+      child.setSafe(5000, 42);
+      struct.setValueCount(5001);
+      assertFalse(struct.isNull(5000));
+      assertEquals(42, child.get(5000));
+    }
+  }
 }
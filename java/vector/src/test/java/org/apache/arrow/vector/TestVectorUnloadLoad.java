@@ -74,6 +74,44 @@ public class TestVectorUnloadLoad {
     }
   }
 
+  @Test
+  public void testOmitValidityWhenNoNulls() {
+    final Schema schema = new Schema(asList(
+        Field.nullable("dense", new ArrowType.Int(32, true)),
+        Field.nullable("sparse", new ArrowType.Int(32, true))));
+    try (final VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+      final IntVector dense = (IntVector) root.getVector("dense");
+      final IntVector sparse = (IntVector) root.getVector("sparse");
+      for (int i = 0; i < 10; i++) {
+        dense.setSafe(i, i);
+        if (i % 3 == 0) {
+          sparse.setNull(i);
+        } else {
+          sparse.setSafe(i, i);
+        }
+      }
+      root.setRowCount(10);
+
+      final VectorUnloader unloader = new VectorUnloader(
+          root, /*includeNullCount*/ true, /*codec*/ null, /*alignBuffers*/ true, /*omitValidityWhenNoNulls*/ true);
+      try (final ArrowRecordBatch batch = unloader.getRecordBatch();
+           final VectorSchemaRoot loaded = VectorSchemaRoot.create(schema, allocator)) {
+        assertEquals(0, batch.getBuffers().get(0).capacity());
+        assertTrue(batch.getBuffers().get(2).capacity() > 0);
+
+        new VectorLoader(loaded).load(batch);
+        final IntVector loadedDense = (IntVector) loaded.getVector("dense");
+        final IntVector loadedSparse = (IntVector) loaded.getVector("sparse");
+        assertEquals(0, loadedDense.getNullCount());
+        assertEquals(4, loadedSparse.getNullCount());
+        for (int i = 0; i < 10; i++) {
+          assertEquals(i, loadedDense.get(i));
+          assertEquals(i % 3 == 0, loadedSparse.isNull(i));
+        }
+      }
+    }
+  }
+
   @Test
   public void testUnloadLoad() throws IOException {
     int count = 10000;
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Collections;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.compare.Range;
+import org.apache.arrow.vector.compare.RangeEqualsVisitor;
+import org.apache.arrow.vector.holders.NullableVarBinaryHolder;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestViewVarBinaryVector {
+
+  private static final byte[] EMPTY = new byte[0];
+  private static final byte[] SHORT = {1, 2, 3};
+  // the largest value stored in the view
+  private static final byte[] INLINE = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+  // the smallest value stored in a data buffer, sharing its prefix with INLINE
+  private static final byte[] OUT_OF_LINE = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+  // a value with bytes that are negative when signed
+  private static final byte[] HIGH_BYTES = {(byte) 0xff, (byte) 0x80, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+
+  private static final byte[][] VALUES = {EMPTY, SHORT, INLINE, null, OUT_OF_LINE, HIGH_BYTES};
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Integer.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private static void populate(ViewVarBinaryVector vector) {
+    vector.allocateNew();
+    for (int i = 0; i < VALUES.length; i++) {
+      if (VALUES[i] == null) {
+        vector.setNull(i);
+      } else {
+        vector.setSafe(i, VALUES[i]);
+      }
+    }
+    vector.setValueCount(VALUES.length);
+  }
+
+  private static void checkValues(ViewVarBinaryVector vector, int start, int length) {
+    assertEquals(length, vector.getValueCount());
+    for (int i = 0; i < length; i++) {
+      assertArrayEquals(VALUES[start + i], vector.get(i));
+      assertEquals(VALUES[start + i] == null, vector.isNull(i));
+    }
+  }
+
+  @Test
+  public void testInlineAndOutOfLineValues() {
+    try (ViewVarBinaryVector vector = new ViewVarBinaryVector("v", allocator)) {
+      populate(vector);
+      assertEquals(MinorType.VIEWVARBINARY, vector.getMinorType());
+      assertEquals(1, vector.getNullCount());
+      checkValues(vector, 0, VALUES.length);
+
+      // only the values longer than the inline size go to the data buffer
+      assertEquals(1, vector.getDataBuffers().size());
+      assertEquals(OUT_OF_LINE.length + HIGH_BYTES.length, vector.getDataBuffers().get(0).writerIndex());
+
+      NullableVarBinaryHolder holder = new NullableVarBinaryHolder();
+      vector.get(2, holder);
+      assertEquals(1, holder.isSet);
+      assertEquals(vector.getViewBuffer(), holder.buffer);
+      assertEquals(INLINE.length, holder.end - holder.start);
+
+      vector.get(4, holder);
+      assertEquals(1, holder.isSet);
+      assertEquals(vector.getDataBuffers().get(0), holder.buffer);
+      byte[] bytes = new byte[holder.end - holder.start];
+      holder.buffer.getBytes(holder.start, bytes);
+      assertArrayEquals(OUT_OF_LINE, bytes);
+
+      vector.get(3, holder);
+      assertEquals(0, holder.isSet);
+      assertNull(vector.getObject(3));
+
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+
+  @Test
+  public void testSplitAndTransfer() {
+    try (ViewVarBinaryVector source = new ViewVarBinaryVector("source", allocator)) {
+      populate(source);
+      for (int start = 0; start < VALUES.length; start++) {
+        for (int length = 0; start + length <= VALUES.length; length++) {
+          try (ViewVarBinaryVector target = new ViewVarBinaryVector("target", allocator)) {
+            TransferPair pair = source.makeTransferPair(target);
+            pair.splitAndTransfer(start, length);
+            checkValues(target, start, length);
+            ValueVectorUtility.validateFull(target);
+          }
+        }
+      }
+      // the source is unchanged by the splits
+      checkValues(source, 0, VALUES.length);
+
+      try (ViewVarBinaryVector split = new ViewVarBinaryVector("split", allocator)) {
+        source.makeTransferPair(split).splitAndTransfer(2, 4);
+        // the split vector still owns its data after the source is released
+        source.close();
+        checkValues(split, 2, 4);
+      }
+    }
+  }
+
+  @Test
+  public void testValueEqualsAndCompare() {
+    // the vectors have the same name, so that they compare as equal
+    try (ViewVarBinaryVector left = new ViewVarBinaryVector("v", allocator);
+         ViewVarBinaryVector right = new ViewVarBinaryVector("v", allocator)) {
+      populate(left);
+      populate(right);
+      assertTrue(new RangeEqualsVisitor(left, right).rangeEquals(new Range(0, 0, VALUES.length)));
+
+      for (int i = 0; i < VALUES.length; i++) {
+        if (VALUES[i] == null) {
+          continue;
+        }
+        for (int j = 0; j < VALUES.length; j++) {
+          if (VALUES[j] == null) {
+            continue;
+          }
+          assertEquals(i == j, left.valueEquals(i, right, j));
+          assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(left.compareValues(i, right, j)));
+        }
+      }
+
+      // values with the same length and prefix that differ after it, inline and out of line
+      byte[] inline = INLINE.clone();
+      inline[11] = 0;
+      byte[] outOfLine = OUT_OF_LINE.clone();
+      outOfLine[12] = 0;
+      right.setSafe(2, inline);
+      right.setSafe(4, outOfLine);
+      assertFalse(left.valueEquals(2, right, 2));
+      assertFalse(left.valueEquals(4, right, 4));
+      assertTrue(left.compareValues(2, right, 2) > 0);
+      assertTrue(left.compareValues(4, right, 4) > 0);
+      assertTrue(right.compareValues(4, left, 4) < 0);
+      assertFalse(new RangeEqualsVisitor(left, right).rangeEquals(new Range(0, 0, VALUES.length)));
+      assertTrue(new RangeEqualsVisitor(left, right).rangeEquals(new Range(0, 0, 2)));
+    }
+  }
+
+  @Test
+  public void testIpcRoundTrip() throws Exception {
+    try (ViewVarBinaryVector vector = new ViewVarBinaryVector("binary", allocator)) {
+      populate(vector);
+      VectorSchemaRoot root = new VectorSchemaRoot(Collections.singletonList(vector));
+
+      ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+      try (ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(streamOut))) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+      try (ArrowStreamReader reader = new ArrowStreamReader(
+          new ByteArrayInputStream(streamOut.toByteArray()), allocator)) {
+        checkRoundTrip(reader);
+      }
+
+      ByteArrayOutputStream fileOut = new ByteArrayOutputStream();
+      try (ArrowFileWriter writer = new ArrowFileWriter(root, null, Channels.newChannel(fileOut))) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+      try (ArrowFileReader reader = new ArrowFileReader(
+          new ByteArrayReadableSeekableByteChannel(fileOut.toByteArray()), allocator)) {
+        checkRoundTrip(reader);
+      }
+    }
+  }
+
+  private static void checkRoundTrip(ArrowReader reader) throws Exception {
+    assertTrue(reader.loadNextBatch());
+    ViewVarBinaryVector read = (ViewVarBinaryVector) reader.getVectorSchemaRoot().getVector("binary");
+    checkValues(read, 0, VALUES.length);
+    ValueVectorUtility.validateFull(read);
+    assertFalse(reader.loadNextBatch());
+  }
+}
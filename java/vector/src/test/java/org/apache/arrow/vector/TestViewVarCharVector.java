@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.compare.Range;
+import org.apache.arrow.vector.compare.RangeEqualsVisitor;
+import org.apache.arrow.vector.holders.NullableVarCharHolder;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.arrow.vector.util.Text;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.arrow.vector.util.ValueVectorUtility;
+import org.apache.arrow.vector.util.VectorAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestViewVarCharVector {
+
+  private static final byte[] STR1 = "short".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] STR2 = "exactly12byt".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] STR3 = "a string that does not fit in a view".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] STR4 = "another string stored out of line".getBytes(StandardCharsets.UTF_8);
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(Integer.MAX_VALUE);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  private static void populate(ViewVarCharVector vector) {
+    vector.allocateNew();
+    vector.setSafe(0, STR1);
+    vector.setSafe(1, STR2);
+    vector.setNull(2);
+    vector.setSafe(3, STR3);
+    vector.setSafe(4, STR4);
+    vector.setValueCount(5);
+  }
+
+  private static void checkPopulated(ViewVarCharVector vector, int offset) {
+    assertArrayEquals(STR1, vector.get(offset));
+    assertArrayEquals(STR2, vector.get(offset + 1));
+    assertTrue(vector.isNull(offset + 2));
+    assertNull(vector.get(offset + 2));
+    assertArrayEquals(STR3, vector.get(offset + 3));
+    assertArrayEquals(STR4, vector.get(offset + 4));
+  }
+
+  @Test
+  public void testSetAndGet() {
+    try (ViewVarCharVector vector = new ViewVarCharVector("v", allocator)) {
+      populate(vector);
+      assertEquals(MinorType.VIEWVARCHAR, vector.getMinorType());
+      assertEquals(5, vector.getValueCount());
+      assertEquals(1, vector.getNullCount());
+      checkPopulated(vector, 0);
+
+      assertEquals(STR1.length, vector.getValueLength(0));
+      assertEquals(STR3.length, vector.getValueLength(3));
+      assertEquals(new Text(STR3), vector.getObject(3));
+
+      // only the values longer than the inline size go to the data buffer
+      assertEquals(1, vector.getDataBuffers().size());
+      assertEquals(STR3.length + STR4.length, vector.getDataBuffers().get(0).writerIndex());
+
+      NullableVarCharHolder holder = new NullableVarCharHolder();
+      vector.get(4, holder);
+      assertEquals(1, holder.isSet);
+      byte[] bytes = new byte[holder.end - holder.start];
+      holder.buffer.getBytes(holder.start, bytes);
+      assertArrayEquals(STR4, bytes);
+
+      vector.get(2, holder);
+      assertEquals(0, holder.isSet);
+
+      // overwriting a value does not disturb its neighbours
+      vector.setSafe(1, STR4);
+      assertArrayEquals(STR4, vector.get(1));
+      assertArrayEquals(STR3, vector.get(3));
+
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+
+  @Test
+  public void testReAlloc() {
+    try (ViewVarCharVector vector = new ViewVarCharVector("v", allocator)) {
+      vector.setInitialCapacity(16);
+      vector.allocateNew();
+      for (int i = 0; i < 10000; i++) {
+        vector.setSafe(i, (i % 2 == 0 ? "value " + i : "a longer value number " + i).getBytes(StandardCharsets.UTF_8));
+      }
+      vector.setValueCount(10000);
+      assertTrue(vector.getDataBuffers().size() > 1);
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(i % 2 == 0 ? "value " + i : "a longer value number " + i, vector.getObject(i).toString());
+      }
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+
+  @Test
+  public void testTransferAndSplit() {
+    try (ViewVarCharVector source = new ViewVarCharVector("source", allocator);
+         ViewVarCharVector target = new ViewVarCharVector("target", allocator);
+         ViewVarCharVector split = new ViewVarCharVector("split", allocator)) {
+      populate(source);
+
+      TransferPair splitPair = source.makeTransferPair(split);
+      splitPair.splitAndTransfer(1, 4);
+      assertEquals(4, split.getValueCount());
+      assertArrayEquals(STR2, split.get(0));
+      assertTrue(split.isNull(1));
+      assertArrayEquals(STR3, split.get(2));
+      assertArrayEquals(STR4, split.get(3));
+      ValueVectorUtility.validateFull(split);
+
+      TransferPair transferPair = source.makeTransferPair(target);
+      transferPair.transfer();
+      assertEquals(0, source.getValueCount());
+      checkPopulated(target, 0);
+
+      // the split vector still owns its data after the source buffers are transferred away
+      source.close();
+      target.close();
+      assertArrayEquals(STR3, split.get(2));
+    }
+  }
+
+  @Test
+  public void testCopyFromAndAppend() {
+    // the vectors have the same name, so that they compare as equal
+    try (ViewVarCharVector source = new ViewVarCharVector("v", allocator);
+         ViewVarCharVector target = new ViewVarCharVector("v", allocator)) {
+      populate(source);
+      target.allocateNew();
+      for (int i = 0; i < source.getValueCount(); i++) {
+        target.copyFromSafe(i, i, source);
+      }
+      target.setValueCount(source.getValueCount());
+      checkPopulated(target, 0);
+
+      assertTrue(new RangeEqualsVisitor(source, target).rangeEquals(new Range(0, 0, 5)));
+      target.setSafe(3, STR4);
+      assertFalse(new RangeEqualsVisitor(source, target).rangeEquals(new Range(0, 0, 5)));
+      assertTrue(source.valueEquals(4, target, 3));
+      assertTrue(source.compareValues(3, target, 3) < 0);
+      assertTrue(source.compareValues(0, source, 1) > 0);
+      assertEquals(0, source.compareValues(1, source, 1));
+
+      target.setSafe(3, STR3);
+      VectorAppender appender = new VectorAppender(target);
+      source.accept(appender, null);
+      assertEquals(10, target.getValueCount());
+      checkPopulated(target, 0);
+      checkPopulated(target, 5);
+      ValueVectorUtility.validateFull(target);
+    }
+  }
+
+  @Test
+  public void testIpcRoundTrip() throws Exception {
+    try (ViewVarCharVector vector = new ViewVarCharVector("strings", allocator);
+         ViewVarBinaryVector binary = new ViewVarBinaryVector("binary", allocator)) {
+      populate(vector);
+      binary.allocateNew();
+      binary.setSafe(0, STR3);
+      binary.setNull(1);
+      binary.setSafe(2, STR1);
+      binary.setValueCount(3);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      VectorSchemaRoot root = new VectorSchemaRoot(
+          Arrays.asList(vector.getField(), binary.getField()), Arrays.asList(vector, binary), 5);
+      try (ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(out))) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+
+      try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+        assertTrue(reader.loadNextBatch());
+        VectorSchemaRoot readRoot = reader.getVectorSchemaRoot();
+        ViewVarCharVector readVector = (ViewVarCharVector) readRoot.getVector("strings");
+        checkPopulated(readVector, 0);
+        ViewVarBinaryVector readBinary = (ViewVarBinaryVector) readRoot.getVector("binary");
+        assertArrayEquals(STR3, readBinary.get(0));
+        assertNull(readBinary.get(1));
+        assertArrayEquals(STR1, readBinary.get(2));
+        ValueVectorUtility.validateFull(readVector);
+        ValueVectorUtility.validateFull(readBinary);
+        assertFalse(reader.loadNextBatch());
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyVector() {
+    try (ViewVarCharVector vector = new ViewVarCharVector("v", allocator)) {
+      vector.allocateNew();
+      vector.setValueCount(0);
+      assertEquals(Collections.emptyList(), vector.getDataBuffers());
+      ValueVectorUtility.validateFull(vector);
+    }
+  }
+}
@@ -67,7 +67,9 @@ import org.apache.arrow.vector.compare.Range;
 import org.apache.arrow.vector.compare.RangeEqualsVisitor;
 import org.apache.arrow.vector.compare.TypeEqualsVisitor;
 import org.apache.arrow.vector.compare.VectorEqualsVisitor;
+import org.apache.arrow.vector.complex.ListVector;
 import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
 import org.apache.arrow.vector.dictionary.Dictionary;
 import org.apache.arrow.vector.dictionary.DictionaryEncoder;
 import org.apache.arrow.vector.dictionary.DictionaryProvider;
@@ -995,4 +997,189 @@ public class TestArrowReaderWriter {
 
     assertEquals("invalid footer length: " + footerLength, e.getMessage());
   }
+
+  /**
+   * Writes batches alternating between no nulls, whose validity buffers are omitted, and nulls.
+   */
+  private void writeOmittedValidityBatches(VectorSchemaRoot root, ArrowWriter writer) throws IOException {
+    final IntVector ints = (IntVector) root.getVector("ints");
+    final VarCharVector strings = (VarCharVector) root.getVector("strings");
+    final ListVector lists = (ListVector) root.getVector("lists");
+    final StructVector structs = (StructVector) root.getVector("structs");
+    writer.start();
+    for (int batch = 0; batch < 3; batch++) {
+      root.allocateNew();
+      final UnionListWriter listWriter = lists.getWriter();
+      final IntVector structChild = (IntVector) structs.getChild("a");
+      for (int i = 0; i < 5; i++) {
+        final boolean isNull = batch == 1 && i % 2 == 0;
+        if (isNull) {
+          ints.setNull(i);
+          strings.setNull(i);
+          structs.setNull(i);
+        } else {
+          ints.setSafe(i, batch * 10 + i);
+          strings.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+          structs.setIndexDefined(i);
+          structChild.setSafe(i, i);
+          listWriter.setPosition(i);
+          listWriter.startList();
+          listWriter.writeInt(i);
+          listWriter.endList();
+        }
+      }
+      root.setRowCount(5);
+      writer.writeBatch();
+    }
+    writer.end();
+  }
+
+  private void checkOmittedValidityBatch(VectorSchemaRoot root, int batch) {
+    assertEquals(5, root.getRowCount());
+    for (FieldVector vector : root.getFieldVectors()) {
+      assertEquals(vector.getName(), batch == 1 ? 3 : 0, vector.getNullCount());
+      for (int i = 0; i < 5; i++) {
+        final boolean isNull = batch == 1 && i % 2 == 0;
+        assertEquals(isNull, vector.isNull(i));
+      }
+    }
+    assertEquals(batch * 10 + 1, ((IntVector) root.getVector("ints")).get(1));
+    assertEquals("value3", root.getVector("strings").getObject(3).toString());
+    assertEquals(Arrays.asList(3), root.getVector("lists").getObject(3));
+    assertEquals(1, ((StructVector) root.getVector("structs")).getChild("a").getObject(1));
+  }
+
+  @Test
+  public void testOmittedValidityRoundTrip() throws IOException {
+    final Schema schema = new Schema(asList(
+        Field.nullable("ints", new ArrowType.Int(32, true)),
+        Field.nullable("strings", ArrowType.Utf8.INSTANCE),
+        new Field("lists", FieldType.nullable(ArrowType.List.INSTANCE),
+            asList(Field.nullable("$data$", new ArrowType.Int(32, true)))),
+        new Field("structs", FieldType.nullable(ArrowType.Struct.INSTANCE),
+            asList(Field.nullable("a", new ArrowType.Int(32, true))))));
+
+    final IpcOption option = new IpcOption(false, MetadataVersion.DEFAULT, /*omitValidityWhenNoNulls*/ true);
+
+    // stream format
+    final ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+    try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+         ArrowStreamWriter writer = new ArrowStreamWriter(root, null, newChannel(streamOut), option)) {
+      writeOmittedValidityBatches(root, writer);
+    }
+    try (ArrowStreamReader reader = new ArrowStreamReader(
+        new ByteArrayInputStream(streamOut.toByteArray()), allocator)) {
+      for (int batch = 0; batch < 3; batch++) {
+        assertTrue(reader.loadNextBatch());
+        checkOmittedValidityBatch(reader.getVectorSchemaRoot(), batch);
+      }
+      assertFalse(reader.loadNextBatch());
+    }
+
+    // file format
+    final ByteArrayOutputStream fileOut = new ByteArrayOutputStream();
+    try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+         ArrowFileWriter writer = new ArrowFileWriter(root, null, newChannel(fileOut), option)) {
+      writeOmittedValidityBatches(root, writer);
+    }
+    final byte[] fileBytes = fileOut.toByteArray();
+    try (SeekableReadChannel channel = new SeekableReadChannel(new ByteArrayReadableSeekableByteChannel(fileBytes));
+         ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+      final List<ArrowBlock> blocks = reader.getRecordBlocks();
+      assertEquals(3, blocks.size());
+      for (int batch = 2; batch >= 0; batch--) {
+        // the validity buffer of the first column is only written for the batch with nulls
+        assertEquals(batch == 1, readRecordBatch(fileBytes, blocks.get(batch)).buffers(0).length() > 0);
+
+        assertTrue(reader.loadRecordBatch(blocks.get(batch)));
+        checkOmittedValidityBatch(reader.getVectorSchemaRoot(), batch);
+        // the vectors without nulls are loaded without allocating a validity buffer
+        assertEquals(batch != 1, ((IntVector) reader.getVectorSchemaRoot().getVector("ints")).isAllValid());
+        assertEquals(batch != 1, ((VarCharVector) reader.getVectorSchemaRoot().getVector("strings")).isAllValid());
+      }
+    }
+  }
+
+  @Test
+  public void testValidityWrittenByDefault() throws IOException {
+    final Schema schema = new Schema(asList(
+        Field.nullable("ints", new ArrowType.Int(32, true)),
+        Field.nullable("strings", ArrowType.Utf8.INSTANCE),
+        new Field("lists", FieldType.nullable(ArrowType.List.INSTANCE),
+            asList(Field.nullable("$data$", new ArrowType.Int(32, true)))),
+        new Field("structs", FieldType.nullable(ArrowType.Struct.INSTANCE),
+            asList(Field.nullable("a", new ArrowType.Int(32, true))))));
+    final ByteArrayOutputStream fileOut = new ByteArrayOutputStream();
+    try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+         ArrowFileWriter writer = new ArrowFileWriter(root, null, newChannel(fileOut))) {
+      writeOmittedValidityBatches(root, writer);
+    }
+    final byte[] fileBytes = fileOut.toByteArray();
+    try (SeekableReadChannel channel = new SeekableReadChannel(new ByteArrayReadableSeekableByteChannel(fileBytes));
+         ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+      for (ArrowBlock block : reader.getRecordBlocks()) {
+        assertTrue(readRecordBatch(fileBytes, block).buffers(0).length() > 0);
+      }
+    }
+  }
+
+  @Test
+  public void testDeferredValidityRoundTrip() throws IOException {
+    final Schema schema = new Schema(asList(
+        Field.nullable("ints", new ArrowType.Int(32, true)),
+        Field.nullable("strings", ArrowType.Utf8.INSTANCE)));
+    final ByteArrayOutputStream fileOut = new ByteArrayOutputStream();
+    try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+         ArrowFileWriter writer = new ArrowFileWriter(root, null, newChannel(fileOut))) {
+      final IntVector ints = (IntVector) root.getVector("ints");
+      final VarCharVector strings = (VarCharVector) root.getVector("strings");
+      ints.setDeferValidityAllocation(true);
+      strings.setDeferValidityAllocation(true);
+      writer.start();
+      for (int batch = 0; batch < 2; batch++) {
+        root.allocateNew();
+        for (int i = 0; i < 5; i++) {
+          ints.setSafe(i, batch * 10 + i);
+          if (batch == 1 && i == 2) {
+            strings.setNull(i);
+          } else {
+            strings.setSafe(i, ("value" + i).getBytes(StandardCharsets.UTF_8));
+          }
+        }
+        root.setRowCount(5);
+        assertTrue(ints.isAllValid());
+        assertEquals(batch == 0, strings.isAllValid());
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+    final byte[] fileBytes = fileOut.toByteArray();
+    try (SeekableReadChannel channel = new SeekableReadChannel(new ByteArrayReadableSeekableByteChannel(fileBytes));
+         ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+      final List<ArrowBlock> blocks = reader.getRecordBlocks();
+      for (int batch = 0; batch < 2; batch++) {
+        // the vectors without a validity buffer are written without it, even with the default options
+        final RecordBatch recordBatch = readRecordBatch(fileBytes, blocks.get(batch));
+        assertEquals(0, recordBatch.buffers(0).length());
+        assertEquals(batch == 1, recordBatch.buffers(2).length() > 0);
+
+        assertTrue(reader.loadRecordBatch(blocks.get(batch)));
+        final IntVector ints = (IntVector) reader.getVectorSchemaRoot().getVector("ints");
+        final VarCharVector strings = (VarCharVector) reader.getVectorSchemaRoot().getVector("strings");
+        assertEquals(0, ints.getNullCount());
+        assertEquals(batch, strings.getNullCount());
+        for (int i = 0; i < 5; i++) {
+          assertEquals(batch * 10 + i, ints.get(i));
+          assertEquals(batch == 1 && i == 2, strings.isNull(i));
+        }
+      }
+    }
+  }
+
+  private static RecordBatch readRecordBatch(byte[] fileBytes, ArrowBlock block) {
+    final ByteBuffer header = ByteBuffer.allocate(block.getMetadataLength());
+    header.put(fileBytes, checkedCastToInt(block.getOffset()), header.capacity());
+    header.position(8);
+    return (RecordBatch) Message.getRootAsMessage(header).header(new RecordBatch());
+  }
 }
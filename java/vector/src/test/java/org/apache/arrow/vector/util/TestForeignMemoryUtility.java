@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.arrow.memory.AllocationListener;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.ForeignAllocation;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ForeignMemoryUtility}.
+ */
+public class TestForeignMemoryUtility {
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void init() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void terminate() {
+    allocator.close();
+  }
+
+  @Test
+  public void testWrapFixedWidth() {
+    final ByteBuffer data = ByteBuffer.allocateDirect(10 * Float8Vector.TYPE_WIDTH).order(ByteOrder.nativeOrder());
+    for (int i = 0; i < 10; i++) {
+      data.putDouble(i * 0.5);
+    }
+    data.flip();
+
+    final AtomicInteger released = new AtomicInteger();
+    try (Float8Vector vector = ForeignMemoryUtility.wrap(
+        new Float8Vector("vector", allocator), 10, data, released::incrementAndGet)) {
+      assertEquals(10, vector.getValueCount());
+      assertEquals(0, vector.getNullCount());
+      for (int i = 0; i < 10; i++) {
+        assertEquals(i * 0.5, vector.get(i), 0);
+      }
+      // no copy is made
+      data.putDouble(0, 100.0);
+      assertEquals(100.0, vector.get(0), 0);
+
+      // the memory follows a transfer
+      try (Float8Vector target = new Float8Vector("target", allocator)) {
+        final TransferPair transferPair = vector.makeTransferPair(target);
+        transferPair.transfer();
+        vector.close();
+        assertEquals(0, released.get());
+        assertEquals(100.0, target.get(0), 0);
+      }
+    }
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  public void testWrapWithValidity() {
+    final ByteBuffer data = ByteBuffer.allocateDirect(4 * IntVector.TYPE_WIDTH).order(ByteOrder.nativeOrder());
+    data.asIntBuffer().put(new int[] {1, 2, 3, 4});
+    final AtomicInteger released = new AtomicInteger();
+    try (ArrowBuf validity = allocator.buffer(8);
+         ArrowBuf dataBuffer = allocator.wrapForeignAllocation(
+             ForeignAllocation.of(data, released::incrementAndGet));
+         IntVector vector = new IntVector("vector", allocator)) {
+      validity.setZero(0, validity.capacity());
+      validity.setByte(0, 0b1101);
+      ForeignMemoryUtility.wrap(vector, 4, validity, dataBuffer);
+      assertEquals(1, vector.getNullCount());
+      assertTrue(vector.isNull(1));
+      assertEquals(4, vector.get(3));
+    }
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  public void testWrapVariableWidth() {
+    final byte[] bytes = "helloarrowjava".getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer data = ByteBuffer.allocateDirect(bytes.length);
+    data.put(bytes).flip();
+    final ByteBuffer offsets = ByteBuffer.allocateDirect(4 * 4).order(ByteOrder.nativeOrder());
+    offsets.asIntBuffer().put(new int[] {0, 5, 10, 14});
+
+    final AtomicInteger released = new AtomicInteger();
+    try (VarCharVector vector = ForeignMemoryUtility.wrap(
+        new VarCharVector("vector", allocator), 3, offsets, data, released::incrementAndGet)) {
+      assertEquals(3, vector.getValueCount());
+      assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), vector.get(0));
+      assertArrayEquals("arrow".getBytes(StandardCharsets.UTF_8), vector.get(1));
+      assertArrayEquals("java".getBytes(StandardCharsets.UTF_8), vector.get(2));
+      assertEquals(0, released.get());
+    }
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  public void testWrapTooSmall() {
+    final ByteBuffer data = ByteBuffer.allocateDirect(16);
+    final AtomicInteger released = new AtomicInteger();
+    try (Float8Vector vector = new Float8Vector("vector", allocator)) {
+      assertThrows(IllegalArgumentException.class,
+          () -> ForeignMemoryUtility.wrap(vector, 3, data, released::incrementAndGet));
+      // the memory is released even though the vector could not be built
+      assertEquals(1, released.get());
+      assertEquals(0, vector.getValueCount());
+    }
+    assertEquals(0, allocator.getAllocatedMemory());
+  }
+
+  @Test
+  public void testWrapExceedingLimit() {
+    final ByteBuffer data = ByteBuffer.allocateDirect(16);
+    final ByteBuffer offsets = ByteBuffer.allocateDirect(16);
+    final AtomicInteger released = new AtomicInteger();
+    try (BufferAllocator child = allocator.newChildAllocator("child", 0, 8);
+         Float8Vector vector = new Float8Vector("vector", child);
+         VarCharVector varChars = new VarCharVector("varChars", child)) {
+      assertThrows(OutOfMemoryException.class,
+          () -> ForeignMemoryUtility.wrap(vector, 2, data, released::incrementAndGet));
+      assertEquals(1, released.get());
+
+      assertThrows(OutOfMemoryException.class,
+          () -> ForeignMemoryUtility.wrap(varChars, 1, offsets, data, released::incrementAndGet));
+      assertEquals(2, released.get());
+    }
+  }
+
+  @Test
+  public void testWrapFailingAfterAllocation() {
+    // the allocator releases the allocation itself when failing after reserving its memory
+    final AllocationListener failing = new AllocationListener() {
+      @Override
+      public void onAllocation(long size) {
+        throw new IllegalStateException("failing listener");
+      }
+    };
+    final ByteBuffer data = ByteBuffer.allocateDirect(16);
+    final ByteBuffer offsets = ByteBuffer.allocateDirect(16);
+    final AtomicInteger released = new AtomicInteger();
+    try (BufferAllocator failingAllocator = new RootAllocator(failing, Long.MAX_VALUE);
+         Float8Vector vector = new Float8Vector("vector", failingAllocator);
+         VarCharVector varChars = new VarCharVector("varChars", failingAllocator)) {
+      assertThrows(IllegalStateException.class,
+          () -> ForeignMemoryUtility.wrap(vector, 2, data, released::incrementAndGet));
+      assertEquals(1, released.get());
+
+      assertThrows(IllegalStateException.class,
+          () -> ForeignMemoryUtility.wrap(varChars, 1, offsets, data, released::incrementAndGet));
+      assertEquals(2, released.get());
+    }
+  }
+}
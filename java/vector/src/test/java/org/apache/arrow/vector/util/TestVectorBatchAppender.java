@@ -18,10 +18,14 @@
 package org.apache.arrow.vector.util;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+
+import java.util.Arrays;
 
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.testing.ValueVectorDataPopulator;
 import org.junit.After;
 import org.junit.Before;
@@ -69,4 +73,44 @@ public class TestVectorBatchAppender {
       }
     }
   }
+
+  @Test
+  public void testConcatIntVectors() {
+    try (IntVector vector1 = new IntVector("", allocator);
+         IntVector vector2 = new IntVector("", allocator);
+         IntVector vector3 = new IntVector("", allocator)) {
+      ValueVectorDataPopulator.setVector(vector1, 0, 1, null, 3, 4, 5, 6, 7, 8, 9);
+      ValueVectorDataPopulator.setVector(vector2);
+      ValueVectorDataPopulator.setVector(vector3, 10, null, 12);
+
+      try (IntVector result = VectorBatchAppender.concat(Arrays.asList(vector1, vector2, vector3), allocator)) {
+        assertEquals(13, result.getValueCount());
+        assertEquals(2, result.getNullCount());
+        for (int i = 0; i < result.getValueCount(); i++) {
+          if (i == 2 || i == 11) {
+            assertTrue(result.isNull(i));
+          } else {
+            assertEquals(i, result.get(i));
+          }
+        }
+      }
+      assertEquals(10, vector1.getValueCount());
+    }
+  }
+
+  @Test
+  public void testConcatVarCharVectors() {
+    try (VarCharVector vector1 = new VarCharVector("", allocator);
+         VarCharVector vector2 = new VarCharVector("", allocator)) {
+      ValueVectorDataPopulator.setVector(vector1, "zero", null, "two");
+      ValueVectorDataPopulator.setVector(vector2, "three", "", null, "five");
+
+      try (VarCharVector result = VectorBatchAppender.concat(Arrays.asList(vector1, vector2), allocator);
+           VarCharVector expected = new VarCharVector("", allocator)) {
+        ValueVectorDataPopulator.setVector(expected, "zero", null, "two", "three", "", null, "five");
+        TestVectorAppender.assertVectorsEqual(expected, result);
+        ValueVectorUtility.validateFull(result);
+      }
+    }
+  }
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.arrow.vector.util;
+
+import static org.apache.arrow.vector.testing.ValueVectorDataPopulator.setVector;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.util.ByteFunctionHelpers;
+import org.apache.arrow.memory.util.hash.ArrowBufHasher;
+import org.apache.arrow.memory.util.hash.MurmurHasher;
+import org.apache.arrow.memory.util.hash.Xxh3Hasher;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.LargeVarCharVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.FixedSizeListVector;
+import org.apache.arrow.vector.complex.LargeListVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.ipc.message.ArrowFieldNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link VectorBatchHasher} and {@link ValueVector#hashAll(int, int, long[], ArrowBufHasher)}.
+ */
+public class TestVectorBatchHasher {
+
+  private static final ArrowBufHasher[] HASHERS = {null, new MurmurHasher(), new Xxh3Hasher(), new Xxh3Hasher(42)};
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void prepare() {
+    allocator = new RootAllocator(1024 * 1024);
+  }
+
+  @After
+  public void shutdown() {
+    allocator.close();
+  }
+
+  /**
+   * Verify that hashAll produces the same hash codes as hashCode64, for all the sub-ranges of the vector.
+   */
+  private static void verifyHashAll(ValueVector vector) {
+    final int valueCount = vector.getValueCount();
+    for (ArrowBufHasher hasher : HASHERS) {
+      for (int start = 0; start <= valueCount; start++) {
+        for (int count = 0; start + count <= valueCount; count++) {
+          final long[] out = new long[count];
+          vector.hashAll(start, count, out, hasher);
+          for (int i = 0; i < count; i++) {
+            assertEquals(vector.hashCode64(start + i, hasher), out[i]);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFixedWidthVectors() {
+    try (IntVector intVector = new IntVector("int", allocator);
+         BigIntVector bigIntVector = new BigIntVector("bigint", allocator);
+         Float8Vector float8Vector = new Float8Vector("float8", allocator);
+         BitVector bitVector = new BitVector("bit", allocator)) {
+      setVector(intVector, 1, 2, null, 4, 1, null, 7, 8, 9, 10, null, 12);
+      setVector(bigIntVector, 1L, null, 3L, 1L);
+      setVector(float8Vector, 1.0, 2.5, null, 1.0, -0.5);
+      setVector(bitVector, 1, 0, null, 1);
+
+      verifyHashAll(intVector);
+      verifyHashAll(bigIntVector);
+      verifyHashAll(float8Vector);
+      verifyHashAll(bitVector);
+
+      final long[] out = new long[4];
+      intVector.hashAll(0, 4, out, null);
+      assertEquals(0, out[2]);
+      assertNotEquals(out[0], out[1]);
+      intVector.hashAll(4, 1, out, null);
+      assertEquals(intVector.hashCode64(0, null), out[0]);
+    }
+  }
+
+  @Test
+  public void testWholeValidityWords() {
+    try (IntVector intVector = new IntVector("int", allocator);
+         VarCharVector varCharVector = new VarCharVector("varchar", allocator);
+         LargeVarCharVector largeVarCharVector = new LargeVarCharVector("large varchar", allocator);
+         BitVector bitVector = new BitVector("bit", allocator)) {
+      // the second validity word is all null and the third all valid
+      final int valueCount = 200;
+      final Integer[] ints = new Integer[valueCount];
+      final String[] strings = new String[valueCount];
+      final Integer[] bits = new Integer[valueCount];
+      for (int i = 0; i < valueCount; i++) {
+        if ((i >= 64 && i < 128) || (i < 64 && i % 7 == 3) || (i >= 192 && i % 5 == 0)) {
+          continue;
+        }
+        ints[i] = i % 10;
+        strings[i] = "value" + (i % 10);
+        bits[i] = i % 3 == 0 ? 1 : 0;
+      }
+      setVector(intVector, ints);
+      setVector(varCharVector, strings);
+      setVector(bitVector, bits);
+      largeVarCharVector.allocateNew(valueCount);
+      for (int i = 0; i < valueCount; i++) {
+        if (strings[i] != null) {
+          largeVarCharVector.setSafe(i, strings[i].getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      largeVarCharVector.setValueCount(valueCount);
+
+      verifyHashAll(intVector);
+      verifyHashAll(varCharVector);
+      verifyHashAll(largeVarCharVector);
+      verifyHashAll(bitVector);
+      // the bit values are hashed with the given hasher
+      assertNotEquals(bitVector.hashCode64(0, null), bitVector.hashCode64(0, new Xxh3Hasher()));
+    }
+  }
+
+  @Test
+  public void testDeferredValidity() {
+    try (IntVector source = new IntVector("source", allocator);
+         IntVector intVector = new IntVector("int", allocator);
+         VarCharVector varCharVector = new VarCharVector("varchar", allocator);
+         BitVector bitVector = new BitVector("bit", allocator)) {
+      source.allocateNew(100);
+      for (int i = 0; i < 100; i++) {
+        source.set(i, i % 10);
+      }
+      source.setValueCount(100);
+      // the values after the loaded ones are null
+      intVector.loadFieldBuffers(new ArrowFieldNode(100, 0),
+          Arrays.asList(allocator.getEmpty(), source.getDataBuffer()));
+      intVector.setValueCount(150);
+      assertTrue(intVector.isNull(120));
+
+      varCharVector.setDeferValidityAllocation(true);
+      varCharVector.allocateNew();
+      bitVector.setDeferValidityAllocation(true);
+      bitVector.allocateNew(150);
+      for (int i = 0; i < 150; i++) {
+        varCharVector.setSafe(i, ("value" + (i % 10)).getBytes(StandardCharsets.UTF_8));
+        bitVector.set(i, i % 3 == 0 ? 1 : 0);
+      }
+      varCharVector.setValueCount(150);
+      bitVector.setValueCount(150);
+      assertTrue(varCharVector.isAllValid());
+      assertTrue(bitVector.isAllValid());
+
+      verifyHashAll(intVector);
+      verifyHashAll(varCharVector);
+      verifyHashAll(bitVector);
+    }
+  }
+
+  @Test
+  public void testVariableWidthVectors() {
+    try (VarCharVector varCharVector = new VarCharVector("varchar", allocator);
+         LargeVarCharVector largeVarCharVector = new LargeVarCharVector("large varchar", allocator)) {
+      setVector(varCharVector, "a", "", null, "a long value that is hashed in more than one step", "a");
+      setVector(largeVarCharVector, "a", null, "", "abc", "a");
+
+      verifyHashAll(varCharVector);
+      verifyHashAll(largeVarCharVector);
+    }
+  }
+
+  @Test
+  public void testNestedVectors() {
+    try (ListVector listVector = ListVector.empty("list", allocator);
+         LargeListVector largeListVector = LargeListVector.empty("large list", allocator);
+         FixedSizeListVector fixedSizeListVector = FixedSizeListVector.empty("fixed size list", 2, allocator);
+         StructVector structVector = StructVector.empty("struct", allocator)) {
+      setVector(listVector, Arrays.asList(1, 2), Collections.emptyList(), null, Arrays.asList(3), Arrays.asList(1, 2));
+      setVector(largeListVector, Arrays.asList(1, 2), null, Arrays.asList(3, 4, 5), Arrays.asList(1, 2));
+      setVector(fixedSizeListVector, Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(1, 2));
+
+      final Map<String, List<Integer>> structValues = new LinkedHashMap<>();
+      structValues.put("a", Arrays.asList(1, 2, null, 1));
+      structValues.put("b", Arrays.asList(5, 6, null, 5, 7));
+      setVector(structVector, structValues);
+
+      verifyHashAll(listVector);
+      verifyHashAll(largeListVector);
+      verifyHashAll(fixedSizeListVector);
+      verifyHashAll(structVector);
+    }
+  }
+
+  @Test
+  public void testHashRows() {
+    try (IntVector intVector = new IntVector("int", allocator);
+         VarCharVector varCharVector = new VarCharVector("varchar", allocator)) {
+      setVector(intVector, 1, 2, 1, 1, null);
+      setVector(varCharVector, "a", "a", "a", "b", "a");
+      final Xxh3Hasher hasher = new Xxh3Hasher();
+
+      final long[] out = new long[5];
+      VectorBatchHasher.hashRows(Arrays.asList(intVector, varCharVector), 0, 5, out, hasher);
+      for (int i = 0; i < 5; i++) {
+        assertEquals(ByteFunctionHelpers.combineHash64(intVector.hashCode64(i, hasher),
+            varCharVector.hashCode64(i, hasher)), out[i]);
+      }
+      // rows 0 and 2 are equal
+      assertEquals(out[0], out[2]);
+      assertNotEquals(out[0], out[1]);
+      assertNotEquals(out[0], out[3]);
+
+      // a single column produces the hash codes of its values
+      final long[] single = new long[3];
+      VectorBatchHasher.hashRows(Collections.singletonList(varCharVector), 2, 3, single, hasher);
+      assertEquals(varCharVector.hashCode64(3, hasher), single[1]);
+
+      try (VectorSchemaRoot root = VectorSchemaRoot.of(intVector, varCharVector)) {
+        root.setRowCount(5);
+        assertArrayEquals(out, VectorBatchHasher.hashRows(root, hasher));
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidRange() {
+    try (IntVector intVector = new IntVector("int", allocator)) {
+      setVector(intVector, 1, 2, 3);
+      assertThrows(IllegalArgumentException.class, () -> intVector.hashAll(-1, 1, new long[1], null));
+      assertThrows(IllegalArgumentException.class, () -> intVector.hashAll(2, 2, new long[2], null));
+      assertThrows(IllegalArgumentException.class, () -> intVector.hashAll(0, 3, new long[2], null));
+      assertThrows(IllegalArgumentException.class,
+          () -> VectorBatchHasher.hashRows(Collections.<ValueVector>emptyList(), 0, 0, new long[0], null));
+    }
+  }
+}
@@ -18,16 +18,37 @@
 package org.apache.arrow.vector.util;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 import static org.apache.arrow.vector.util.TestVectorAppender.assertVectorsEqual;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.LargeVarCharVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ViewVarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.impl.NullableStructWriter;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
 import org.apache.arrow.vector.testing.ValueVectorDataPopulator;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -158,4 +179,222 @@ public class TestVectorSchemaRootAppender {
       assertEquals("Vector schema roots have different schemas.", exp.getMessage());
     }
   }
+
+  @Test
+  public void testVectorSchemaRootConcat() {
+    try (IntVector child1 = new IntVector("t1", allocator);
+         VarCharVector child2 = new VarCharVector("t2", allocator);
+         IntVector deltaChild1 = new IntVector("d1", allocator);
+         VarCharVector deltaChild2 = new VarCharVector("d2", allocator);
+         IntVector emptyChild1 = new IntVector("e1", allocator);
+         VarCharVector emptyChild2 = new VarCharVector("e2", allocator)) {
+
+      ValueVectorDataPopulator.setVector(child1, 0, 1, null, 3, 4);
+      ValueVectorDataPopulator.setVector(child2, "zero", "one", null, "three", "four");
+      VectorSchemaRoot root1 = VectorSchemaRoot.of(child1, child2);
+      root1.setRowCount(5);
+
+      ValueVectorDataPopulator.setVector(deltaChild1, 5, null, 7);
+      ValueVectorDataPopulator.setVector(deltaChild2, "five", "six", null);
+      VectorSchemaRoot root2 = VectorSchemaRoot.of(deltaChild1, deltaChild2);
+      root2.setRowCount(3);
+
+      VectorSchemaRoot root3 = VectorSchemaRoot.of(emptyChild1, emptyChild2);
+
+      try (VectorSchemaRoot result = VectorSchemaRootAppender.concat(Arrays.asList(root1, root3, root2), allocator);
+           IntVector expected1 = new IntVector("", allocator);
+           VarCharVector expected2 = new VarCharVector("", allocator)) {
+        assertEquals(root1.getSchema(), result.getSchema());
+        assertEquals(8, result.getRowCount());
+
+        ValueVectorDataPopulator.setVector(expected1, 0, 1, null, 3, 4, 5, null, 7);
+        ValueVectorDataPopulator.setVector(expected2, "zero", "one", null, "three", "four", "five", "six", null);
+        assertVectorsEqual(expected1, result.getVector(0));
+        assertVectorsEqual(expected2, result.getVector(1));
+      }
+      assertEquals(5, root1.getRowCount());
+    }
+  }
+
+  /**
+   * Fills a root with a number of rows, of values depending on the row number in all the roots.
+   */
+  private static void fill(VectorSchemaRoot root, int start, int rowCount) {
+    root.getFieldVectors().forEach(vector -> vector.setInitialCapacity(16));
+    root.allocateNew();
+    final BitVector bits = (BitVector) root.getVector("bits");
+    final LargeVarCharVector strings = (LargeVarCharVector) root.getVector("strings");
+    final ViewVarCharVector views = (ViewVarCharVector) root.getVector("views");
+    final ListVector lists = (ListVector) root.getVector("lists");
+    final StructVector structs = (StructVector) root.getVector("structs");
+    final UnionListWriter listWriter = lists.getWriter();
+    final NullableStructWriter structWriter = structs.getWriter();
+    for (int i = 0; i < rowCount; i++) {
+      final int row = start + i;
+      if (row % 3 == 0) {
+        bits.setNull(i);
+        strings.setNull(i);
+      } else {
+        bits.setSafe(i, row % 2);
+        strings.setSafe(i, ("value" + row).getBytes(StandardCharsets.UTF_8));
+      }
+      views.setSafe(i, ("view" + row).getBytes(StandardCharsets.UTF_8));
+      if (row % 5 != 0) {
+        listWriter.setPosition(i);
+        listWriter.startList();
+        for (int j = 0; j < row % 4; j++) {
+          listWriter.writeInt(row + j);
+        }
+        listWriter.endList();
+      }
+      if (row % 7 != 0) {
+        structWriter.setPosition(i);
+        structWriter.start();
+        structWriter.integer("a").writeInt(row);
+        structWriter.end();
+      }
+    }
+    listWriter.setValueCount(rowCount);
+    structWriter.setValueCount(rowCount);
+    root.setRowCount(rowCount);
+  }
+
+  @Test
+  public void testVectorSchemaRootConcatInParallel() throws InterruptedException {
+    final Schema schema = new Schema(Arrays.asList(
+        Field.nullable("bits", ArrowType.Bool.INSTANCE),
+        Field.nullable("strings", ArrowType.LargeUtf8.INSTANCE),
+        Field.nullable("views", ArrowType.Utf8View.INSTANCE),
+        new Field("lists", FieldType.nullable(ArrowType.List.INSTANCE),
+            Arrays.asList(Field.nullable("$data$", new ArrowType.Int(32, true)))),
+        new Field("structs", FieldType.nullable(ArrowType.Struct.INSTANCE),
+            Arrays.asList(Field.nullable("a", new ArrowType.Int(32, true))))));
+    final List<VectorSchemaRoot> roots = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      int rowCount = 0;
+      for (int i = 0; i < 30; i++) {
+        final VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+        roots.add(root);
+        fill(root, rowCount, i % 11);
+        rowCount += i % 11;
+      }
+
+      try (VectorSchemaRoot result = VectorSchemaRootAppender.concat(roots, allocator, executor)) {
+        assertEquals(rowCount, result.getRowCount());
+        ValueVectorUtility.validateFull(result.getVector("strings"));
+        ValueVectorUtility.validateFull(result.getVector("lists"));
+        ValueVectorUtility.validateFull(result.getVector("structs"));
+        int row = 0;
+        for (VectorSchemaRoot root : roots) {
+          for (int i = 0; i < root.getRowCount(); i++) {
+            for (int c = 0; c < schema.getFields().size(); c++) {
+              assertEquals(root.getVector(c).getObject(i), result.getVector(c).getObject(row));
+            }
+            row++;
+          }
+        }
+
+        // a task per copy
+        for (int c = 0; c < schema.getFields().size(); c++) {
+          final List<FieldVector> column = new ArrayList<>();
+          for (VectorSchemaRoot root : roots) {
+            column.add(root.getVector(c));
+          }
+          final VectorConcatenator concatenator = new VectorConcatenator(allocator, 0);
+          try (FieldVector vector = concatenator.prepare(column)) {
+            concatenator.copy(executor);
+            assertVectorsEqual(result.getVector(c), vector);
+          }
+        }
+      }
+    } finally {
+      executor.shutdown();
+      roots.forEach(VectorSchemaRoot::close);
+    }
+  }
+
+  @Test
+  public void testConcatInParallelFailure() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<VectorSchemaRoot> roots = new ArrayList<>();
+    final byte[] value = new byte[100];
+    Arrays.fill(value, (byte) 'a');
+    try (BufferAllocator resultAllocator = allocator.newChildAllocator("result", 0, 1024)) {
+      for (int i = 0; i < 4; i++) {
+        final IntVector ints = new IntVector("ints", allocator);
+        final ViewVarCharVector views = new ViewVarCharVector("views", allocator);
+        roots.add(VectorSchemaRoot.of(ints, views));
+        ValueVectorDataPopulator.setVector(ints, i, null, i + 2);
+        views.allocateNew();
+        for (int j = 0; j < 20; j++) {
+          views.setSafe(j, value);
+        }
+        views.setValueCount(20);
+        ints.setValueCount(20);
+        roots.get(i).setRowCount(20);
+      }
+      // the integers fit in the result allocator, but the views, appended by a copy, do not
+      assertThrows(OutOfMemoryException.class, () -> VectorSchemaRootAppender.concat(roots, resultAllocator,
+          executor));
+      // the partially copied result is released
+      assertEquals(0, resultAllocator.getAllocatedMemory());
+    } finally {
+      executor.shutdown();
+      roots.forEach(VectorSchemaRoot::close);
+    }
+    assertEquals(0, allocator.getAllocatedMemory());
+  }
+
+  @Test
+  public void testConcatBitmapsOnByteBoundaries() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<BitVector> vectors = new ArrayList<>();
+    try {
+      // vectors spanning several bytes, or within a byte, at all the bit offsets
+      final int[] counts = {3, 21, 1, 8, 17, 0, 64, 5, 2, 40};
+      int row = 0;
+      for (int count : counts) {
+        final BitVector vector = new BitVector("bits", allocator);
+        vectors.add(vector);
+        vector.allocateNew(count);
+        for (int i = 0; i < count; i++, row++) {
+          if (row % 3 == 0) {
+            vector.setNull(i);
+          } else {
+            vector.set(i, row % 5 == 0 ? 1 : 0);
+          }
+        }
+        vector.setValueCount(count);
+      }
+      final VectorConcatenator concatenator = new VectorConcatenator(allocator, 0);
+      try (BitVector result = (BitVector) concatenator.prepare(vectors)) {
+        concatenator.copy(executor);
+        assertEquals(row, result.getValueCount());
+        for (int i = 0; i < row; i++) {
+          if (i % 3 == 0) {
+            assertTrue(result.isNull(i));
+          } else {
+            assertEquals(i % 5 == 0 ? 1 : 0, result.get(i));
+          }
+        }
+      }
+    } finally {
+      executor.shutdown();
+      vectors.forEach(BitVector::close);
+    }
+  }
+
+  @Test
+  public void testConcatRootsWithDifferentChildTypes() {
+    try (IntVector child1 = new IntVector("t1", allocator);
+         VarCharVector child2 = new VarCharVector("t2", allocator)) {
+      VectorSchemaRoot root1 = VectorSchemaRoot.of(child1, child2);
+      VectorSchemaRoot root2 = VectorSchemaRoot.of(child2, child1);
+
+      IllegalArgumentException exp = assertThrows(IllegalArgumentException.class,
+          () -> VectorSchemaRootAppender.concat(Arrays.asList(root1, root2), allocator));
+      assertEquals("Vector schema roots have different schemas.", exp.getMessage());
+    }
+  }
 }